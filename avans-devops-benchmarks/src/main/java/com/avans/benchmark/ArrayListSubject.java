@@ -0,0 +1,27 @@
+package com.avans.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.avans.observer.IObserver;
+
+/**
+ * The original ArrayList based Subject, kept as a baseline for SubjectNotifyBenchmark.
+ */
+public class ArrayListSubject {
+    private List<IObserver> observers = new ArrayList<>();
+
+    public void addObserver(IObserver obs) {
+        observers.add(obs);
+    }
+
+    public void removeObserver(IObserver obs) {
+        observers.remove(obs);
+    }
+
+    public void notifyObservers(String message) {
+        for (IObserver obs : observers) {
+            obs.update(message);
+        }
+    }
+}
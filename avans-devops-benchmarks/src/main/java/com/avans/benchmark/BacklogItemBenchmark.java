@@ -0,0 +1,55 @@
+package com.avans.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.avans.domain.backlog.BacklogItem;
+
+/**
+ * Moves every backlog item through the complete workflow (Todo to Done) and back to Todo.
+ * Run with "-prof gc" to see the allocation rate (gc.alloc.rate.norm) per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BacklogItemBenchmark {
+    private static final int WORKFLOW_STEPS = 5;
+
+    @Param({"10", "1000", "100000"})
+    private int itemCount;
+
+    private BacklogItem[] items;
+
+    @Setup
+    public void setUp() {
+        items = new BacklogItem[itemCount];
+        for (int i = 0; i < itemCount; i++) {
+            items[i] = new BacklogItem("Backlog item " + i);
+        }
+    }
+
+    @Benchmark
+    public BacklogItem[] moveToNextState() {
+        for (BacklogItem item : items) {
+            for (int step = 0; step < WORKFLOW_STEPS; step++) {
+                item.moveToNextState();
+            }
+            item.revertToTodo();
+        }
+        return items;
+    }
+}
@@ -0,0 +1,69 @@
+package com.avans.benchmark;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.util.logging.LogManager;
+
+import com.avans.domain.backlog.Activity;
+import com.avans.domain.backlog.BacklogItem;
+import com.avans.domain.member.Developer;
+import com.avans.domain.member.ScrumMaster;
+import com.avans.domain.project.ReviewSprint;
+import com.avans.domain.project.Sprint;
+
+/**
+ * Builds realistic domain object graphs for the benchmarks.
+ */
+public final class BenchmarkFixtures {
+    private static final PrintStream ORIGINAL_OUT = System.out;
+    private static final PrintStream ORIGINAL_ERR = System.err;
+    private static final int WORKFLOW_STEPS = 5;
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Creates a sprint of two weeks that started a week ago. Every fourth item is done, the others
+     * are spread over the remaining workflow states; when allDone is set every item is done.
+     */
+    public static Sprint createSprint(int itemCount, boolean allDone) {
+        LocalDate start = LocalDate.now().minusDays(7);
+        Sprint sprint = new ReviewSprint("Benchmark Sprint", start, start.plusDays(13));
+        ScrumMaster scrumMaster = new ScrumMaster("Scrum Master");
+        Developer developer = new Developer("Developer");
+        sprint.setScrumMaster(scrumMaster);
+        sprint.addTeamMember(scrumMaster);
+        sprint.addTeamMember(developer);
+
+        for (int i = 0; i < itemCount; i++) {
+            BacklogItem item = new BacklogItem("Backlog item " + i);
+            item.assignDeveloper(developer);
+            Activity activity = new Activity("Activity " + i, 1 + i % 8);
+            activity.setDone(true);
+            item.addActivity(activity);
+
+            int moves = allDone || i % 4 == 0 ? WORKFLOW_STEPS : i % WORKFLOW_STEPS;
+            for (int move = 0; move < moves; move++) {
+                item.moveToNextState();
+            }
+            sprint.addBacklogItem(item);
+        }
+        return sprint;
+    }
+
+    /**
+     * Benchmarked code prints progress to the console; silence it so the output does not dominate.
+     */
+    public static void silenceOutput() {
+        PrintStream discard = new PrintStream(OutputStream.nullOutputStream());
+        System.setOut(discard);
+        System.setErr(discard);
+        LogManager.getLogManager().reset();
+    }
+
+    public static void restoreOutput() {
+        System.setOut(ORIGINAL_OUT);
+        System.setErr(ORIGINAL_ERR);
+    }
+}
@@ -0,0 +1,114 @@
+package com.avans.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.avans.domain.backlog.BacklogItem;
+import com.avans.domain.project.Project;
+import com.avans.domain.project.ReviewSprint;
+import com.avans.domain.project.Sprint;
+import com.avans.persistence.EventJournal;
+import com.avans.persistence.ProjectJournal;
+import com.avans.persistence.SnapshotStore;
+
+/**
+ * Cold start of a journaled project: restoring from the latest snapshot plus a short journal
+ * tail, against replaying the complete journal. The steady-state numbers show the cost of the
+ * format; restoreFromSnapshotInFreshJvm shows what a restarted service actually waits.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ColdStartBenchmark {
+    private static final int SPRINT_SIZE = 10_000;
+    private static final int TAIL_EVENTS = 1_000;
+
+    @Param({"10000", "1000000"})
+    private int itemCount;
+
+    private Path directory;
+    private Path journalDirectory;
+    private SnapshotStore snapshots;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("cold-start-benchmark");
+        journalDirectory = directory.resolve("journal");
+        snapshots = new SnapshotStore(directory.resolve("snapshots"));
+
+        Project project = new Project("Benchmark");
+        try (ProjectJournal journal = ProjectJournal.create(project, new EventJournal(journalDirectory))) {
+            journal.setSnapshotPolicy(snapshots, 0);
+            Sprint sprint = null;
+            for (int i = 0; i < itemCount; i++) {
+                if (i % SPRINT_SIZE == 0) {
+                    sprint = new ReviewSprint("Sprint " + (i / SPRINT_SIZE), LocalDate.now(), LocalDate.now().plusWeeks(2));
+                    project.addSprint(sprint);
+                }
+                BacklogItem item = new BacklogItem("Backlog item " + i);
+                sprint.addBacklogItem(item);
+                item.moveToNextState();
+            }
+            journal.snapshot();
+
+            BacklogItem last = sprint.getBacklogItems().get(0);
+            for (int i = 0; i < TAIL_EVENTS; i++) {
+                last.moveToNextState();
+                last.revertToTodo();
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    // Only the file journal is closed; detaching a million listeners is not part of a start
+    @Benchmark
+    public Project restoreFromSnapshot() throws IOException {
+        ProjectJournal journal = ProjectJournal.restore(new EventJournal(journalDirectory), snapshots);
+        journal.getJournal().close();
+        return journal.getProject();
+    }
+
+    // Close to a real start: the first restore in a new JVM, so the restore code is not compiled yet
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(value = 5, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+    public Project restoreFromSnapshotInFreshJvm() throws IOException {
+        return restoreFromSnapshot();
+    }
+
+    @Benchmark
+    public Project replayFullJournal() throws IOException {
+        ProjectJournal journal = ProjectJournal.restore(new EventJournal(journalDirectory));
+        journal.getJournal().close();
+        return journal.getProject();
+    }
+}
@@ -0,0 +1,73 @@
+package com.avans.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.avans.decorator.ConcreteReport;
+import com.avans.decorator.FooterDecorator;
+import com.avans.decorator.HeaderDecorator;
+import com.avans.decorator.IReport;
+
+/**
+ * Reads and writes a 64 KB report wrapped in a chain of header and footer decorators: the
+ * first read of a new chain, repeated reads of the same chain, and streaming the chain.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DecoratorBenchmark {
+    private static final int CONTENT_SIZE = 64 * 1024;
+
+    @Param({"1", "10", "100"})
+    private int depth;
+
+    private ConcreteReport base;
+    private IReport decorated;
+    private final StringBuilder target = new StringBuilder(2 * CONTENT_SIZE);
+
+    @Setup
+    public void setUp() {
+        base = new ConcreteReport("x".repeat(CONTENT_SIZE));
+        decorated = decorate();
+    }
+
+    @Benchmark
+    public String readNewChain() {
+        return decorate().getContent();
+    }
+
+    @Benchmark
+    public String readSameChain() {
+        return decorated.getContent();
+    }
+
+    @Benchmark
+    public int writeNewChain() throws IOException {
+        target.setLength(0);
+        decorate().writeTo(target);
+        return target.length();
+    }
+
+    private IReport decorate() {
+        IReport report = base;
+        for (int i = 0; i < depth; i++) {
+            report = new FooterDecorator(new HeaderDecorator(report, "Header " + i), "Footer " + i);
+        }
+        return report;
+    }
+}
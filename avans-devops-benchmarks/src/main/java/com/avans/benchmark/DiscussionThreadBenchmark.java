@@ -0,0 +1,56 @@
+package com.avans.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.avans.domain.discussions.DiscussionMessage;
+import com.avans.domain.discussions.DiscussionThread;
+import com.avans.domain.member.Developer;
+
+/**
+ * Renders the content of a discussion thread with nested sub-threads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DiscussionThreadBenchmark {
+    private static final int MESSAGES_PER_SUB_THREAD = 10;
+
+    @Param({"10", "1000", "100000"})
+    private int messageCount;
+
+    private DiscussionThread thread;
+
+    @Setup
+    public void setUp() {
+        Developer author = new Developer("Author");
+        thread = new DiscussionThread("Benchmark discussion");
+        DiscussionThread subThread = null;
+        for (int i = 0; i < messageCount; i++) {
+            if (i % MESSAGES_PER_SUB_THREAD == 0) {
+                subThread = new DiscussionThread("Sub thread " + i);
+                thread.add(subThread);
+            }
+            subThread.add(new DiscussionMessage("Message " + i + " about the login feature", author));
+        }
+    }
+
+    @Benchmark
+    public String getContent() {
+        return thread.getContent();
+    }
+}
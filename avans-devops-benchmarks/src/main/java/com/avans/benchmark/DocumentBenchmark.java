@@ -0,0 +1,101 @@
+package com.avans.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.avans.domain.project.Document;
+
+/**
+ * Reading a review summary document: a heap copy of the content against the zero-copy buffer
+ * and stream views, storing content that is already present, and streaming an upload into the
+ * store. Add {@code -prof gc} to see
+ * the allocation per read.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DocumentBenchmark {
+    @Param({"1024", "10485760"})
+    private int size;
+
+    private byte[] content;
+    private Document document;
+    private final byte[] chunk = new byte[8192];
+
+    @Setup
+    public void setUp() {
+        content = new byte[size];
+        new Random(42).nextBytes(content);
+        document = new Document("summary.pdf", content);
+    }
+
+    @TearDown
+    public void tearDown() {
+        document.release();
+    }
+
+    @Benchmark
+    public byte[] readCopy() {
+        return document.getContent();
+    }
+
+    @Benchmark
+    public long readBuffer() {
+        ByteBuffer buffer = document.getContentBuffer();
+        long total = 0;
+        while (buffer.hasRemaining()) {
+            int count = Math.min(chunk.length, buffer.remaining());
+            buffer.get(chunk, 0, count);
+            total += count;
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long readStream() throws IOException {
+        long total = 0;
+        try (InputStream in = document.openContent()) {
+            int read;
+            while ((read = in.read(chunk)) > 0) {
+                total += read;
+            }
+        }
+        return total;
+    }
+
+    // The content is already stored, so only the hash is computed and a reference added
+    @Benchmark
+    public Document uploadDuplicate() {
+        Document duplicate = new Document("summary-copy.pdf", content);
+        duplicate.release();
+        return duplicate;
+    }
+
+    // Only the stream's transfer buffer lands on the heap, however large the document is
+    @Benchmark
+    public Document uploadStream() throws IOException {
+        Document uploaded = Document.upload("summary-stream.pdf", new ByteArrayInputStream(content));
+        uploaded.release();
+        return uploaded;
+    }
+}
@@ -0,0 +1,98 @@
+package com.avans.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.avans.domain.backlog.BacklogItem;
+import com.avans.domain.backlog.state.DoneState;
+import com.avans.domain.project.Project;
+import com.avans.domain.project.ReviewSprint;
+import com.avans.persistence.EventJournal;
+import com.avans.persistence.ProjectJournal;
+import com.avans.persistence.RecordWriter;
+
+/**
+ * Event throughput of the memory-mapped journal: raw record appends, backlog transitions of a
+ * journaled project, and a transition followed by a group commit that waits for the disk.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JournalBenchmark {
+    private Path directory;
+    private EventJournal rawJournal;
+    private ProjectJournal projectJournal;
+    private BacklogItem item;
+    private final RecordWriter record = new RecordWriter();
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("journal-benchmark");
+        rawJournal = new EventJournal(directory.resolve("raw"));
+
+        Project project = new Project("Benchmark");
+        ReviewSprint sprint = new ReviewSprint("Sprint", LocalDate.now(), LocalDate.now().plusWeeks(2));
+        item = new BacklogItem("Journaled item");
+        sprint.addBacklogItem(item);
+        project.addSprint(sprint);
+        projectJournal = ProjectJournal.create(project, new EventJournal(directory.resolve("project")));
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        rawJournal.close();
+        projectJournal.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public long append() {
+        record.reset().putString("backlog-item-id").putString("Doing");
+        return rawJournal.append(13, record);
+    }
+
+    @Benchmark
+    public BacklogItem journaledTransition() {
+        advance();
+        return item;
+    }
+
+    @Benchmark
+    public BacklogItem journaledTransitionWithCommit() {
+        advance();
+        projectJournal.commit();
+        return item;
+    }
+
+    // Cycles through the workflow so every call records a state change
+    private void advance() {
+        if (item.getState() == DoneState.INSTANCE) {
+            item.revertToTodo();
+        } else {
+            item.moveToNextState();
+        }
+    }
+}
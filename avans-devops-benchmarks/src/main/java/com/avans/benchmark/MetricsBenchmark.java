@@ -0,0 +1,73 @@
+package com.avans.benchmark;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.avans.domain.project.Project;
+import com.avans.domain.project.Sprint;
+import com.avans.metrics.SprintMetricsRange;
+import com.avans.metrics.SprintMetricsStore;
+
+/**
+ * Records a day of metrics for every sprint of a project, queries two weeks of one sprint and
+ * averages the velocity of all sprints, with a year of daily samples already stored.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+    private static final int DAYS = 365;
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+
+    @Param({"100", "500"})
+    private int sprintCount;
+
+    private Project project;
+    private SprintMetricsStore store;
+    private Sprint querySprint;
+
+    @Setup
+    public void setUp() {
+        project = new Project("Benchmark");
+        for (int i = 0; i < sprintCount; i++) {
+            project.addSprint(BenchmarkFixtures.createSprint(20, i % 2 == 0));
+        }
+        store = new SprintMetricsStore();
+        for (int day = 0; day < DAYS; day++) {
+            store.recordAll(project, START.plusDays(day));
+        }
+        querySprint = project.getSprints().get(sprintCount / 2);
+    }
+
+    @Benchmark
+    public SprintMetricsStore recordDay() {
+        // Replaces the samples of the last day, so the store does not grow between iterations
+        store.recordAll(project, START.plusDays(DAYS - 1));
+        return store;
+    }
+
+    @Benchmark
+    public SprintMetricsRange queryTwoWeeks() {
+        return store.query(querySprint, START.plusDays(200), START.plusDays(213));
+    }
+
+    @Benchmark
+    public double averageVelocity() {
+        return store.getAverageVelocity(project.getSprints());
+    }
+}
@@ -0,0 +1,74 @@
+package com.avans.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.avans.pipeline.Pipeline;
+import com.avans.strategy.pipeline.AlwaysContinueStrategy;
+import com.avans.strategy.pipeline.FailFastStrategy;
+import com.avans.strategy.pipeline.ParallelDagStrategy;
+import com.avans.strategy.pipeline.PipelineRunStrategy;
+
+/**
+ * Runs a complete Source, Package, Build, Test, Analyze, Deploy pipeline with every run strategy.
+ * The steps themselves do no real work, so this measures the pipeline and strategy overhead.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PipelineBenchmark {
+    private static final String[] STEP_TYPES = {"source", "package", "build", "test", "analyze", "deploy"};
+
+    @Param({"failFast", "alwaysContinue", "parallelDag"})
+    private String strategy;
+
+    private Pipeline pipeline;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.silenceOutput();
+        pipeline = new Pipeline("Benchmark Pipeline", createStrategy());
+        for (String stepType : STEP_TYPES) {
+            pipeline.createAndAddStep(stepType);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkFixtures.restoreOutput();
+    }
+
+    @Benchmark
+    public boolean runAllSteps() {
+        pipeline.runAllSteps();
+        return pipeline.wasLastRunSuccessful();
+    }
+
+    private PipelineRunStrategy createStrategy() {
+        switch (strategy) {
+            case "failFast":
+                return new FailFastStrategy();
+            case "alwaysContinue":
+                return new AlwaysContinueStrategy();
+            case "parallelDag":
+                return new ParallelDagStrategy();
+            default:
+                throw new IllegalArgumentException("Unknown strategy: " + strategy);
+        }
+    }
+}
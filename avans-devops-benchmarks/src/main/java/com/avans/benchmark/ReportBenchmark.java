@@ -0,0 +1,107 @@
+package com.avans.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.avans.decorator.IReport;
+import com.avans.domain.project.Sprint;
+import com.avans.strategy.report.CachingReportStrategy;
+import com.avans.strategy.report.PdfReportStrategy;
+import com.avans.strategy.report.PngReportStrategy;
+
+/**
+ * Generates sprint reports with both report strategies, both in memory and streamed to a
+ * stream that discards its output, and writes the PDF document and PNG burndown image. The
+ * cached variant requests the report of an unchanged sprint again, as dashboards do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class ReportBenchmark {
+    @Param({"10", "1000", "10000", "100000"})
+    private int itemCount;
+
+    private Sprint sprint;
+    private PdfReportStrategy pdfStrategy;
+    private PngReportStrategy pngStrategy;
+    private CachingReportStrategy cachedPdfStrategy;
+
+    @Setup
+    public void setUp() {
+        sprint = BenchmarkFixtures.createSprint(itemCount, false);
+        pdfStrategy = new PdfReportStrategy();
+        pngStrategy = new PngReportStrategy();
+        cachedPdfStrategy = new CachingReportStrategy(pdfStrategy, 100, Duration.ofMinutes(5));
+    }
+
+    @Benchmark
+    public IReport pdfGenerate() {
+        return pdfStrategy.generate(sprint);
+    }
+
+    @Benchmark
+    public IReport pdfGenerateCached() {
+        return sprint.generateReport(cachedPdfStrategy);
+    }
+
+    @Benchmark
+    public IReport pngGenerate() {
+        return pngStrategy.generate(sprint);
+    }
+
+    @Benchmark
+    public void pdfStream(Blackhole blackhole) throws IOException {
+        pdfStrategy.stream(sprint).writeTo(new BlackholeOutputStream(blackhole));
+    }
+
+    @Benchmark
+    public void pngStream(Blackhole blackhole) throws IOException {
+        pngStrategy.stream(sprint).writeTo(new BlackholeOutputStream(blackhole));
+    }
+
+    @Benchmark
+    public void pdfDocument(Blackhole blackhole) throws IOException {
+        pdfStrategy.writePdf(sprint, new BlackholeOutputStream(blackhole));
+    }
+
+    @Benchmark
+    public void pngRender(Blackhole blackhole) throws IOException {
+        pngStrategy.writePng(sprint, new BlackholeOutputStream(blackhole));
+    }
+
+    private static class BlackholeOutputStream extends OutputStream {
+        private final Blackhole blackhole;
+
+        BlackholeOutputStream(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void write(int b) {
+            blackhole.consume(b);
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            blackhole.consume(buffer);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.avans.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.avans.domain.project.Sprint;
+
+/**
+ * Measures the "are all backlog items done" check on a sprint where every item is done,
+ * which is the worst case for a full scan.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SprintBenchmark {
+    @Param({"10", "1000", "10000", "100000"})
+    private int itemCount;
+
+    private Sprint sprint;
+
+    @Setup
+    public void setUp() {
+        sprint = BenchmarkFixtures.createSprint(itemCount, true);
+    }
+
+    @Benchmark
+    public boolean areAllBacklogItemsDone() {
+        return sprint.areAllBacklogItemsDone();
+    }
+}
@@ -0,0 +1,69 @@
+package com.avans.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.avans.observer.IObserver;
+import com.avans.observer.Subject;
+
+/**
+ * Compares notify throughput of the copy-on-write Subject with the original ArrayList version.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SubjectNotifyBenchmark {
+    private static final String MESSAGE = "Backlog item 'Login' is ready for testing.";
+
+    @Param({"1", "10", "1000"})
+    private int observerCount;
+
+    private Subject copyOnWriteSubject;
+    private ArrayListSubject arrayListSubject;
+    private CountingObserver[] observers;
+
+    @Setup
+    public void setUp() {
+        copyOnWriteSubject = new Subject() {};
+        arrayListSubject = new ArrayListSubject();
+        observers = new CountingObserver[observerCount];
+        for (int i = 0; i < observerCount; i++) {
+            observers[i] = new CountingObserver();
+            copyOnWriteSubject.addObserver(observers[i]);
+            arrayListSubject.addObserver(observers[i]);
+        }
+    }
+
+    @Benchmark
+    public void copyOnWriteNotify() {
+        copyOnWriteSubject.notifyObservers(MESSAGE);
+    }
+
+    @Benchmark
+    public void arrayListNotify() {
+        arrayListSubject.notifyObservers(MESSAGE);
+    }
+
+    static class CountingObserver implements IObserver {
+        private long received;
+
+        @Override
+        public void update(String message) {
+            received += message.length();
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package com.avans.decorator;
 
 public class ConcreteReport implements IReport {
-    private String content;
+    private final String content;
 
     public ConcreteReport(String content) {
         this.content = content;
@@ -11,4 +11,9 @@ public class ConcreteReport implements IReport {
     public String getContent() {
         return content;
     }
+
+    @Override
+    public boolean isImmutable() {
+        return true;
+    }
 }
\ No newline at end of file
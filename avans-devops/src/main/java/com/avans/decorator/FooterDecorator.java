@@ -1,8 +1,9 @@
 package com.avans.decorator;
 
+import java.util.List;
 
 public class FooterDecorator extends ReportDecorator {
-    private String footer;
+    private final String footer;
 
     public FooterDecorator(IReport wrappedReport, String footer) {
         super(wrappedReport);
@@ -10,7 +11,8 @@ public class FooterDecorator extends ReportDecorator {
     }
 
     @Override
-    public String getContent() {
-        return super.getContent() + "\n" + footer;
+    protected void addTrailingSegments(List<CharSequence> segments) {
+        segments.add("\n");
+        segments.add(String.valueOf(footer));
     }
 }
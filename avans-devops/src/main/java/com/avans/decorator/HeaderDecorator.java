@@ -1,8 +1,9 @@
 package com.avans.decorator;
 
-public class 
-HeaderDecorator extends ReportDecorator {
-    private String header;
+import java.util.List;
+
+public class HeaderDecorator extends ReportDecorator {
+    private final String header;
 
     public HeaderDecorator(IReport wrappedReport, String header) {
         super(wrappedReport);
@@ -10,7 +11,8 @@ HeaderDecorator extends ReportDecorator {
     }
 
     @Override
-    public String getContent() {
-        return header + "\n" + super.getContent();
+    protected void addLeadingSegments(List<CharSequence> segments) {
+        segments.add(String.valueOf(header));
+        segments.add("\n");
     }
 }
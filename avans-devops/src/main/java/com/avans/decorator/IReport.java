@@ -1,5 +1,37 @@
 package com.avans.decorator;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
 public interface IReport {
     String getContent();
-}
\ No newline at end of file
+
+    /**
+     * Whether {@link #getContent()} always returns the same text, so it may be kept once it
+     * has been read. Reports rendered from live data are not immutable.
+     */
+    default boolean isImmutable() {
+        return false;
+    }
+
+    /**
+     * Writes the report to the given target. Implementations override this to stream their
+     * content piece by piece instead of materialising it as one string first.
+     */
+    default void writeTo(Appendable out) throws IOException {
+        out.append(getContent());
+    }
+
+    /**
+     * Writes the report as UTF-8 to the given stream. The stream is flushed but not closed.
+     */
+    default void writeTo(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writeTo(writer);
+        writer.flush();
+    }
+}
@@ -1,14 +1,184 @@
 package com.avans.decorator;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base class for reports that add text around another report. Decorators only describe the
+ * text they add, through {@link #addLeadingSegments} and {@link #addTrailingSegments}; the
+ * whole chain is then rendered in one pass into a buffer of the exact final size, instead of
+ * every decorator copying the text of the ones inside it.
+ *
+ * Over an immutable report the rendered text is kept, so reading it again costs nothing.
+ * Writing to an {@link Appendable} streams the segments and the inner report without ever
+ * building intermediate strings.
+ *
+ * Decorators written before segments existed override {@link #getContent()} and call
+ * {@code super.getContent()}. Such a decorator is never flattened into an outer chain: it is
+ * treated as the inner report, so its own rendering always runs.
+ */
 public abstract class ReportDecorator implements IReport {
-    protected IReport wrappedReport;
+    // Marks where the innermost report goes among the segments; compared by identity
+    private static final CharSequence CORE_REPORT = new StringBuilder(0);
+    private static final ClassValue<Boolean> OVERRIDES_CONTENT = new OverrideCheck("getContent");
+    private static final ClassValue<Boolean> OVERRIDES_WRITE = new OverrideCheck("writeTo", Appendable.class);
+
+    protected final IReport wrappedReport;
+    private String renderedContent; // only set when the chain is immutable
 
     public ReportDecorator(IReport wrappedReport) {
+        if (wrappedReport == null) {
+            throw new IllegalArgumentException("Wrapped report cannot be null");
+        }
         this.wrappedReport = wrappedReport;
     }
 
+    /**
+     * Adds the text this decorator places before the wrapped report. Segments must not be null.
+     */
+    protected void addLeadingSegments(List<CharSequence> segments) {
+    }
+
+    /**
+     * Adds the text this decorator places after the wrapped report.
+     */
+    protected void addTrailingSegments(List<CharSequence> segments) {
+    }
+
     @Override
     public String getContent() {
-        return wrappedReport.getContent();
+        String rendered = renderedContent;
+        if (rendered != null) {
+            return rendered;
+        }
+
+        List<ReportDecorator> chain = new ArrayList<>();
+        IReport core = unwrap(chain);
+        List<CharSequence> segments = collectSegments(chain);
+        String coreContent = String.valueOf(contentOf(core));
+
+        int length = coreContent.length();
+        for (int i = 0; i < segments.size(); i++) {
+            length += segments.get(i).length();
+        }
+        StringBuilder content = new StringBuilder(length);
+        for (int i = 0; i < segments.size(); i++) {
+            CharSequence segment = segments.get(i);
+            content.append(segment == CORE_REPORT ? coreContent : segment);
+        }
+        rendered = content.toString();
+
+        if (core.isImmutable()) {
+            renderedContent = rendered;
+        }
+        return rendered;
+    }
+
+    @Override
+    public void writeTo(Appendable out) throws IOException {
+        String rendered = renderedContent;
+        if (rendered != null) {
+            out.append(rendered);
+            return;
+        }
+
+        List<ReportDecorator> chain = new ArrayList<>();
+        IReport core = unwrap(chain);
+        List<CharSequence> segments = collectSegments(chain);
+        for (int i = 0; i < segments.size(); i++) {
+            if (segments.get(i) == CORE_REPORT) {
+                writeCore(core, out);
+            } else {
+                out.append(segments.get(i));
+            }
+        }
+    }
+
+    @Override
+    public boolean isImmutable() {
+        // What an overriding subclass renders is unknown, so it may change on every read
+        if (rendersItself(this)) {
+            return false;
+        }
+        return renderedContent != null || unwrap(new ArrayList<>()).isImmutable();
+    }
+
+    // Walks down to the first report that is not a decorator, to a decorator that renders
+    // itself, or to a decorator that has already rendered its content, which can then stand in
+    // for everything inside it
+    private IReport unwrap(List<ReportDecorator> chain) {
+        IReport current = this;
+        while (current instanceof ReportDecorator) {
+            ReportDecorator decorator = (ReportDecorator) current;
+            if (decorator.renderedContent != null || (decorator != this && rendersItself(decorator))) {
+                break;
+            }
+            chain.add(decorator);
+            current = decorator.wrappedReport;
+        }
+        return current;
+    }
+
+    private static boolean rendersItself(ReportDecorator decorator) {
+        return OVERRIDES_CONTENT.get(decorator.getClass()) || OVERRIDES_WRITE.get(decorator.getClass());
+    }
+
+    // A decorator that only overrides one way of rendering is read through that one
+    private static String contentOf(IReport core) {
+        if (core instanceof ReportDecorator && !OVERRIDES_CONTENT.get(core.getClass())
+                && OVERRIDES_WRITE.get(core.getClass())) {
+            StringBuilder content = new StringBuilder();
+            try {
+                core.writeTo(content);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e); // A StringBuilder never fails
+            }
+            return content.toString();
+        }
+        return core.getContent();
+    }
+
+    private static void writeCore(IReport core, Appendable out) throws IOException {
+        if (core instanceof ReportDecorator && OVERRIDES_CONTENT.get(core.getClass())
+                && !OVERRIDES_WRITE.get(core.getClass())) {
+            out.append(core.getContent());
+        } else {
+            core.writeTo(out);
+        }
+    }
+
+    // Leading segments from the outside in, the core report, then trailing segments from the
+    // inside out
+    private static List<CharSequence> collectSegments(List<ReportDecorator> chain) {
+        List<CharSequence> segments = new ArrayList<>(chain.size() * 2 + 1);
+        for (int i = 0; i < chain.size(); i++) {
+            chain.get(i).addLeadingSegments(segments);
+        }
+        segments.add(CORE_REPORT);
+        for (int i = chain.size() - 1; i >= 0; i--) {
+            chain.get(i).addTrailingSegments(segments);
+        }
+        return segments;
+    }
+
+    private static class OverrideCheck extends ClassValue<Boolean> {
+        private final String methodName;
+        private final Class<?>[] parameterTypes;
+
+        OverrideCheck(String methodName, Class<?>... parameterTypes) {
+            this.methodName = methodName;
+            this.parameterTypes = parameterTypes;
+        }
+
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod(methodName, parameterTypes).getDeclaringClass() != ReportDecorator.class;
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException("ReportDecorator has no method " + methodName, e);
+            }
+        }
     }
 }
@@ -4,6 +4,7 @@ public class Activity {
     private String title;
     private boolean done;
     private int estimatedHours;
+    private BacklogItem backlogItem;
 
     public Activity(String title, int estimatedHours) {
         this.title = title;
@@ -16,7 +17,13 @@ public class Activity {
     }
 
     public void setDone(boolean done) {
+        if (this.done == done) {
+            return;
+        }
         this.done = done;
+        if (backlogItem != null) {
+            backlogItem.activityCompletionChanged(this, done);
+        }
     }
 
     public int getTotalEstimatedHours() {
@@ -26,4 +33,15 @@ public class Activity {
     public String getTitle() {
         return title;
     }
-}
\ No newline at end of file
+
+    public BacklogItem getBacklogItem() {
+        return backlogItem;
+    }
+
+    void attachTo(BacklogItem item) {
+        if (backlogItem != null) {
+            throw new IllegalStateException("Activity '" + title + "' already belongs to a backlog item");
+        }
+        this.backlogItem = item;
+    }
+}
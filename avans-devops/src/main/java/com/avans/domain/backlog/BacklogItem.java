@@ -1,6 +1,7 @@
 package com.avans.domain.backlog;
 import  java.util.ArrayList;
 import  java.util.List;
+import  java.util.UUID;
 
 import com.avans.domain.backlog.state.DoingState;
 import com.avans.domain.backlog.state.DoneState;
@@ -13,16 +14,32 @@ import com.avans.observer.Subject;
 
 
 public class BacklogItem extends Subject {
+    private final String id;
     private String title;
     private IBacklogState state;
     private TeamMember assignedDeveloper;
     private List<Activity> activities;
+    private int doneActivityCount;
+    private List<IBacklogItemListener> listeners;
     
 
     public BacklogItem(String title) {
+        this(UUID.randomUUID().toString(), title);
+    }
+
+    public BacklogItem(String id, String title) {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Backlog item id cannot be empty");
+        }
+        this.id = id;
         this.title = title;
-        this.state = new TodoState(); 
+        this.state = TodoState.INSTANCE;
         this.activities = new ArrayList<>();
+        this.listeners = new ArrayList<>(2); // Usually the sprint counter and one index or journal
+    }
+
+    public String getId() {
+        return id;
     }
 
     public String getTitle() {
@@ -36,14 +53,29 @@ public class BacklogItem extends Subject {
     public void setState(IBacklogState newState) {
         IBacklogState oldState = this.state;
         this.state = newState;
-         // Notify observers based on state transitions
-        if (oldState instanceof DoingState && state instanceof ReadyForTestingState) {
-            notifyObservers("Backlog item '" + title + "' is ready for testing.");
-        } else if (state instanceof TodoState && !(oldState instanceof TodoState)) {
-            notifyObservers("Backlog item '" + title + "' has been moved back to Todo.");
+        // Notify observers based on state transitions; states are shared instances so identity is enough.
+        // Messages are only built when someone is listening, keeping bulk transitions allocation free.
+        if (hasObservers()) {
+            if (oldState == DoingState.INSTANCE && newState == ReadyForTestingState.INSTANCE) {
+                notifyObservers("Backlog item '" + title + "' is ready for testing.");
+            } else if (newState == TodoState.INSTANCE && oldState != TodoState.INSTANCE) {
+                notifyObservers("Backlog item '" + title + "' has been moved back to Todo.");
+            }
+        }
+
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onStateChanged(this, oldState, newState);
         }
     }
 
+    public void addListener(IBacklogItemListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(IBacklogItemListener listener) {
+        listeners.remove(listener);
+    }
+
     public void moveToNextState() {
         state.moveToNext(this);
     }
@@ -53,7 +85,35 @@ public class BacklogItem extends Subject {
     }
 
     public void addActivity(Activity activity) {
+        boolean wereAllDone = areAllActivitiesDone();
+        activity.attachTo(this);
         activities.add(activity);
+        if (activity.isDone()) {
+            doneActivityCount++;
+        }
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onActivityAdded(this, activity);
+        }
+        fireActivitiesCompletionChanged(wereAllDone);
+    }
+
+    // Called by an attached activity whenever its done flag flips
+    void activityCompletionChanged(Activity activity, boolean activityDone) {
+        boolean wereAllDone = areAllActivitiesDone();
+        doneActivityCount += activityDone ? 1 : -1;
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onActivityDoneChanged(this, activity, activityDone);
+        }
+        fireActivitiesCompletionChanged(wereAllDone);
+    }
+
+    private void fireActivitiesCompletionChanged(boolean wereAllDone) {
+        boolean allDone = areAllActivitiesDone();
+        if (allDone != wereAllDone) {
+            for (int i = 0; i < listeners.size(); i++) {
+                listeners.get(i).onActivitiesCompletionChanged(this, allDone);
+            }
+        }
     }
     
     public int getActivityCount() {
@@ -61,31 +121,13 @@ public class BacklogItem extends Subject {
     }
 
     public boolean isDone() {
-        if (!(state instanceof DoneState)) {
-            return false;
-        }
-        
-        // Check if all activities are completed before considering the item done
-        for (Activity activity : activities) {
-            if (!activity.isDone()) {
-                return false;
-            }
-        }
-        return true;
+        // All activities must be completed before the item is considered done
+        return state == DoneState.INSTANCE && areAllActivitiesDone();
     }
     
-    // Check if all activities are completed
+    // Check if all activities are completed; without activities they are all done
     public boolean areAllActivitiesDone() {
-        if (activities.isEmpty()) {
-            return true; // If no activities, consider them all done
-        }
-        
-        for (Activity activity : activities) {
-            if (!activity.isDone()) {
-                return false;
-            }
-        }
-        return true;
+        return doneActivityCount == activities.size();
     }
     
     // Assign a developer to this backlog item
@@ -96,12 +138,29 @@ public class BacklogItem extends Subject {
         
         this.assignedDeveloper = developer;
         notifyObservers("Developer " + developer.getName() + " assigned to backlog item '" + title + "'.");
+
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onDeveloperAssigned(this, developer);
+        }
     }
     
     public TeamMember getAssignedDeveloper() {
         return assignedDeveloper;
     }
     
+    public int indexOfActivity(Activity activity) {
+        for (int i = 0; i < activities.size(); i++) {
+            if (activities.get(i) == activity) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public Activity getActivity(int index) {
+        return activities.get(index);
+    }
+
     public List<Activity> getActivities() {
         return new ArrayList<>(activities); // Return a copy to preserve encapsulation
     }
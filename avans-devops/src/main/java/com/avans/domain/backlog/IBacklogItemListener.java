@@ -0,0 +1,30 @@
+package com.avans.domain.backlog;
+
+import com.avans.domain.backlog.state.IBacklogState;
+import com.avans.domain.member.TeamMember;
+
+/**
+ * Receives structured change events from a backlog item. Unlike the string notifications sent
+ * to observers, these events are meant for components that keep derived data up to date.
+ */
+public interface IBacklogItemListener {
+    default void onStateChanged(BacklogItem item, IBacklogState oldState, IBacklogState newState) {
+        // Not interested by default
+    }
+
+    default void onActivitiesCompletionChanged(BacklogItem item, boolean allActivitiesDone) {
+        // Not interested by default
+    }
+
+    default void onActivityAdded(BacklogItem item, Activity activity) {
+        // Not interested by default
+    }
+
+    default void onActivityDoneChanged(BacklogItem item, Activity activity, boolean done) {
+        // Not interested by default
+    }
+
+    default void onDeveloperAssigned(BacklogItem item, TeamMember developer) {
+        // Not interested by default
+    }
+}
@@ -0,0 +1,70 @@
+package com.avans.domain.backlog.state;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Transition table of the backlog item workflow. All backlog states are stateless shared
+ * instances, so moving an item from one state to the next never allocates.
+ */
+public final class BacklogWorkflow {
+    private static final IBacklogState[] ORDER = {
+        TodoState.INSTANCE,
+        DoingState.INSTANCE,
+        ReadyForTestingState.INSTANCE,
+        TestingState.INSTANCE,
+        TestedState.INSTANCE,
+        DoneState.INSTANCE
+    };
+    private static final List<IBacklogState> STATES = Collections.unmodifiableList(Arrays.asList(ORDER));
+    // Built once, so looking up a position or successor does not scan the workflow
+    private static final Map<IBacklogState, Integer> INDEXES = new IdentityHashMap<>();
+    private static final Map<IBacklogState, IBacklogState> SUCCESSORS = new IdentityHashMap<>();
+    private static final Map<String, IBacklogState> BY_NAME = new HashMap<>();
+
+    static {
+        for (int i = 0; i < ORDER.length; i++) {
+            INDEXES.put(ORDER[i], i);
+            SUCCESSORS.put(ORDER[i], ORDER[Math.min(i + 1, ORDER.length - 1)]);
+            BY_NAME.put(ORDER[i].getName(), ORDER[i]);
+        }
+    }
+
+    private BacklogWorkflow() {
+    }
+
+    /**
+     * @return the state that follows the given state, or the state itself when it is the last one
+     */
+    public static IBacklogState next(IBacklogState state) {
+        IBacklogState next = SUCCESSORS.get(state);
+        if (next == null) {
+            throw new IllegalArgumentException("Unknown backlog state: " + state);
+        }
+        return next;
+    }
+
+    public static int indexOf(IBacklogState state) {
+        Integer index = INDEXES.get(state);
+        if (index == null) {
+            throw new IllegalArgumentException("Unknown backlog state: " + state);
+        }
+        return index;
+    }
+
+    public static IBacklogState byName(String name) {
+        IBacklogState state = BY_NAME.get(name);
+        if (state == null) {
+            throw new IllegalArgumentException("Unknown backlog state: " + name);
+        }
+        return state;
+    }
+
+    public static List<IBacklogState> getStates() {
+        return STATES;
+    }
+}
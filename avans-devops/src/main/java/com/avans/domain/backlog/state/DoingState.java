@@ -6,15 +6,20 @@ import com.avans.domain.backlog.BacklogItem;
 
 public class DoingState implements IBacklogState {
     private static final String NAME = "Doing";
+    public static final DoingState INSTANCE = new DoingState();
+
+    private DoingState() {
+        // Stateless; use INSTANCE
+    }
 
     @Override
     public void moveToNext(BacklogItem item) {
-        item.setState(new ReadyForTestingState());
+        item.setState(BacklogWorkflow.next(this));
     }
 
     @Override
     public void revertToTodo(BacklogItem item) {
-        item.setState(new TodoState());
+        item.setState(TodoState.INSTANCE);
     }
 
     @Override
@@ -4,7 +4,12 @@ import com.avans.domain.backlog.BacklogItem;
 
 
 public class DoneState implements IBacklogState {
-    private static final String NAME = "Done";
+    public static final String NAME = "Done";
+    public static final DoneState INSTANCE = new DoneState();
+
+    private DoneState() {
+        // Stateless; use INSTANCE
+    }
 
     @Override
     public void moveToNext(BacklogItem item) {
@@ -13,7 +18,7 @@ public class DoneState implements IBacklogState {
 
     @Override
     public void revertToTodo(BacklogItem item) {
-        item.setState(new TodoState());
+        item.setState(TodoState.INSTANCE);
     }
 
     @Override
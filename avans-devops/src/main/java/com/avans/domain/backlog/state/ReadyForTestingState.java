@@ -5,15 +5,20 @@ import com.avans.domain.backlog.BacklogItem;
 
 public class ReadyForTestingState implements IBacklogState {
     private static final String NAME = "Ready for Testing";
+    public static final ReadyForTestingState INSTANCE = new ReadyForTestingState();
+
+    private ReadyForTestingState() {
+        // Stateless; use INSTANCE
+    }
  
     @Override
     public void moveToNext(BacklogItem item) {
-        item.setState(new TestingState());
+        item.setState(BacklogWorkflow.next(this));
     }
  
     @Override
     public void revertToTodo(BacklogItem item) {
-        item.setState(new TodoState());
+        item.setState(TodoState.INSTANCE);
     }
  
     @Override
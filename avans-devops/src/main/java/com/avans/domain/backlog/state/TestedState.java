@@ -4,6 +4,11 @@ import com.avans.domain.backlog.BacklogItem;
 
 public class TestedState implements IBacklogState {
     private static final String NAME = "Tested";
+    public static final TestedState INSTANCE = new TestedState();
+
+    private TestedState() {
+        // Stateless; use INSTANCE
+    }
     @Override
     public void moveToNext(BacklogItem item) {
         // Verify all activities are completed before moving to Done
@@ -11,12 +16,12 @@ public class TestedState implements IBacklogState {
             throw new IllegalStateException("Cannot move to Done state: not all activities are completed");
         }
         
-        item.setState(new DoneState());
+        item.setState(BacklogWorkflow.next(this));
     }
 
     @Override
     public void revertToTodo(BacklogItem item) {
-        item.setState(new TodoState());
+        item.setState(TodoState.INSTANCE);
     }
 
     @Override
@@ -5,14 +5,19 @@ import com.avans.domain.backlog.BacklogItem;
 
 public class TestingState implements IBacklogState {
     private static final String NAME = "Testing";
+    public static final TestingState INSTANCE = new TestingState();
+
+    private TestingState() {
+        // Stateless; use INSTANCE
+    }
     @Override
     public void moveToNext(BacklogItem item) {
-        item.setState(new TestedState());
+        item.setState(BacklogWorkflow.next(this));
     }
 
     @Override
     public void revertToTodo(BacklogItem item) {
-        item.setState(new TodoState());
+        item.setState(TodoState.INSTANCE);
     }
 
     @Override
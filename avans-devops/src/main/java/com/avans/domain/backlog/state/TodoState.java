@@ -5,10 +5,15 @@ import com.avans.domain.backlog.BacklogItem;
 
 public class TodoState implements IBacklogState {
     private static final String NAME = "Todo";
+    public static final TodoState INSTANCE = new TodoState();
+
+    private TodoState() {
+        // Stateless; use INSTANCE
+    }
 
     @Override
     public void moveToNext(BacklogItem item) {
-        item.setState(new DoingState());
+        item.setState(BacklogWorkflow.next(this));
     }
 
     @Override
@@ -19,6 +24,5 @@ public class TodoState implements IBacklogState {
     @Override
     public String getName() {
         return NAME;
-    
-}
+    }
 }
@@ -1,12 +1,15 @@
 package com.avans.domain.discussions;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import com.avans.domain.member.TeamMember;
 
 
 
 public abstract class DiscussionComponent {
+    private DiscussionComponent parent;
+
     public abstract void add(DiscussionComponent component);
     public abstract void remove(DiscussionComponent component);
     public abstract String getContent();
@@ -15,4 +18,26 @@ public abstract class DiscussionComponent {
     public abstract boolean isLocked();
     public abstract void lock();
     public abstract void unlock();
+    public abstract List<DiscussionComponent> getChildren();
+
+    public DiscussionComponent getParent() {
+        return parent;
+    }
+
+    void setParent(DiscussionComponent parent) {
+        this.parent = parent;
+    }
+
+    // Passes a change anywhere below this component up to the enclosing threads
+    void componentAdded(DiscussionComponent parent, DiscussionComponent component) {
+        if (this.parent != null) {
+            this.parent.componentAdded(parent, component);
+        }
+    }
+
+    void componentRemoved(DiscussionComponent parent, DiscussionComponent component, int index) {
+        if (this.parent != null) {
+            this.parent.componentRemoved(parent, component, index);
+        }
+    }
 }
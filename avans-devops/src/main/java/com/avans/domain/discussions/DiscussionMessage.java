@@ -2,6 +2,7 @@ package com.avans.domain.discussions;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import com.avans.domain.member.TeamMember;
@@ -15,9 +16,13 @@ public class DiscussionMessage extends DiscussionComponent {
     private List<DiscussionComponent> replies;
     
     public DiscussionMessage(String content, TeamMember author) {
+        this(content, author, LocalDate.now());
+    }
+
+    public DiscussionMessage(String content, TeamMember author, LocalDate timestamp) {
         this.content = content;
         this.author = author;
-        this.timestamp = LocalDate.now();
+        this.timestamp = timestamp;
         this.locked = false;
         this.replies = new ArrayList<>();
     }
@@ -26,6 +31,8 @@ public class DiscussionMessage extends DiscussionComponent {
     public void add(DiscussionComponent component) {
         if (!locked) {
             replies.add(component);
+            component.setParent(this);
+            componentAdded(this, component);
         } else {
             throw new UnsupportedOperationException("Cannot add components to a locked message");
         }
@@ -34,7 +41,12 @@ public class DiscussionMessage extends DiscussionComponent {
     @Override
     public void remove(DiscussionComponent component) {
         if (!locked) {
-            replies.remove(component);
+            int index = replies.indexOf(component);
+            if (index >= 0) {
+                replies.remove(index);
+                component.setParent(null);
+                componentRemoved(this, component, index);
+            }
         } else {
             throw new UnsupportedOperationException("Cannot remove components from a locked message");
         }
@@ -55,6 +67,11 @@ public class DiscussionMessage extends DiscussionComponent {
         return timestamp;
     }
     
+    @Override
+    public List<DiscussionComponent> getChildren() {
+        return Collections.unmodifiableList(replies);
+    }
+
     @Override
     public boolean isLocked() {
         return locked;
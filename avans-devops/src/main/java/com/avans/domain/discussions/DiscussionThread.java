@@ -2,7 +2,9 @@ package com.avans.domain.discussions;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
 
 import com.avans.domain.backlog.BacklogItem;
 import com.avans.domain.backlog.state.DoneState;
@@ -10,15 +12,26 @@ import com.avans.domain.member.TeamMember;
 import com.avans.observer.Subject;
 
 public class DiscussionThread extends DiscussionComponent {
+    private final String id;
     private String title;
     private LocalDate timestamp;
     private boolean locked;
     private List<DiscussionComponent> children;
     private BacklogItem backlogItem;
     private Subject notificationSubject;
+    private List<IDiscussionListener> listeners;
     
     public DiscussionThread(String title) {
+        this(UUID.randomUUID().toString(), title);
+    }
+
+    public DiscussionThread(String id, String title) {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Discussion thread id cannot be empty");
+        }
+        this.id = id;
         this.title = title;
+        this.listeners = new ArrayList<>();
         this.timestamp = LocalDate.now();
         this.locked = false;
         this.children = new ArrayList<>();
@@ -29,6 +42,8 @@ public class DiscussionThread extends DiscussionComponent {
     public void add(DiscussionComponent component) {
         if (!isLocked()) {
             children.add(component);
+            component.setParent(this);
+            componentAdded(this, component);
             
             // Notify observers about the new message
             if (notificationSubject != null) {
@@ -42,7 +57,12 @@ public class DiscussionThread extends DiscussionComponent {
     @Override
     public void remove(DiscussionComponent component) {
         if (!isLocked()) {
-            children.remove(component);
+            int index = children.indexOf(component);
+            if (index >= 0) {
+                children.remove(index);
+                component.setParent(null);
+                componentRemoved(this, component, index);
+            }
         } else {
             throw new IllegalStateException("Cannot remove messages from a locked discussion thread");
         }
@@ -57,6 +77,27 @@ public class DiscussionThread extends DiscussionComponent {
         return content.toString();
     }
     
+    @Override
+    void componentAdded(DiscussionComponent parent, DiscussionComponent component) {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onComponentAdded(this, parent, component);
+        }
+        super.componentAdded(parent, component);
+    }
+
+    @Override
+    void componentRemoved(DiscussionComponent parent, DiscussionComponent component, int index) {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onComponentRemoved(this, parent, index);
+        }
+        super.componentRemoved(parent, component, index);
+    }
+
+    @Override
+    public List<DiscussionComponent> getChildren() {
+        return Collections.unmodifiableList(children);
+    }
+
     @Override
     public TeamMember getAuthor() {
         // A thread doesn't have a single author
@@ -80,6 +121,7 @@ public class DiscussionThread extends DiscussionComponent {
         for (DiscussionComponent child : children) {
             child.lock();
         }
+        fireLockChanged(true);
     }
     
     @Override
@@ -89,6 +131,21 @@ public class DiscussionThread extends DiscussionComponent {
         for (DiscussionComponent child : children) {
             child.unlock();
         }
+        fireLockChanged(false);
+    }
+
+    private void fireLockChanged(boolean nowLocked) {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onLockChanged(this, nowLocked);
+        }
+    }
+
+    public void addListener(IDiscussionListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(IDiscussionListener listener) {
+        listeners.remove(listener);
     }
     
     public void setBacklogItem(BacklogItem backlogItem) {
@@ -111,6 +168,10 @@ public class DiscussionThread extends DiscussionComponent {
         return backlogItem;
     }
     
+    public String getId() {
+        return id;
+    }
+
     public String getTitle() {
         return title;
     }
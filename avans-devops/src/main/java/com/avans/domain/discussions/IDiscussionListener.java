@@ -0,0 +1,20 @@
+package com.avans.domain.discussions;
+
+/**
+ * Receives changes anywhere in the tree below a discussion thread, for components that
+ * persist discussions.
+ */
+public interface IDiscussionListener {
+    default void onComponentAdded(DiscussionThread thread, DiscussionComponent parent, DiscussionComponent component) {
+        // Not interested by default
+    }
+
+    // index is the position the component had in its parent before it was removed
+    default void onComponentRemoved(DiscussionThread thread, DiscussionComponent parent, int index) {
+        // Not interested by default
+    }
+
+    default void onLockChanged(DiscussionThread thread, boolean locked) {
+        // Not interested by default
+    }
+}
@@ -4,5 +4,9 @@ public class Developer extends TeamMember{
     public Developer(String name) {
         super(name);
     }
+
+    public Developer(String id, String name) {
+        super(id, name);
+    }
     
 }
@@ -5,6 +5,10 @@ public class LeadDeveloper extends TeamMember {
         super(name);
     }
 
+    public LeadDeveloper(String id, String name) {
+        super(id, name);
+    }
+
     @Override
     public String toString() {
         return "LeadDeveloper{" +
@@ -6,6 +6,10 @@ public class ProductOwner extends TeamMember {
         super(name);
     }
 
+    public ProductOwner(String id, String name) {
+        super(id, name);
+    }
+
     @Override
     public String toString() {
         return "ProductOwner{" +
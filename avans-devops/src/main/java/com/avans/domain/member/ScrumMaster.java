@@ -5,6 +5,10 @@ public class ScrumMaster extends TeamMember {
         super(name);
     }
 
+    public ScrumMaster(String id, String name) {
+        super(id, name);
+    }
+
     @Override
     public String toString() {
         return "ScrumMaster{" +
@@ -2,15 +2,26 @@ package com.avans.domain.member;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 import com.avans.observer.IObserver;
 import com.avans.strategy.notification.NotificationStrategy;
+import com.avans.strategy.notification.RecipientAwareNotification;
 
 public abstract class TeamMember implements IObserver  {
+    private final String id;
      protected String name;
     protected List<NotificationStrategy> notificationMethods;
 
     public TeamMember(String name) {
+        this(UUID.randomUUID().toString(), name);
+    }
+
+    public TeamMember(String id, String name) {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Team member id cannot be empty");
+        }
+        this.id = id;
         this.name = name;
         this.notificationMethods = new ArrayList<>();
     }
@@ -19,7 +30,12 @@ public abstract class TeamMember implements IObserver  {
     public void update(String message) {
         // Verstuur naar alle ingestelde notificatiemethodes
         for (NotificationStrategy strategy : notificationMethods) {
-            strategy.sendNotification("[" + name + "] " + message);
+            String addressed = "[" + name + "] " + message;
+            if (strategy instanceof RecipientAwareNotification) {
+                ((RecipientAwareNotification) strategy).sendNotification(name, addressed);
+            } else {
+                strategy.sendNotification(addressed);
+            }
         }
     }
 
@@ -27,6 +43,10 @@ public abstract class TeamMember implements IObserver  {
         notificationMethods.add(strategy);
     }
 
+    public String getId() {
+        return id;
+    }
+
     public String getName() {
         return name;
     }
@@ -5,6 +5,10 @@ public class Tester extends TeamMember {
         super(name);
     }
 
+    public Tester(String id, String name) {
+        super(id, name);
+    }
+
     @Override
     public String toString() {
         return "Tester{" +
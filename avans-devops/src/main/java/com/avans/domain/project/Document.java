@@ -1,11 +1,33 @@
 package com.avans.domain.project;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.time.LocalDate;
-import java.util.Arrays;
 
+import com.avans.storage.Blob;
+import com.avans.storage.BlobStore;
+import com.avans.storage.BlobTooLargeException;
+
+/**
+ * An uploaded file. The content lives off-heap in a {@link BlobStore}, shared with every other
+ * document that has the same bytes, and is read through {@link #getContentBuffer()} or
+ * {@link #openContent()} without copying it. {@link #upload(String, ReadableByteChannel)} reads
+ * a file straight into the store, so an upload never has to fit on the heap as a whole.
+ *
+ * A document holds one reference to its blob. {@link #release()} gives it back when the
+ * document is no longer needed; a document that becomes unreachable releases it by itself.
+ */
 public class Document {
+    private static final Cleaner CLEANER = Cleaner.create();
+
     private String filename;
-    private byte[] content;
+    private final Blob content;
+    private final Cleaner.Cleanable cleanable;
+    private volatile boolean released;
     private LocalDate uploadDate;
     private static final long MAX_SIZE_BYTES = 10L * 1024 * 1024; // 10 MB - fixed with long cast
     private static final String[] ALLOWED_EXTENSIONS = {
@@ -13,15 +35,70 @@ public class Document {
     };
 
     public Document(String filename, byte[] content) {
+        this(filename, content, BlobStore.shared());
+    }
+
+    public Document(String filename, byte[] content, BlobStore store) {
         validateFilename(filename);
         validateContent(content);
+        if (store == null) {
+            throw new IllegalArgumentException("Blob store cannot be null");
+        }
         
         this.filename = filename;
-        this.content = Arrays.copyOf(content, content.length); // Defensive copy
+        this.content = store.put(content); // Copied off-heap, or shared with identical content
+        this.cleanable = CLEANER.register(this, this.content::release);
         this.uploadDate = LocalDate.now();
     }
+
+    private Document(String filename, Blob content) {
+        this.filename = filename;
+        this.content = content;
+        this.cleanable = CLEANER.register(this, content::release);
+        this.uploadDate = LocalDate.now();
+    }
+
+    public static Document upload(String filename, InputStream in) throws IOException {
+        return upload(filename, in, BlobStore.shared());
+    }
+
+    /**
+     * Reads a document from a stream into the blob store. The stream is not closed.
+     */
+    public static Document upload(String filename, InputStream in, BlobStore store) throws IOException {
+        if (in == null) {
+            throw new IllegalArgumentException("Document content cannot be null");
+        }
+        return upload(filename, Channels.newChannel(in), store);
+    }
+
+    public static Document upload(String filename, ReadableByteChannel in) throws IOException {
+        return upload(filename, in, BlobStore.shared());
+    }
+
+    /**
+     * Reads a document from a channel into the blob store, hashing it on the way. The filename
+     * is checked before anything is read, and reading stops as soon as the content passes the
+     * maximum size; a file channel that is too large is rejected without reading it at all.
+     * The channel is not closed.
+     */
+    public static Document upload(String filename, ReadableByteChannel in, BlobStore store) throws IOException {
+        if (in == null) {
+            throw new IllegalArgumentException("Document content cannot be null");
+        }
+        validateFilename(filename);
+        if (store == null) {
+            throw new IllegalArgumentException("Blob store cannot be null");
+        }
+        try {
+            return new Document(filename, store.put(in, MAX_SIZE_BYTES));
+        } catch (BlobTooLargeException e) {
+            throw new IllegalArgumentException("Document exceeds maximum size of " + 
+                (MAX_SIZE_BYTES / (1024 * 1024)) + " MB", e);
+        }
+    }
     
-    private void validateFilename(String filename) {
+    private static void validateFilename(String filename) {
         if (filename == null || filename.trim().isEmpty()) {
             throw new IllegalArgumentException("Filename cannot be null or empty");
         }
@@ -41,7 +118,7 @@ public class Document {
         }
     }
     
-    private void validateContent(byte[] content) {
+    private static void validateContent(byte[] content) {
         if (content == null) {
             throw new IllegalArgumentException("Document content cannot be null");
         }
@@ -52,8 +129,46 @@ public class Document {
         }
     }
 
+    /**
+     * A heap copy of the content. Prefer {@link #getContentBuffer()} or {@link #openContent()}
+     * for large files.
+     */
     public byte[] getContent() {
-        return Arrays.copyOf(content, content.length); // Return a defensive copy
+        checkNotReleased();
+        return content.toByteArray();
+    }
+
+    /**
+     * A read-only view of the content that does not copy it.
+     */
+    public ByteBuffer getContentBuffer() {
+        checkNotReleased();
+        return content.asReadOnlyBuffer();
+    }
+
+    public InputStream openContent() {
+        checkNotReleased();
+        return content.openStream();
+    }
+
+    /**
+     * SHA-256 of the content as lowercase hex; documents with equal content share this hash.
+     */
+    public String getContentHash() {
+        return content.getHash();
+    }
+
+    /**
+     * Gives the document's reference to its content back to the blob store. Reading the
+     * content afterwards fails. Releasing twice has no further effect.
+     */
+    public void release() {
+        released = true;
+        cleanable.clean();
+    }
+
+    public boolean isReleased() {
+        return released;
     }
 
     public String getFilename() {
@@ -65,7 +180,7 @@ public class Document {
     }
     
     public long getContentSizeInBytes() {
-        return content.length;
+        return content.getSize();
     }
     
     public String getExtension() {
@@ -75,4 +190,10 @@ public class Document {
         }
         return "";
     }
+
+    private void checkNotReleased() {
+        if (released) {
+            throw new IllegalStateException("Document '" + filename + "' has been released");
+        }
+    }
 }
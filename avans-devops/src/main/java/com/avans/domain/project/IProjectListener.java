@@ -0,0 +1,21 @@
+package com.avans.domain.project;
+
+import com.avans.domain.discussions.DiscussionThread;
+import com.avans.domain.member.TeamMember;
+
+/**
+ * Receives structural changes of a project, for components that index project contents.
+ */
+public interface IProjectListener {
+    default void onSprintAdded(Project project, Sprint sprint) {
+        // Not interested by default
+    }
+
+    default void onTeamMemberAdded(Project project, TeamMember member) {
+        // Not interested by default
+    }
+
+    default void onDiscussionAdded(Project project, DiscussionThread thread) {
+        // Not interested by default
+    }
+}
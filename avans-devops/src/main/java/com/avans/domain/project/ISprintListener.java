@@ -0,0 +1,45 @@
+package com.avans.domain.project;
+
+import com.avans.domain.backlog.BacklogItem;
+import com.avans.domain.member.ScrumMaster;
+import com.avans.domain.member.TeamMember;
+
+/**
+ * Receives structural and lifecycle changes of a sprint, for components that index or persist
+ * sprint contents.
+ */
+public interface ISprintListener {
+    default void onBacklogItemAdded(Sprint sprint, BacklogItem item) {
+        // Not interested by default
+    }
+
+    default void onBacklogItemRemoved(Sprint sprint, BacklogItem item) {
+        // Not interested by default
+    }
+
+    default void onTeamMemberAdded(Sprint sprint, TeamMember member) {
+        // Not interested by default
+    }
+
+    default void onScrumMasterChanged(Sprint sprint, ScrumMaster scrumMaster) {
+        // Not interested by default
+    }
+
+    // Name, start date or end date changed
+    default void onDetailsChanged(Sprint sprint) {
+        // Not interested by default
+    }
+
+    default void onStarted(Sprint sprint) {
+        // Not interested by default
+    }
+
+    default void onFinished(Sprint sprint) {
+        // Not interested by default
+    }
+
+    // Release or review state of the sprint changed
+    default void onSprintStateChanged(Sprint sprint, String stateName) {
+        // Not interested by default
+    }
+}
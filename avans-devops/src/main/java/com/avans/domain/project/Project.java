@@ -1,8 +1,10 @@
 package com.avans.domain.project;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import com.avans.domain.discussions.DiscussionThread;
 import com.avans.domain.member.ProductOwner;
 import com.avans.domain.member.TeamMember;
 
@@ -11,19 +13,49 @@ public class Project  {
     private String projectDescription;
     private List <TeamMember> teamMembers;
     private List <Sprint> sprints;
+    private List <DiscussionThread> discussions;
     private ProductOwner productOwner;
+    private List<IProjectListener> listeners;
 
     public Project (String projectName) {
         this.projectName = projectName;
         this.teamMembers = new ArrayList<>();
         this.sprints = new ArrayList<>();
+        this.discussions = new ArrayList<>();
+        this.listeners = new ArrayList<>();
     }
     public void addSprint(Sprint s) {
         sprints.add(s);
+        s.setProject(this);
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onSprintAdded(this, s);
+        }
     }
 
     public void addTeamMember(TeamMember m) {
         teamMembers.add(m);
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onTeamMemberAdded(this, m);
+        }
+    }
+
+    public void addDiscussion(DiscussionThread thread) {
+        discussions.add(thread);
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onDiscussionAdded(this, thread);
+        }
+    }
+
+    public List<DiscussionThread> getDiscussions() {
+        return Collections.unmodifiableList(discussions);
+    }
+
+    public void addListener(IProjectListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(IProjectListener listener) {
+        listeners.remove(listener);
     }
 
     public String getProjectName() {
@@ -31,11 +63,11 @@ public class Project  {
     }
 
     public List<TeamMember> getTeamMembers() {
-        return teamMembers;
+        return Collections.unmodifiableList(teamMembers);
     }
 
     public List<Sprint> getSprints() {
-        return sprints;
+        return Collections.unmodifiableList(sprints);
     }
 
     public void setProductOwner(ProductOwner owner) {
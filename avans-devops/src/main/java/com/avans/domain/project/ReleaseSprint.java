@@ -3,21 +3,32 @@ package com.avans.domain.project;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 import com.avans.domain.member.ProductOwner;
 import com.avans.domain.member.TeamMember;
 import com.avans.pipeline.Pipeline;
+import com.avans.pipeline.ReleaseExecutionService;
+import com.avans.pipeline.ReleaseHandle;
 import com.avans.state.release.IReleaseSprintState;
 import com.avans.state.release.ReleaseClosedState;
 import com.avans.state.release.ReleaseCreatedState;
+import com.avans.state.release.ReleasingState;
 
 public class ReleaseSprint extends Sprint {
     private IReleaseSprintState state;
     private Pipeline pipeline;
-    private boolean pipelineRunning;
+    // Cleared by the thread that runs the pipeline, or cancels it before it ran
+    private volatile boolean pipelineRunning;
+    private ReleaseExecutionService releaseService;
+    private ReleaseHandle currentRelease;
 
     public ReleaseSprint(String name, LocalDate startDate, LocalDate endDate) {
-        super(name, startDate, endDate);
+        this(UUID.randomUUID().toString(), name, startDate, endDate);
+    }
+
+    public ReleaseSprint(String id, String name, LocalDate startDate, LocalDate endDate) {
+        super(id, name, startDate, endDate);
         this.state = new ReleaseCreatedState();
         this.pipelineRunning = false;
     }
@@ -29,6 +40,7 @@ public class ReleaseSprint extends Sprint {
     public void setState(IReleaseSprintState newState) {
         IReleaseSprintState oldState = this.state;
         this.state = newState;
+        fireSprintStateChanged(newState.getName());
         
         // Notify observers of the state change
         notifyObservers("Release sprint '" + getName() + "' state changed from " 
@@ -48,6 +60,20 @@ public class ReleaseSprint extends Sprint {
         }
     }
     
+    // Service that runs the release pipeline; the shared service when none was set
+    public ReleaseExecutionService getReleaseService() {
+        return releaseService != null ? releaseService : ReleaseExecutionService.shared();
+    }
+
+    public void setReleaseService(ReleaseExecutionService releaseService) {
+        this.releaseService = releaseService;
+    }
+
+    // Handle of the last release pipeline run, or null when none was submitted
+    public ReleaseHandle getCurrentRelease() {
+        return currentRelease;
+    }
+
     public boolean isPipelineRunning() {
         return pipelineRunning;
     }
@@ -73,25 +99,58 @@ public class ReleaseSprint extends Sprint {
         state.start(this);
     }
 
-    public void performRelease() {
+    /**
+     * Moves the release on and queues its pipeline on the release service. Releases of the
+     * same project share the per-project limit of the service.
+     *
+     * @return handle to wait for or cancel the pipeline run
+     * @throws IllegalStateException when the release service rejects the release; the sprint
+     *         then keeps the state it had
+     */
+    public ReleaseHandle performRelease() {
         if (pipeline == null) {
             throw new IllegalStateException("Cannot perform release without a pipeline");
         }
         
+        IReleaseSprintState previousState = state;
         setPipelineRunning(true);
         state.performRelease(this);
-        
-        // Start pipeline execution in a separate thread
-        new Thread(() -> {
-            try {
-                pipeline.runAllSteps();
-            } catch (Exception e) {
-                notifyObservers("Release pipeline failed: " + e.getMessage());
-                notifyProductOwnerAndScrumMaster("Release pipeline failed: " + e.getMessage());
+        return submitPipeline(previousState, false);
+    }
+
+    private ReleaseHandle submitPipeline(IReleaseSprintState previousState, boolean retry) {
+        Object releaseGroup = getProject() != null ? getProject() : this;
+        try {
+            currentRelease = getReleaseService().submit(releaseGroup, "Release " + getName(), () -> {
+                try {
+                    if (retry) {
+                        pipeline.retryAllSteps();
+                    } else {
+                        pipeline.runAllSteps();
+                    }
+                } catch (Exception e) {
+                    notifyObservers("Release pipeline failed: " + e.getMessage());
+                    notifyProductOwnerAndScrumMaster("Release pipeline failed: " + e.getMessage());
+                }
+            }, this::releaseNotRun);
+        } catch (IllegalStateException e) {
+            // The release was never queued, so it did not move on either
+            setPipelineRunning(false);
+            if (state != previousState) {
+                setState(previousState);
             }
-        }).start();
+            throw e;
+        }
+        return currentRelease;
     }
     
+    // The release was cancelled, or its service shut down, before the pipeline started
+    private void releaseNotRun() {
+        setPipelineRunning(false);
+        notifyObservers("Release for sprint '" + getName() + "' was cancelled before its pipeline ran");
+        notifyProductOwnerAndScrumMaster("Release for sprint '" + getName() + "' was cancelled before its pipeline ran");
+    }
+
     public void finishRelease(boolean success) {
         setPipelineRunning(false);
         if (success) {
@@ -103,12 +162,25 @@ public class ReleaseSprint extends Sprint {
         }
     }
 
-    public void retryRelease() {
+    /**
+     * Retries the release when its state allows it. The pipeline then runs again on the release
+     * service, resuming after the steps the failed run completed with unchanged inputs.
+     *
+     * @return handle of the pipeline run, or null when the state did not accept the retry
+     */
+    public ReleaseHandle retryRelease() {
         if (pipelineRunning) {
             throw new IllegalStateException("Cannot retry release while pipeline is still running");
         }
         
+        IReleaseSprintState previousState = state;
         state.retryRelease(this);
+        // States that refuse the retry stay where they are
+        if (pipeline == null || state == previousState || !(state instanceof ReleasingState)) {
+            return null;
+        }
+        setPipelineRunning(true);
+        return submitPipeline(previousState, true);
     }
 
     public void cancelRelease() {
@@ -1,6 +1,7 @@
 package com.avans.domain.project;
 
 import java.time.LocalDate;
+import java.util.UUID;
 
 import com.avans.state.review.IReviewSprintState;
 import com.avans.state.review.ReviewClosedState;
@@ -12,7 +13,11 @@ public class ReviewSprint extends Sprint {
     private boolean reviewCompleted;
 
     public ReviewSprint(String name, LocalDate startDate, LocalDate endDate) {
-        super(name, startDate, endDate);
+        this(UUID.randomUUID().toString(), name, startDate, endDate);
+    }
+
+    public ReviewSprint(String id, String name, LocalDate startDate, LocalDate endDate) {
+        super(id, name, startDate, endDate);
         this.state = new ReviewCreatedState();
         this.reviewCompleted = false;
     }
@@ -37,6 +42,7 @@ public class ReviewSprint extends Sprint {
     public void setState(IReviewSprintState newState) {
         IReviewSprintState oldState = this.state;
         this.state = newState;
+        fireSprintStateChanged(newState.getName());
         
         notifyObservers("Review sprint '" + getName() + "' state changed from " 
                 + oldState.getName() + " to " + newState.getName());
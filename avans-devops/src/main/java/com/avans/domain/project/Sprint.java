@@ -2,16 +2,25 @@ package com.avans.domain.project;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 import com.avans.decorator.IReport;
+import com.avans.domain.backlog.Activity;
 import com.avans.domain.backlog.BacklogItem;
+import com.avans.domain.backlog.IBacklogItemListener;
+import com.avans.domain.backlog.state.DoneState;
+import com.avans.domain.backlog.state.IBacklogState;
 import com.avans.domain.member.ScrumMaster;
 import com.avans.domain.member.TeamMember;
 import com.avans.observer.Subject;
 import com.avans.strategy.report.IReportStrategy;
 
 public abstract class Sprint extends Subject {
+    private final String id;
     protected String name;
     protected LocalDate startDate;
     protected LocalDate endDate;
@@ -21,7 +30,28 @@ public abstract class Sprint extends Subject {
     protected boolean isStarted;
     protected boolean isFinished;
 
+    // Counters kept up to date from backlog item events, so status queries never scan all items
+    private final Map<String, Integer> backlogStateCounts;
+    private final IBacklogItemListener backlogCounter;
+    private int finishedItemCount;
+    private int itemsWithAllActivitiesDone;
+    private int remainingEstimatedHours;
+    private final List<ISprintListener> sprintListeners;
+    // Bumped on every change that can show up in a report, so cached reports can be reused;
+    // volatile so a report rendered on another thread sees the latest change
+    private volatile long version;
+    private final SprintHistory history;
+    private Project project;
+
     public Sprint(String name, LocalDate startDate, LocalDate endDate) {
+        this(UUID.randomUUID().toString(), name, startDate, endDate);
+    }
+
+    public Sprint(String id, String name, LocalDate startDate, LocalDate endDate) {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Sprint id cannot be empty");
+        }
+        this.id = id;
         this.name = name;
         this.startDate = startDate;
         this.endDate = endDate;
@@ -29,6 +59,10 @@ public abstract class Sprint extends Subject {
         this.sprintTeam = new ArrayList<>();
         this.isStarted = false;
         this.isFinished = false;
+        this.backlogStateCounts = new LinkedHashMap<>();
+        this.backlogCounter = new BacklogCounter();
+        this.sprintListeners = new ArrayList<>();
+        this.history = new SprintHistory();
     }
 
     public void addBacklogItem(BacklogItem item) {
@@ -36,13 +70,68 @@ public abstract class Sprint extends Subject {
             throw new IllegalStateException("Cannot add backlog items after sprint has started");
         }
         backlogItems.add(item);
+        item.addListener(backlogCounter);
+        countItem(item, 1);
+        version++;
+
+        for (int i = 0; i < sprintListeners.size(); i++) {
+            sprintListeners.get(i).onBacklogItemAdded(this, item);
+        }
     }
 
     public void removeBacklogItem(BacklogItem item) {
         if (isStarted) {
             throw new IllegalStateException("Cannot remove backlog items after sprint has started");
         }
-        backlogItems.remove(item);
+        if (backlogItems.remove(item)) {
+            item.removeListener(backlogCounter);
+            countItem(item, -1);
+            version++;
+
+            for (int i = 0; i < sprintListeners.size(); i++) {
+                sprintListeners.get(i).onBacklogItemRemoved(this, item);
+            }
+        }
+    }
+
+    public void addSprintListener(ISprintListener listener) {
+        sprintListeners.add(listener);
+    }
+
+    public void removeSprintListener(ISprintListener listener) {
+        sprintListeners.remove(listener);
+    }
+
+    private void countItem(BacklogItem item, int delta) {
+        adjustStateCount(item.getState(), delta);
+        if (item.isDone()) {
+            finishedItemCount += delta;
+        }
+        if (item.areAllActivitiesDone()) {
+            itemsWithAllActivitiesDone += delta;
+        }
+        if (item.getState() instanceof DoneState) {
+            history.itemDoneChanged(delta);
+        }
+        for (int i = 0; i < item.getActivityCount(); i++) {
+            Activity activity = item.getActivity(i);
+            if (activity.isDone()) {
+                history.activityDoneChanged(delta);
+            } else {
+                remainingEstimatedHours += delta * activity.getTotalEstimatedHours();
+            }
+        }
+    }
+
+    private void adjustStateCount(IBacklogState state, int delta) {
+        if (state == null) {
+            return;
+        }
+        // Drop states that no item is in any more so the map only lists occupied states
+        backlogStateCounts.merge(state.getName(), delta, (current, change) -> {
+            int updated = current + change;
+            return updated == 0 ? null : updated;
+        });
     }
 
     public void addTeamMember(TeamMember m) {
@@ -50,6 +139,10 @@ public abstract class Sprint extends Subject {
             throw new IllegalStateException("Cannot add team members after sprint has started");
         }
         sprintTeam.add(m);
+        version++;
+        for (int i = 0; i < sprintListeners.size(); i++) {
+            sprintListeners.get(i).onTeamMemberAdded(this, m);
+        }
     }
 
     public void setScrumMaster(ScrumMaster master) {
@@ -57,14 +150,22 @@ public abstract class Sprint extends Subject {
             throw new IllegalStateException("Cannot change scrum master after sprint has started");
         }
         this.scrumMaster = master;
+        version++;
         // Register scrum master as an observer
         addObserver(master);
+        for (int i = 0; i < sprintListeners.size(); i++) {
+            sprintListeners.get(i).onScrumMasterChanged(this, master);
+        }
     }
     
     public ScrumMaster getScrumMaster() {
         return scrumMaster;
     }
 
+    public String getId() {
+        return id;
+    }
+
     public String getName() {
         return name;
     }
@@ -74,6 +175,7 @@ public abstract class Sprint extends Subject {
             throw new IllegalStateException("Cannot change sprint name after sprint has started");
         }
         this.name = name;
+        fireDetailsChanged();
     }
     
     public LocalDate getStartDate() {
@@ -89,6 +191,7 @@ public abstract class Sprint extends Subject {
             throw new IllegalStateException("Cannot change start date after sprint has started");
         }
         this.startDate = startDate;
+        fireDetailsChanged();
     }
     
     public void setEndDate(LocalDate endDate) {
@@ -96,6 +199,22 @@ public abstract class Sprint extends Subject {
             throw new IllegalStateException("Cannot change end date after sprint has started");
         }
         this.endDate = endDate;
+        fireDetailsChanged();
+    }
+
+    private void fireDetailsChanged() {
+        version++;
+        for (int i = 0; i < sprintListeners.size(); i++) {
+            sprintListeners.get(i).onDetailsChanged(this);
+        }
+    }
+
+    // Lets release and review sprints report changes of their own state
+    protected void fireSprintStateChanged(String stateName) {
+        version++;
+        for (int i = 0; i < sprintListeners.size(); i++) {
+            sprintListeners.get(i).onSprintStateChanged(this, stateName);
+        }
     }
 
     public void start() {
@@ -108,6 +227,10 @@ public abstract class Sprint extends Subject {
         }
         
         this.isStarted = true;
+        version++;
+        for (int i = 0; i < sprintListeners.size(); i++) {
+            sprintListeners.get(i).onStarted(this);
+        }
         notifyObservers("Sprint '" + name + "' has started.");
     }
 
@@ -117,6 +240,10 @@ public abstract class Sprint extends Subject {
         }
         
         this.isFinished = true;
+        version++;
+        for (int i = 0; i < sprintListeners.size(); i++) {
+            sprintListeners.get(i).onFinished(this);
+        }
         notifyObservers("Sprint '" + name + "' has finished.");
     }
     
@@ -139,12 +266,63 @@ public abstract class Sprint extends Subject {
         return strategy.generate(this);
     }
 
+    /**
+     * Modification version of the sprint. It increases whenever the sprint, its team or one of
+     * its backlog items changes, so equal versions mean an unchanged sprint.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    // Project the sprint was added to, or null for a sprint on its own
+    public Project getProject() {
+        return project;
+    }
+
+    void setProject(Project project) {
+        this.project = project;
+    }
+
+    /**
+     * Day by day record of completed backlog items and activities, for burndown charts.
+     */
+    public SprintHistory getHistory() {
+        return history;
+    }
+
     public List<BacklogItem> getBacklogItems() {
-        return backlogItems;
+        return Collections.unmodifiableList(backlogItems);
+    }
+
+    public int getBacklogItemCount() {
+        return backlogItems.size();
+    }
+
+    // Number of backlog items per state name, in the order the states were first seen
+    public Map<String, Integer> getBacklogStateCounts() {
+        return Collections.unmodifiableMap(backlogStateCounts);
+    }
+
+    public int getBacklogStateCount(String stateName) {
+        return backlogStateCounts.getOrDefault(stateName, 0);
+    }
+
+    // Number of items that are in the Done state and have all their activities completed
+    public int getFinishedBacklogItemCount() {
+        return finishedItemCount;
+    }
+
+    public int getBacklogItemsWithAllActivitiesDoneCount() {
+        return itemsWithAllActivitiesDone;
     }
     
+    // Estimated hours of the activities that are not done yet
+    public int getRemainingEstimatedHours() {
+        return remainingEstimatedHours;
+    }
+
     public List<TeamMember> getTeamMembers() {
-        return sprintTeam;
+        return Collections.unmodifiableList(sprintTeam);
     }
     
     // Check if all backlog items in the sprint are done
@@ -152,12 +330,60 @@ public abstract class Sprint extends Subject {
         if (backlogItems.isEmpty()) {
             return false; // No items means nothing is done
         }
-        
-        for (BacklogItem item : backlogItems) {
-            if (!item.isDone()) {
-                return false;
+        return finishedItemCount == backlogItems.size();
+    }
+
+    private class BacklogCounter implements IBacklogItemListener {
+        @Override
+        public void onStateChanged(BacklogItem item, IBacklogState oldState, IBacklogState newState) {
+            version++;
+            adjustStateCount(oldState, -1);
+            adjustStateCount(newState, 1);
+
+            boolean wasInDone = oldState instanceof DoneState;
+            boolean isInDone = newState instanceof DoneState;
+            if (wasInDone != isInDone) {
+                history.itemDoneChanged(isInDone ? 1 : -1);
             }
+
+            if (item.areAllActivitiesDone()) {
+                boolean wasDone = oldState instanceof DoneState;
+                boolean isDone = newState instanceof DoneState;
+                if (wasDone != isDone) {
+                    finishedItemCount += isDone ? 1 : -1;
+                }
+            }
+        }
+
+        @Override
+        public void onActivitiesCompletionChanged(BacklogItem item, boolean allActivitiesDone) {
+            int delta = allActivitiesDone ? 1 : -1;
+            itemsWithAllActivitiesDone += delta;
+            if (item.getState() instanceof DoneState) {
+                finishedItemCount += delta;
+            }
+        }
+
+        @Override
+        public void onActivityAdded(BacklogItem item, Activity activity) {
+            version++;
+            if (activity.isDone()) {
+                history.activityDoneChanged(1);
+            } else {
+                remainingEstimatedHours += activity.getTotalEstimatedHours();
+            }
+        }
+
+        @Override
+        public void onActivityDoneChanged(BacklogItem item, Activity activity, boolean done) {
+            version++;
+            history.activityDoneChanged(done ? 1 : -1);
+            remainingEstimatedHours += done ? -activity.getTotalEstimatedHours() : activity.getTotalEstimatedHours();
+        }
+
+        @Override
+        public void onDeveloperAssigned(BacklogItem item, TeamMember developer) {
+            version++;
         }
-        return true;
     }
 }
@@ -0,0 +1,193 @@
+package com.avans.domain.project;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Records on which day backlog items of a sprint reached or left the Done state, and on which
+ * day activities were completed or reopened. Each day holds the net change, in primitive
+ * arrays indexed by day, so a burndown over the whole sprint is one pass over a few hundred
+ * ints instead of a scan of every backlog item.
+ *
+ * Changes are recorded on the current date, or on the recording day while a stored project is
+ * being rebuilt.
+ */
+public class SprintHistory {
+    private static final int[] EMPTY = new int[0];
+
+    private long firstEpochDay;
+    private int dayCount;
+    private int[] itemsDone = EMPTY;
+    private int[] activitiesDone = EMPTY;
+    private int completedItems;
+    private int completedActivities;
+    private LocalDate recordingDay;
+
+    /**
+     * Records later changes as if they happened on the given day, or on the current date again
+     * when the day is null. Used while a stored project is replayed.
+     */
+    public void setRecordingDay(LocalDate day) {
+        this.recordingDay = day;
+    }
+
+    void itemDoneChanged(int delta) {
+        recordItemsDone(today(), delta);
+    }
+
+    void activityDoneChanged(int delta) {
+        recordActivitiesDone(today(), delta);
+    }
+
+    void recordItemsDone(LocalDate day, int delta) {
+        // Index first: growing the history replaces the arrays
+        int index = slot(day.toEpochDay());
+        itemsDone[index] += delta;
+        completedItems += delta;
+    }
+
+    void recordActivitiesDone(LocalDate day, int delta) {
+        int index = slot(day.toEpochDay());
+        activitiesDone[index] += delta;
+        completedActivities += delta;
+    }
+
+    /**
+     * Number of items that were done at the end of each day, starting at the given date.
+     * Completions before that date count on its first day.
+     */
+    public int[] getCompletedItemsPerDay(LocalDate start, int days) {
+        return cumulative(itemsDone, start, days);
+    }
+
+    /**
+     * Number of completed activities at the end of each day, starting at the given date.
+     */
+    public int[] getCompletedActivitiesPerDay(LocalDate start, int days) {
+        return cumulative(activitiesDone, start, days);
+    }
+
+    public int getCompletedItems() {
+        return completedItems;
+    }
+
+    public int getCompletedActivities() {
+        return completedActivities;
+    }
+
+    // First day with a recorded change; only meaningful when getDayCount() is not 0
+    public LocalDate getFirstDay() {
+        return LocalDate.ofEpochDay(firstEpochDay);
+    }
+
+    public int getDayCount() {
+        return dayCount;
+    }
+
+    public int getItemsDoneChange(int dayIndex) {
+        return itemsDone[checkIndex(dayIndex)];
+    }
+
+    public int getActivitiesDoneChange(int dayIndex) {
+        return activitiesDone[checkIndex(dayIndex)];
+    }
+
+    /**
+     * Replaces the recorded history with stored daily changes, starting at the first day.
+     */
+    public void restore(LocalDate firstDay, int[] itemChanges, int[] activityChanges) {
+        if (firstDay == null || itemChanges == null || activityChanges == null
+                || itemChanges.length != activityChanges.length) {
+            throw new IllegalArgumentException("History needs a first day and one item and activity change per day");
+        }
+        firstEpochDay = firstDay.toEpochDay();
+        dayCount = itemChanges.length;
+        itemsDone = Arrays.copyOf(itemChanges, dayCount);
+        activitiesDone = Arrays.copyOf(activityChanges, dayCount);
+        completedItems = sum(itemsDone);
+        completedActivities = sum(activitiesDone);
+    }
+
+    private LocalDate today() {
+        return recordingDay != null ? recordingDay : LocalDate.now();
+    }
+
+    private int[] cumulative(int[] changes, LocalDate start, int days) {
+        if (start == null || days < 0) {
+            throw new IllegalArgumentException("Start date cannot be null and days cannot be negative");
+        }
+        int[] totals = new int[days];
+        if (days == 0) {
+            return totals;
+        }
+        long startDay = start.toEpochDay();
+        int running = 0;
+        int day = 0;
+        for (int i = 0; i < dayCount; i++) {
+            long offset = firstEpochDay + i - startDay;
+            if (offset >= days) {
+                break;
+            }
+            // Fill the days without changes up to this one with the running total
+            for (; day < offset; day++) {
+                totals[day] = running;
+            }
+            running += changes[i];
+        }
+        for (; day < days; day++) {
+            totals[day] = running;
+        }
+        return totals;
+    }
+
+    // Returns the array index of the day, growing the arrays to either side when needed
+    private int slot(long epochDay) {
+        if (dayCount == 0) {
+            firstEpochDay = epochDay;
+            dayCount = 1;
+            ensureCapacity(16);
+            return 0;
+        }
+        if (epochDay < firstEpochDay) {
+            int shift = Math.toIntExact(firstEpochDay - epochDay);
+            int[] items = new int[Math.max(itemsDone.length, dayCount + shift)];
+            int[] activities = new int[items.length];
+            System.arraycopy(itemsDone, 0, items, shift, dayCount);
+            System.arraycopy(activitiesDone, 0, activities, shift, dayCount);
+            itemsDone = items;
+            activitiesDone = activities;
+            firstEpochDay = epochDay;
+            dayCount += shift;
+            return 0;
+        }
+        int index = Math.toIntExact(epochDay - firstEpochDay);
+        if (index >= dayCount) {
+            ensureCapacity(index + 1);
+            dayCount = index + 1;
+        }
+        return index;
+    }
+
+    private void ensureCapacity(int days) {
+        if (days > itemsDone.length) {
+            int capacity = Math.max(days, itemsDone.length * 2);
+            itemsDone = Arrays.copyOf(itemsDone, capacity);
+            activitiesDone = Arrays.copyOf(activitiesDone, capacity);
+        }
+    }
+
+    private int checkIndex(int dayIndex) {
+        if (dayIndex < 0 || dayIndex >= dayCount) {
+            throw new IndexOutOfBoundsException("Day index " + dayIndex + " is outside the history of " + dayCount + " days");
+        }
+        return dayIndex;
+    }
+
+    private static int sum(int[] values) {
+        int total = 0;
+        for (int value : values) {
+            total += value;
+        }
+        return total;
+    }
+}
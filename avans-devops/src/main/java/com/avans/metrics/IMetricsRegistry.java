@@ -0,0 +1,17 @@
+package com.avans.metrics;
+
+import com.avans.pipeline.StepPhase;
+
+/**
+ * Receives the timings of pipeline runs. A pipeline reports to the registry it was given once
+ * a run ends, so a registry never slows down the steps themselves. Implementations are called
+ * from several pipelines at once and must be thread-safe.
+ */
+public interface IMetricsRegistry {
+
+    void recordStepPhase(String step, StepPhase phase, long nanos);
+
+    void recordStepResult(String step, boolean successful);
+
+    void recordPipelineRun(String pipeline, long nanos, boolean successful);
+}
@@ -0,0 +1,68 @@
+package com.avans.metrics;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Serves the metrics of a {@link MetricsRegistry} at {@code /metrics} for Prometheus to scrape,
+ * using the HTTP server of the JDK. The endpoint only listens on the loopback address, so the
+ * metrics are not exposed beyond the machine unless a local agent forwards them.
+ */
+public class MetricsEndpoint implements AutoCloseable {
+    public static final String PATH = "/metrics";
+
+    private final HttpServer server;
+
+    private MetricsEndpoint(HttpServer server) {
+        this.server = server;
+    }
+
+    /**
+     * Starts serving the registry on the given port; port 0 picks a free one, see {@link #getPort()}.
+     */
+    public static MetricsEndpoint start(MetricsRegistry registry, int port) throws IOException {
+        if (registry == null) {
+            throw new IllegalArgumentException("Registry cannot be null");
+        }
+        if (port < 0 || port > 65535) {
+            throw new IllegalArgumentException("Port must be between 0 and 65535");
+        }
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext(PATH, exchange -> handle(registry, exchange));
+        server.start();
+        return new MetricsEndpoint(server);
+    }
+
+    private static void handle(MetricsRegistry registry, HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "GET");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            StringBuilder body = new StringBuilder(4096);
+            registry.writePrometheus(body);
+            byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", MetricsRegistry.CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,195 @@
+package com.avans.metrics;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.avans.pipeline.StepPhase;
+
+/**
+ * Collects pipeline timings in {@link LatencyHistogram}s, one per step and phase and one per
+ * pipeline, next to counters of successful and failed runs. Recording is lock-free, so the
+ * registry can be shared by every pipeline of the application. The collected metrics are
+ * written in the Prometheus text exposition format, as served by a {@link MetricsEndpoint}.
+ */
+public class MetricsRegistry implements IMetricsRegistry {
+    static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    // Sorted maps keep the output stable between scrapes
+    private final Map<String, StepMetrics> steps = new ConcurrentSkipListMap<>();
+    private final Map<String, RunMetrics> pipelines = new ConcurrentSkipListMap<>();
+
+    @Override
+    public void recordStepPhase(String step, StepPhase phase, long nanos) {
+        if (phase == null) {
+            throw new IllegalArgumentException("Phase cannot be null");
+        }
+        stepMetrics(step).phases[phase.ordinal()].record(nanos);
+    }
+
+    @Override
+    public void recordStepResult(String step, boolean successful) {
+        stepMetrics(step).results.count(successful);
+    }
+
+    @Override
+    public void recordPipelineRun(String pipeline, long nanos, boolean successful) {
+        if (pipeline == null) {
+            throw new IllegalArgumentException("Pipeline name cannot be null");
+        }
+        RunMetrics metrics = pipelines.computeIfAbsent(pipeline, name -> new RunMetrics());
+        metrics.duration.record(nanos);
+        metrics.results.count(successful);
+    }
+
+    /**
+     * Phase timings of the step across all recorded runs; empty when the step never ran.
+     */
+    public LatencyHistogram getStepPhaseHistogram(String step, StepPhase phase) {
+        StepMetrics metrics = steps.get(step);
+        return metrics != null ? metrics.phases[phase.ordinal()] : new LatencyHistogram();
+    }
+
+    public LatencyHistogram getPipelineRunHistogram(String pipeline) {
+        RunMetrics metrics = pipelines.get(pipeline);
+        return metrics != null ? metrics.duration : new LatencyHistogram();
+    }
+
+    public long getStepResultCount(String step, boolean successful) {
+        StepMetrics metrics = steps.get(step);
+        return metrics != null ? metrics.results.get(successful) : 0;
+    }
+
+    /**
+     * Writes all metrics in the Prometheus text format: phase and run durations as summaries in
+     * seconds with their maximum as a gauge, and results as counters.
+     */
+    public void writePrometheus(Appendable out) throws IOException {
+        out.append("# HELP avans_pipeline_step_phase_seconds Duration of a phase of a pipeline step.\n");
+        out.append("# TYPE avans_pipeline_step_phase_seconds summary\n");
+        for (Map.Entry<String, StepMetrics> entry : steps.entrySet()) {
+            for (StepPhase phase : StepPhase.values()) {
+                LatencyHistogram histogram = entry.getValue().phases[phase.ordinal()];
+                if (histogram.getCount() > 0) {
+                    writeSummary(out, "avans_pipeline_step_phase_seconds",
+                            "step=\"" + escape(entry.getKey()) + "\",phase=\"" + phase.getLabel() + "\"", histogram);
+                }
+            }
+        }
+        out.append("# HELP avans_pipeline_step_phase_max_seconds Longest recorded phase of a pipeline step.\n");
+        out.append("# TYPE avans_pipeline_step_phase_max_seconds gauge\n");
+        for (Map.Entry<String, StepMetrics> entry : steps.entrySet()) {
+            for (StepPhase phase : StepPhase.values()) {
+                LatencyHistogram histogram = entry.getValue().phases[phase.ordinal()];
+                if (histogram.getCount() > 0) {
+                    writeSample(out, "avans_pipeline_step_phase_max_seconds",
+                            "step=\"" + escape(entry.getKey()) + "\",phase=\"" + phase.getLabel() + "\"",
+                            seconds(histogram.getMaxNanos()));
+                }
+            }
+        }
+        out.append("# HELP avans_pipeline_step_results_total Completed runs of a pipeline step.\n");
+        out.append("# TYPE avans_pipeline_step_results_total counter\n");
+        for (Map.Entry<String, StepMetrics> entry : steps.entrySet()) {
+            writeResults(out, "avans_pipeline_step_results_total", "step=\"" + escape(entry.getKey()) + "\"",
+                    entry.getValue().results);
+        }
+        out.append("# HELP avans_pipeline_run_seconds Duration of a pipeline run.\n");
+        out.append("# TYPE avans_pipeline_run_seconds summary\n");
+        for (Map.Entry<String, RunMetrics> entry : pipelines.entrySet()) {
+            writeSummary(out, "avans_pipeline_run_seconds", "pipeline=\"" + escape(entry.getKey()) + "\"",
+                    entry.getValue().duration);
+        }
+        out.append("# HELP avans_pipeline_runs_total Completed runs of a pipeline.\n");
+        out.append("# TYPE avans_pipeline_runs_total counter\n");
+        for (Map.Entry<String, RunMetrics> entry : pipelines.entrySet()) {
+            writeResults(out, "avans_pipeline_runs_total", "pipeline=\"" + escape(entry.getKey()) + "\"",
+                    entry.getValue().results);
+        }
+    }
+
+    private StepMetrics stepMetrics(String step) {
+        if (step == null) {
+            throw new IllegalArgumentException("Step name cannot be null");
+        }
+        return steps.computeIfAbsent(step, name -> new StepMetrics());
+    }
+
+    private static void writeSummary(Appendable out, String name, String labels, LatencyHistogram histogram)
+            throws IOException {
+        for (double quantile : QUANTILES) {
+            writeSample(out, name, labels + ",quantile=\"" + quantile + "\"",
+                    seconds(histogram.getValueAtPercentile(quantile * 100)));
+        }
+        writeSample(out, name + "_sum", labels, seconds(histogram.getSumNanos()));
+        writeSample(out, name + "_count", labels, Long.toString(histogram.getCount()));
+    }
+
+    private static void writeResults(Appendable out, String name, String labels, ResultCounter results)
+            throws IOException {
+        writeSample(out, name, labels + ",result=\"success\"", Long.toString(results.get(true)));
+        writeSample(out, name, labels + ",result=\"failure\"", Long.toString(results.get(false)));
+    }
+
+    private static void writeSample(Appendable out, String name, String labels, String value) throws IOException {
+        out.append(name).append('{').append(labels).append("} ").append(value).append('\n');
+    }
+
+    private static String seconds(long nanos) {
+        return Double.toString(nanos / NANOS_PER_SECOND);
+    }
+
+    // Label values escape backslashes, quotes and line breaks
+    static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\':
+                    escaped.append("\\\\");
+                    break;
+                case '"':
+                    escaped.append("\\\"");
+                    break;
+                case '\n':
+                    escaped.append("\\n");
+                    break;
+                default:
+                    escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static class StepMetrics {
+        private final LatencyHistogram[] phases = new LatencyHistogram[StepPhase.values().length];
+        private final ResultCounter results = new ResultCounter();
+
+        StepMetrics() {
+            for (int i = 0; i < phases.length; i++) {
+                phases[i] = new LatencyHistogram();
+            }
+        }
+    }
+
+    private static class RunMetrics {
+        private final LatencyHistogram duration = new LatencyHistogram();
+        private final ResultCounter results = new ResultCounter();
+    }
+
+    private static class ResultCounter {
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+
+        void count(boolean successful) {
+            (successful ? successes : failures).increment();
+        }
+
+        long get(boolean successful) {
+            return (successful ? successes : failures).sum();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.avans.metrics;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.avans.domain.backlog.state.BacklogWorkflow;
+import com.avans.domain.backlog.state.IBacklogState;
+
+/**
+ * Samples of one sprint within a date range, oldest first. Each sample holds the remaining
+ * backlog items, the remaining estimated hours and the number of items in every backlog state.
+ */
+public final class SprintMetricsRange {
+    private final long[] epochDays;
+    private final int[] remainingItems;
+    private final int[] remainingHours;
+    private final int[][] stateCounts;
+
+    SprintMetricsRange(long[] epochDays, int[] remainingItems, int[] remainingHours, int[][] stateCounts) {
+        this.epochDays = epochDays;
+        this.remainingItems = remainingItems;
+        this.remainingHours = remainingHours;
+        this.stateCounts = stateCounts;
+    }
+
+    public int size() {
+        return epochDays.length;
+    }
+
+    public LocalDate getDay(int index) {
+        return LocalDate.ofEpochDay(epochDays[index]);
+    }
+
+    public int getRemainingItems(int index) {
+        return remainingItems[index];
+    }
+
+    public int getRemainingEstimatedHours(int index) {
+        return remainingHours[index];
+    }
+
+    public int getStateCount(int index, IBacklogState state) {
+        return stateCounts[BacklogWorkflow.indexOf(state)][index];
+    }
+
+    public int getStateCount(int index, String stateName) {
+        return getStateCount(index, BacklogWorkflow.byName(stateName));
+    }
+
+    /**
+     * Remaining items per sample, for example to draw a burndown chart.
+     */
+    public int[] getRemainingItems() {
+        return remainingItems.clone();
+    }
+
+    public int[] getRemainingEstimatedHours() {
+        return remainingHours.clone();
+    }
+
+    public List<LocalDate> getDays() {
+        LocalDate[] days = new LocalDate[epochDays.length];
+        for (int i = 0; i < days.length; i++) {
+            days[i] = LocalDate.ofEpochDay(epochDays[i]);
+        }
+        return List.of(days);
+    }
+}
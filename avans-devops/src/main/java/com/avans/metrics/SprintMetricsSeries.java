@@ -0,0 +1,143 @@
+package com.avans.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Daily metrics of one sprint, stored column by column in primitive arrays. The days are
+ * delta-encoded: the first day is kept as an epoch day, every later day as the varint-encoded
+ * number of days since the previous sample, which takes a single byte for daily samples.
+ */
+final class SprintMetricsSeries {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int stateCount;
+    private long firstEpochDay;
+    private long lastEpochDay;
+    private byte[] dayDeltas = new byte[INITIAL_CAPACITY];
+    private int dayDeltaLength;
+    private int size;
+    private int[] remainingItems = new int[INITIAL_CAPACITY];
+    private int[] remainingHours = new int[INITIAL_CAPACITY];
+    // One column per backlog state, in workflow order
+    private final int[][] stateCounts;
+
+    SprintMetricsSeries(int stateCount) {
+        this.stateCount = stateCount;
+        this.stateCounts = new int[stateCount][INITIAL_CAPACITY];
+    }
+
+    /**
+     * Appends a sample, or replaces the last one when it was taken on the same day.
+     */
+    void append(long epochDay, int items, int hours, int[] countsPerState) {
+        int index;
+        if (size > 0 && epochDay == lastEpochDay) {
+            index = size - 1;
+        } else {
+            if (size == 0) {
+                firstEpochDay = epochDay;
+            } else if (epochDay < lastEpochDay) {
+                throw new IllegalArgumentException("Metrics must be recorded in day order");
+            } else {
+                writeDelta(epochDay - lastEpochDay);
+            }
+            ensureCapacity(size + 1);
+            index = size++;
+            lastEpochDay = epochDay;
+        }
+        remainingItems[index] = items;
+        remainingHours[index] = hours;
+        for (int state = 0; state < stateCount; state++) {
+            stateCounts[state][index] = countsPerState[state];
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    long getLastEpochDay() {
+        return lastEpochDay;
+    }
+
+    int getRemainingItems(int index) {
+        return remainingItems[index];
+    }
+
+    int getStateCount(int state, int index) {
+        return stateCounts[state][index];
+    }
+
+    /**
+     * Copies the samples taken from the first to the last epoch day, both inclusive, in one
+     * forward pass over the encoded days.
+     */
+    SprintMetricsRange range(long fromEpochDay, long toEpochDay) {
+        int first = -1;
+        int count = 0;
+        long[] days = new long[0];
+        long day = firstEpochDay;
+        int position = 0;
+        for (int i = 0; i < size && day <= toEpochDay; i++) {
+            if (i > 0) {
+                long delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = dayDeltas[position++];
+                    delta |= (long) (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                day += delta;
+                if (day > toEpochDay) {
+                    break;
+                }
+            }
+            if (day >= fromEpochDay) {
+                if (first < 0) {
+                    first = i;
+                    days = new long[size - i];
+                }
+                days[count++] = day;
+            }
+        }
+        if (count == 0) {
+            return new SprintMetricsRange(new long[0], new int[0], new int[0], new int[stateCount][0]);
+        }
+        int[][] states = new int[stateCount][];
+        for (int state = 0; state < stateCount; state++) {
+            states[state] = Arrays.copyOfRange(stateCounts[state], first, first + count);
+        }
+        return new SprintMetricsRange(Arrays.copyOf(days, count),
+                Arrays.copyOfRange(remainingItems, first, first + count),
+                Arrays.copyOfRange(remainingHours, first, first + count), states);
+    }
+
+    // Heap taken by the columns, for sizing the store
+    long getFootprintBytes() {
+        long ints = remainingItems.length * 2L + (long) stateCount * stateCounts[0].length;
+        return dayDeltas.length + ints * Integer.BYTES;
+    }
+
+    private void writeDelta(long delta) {
+        if (dayDeltaLength + 10 > dayDeltas.length) {
+            dayDeltas = Arrays.copyOf(dayDeltas, dayDeltas.length * 2);
+        }
+        while ((delta & ~0x7FL) != 0) {
+            dayDeltas[dayDeltaLength++] = (byte) ((delta & 0x7F) | 0x80);
+            delta >>>= 7;
+        }
+        dayDeltas[dayDeltaLength++] = (byte) delta;
+    }
+
+    private void ensureCapacity(int samples) {
+        if (samples > remainingItems.length) {
+            int capacity = remainingItems.length * 2;
+            remainingItems = Arrays.copyOf(remainingItems, capacity);
+            remainingHours = Arrays.copyOf(remainingHours, capacity);
+            for (int state = 0; state < stateCount; state++) {
+                stateCounts[state] = Arrays.copyOf(stateCounts[state], capacity);
+            }
+        }
+    }
+}
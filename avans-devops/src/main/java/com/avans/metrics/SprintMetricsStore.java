@@ -0,0 +1,135 @@
+package com.avans.metrics;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.avans.domain.backlog.state.BacklogWorkflow;
+import com.avans.domain.backlog.state.DoneState;
+import com.avans.domain.project.Project;
+import com.avans.domain.project.Sprint;
+
+/**
+ * Keeps a daily time series of metrics for every sprint: the remaining backlog items, the
+ * remaining estimated hours of open activities and the number of items in each backlog state.
+ * Samples are taken from the live counters of a sprint, so recording a whole project costs a
+ * few array writes per sprint; charts and velocity read the stored series instead of walking
+ * the backlog again.
+ *
+ * Samples of a sprint must be recorded in day order; recording a day again replaces its sample.
+ */
+public class SprintMetricsStore {
+    private static final int DONE = BacklogWorkflow.indexOf(DoneState.INSTANCE);
+
+    private final int stateCount = BacklogWorkflow.getStates().size();
+    private final Map<String, SprintMetricsSeries> series = new HashMap<>();
+    // Scratch column values, reused for every sample
+    private final int[] countsPerState = new int[stateCount];
+
+    public synchronized void record(Sprint sprint, LocalDate day) {
+        if (sprint == null || day == null) {
+            throw new IllegalArgumentException("Sprint and day cannot be null");
+        }
+        for (int state = 0; state < stateCount; state++) {
+            countsPerState[state] = sprint.getBacklogStateCount(BacklogWorkflow.getStates().get(state).getName());
+        }
+        int remainingItems = sprint.getBacklogItemCount() - countsPerState[DONE];
+        series.computeIfAbsent(sprint.getId(), id -> new SprintMetricsSeries(stateCount))
+              .append(day.toEpochDay(), remainingItems, sprint.getRemainingEstimatedHours(), countsPerState);
+    }
+
+    /**
+     * Records a sample of every sprint of the project, typically once a day.
+     */
+    public void recordAll(Project project, LocalDate day) {
+        if (project == null) {
+            throw new IllegalArgumentException("Project cannot be null");
+        }
+        List<Sprint> sprints = project.getSprints();
+        for (int i = 0; i < sprints.size(); i++) {
+            record(sprints.get(i), day);
+        }
+    }
+
+    /**
+     * Samples of the sprint from one day up to and including another; empty when the sprint
+     * has none in that range.
+     */
+    public synchronized SprintMetricsRange query(Sprint sprint, LocalDate from, LocalDate to) {
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new IllegalArgumentException("Range must have a start that is not after its end");
+        }
+        return seriesOf(sprint).range(from.toEpochDay(), to.toEpochDay());
+    }
+
+    /**
+     * Number of backlog items in the Done state at the last sample of the sprint.
+     */
+    public synchronized int getVelocity(Sprint sprint) {
+        SprintMetricsSeries sprintSeries = seriesOf(sprint);
+        return sprintSeries.getStateCount(DONE, sprintSeries.size() - 1);
+    }
+
+    /**
+     * Average velocity of the given sprints, skipping sprints without recorded metrics.
+     */
+    public synchronized double getAverageVelocity(List<? extends Sprint> sprints) {
+        long total = 0;
+        int measured = 0;
+        for (int i = 0; i < sprints.size(); i++) {
+            SprintMetricsSeries sprintSeries = series.get(sprints.get(i).getId());
+            if (sprintSeries != null) {
+                total += sprintSeries.getStateCount(DONE, sprintSeries.size() - 1);
+                measured++;
+            }
+        }
+        return measured == 0 ? 0 : (double) total / measured;
+    }
+
+    public synchronized LocalDate getLastRecordedDay(Sprint sprint) {
+        return LocalDate.ofEpochDay(seriesOf(sprint).getLastEpochDay());
+    }
+
+    public synchronized boolean contains(Sprint sprint) {
+        return sprint != null && series.containsKey(sprint.getId());
+    }
+
+    public synchronized void remove(Sprint sprint) {
+        if (sprint != null) {
+            series.remove(sprint.getId());
+        }
+    }
+
+    public synchronized int getSprintCount() {
+        return series.size();
+    }
+
+    public synchronized long getSampleCount() {
+        long samples = 0;
+        for (SprintMetricsSeries sprintSeries : series.values()) {
+            samples += sprintSeries.size();
+        }
+        return samples;
+    }
+
+    // Heap taken by the stored columns, excluding the map that holds them
+    public synchronized long getFootprintBytes() {
+        long bytes = 0;
+        for (SprintMetricsSeries sprintSeries : series.values()) {
+            bytes += sprintSeries.getFootprintBytes();
+        }
+        return bytes;
+    }
+
+    private SprintMetricsSeries seriesOf(Sprint sprint) {
+        if (sprint == null) {
+            throw new IllegalArgumentException("Sprint cannot be null");
+        }
+        SprintMetricsSeries sprintSeries = series.get(sprint.getId());
+        if (sprintSeries == null) {
+            throw new IllegalArgumentException("No metrics recorded for sprint " + sprint.getId());
+        }
+        return sprintSeries;
+    }
+}
@@ -0,0 +1,239 @@
+package com.avans.observer;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Delivers notifications on a small pool of dispatcher threads so that a slow observer
+ * (for example one sending Slack messages) does not block the subject that changed.
+ *
+ * Every dispatcher thread owns a bounded queue that many producers write to and only that
+ * thread reads from. An observer is always routed to the same thread, so each observer
+ * receives its notifications in the order they were published. There are two exceptions,
+ * both when the queue of the observer is full: {@link BackpressurePolicy#CALLER_RUNS} delivers
+ * on the calling thread, and an observer that notifies again from its own dispatcher thread
+ * is delivered to inline under every policy, since that thread cannot wait for itself. Such a
+ * notification can overtake notifications that are still queued for the same observer.
+ *
+ * Once the dispatcher is shut down, every notification is either delivered or rejected with
+ * an {@link IllegalStateException}; none is lost on the way.
+ */
+public class AsyncEventDispatcher implements IEventDispatcher, AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(AsyncEventDispatcher.class.getName());
+    private static final long DEFAULT_SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final DispatcherThread[] threads;
+    private final BackpressurePolicy policy;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private volatile boolean shutdown;
+
+    public AsyncEventDispatcher(int threadCount, int queueCapacity, BackpressurePolicy policy) {
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("Dispatcher needs at least one thread");
+        }
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("Queue capacity must be at least 1");
+        }
+        if (policy == null) {
+            throw new IllegalArgumentException("Backpressure policy cannot be null");
+        }
+
+        this.policy = policy;
+        this.threads = new DispatcherThread[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            threads[i] = new DispatcherThread("event-dispatcher-" + i, queueCapacity);
+            threads[i].start();
+        }
+    }
+
+    @Override
+    public void dispatch(IObserver observer, String message) {
+        if (shutdown) {
+            throw new IllegalStateException("Event dispatcher has been shut down");
+        }
+
+        DispatcherThread target = threadFor(observer);
+        Event event = new Event(observer, message);
+
+        // An observer that notifies again from its own dispatcher thread must never wait on itself
+        if (Thread.currentThread() == target) {
+            if (!target.queue.offer(event)) {
+                deliver(event);
+            }
+            return;
+        }
+
+        switch (policy) {
+            case BLOCK:
+                enqueueBlocking(target, event);
+                break;
+            case DROP_OLDEST:
+                enqueueDroppingOldest(target, event);
+                break;
+            case CALLER_RUNS:
+                if (target.queue.offer(event)) {
+                    checkAccepted(target, event);
+                } else {
+                    deliver(event);
+                }
+                break;
+            default:
+                throw new IllegalStateException("Unknown backpressure policy: " + policy);
+        }
+    }
+
+    private void enqueueBlocking(DispatcherThread target, Event event) {
+        // Waiting is not cut short by an interrupt, since delivering inline instead would let the
+        // event overtake queued ones; the interrupt is restored once the event is queued
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    // Wait in steps, so a thread that exited after a shutdown cannot leave the caller waiting forever
+                    if (target.queue.offer(event, DispatcherThread.POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                        break;
+                    }
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+                if (shutdown) {
+                    throw new IllegalStateException("Event dispatcher has been shut down");
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        checkAccepted(target, event);
+    }
+
+    private void enqueueDroppingOldest(DispatcherThread target, Event event) {
+        while (!target.queue.offer(event)) {
+            if (target.queue.poll() != null) {
+                droppedCount.incrementAndGet();
+            }
+        }
+        checkAccepted(target, event);
+    }
+
+    // A thread exits once it is shut down and its queue is empty. An event queued while a
+    // shutdown was under way may have arrived after that last look, so it is taken back out and
+    // rejected; an event the thread already took is delivered.
+    private void checkAccepted(DispatcherThread target, Event event) {
+        if (shutdown && target.queue.remove(event)) {
+            throw new IllegalStateException("Event dispatcher has been shut down");
+        }
+    }
+
+    private DispatcherThread threadFor(IObserver observer) {
+        int hash = System.identityHashCode(observer) & Integer.MAX_VALUE;
+        return threads[hash % threads.length];
+    }
+
+    private static void deliver(Event event) {
+        try {
+            event.observer.update(event.message);
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Observer failed to handle notification: " + event.message, e);
+        }
+    }
+
+    /**
+     * Stops accepting notifications and lets the dispatcher threads drain their queues.
+     */
+    public void shutdown() {
+        shutdown = true;
+        for (DispatcherThread thread : threads) {
+            thread.running = false;
+        }
+    }
+
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (DispatcherThread thread : threads) {
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMillis <= 0) {
+                return false;
+            }
+            thread.join(remainingMillis);
+            if (thread.isAlive()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void close() {
+        shutdown();
+        try {
+            if (!awaitTermination(DEFAULT_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                LOGGER.warning("Event dispatcher did not drain its queues in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public int getPendingCount() {
+        int pending = 0;
+        for (DispatcherThread thread : threads) {
+            pending += thread.queue.size();
+        }
+        return pending;
+    }
+
+    public BackpressurePolicy getPolicy() {
+        return policy;
+    }
+
+    private static class Event {
+        private final IObserver observer;
+        private final String message;
+
+        Event(IObserver observer, String message) {
+            this.observer = observer;
+            this.message = message;
+        }
+    }
+
+    private static class DispatcherThread extends Thread {
+        private static final long POLL_INTERVAL_MILLIS = 100;
+
+        private final BlockingQueue<Event> queue;
+        private volatile boolean running = true;
+
+        DispatcherThread(String name, int queueCapacity) {
+            super(name);
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (running || !queue.isEmpty()) {
+                    Event event = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (event != null) {
+                        deliver(event);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.avans.observer;
+
+/**
+ * What an asynchronous dispatcher does when the queue of a dispatcher thread is full.
+ */
+public enum BackpressurePolicy {
+    // Wait until the dispatcher thread has room again
+    BLOCK,
+    // Discard the oldest queued notification to make room for the new one
+    DROP_OLDEST,
+    // Deliver the notification on the calling thread instead
+    CALLER_RUNS
+}
@@ -0,0 +1,8 @@
+package com.avans.observer;
+
+/**
+ * Decides on which thread, and when, an observer receives a notification.
+ */
+public interface IEventDispatcher {
+    void dispatch(IObserver observer, String message);
+}
@@ -1,22 +1,98 @@
 package com.avans.observer;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+/**
+ * Observers are kept in a copy-on-write array: registering or removing an observer publishes
+ * a new snapshot, while notifyObservers walks the current snapshot without locking or
+ * allocating. This keeps notifications safe when they are sent from a background thread
+ * (such as a running release pipeline) while other threads register observers.
+ *
+ * A dispatcher that refuses a notification, for example because it has been shut down, does
+ * not stop the others from being notified; the refusal is logged and the change that triggered
+ * the notification still goes through.
+ */
 public abstract class Subject {
-    private List<IObserver> observers = new ArrayList<>();
+    private static final Logger LOGGER = Logger.getLogger(Subject.class.getName());
+    private static final IObserver[] NO_OBSERVERS = new IObserver[0];
+
+    private final Object registryLock = new Object();
+    private volatile IObserver[] observers = NO_OBSERVERS;
+    private volatile IEventDispatcher dispatcher = SynchronousDispatcher.INSTANCE;
 
     public void addObserver(IObserver obs) {
-        observers.add(obs);
+        if (obs == null) {
+            throw new IllegalArgumentException("Observer cannot be null");
+        }
+        synchronized (registryLock) {
+            IObserver[] current = observers;
+            // Registering the same instance twice must not lead to duplicate notifications
+            if (indexOf(current, obs) >= 0) {
+                return;
+            }
+            IObserver[] updated = new IObserver[current.length + 1];
+            System.arraycopy(current, 0, updated, 0, current.length);
+            updated[current.length] = obs;
+            observers = updated;
+        }
     }
 
     public void removeObserver(IObserver obs) {
-        observers.remove(obs);
+        synchronized (registryLock) {
+            IObserver[] current = observers;
+            int index = indexOf(current, obs);
+            if (index < 0) {
+                return;
+            }
+            if (current.length == 1) {
+                observers = NO_OBSERVERS;
+                return;
+            }
+            IObserver[] updated = new IObserver[current.length - 1];
+            System.arraycopy(current, 0, updated, 0, index);
+            System.arraycopy(current, index + 1, updated, index, current.length - index - 1);
+            observers = updated;
+        }
     }
 
     public void notifyObservers(String message) {
-        for (IObserver obs : observers) {
-            obs.update(message);
+        IObserver[] snapshot = observers;
+        IEventDispatcher currentDispatcher = dispatcher;
+        for (IObserver obs : snapshot) {
+            try {
+                currentDispatcher.dispatch(obs, message);
+            } catch (IllegalStateException e) {
+                LOGGER.log(Level.WARNING, "Notification was not dispatched: " + message, e);
+            }
+        }
+    }
+
+    protected boolean hasObservers() {
+        return observers.length > 0;
+    }
+
+    public int getObserverCount() {
+        return observers.length;
+    }
+
+    public void setEventDispatcher(IEventDispatcher dispatcher) {
+        if (dispatcher == null) {
+            throw new IllegalArgumentException("Event dispatcher cannot be null");
+        }
+        this.dispatcher = dispatcher;
+    }
+
+    public IEventDispatcher getEventDispatcher() {
+        return dispatcher;
+    }
+
+    private static int indexOf(IObserver[] snapshot, IObserver obs) {
+        for (int i = 0; i < snapshot.length; i++) {
+            if (snapshot[i] == obs) {
+                return i;
+            }
         }
+        return -1;
     }
 }
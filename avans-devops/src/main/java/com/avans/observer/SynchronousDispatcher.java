@@ -0,0 +1,13 @@
+package com.avans.observer;
+
+/**
+ * Delivers every notification inline on the thread that calls notifyObservers.
+ */
+public class SynchronousDispatcher implements IEventDispatcher {
+    public static final SynchronousDispatcher INSTANCE = new SynchronousDispatcher();
+
+    @Override
+    public void dispatch(IObserver observer, String message) {
+        observer.update(message);
+    }
+}
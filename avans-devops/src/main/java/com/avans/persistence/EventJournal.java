@@ -0,0 +1,405 @@
+package com.avans.persistence;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of binary records stored in fixed size, memory-mapped segment files.
+ *
+ * Appending copies the record into the mapped segment and returns immediately; the operating
+ * system writes the page cache back to disk. A background thread forces written segments to
+ * disk every flush interval, and {@link #commit()} waits until everything appended before the
+ * call is durable. Callers that commit at the same time share a single force (group commit),
+ * so throughput does not depend on the cost of an fsync per record.
+ *
+ * Segment layout: magic, format version and the sequence number of the first record, followed
+ * by records of [payload length][CRC32 of type and payload][type][payload]. A zero length ends
+ * the segment. A record that fails its checksum is treated as the torn end of the journal.
+ */
+public class EventJournal implements AutoCloseable {
+    static final int MAGIC = 0x41564A4C; // "AVJL"
+    static final int FORMAT_VERSION = 1;
+    static final int SEGMENT_HEADER_SIZE = 16;
+    static final int RECORD_HEADER_SIZE = 9;
+
+    private static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    private static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofMillis(10);
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long flushIntervalMillis;
+    private final Object appendLock = new Object();
+    private final Object flushMonitor = new Object();
+    private final CRC32 crc = new CRC32();
+    private final Thread flusher;
+
+    // Guarded by appendLock
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private int segmentIndex;
+    private long lastSequence;
+
+    // Guarded by flushMonitor
+    private long durableSequence;
+    private boolean flushRequested;
+    private volatile boolean closed;
+
+    public EventJournal(Path directory) throws IOException {
+        this(directory, DEFAULT_SEGMENT_SIZE, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    public EventJournal(Path directory, int segmentSize, Duration flushInterval) throws IOException {
+        if (directory == null) {
+            throw new IllegalArgumentException("Journal directory cannot be null");
+        }
+        if (segmentSize < SEGMENT_HEADER_SIZE + RECORD_HEADER_SIZE + 1) {
+            throw new IllegalArgumentException("Segment size is too small: " + segmentSize);
+        }
+        if (flushInterval == null || flushInterval.isNegative() || flushInterval.isZero()) {
+            throw new IllegalArgumentException("Flush interval must be positive");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.flushIntervalMillis = Math.max(1, flushInterval.toMillis());
+
+        Files.createDirectories(directory);
+        openTail();
+        this.durableSequence = lastSequence;
+
+        this.flusher = new Thread(this::flushLoop, "journal-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * Appends a record and returns its sequence number. The record is durable after the next
+     * background flush or after {@link #commit()} returns.
+     */
+    public long append(int type, RecordWriter payload) {
+        int recordSize = RECORD_HEADER_SIZE + payload.size();
+        if (SEGMENT_HEADER_SIZE + recordSize > segmentSize) {
+            throw new IllegalArgumentException("Record of " + payload.size() + " bytes does not fit in a segment");
+        }
+
+        synchronized (appendLock) {
+            ensureOpen();
+            if (segment.remaining() < recordSize) {
+                rollSegment();
+            }
+
+            crc.reset();
+            crc.update(type);
+            crc.update(payload.array(), 0, payload.size());
+
+            // Write the length last, so a reader never sees a record whose body is incomplete
+            int start = segment.position();
+            segment.position(start + 4);
+            segment.putInt((int) crc.getValue());
+            segment.put((byte) type);
+            payload.copyTo(segment);
+            segment.putInt(start, payload.size());
+            return ++lastSequence;
+        }
+    }
+
+    /**
+     * Blocks until every record appended before this call has been forced to disk.
+     */
+    public void commit() {
+        long target;
+        synchronized (appendLock) {
+            target = lastSequence;
+        }
+        synchronized (flushMonitor) {
+            while (durableSequence < target) {
+                ensureOpen();
+                flushRequested = true;
+                flushMonitor.notifyAll();
+                try {
+                    flushMonitor.wait(flushIntervalMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for journal commit", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads every record with a sequence number above afterSequence, in order.
+     */
+    public void replay(long afterSequence, RecordHandler handler) throws IOException {
+        List<Path> segments = listSegments();
+        RecordReader reader = new RecordReader();
+        CRC32 checksum = new CRC32();
+
+        for (int i = 0; i < segments.size(); i++) {
+            if (i + 1 < segments.size() && readFirstSequence(segments.get(i + 1)) <= afterSequence + 1) {
+                continue; // Every record of this segment is older than the requested tail
+            }
+            try (FileChannel readChannel = FileChannel.open(segments.get(i), StandardOpenOption.READ)) {
+                ByteBuffer data = readChannel.map(FileChannel.MapMode.READ_ONLY, 0, readChannel.size());
+                long sequence = readHeader(data, segments.get(i)) - 1;
+                while (true) {
+                    ByteBuffer record = nextRecord(data, checksum);
+                    if (record == null) {
+                        break;
+                    }
+                    sequence++;
+                    int type = record.get();
+                    if (sequence > afterSequence) {
+                        handler.onRecord(sequence, type, reader.wrap(record));
+                    }
+                }
+            }
+        }
+    }
+
+    public void replay(RecordHandler handler) throws IOException {
+        replay(0, handler);
+    }
+
+    public long getLastSequence() {
+        synchronized (appendLock) {
+            return lastSequence;
+        }
+    }
+
+    public long getDurableSequence() {
+        synchronized (flushMonitor) {
+            return durableSequence;
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    @Override
+    public void close() {
+        synchronized (appendLock) {
+            if (closed) {
+                return;
+            }
+            // Set under the append lock, so every append is either rejected or covered by the final flush
+            closed = true;
+        }
+        flush();
+        synchronized (flushMonitor) {
+            flushMonitor.notifyAll();
+        }
+        try {
+            flusher.join(flushIntervalMillis * 10);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (appendLock) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            segment = null;
+        }
+    }
+
+    private void flushLoop() {
+        while (!closed) {
+            synchronized (flushMonitor) {
+                if (!flushRequested && !closed) {
+                    try {
+                        flushMonitor.wait(flushIntervalMillis);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                flushRequested = false;
+            }
+            if (!closed) {
+                flush();
+            }
+        }
+    }
+
+    private void flush() {
+        long target;
+        MappedByteBuffer current;
+        synchronized (appendLock) {
+            target = lastSequence;
+            current = segment;
+        }
+        if (current == null || target <= getDurableSequence()) {
+            return;
+        }
+        // Earlier segments were forced when they were rolled over, so forcing the current one covers target
+        current.force();
+        synchronized (flushMonitor) {
+            if (target > durableSequence) {
+                durableSequence = target;
+            }
+            flushMonitor.notifyAll();
+        }
+    }
+
+    // Opens the newest segment and positions it after its last intact record
+    private void openTail() throws IOException {
+        List<Path> segments = listSegments();
+        if (segments.isEmpty()) {
+            createSegment(0, 1);
+            return;
+        }
+
+        Path last = segments.get(segments.size() - 1);
+        if (hasBlankHeader(last)) {
+            // A crash right after creating the segment left it without a header, so it holds no records
+            Files.delete(last);
+            openTail();
+            return;
+        }
+        segmentIndex = segmentIndexOf(last);
+        channel = FileChannel.open(last, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+        long firstSequence = readHeader(segment, last);
+
+        long count = 0;
+        CRC32 checksum = new CRC32();
+        while (nextRecord(segment, checksum) != null) {
+            count++;
+        }
+        lastSequence = firstSequence + count - 1;
+        clearTornTail();
+    }
+
+    // After a crash the tail may contain half written bytes; clear them so they are never read back
+    private void clearTornTail() {
+        int position = segment.position();
+        if (segment.remaining() >= 4 && segment.getInt(position) != 0) {
+            for (int i = position; i < segment.limit(); i++) {
+                segment.put(i, (byte) 0);
+            }
+        }
+    }
+
+    private void rollSegment() {
+        segment.force();
+        try {
+            channel.close();
+            createSegment(segmentIndex + 1, lastSequence + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create journal segment", e);
+        }
+    }
+
+    private void createSegment(int index, long firstSequence) throws IOException {
+        Path file = directory.resolve(String.format("%s%010d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+        channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        segment.putInt(MAGIC);
+        segment.putInt(FORMAT_VERSION);
+        segment.putLong(firstSequence);
+        // Without a durable header the segment could not be opened again after a crash
+        segment.force(0, SEGMENT_HEADER_SIZE);
+        segmentIndex = index;
+        lastSequence = firstSequence - 1;
+    }
+
+    private static ByteBuffer nextRecord(ByteBuffer data, CRC32 crc) {
+        if (data.remaining() < RECORD_HEADER_SIZE) {
+            return null;
+        }
+        int start = data.position();
+        int length = data.getInt(start);
+        if (length <= 0 || length > data.remaining() - RECORD_HEADER_SIZE) {
+            return null;
+        }
+        int storedCrc = data.getInt(start + 4);
+        crc.reset();
+        ByteBuffer body = data.duplicate();
+        body.position(start + 8).limit(start + RECORD_HEADER_SIZE + length);
+        crc.update(body.duplicate());
+        if ((int) crc.getValue() != storedCrc) {
+            return null;
+        }
+        data.position(start + RECORD_HEADER_SIZE + length);
+        return body;
+    }
+
+    private static long readHeader(ByteBuffer data, Path file) throws IOException {
+        if (data.remaining() < SEGMENT_HEADER_SIZE || data.getInt() != MAGIC) {
+            throw new IOException("Not a journal segment: " + file);
+        }
+        int version = data.getInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported journal format version " + version + " in " + file);
+        }
+        return data.getLong();
+    }
+
+    private static long readFirstSequence(Path file) throws IOException {
+        try (FileChannel readChannel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(SEGMENT_HEADER_SIZE);
+            while (header.hasRemaining() && readChannel.read(header) >= 0) {
+                // Keep reading until the header is complete
+            }
+            header.flip();
+            return readHeader(header, file);
+        }
+    }
+
+    private static boolean hasBlankHeader(Path file) throws IOException {
+        try (FileChannel readChannel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(SEGMENT_HEADER_SIZE);
+            while (header.hasRemaining() && readChannel.read(header) >= 0) {
+                // Keep reading until the header is complete
+            }
+            for (int i = 0; i < header.position(); i++) {
+                if (header.get(i) != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private List<Path> listSegments() throws IOException {
+        List<Path> segments = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> {
+                String name = file.getFileName().toString();
+                return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+            }).sorted().forEach(segments::add);
+        }
+        return segments;
+    }
+
+    private static int segmentIndexOf(Path file) {
+        String name = file.getFileName().toString();
+        return Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Journal has been closed");
+        }
+    }
+
+    /**
+     * Receives records during replay. The reader is only valid during the call.
+     */
+    public interface RecordHandler {
+        void onRecord(long sequence, int type, RecordReader record) throws IOException;
+    }
+}
@@ -0,0 +1,8 @@
+package com.avans.persistence;
+
+/**
+ * Destination for encoded domain events, such as the journal or a snapshot file.
+ */
+public interface EventSink {
+    void write(JournalEventType type, RecordWriter record);
+}
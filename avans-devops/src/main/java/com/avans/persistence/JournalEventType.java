@@ -0,0 +1,56 @@
+package com.avans.persistence;
+
+/**
+ * Domain events stored in the journal. The codes are part of the file format and must never
+ * be reused for another event.
+ */
+public enum JournalEventType {
+    PROJECT_CREATED(1),
+    MEMBER_REGISTERED(2),
+    PROJECT_MEMBER_ADDED(3),
+    SPRINT_ADDED(4),
+    SPRINT_DETAILS_CHANGED(5),
+    SPRINT_MEMBER_ADDED(6),
+    SCRUM_MASTER_CHANGED(7),
+    SPRINT_STARTED(8),
+    SPRINT_FINISHED(9),
+    SPRINT_STATE_CHANGED(10),
+    BACKLOG_ITEM_ADDED(11),
+    BACKLOG_ITEM_REMOVED(12),
+    BACKLOG_STATE_CHANGED(13),
+    DEVELOPER_ASSIGNED(14),
+    ACTIVITY_ADDED(15),
+    ACTIVITY_DONE_CHANGED(16),
+    DISCUSSION_ADDED(17),
+    DISCUSSION_POSTED(18),
+    DISCUSSION_REMOVED(19),
+    DISCUSSION_LOCK_CHANGED(20),
+    DAY_STARTED(21),
+    SPRINT_HISTORY(22);
+
+    private static final JournalEventType[] BY_CODE = new JournalEventType[32];
+
+    static {
+        for (JournalEventType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final int code;
+
+    JournalEventType(int code) {
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    public static JournalEventType fromCode(int code) {
+        JournalEventType type = code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown journal event type: " + code);
+        }
+        return type;
+    }
+}
@@ -0,0 +1,317 @@
+package com.avans.persistence;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.avans.domain.backlog.Activity;
+import com.avans.domain.backlog.BacklogItem;
+import com.avans.domain.backlog.state.BacklogWorkflow;
+import com.avans.domain.discussions.DiscussionComponent;
+import com.avans.domain.discussions.DiscussionMessage;
+import com.avans.domain.discussions.DiscussionThread;
+import com.avans.domain.member.ProductOwner;
+import com.avans.domain.member.ScrumMaster;
+import com.avans.domain.member.TeamMember;
+import com.avans.domain.project.Project;
+import com.avans.domain.project.ReleaseSprint;
+import com.avans.domain.project.ReviewSprint;
+import com.avans.domain.project.Sprint;
+
+/**
+ * Rebuilds a {@link Project} from the records written by {@link ProjectEventEncoder}, by
+ * calling the same domain methods that produced the events.
+ */
+public class ProjectEventApplier {
+    private final Map<String, TeamMember> members = new HashMap<>();
+    private final Map<String, Sprint> sprints = new HashMap<>();
+    private Map<String, BacklogItem> items = new HashMap<>();
+    // Creation order matches the memory layout, so walking this list is much faster than the map
+    private List<BacklogItem> createdItems = new ArrayList<>();
+    private final Map<String, DiscussionThread> discussions = new HashMap<>();
+    private Project project;
+    // Day of the events being applied, from the last DAY_STARTED record
+    private LocalDate currentDay;
+
+    // Sizes the item index up front, so loading a large snapshot never rehashes it
+    void expectBacklogItems(int count) {
+        if (items.isEmpty() && count > 0) {
+            items = new HashMap<>((int) (count / 0.75f) + 1);
+            createdItems = new ArrayList<>(count);
+        }
+    }
+
+    /**
+     * Creates an encoder that continues where the applied records ended, so restored members
+     * and items are not written again.
+     */
+    ProjectEventEncoder continueEncoding(EventSink sink) {
+        return new ProjectEventEncoder(sink, members, items);
+    }
+
+    public void apply(int typeCode, RecordReader record) {
+        JournalEventType type = JournalEventType.fromCode(typeCode);
+        if (project == null && type != JournalEventType.PROJECT_CREATED && type != JournalEventType.DAY_STARTED) {
+            throw new IllegalStateException("Journal does not start with a project: found " + type);
+        }
+
+        switch (type) {
+            case PROJECT_CREATED:
+                if (project != null) {
+                    throw new IllegalStateException("Journal contains more than one project");
+                }
+                project = new Project(record.getString());
+                break;
+            case MEMBER_REGISTERED: {
+                String id = record.getString();
+                int role = record.getByte();
+                members.put(id, ProjectEventEncoder.createMember(role, id, record.getString()));
+                break;
+            }
+            case PROJECT_MEMBER_ADDED: {
+                TeamMember member = member(record.getString());
+                if (record.getBoolean()) {
+                    project.setProductOwner((ProductOwner) member);
+                } else {
+                    project.addTeamMember(member);
+                }
+                break;
+            }
+            case SPRINT_ADDED:
+                addSprint(record);
+                break;
+            case SPRINT_DETAILS_CHANGED: {
+                Sprint sprint = sprint(record.getString());
+                sprint.setName(record.getString());
+                sprint.setStartDate(ProjectEventEncoder.date(record.getLong()));
+                sprint.setEndDate(ProjectEventEncoder.date(record.getLong()));
+                break;
+            }
+            case SPRINT_MEMBER_ADDED: {
+                Sprint sprint = sprint(record.getString());
+                sprint.addTeamMember(member(record.getString()));
+                break;
+            }
+            case SCRUM_MASTER_CHANGED: {
+                Sprint sprint = sprint(record.getString());
+                String memberId = record.getString();
+                sprint.setScrumMaster(memberId == null ? null : (ScrumMaster) member(memberId));
+                break;
+            }
+            case SPRINT_STARTED:
+                sprint(record.getString()).start();
+                break;
+            case SPRINT_FINISHED:
+                sprint(record.getString()).finish();
+                break;
+            case SPRINT_STATE_CHANGED:
+                changeSprintState(sprint(record.getString()), record.getString());
+                break;
+            case BACKLOG_ITEM_ADDED: {
+                Sprint sprint = sprint(record.getString());
+                String itemId = record.getString();
+                BacklogItem item;
+                if (record.getBoolean()) {
+                    item = new BacklogItem(itemId, record.getString());
+                    item.setState(BacklogWorkflow.byName(record.getString()));
+                    items.put(itemId, item);
+                    createdItems.add(item);
+                } else {
+                    // Items planned in several sprints are the same object in every sprint
+                    item = item(itemId);
+                }
+                sprint.addBacklogItem(item);
+                break;
+            }
+            case BACKLOG_ITEM_REMOVED: {
+                Sprint sprint = sprint(record.getString());
+                sprint.removeBacklogItem(item(record.getString()));
+                break;
+            }
+            case BACKLOG_STATE_CHANGED: {
+                BacklogItem item = item(record.getString());
+                item.setState(BacklogWorkflow.byName(record.getString()));
+                break;
+            }
+            case DEVELOPER_ASSIGNED: {
+                BacklogItem item = item(record.getString());
+                item.assignDeveloper(member(record.getString()));
+                break;
+            }
+            case ACTIVITY_ADDED: {
+                BacklogItem item = item(record.getString());
+                Activity activity = new Activity(record.getString(), record.getInt());
+                activity.setDone(record.getBoolean());
+                item.addActivity(activity);
+                break;
+            }
+            case ACTIVITY_DONE_CHANGED: {
+                BacklogItem item = item(record.getString());
+                Activity activity = item.getActivity(record.getInt());
+                activity.setDone(record.getBoolean());
+                break;
+            }
+            case DISCUSSION_ADDED:
+                addDiscussion(record);
+                break;
+            case DISCUSSION_POSTED: {
+                DiscussionComponent parent = navigate(discussion(record.getString()), record);
+                parent.add(readComponent(record));
+                break;
+            }
+            case DISCUSSION_REMOVED: {
+                DiscussionComponent parent = navigate(discussion(record.getString()), record);
+                parent.remove(parent.getChildren().get(record.getInt()));
+                break;
+            }
+            case DISCUSSION_LOCK_CHANGED: {
+                DiscussionThread thread = discussion(record.getString());
+                if (record.getBoolean()) {
+                    thread.lock();
+                } else {
+                    thread.unlock();
+                }
+                break;
+            }
+            case DAY_STARTED:
+                currentDay = LocalDate.ofEpochDay(record.getLong());
+                for (Sprint sprint : sprints.values()) {
+                    sprint.getHistory().setRecordingDay(currentDay);
+                }
+                break;
+            case SPRINT_HISTORY:
+                restoreHistory(sprint(record.getString()), record);
+                break;
+            default:
+                throw new IllegalStateException("Unhandled journal event type: " + type);
+        }
+    }
+
+    /**
+     * Ends the replay: changes made to the rebuilt sprints from now on are recorded on the
+     * current date again.
+     */
+    public void finishReplay() {
+        for (Sprint sprint : sprints.values()) {
+            sprint.getHistory().setRecordingDay(null);
+        }
+    }
+
+    List<BacklogItem> getCreatedItems() {
+        return createdItems;
+    }
+
+    /**
+     * @return the rebuilt project, or null when no project has been created yet
+     */
+    public Project getProject() {
+        return project;
+    }
+
+    private void addSprint(RecordReader record) {
+        String id = record.getString();
+        int kind = record.getByte();
+        String name = record.getString();
+        Sprint sprint;
+        if (kind == ProjectEventEncoder.SPRINT_KIND_REVIEW) {
+            sprint = new ReviewSprint(id, name, ProjectEventEncoder.date(record.getLong()),
+                    ProjectEventEncoder.date(record.getLong()));
+        } else if (kind == ProjectEventEncoder.SPRINT_KIND_RELEASE) {
+            sprint = new ReleaseSprint(id, name, ProjectEventEncoder.date(record.getLong()),
+                    ProjectEventEncoder.date(record.getLong()));
+        } else {
+            throw new IllegalStateException("Unknown sprint kind: " + kind);
+        }
+        sprint.getHistory().setRecordingDay(currentDay);
+        sprints.put(id, sprint);
+        project.addSprint(sprint);
+    }
+
+    private static void restoreHistory(Sprint sprint, RecordReader record) {
+        LocalDate firstDay = LocalDate.ofEpochDay(record.getLong());
+        int days = record.getInt();
+        int[] itemChanges = new int[days];
+        int[] activityChanges = new int[days];
+        for (int i = 0; i < days; i++) {
+            itemChanges[i] = record.getInt();
+        }
+        for (int i = 0; i < days; i++) {
+            activityChanges[i] = record.getInt();
+        }
+        sprint.getHistory().restore(firstDay, itemChanges, activityChanges);
+    }
+
+    private static void changeSprintState(Sprint sprint, String stateName) {
+        if (sprint instanceof ReviewSprint) {
+            ((ReviewSprint) sprint).setState(SprintStates.reviewState(stateName));
+        } else {
+            ((ReleaseSprint) sprint).setState(SprintStates.releaseState(stateName));
+        }
+    }
+
+    private void addDiscussion(RecordReader record) {
+        DiscussionThread thread = new DiscussionThread(record.getString(), record.getString());
+        String itemId = record.getString();
+        if (itemId != null) {
+            // Linking may lock the thread; the lock is replayed after the posts as its own event
+            thread.setBacklogItem(item(itemId));
+            thread.unlock();
+        }
+        discussions.put(thread.getId(), thread);
+        project.addDiscussion(thread);
+    }
+
+    private static DiscussionComponent navigate(DiscussionThread thread, RecordReader record) {
+        int depth = record.getInt();
+        DiscussionComponent current = thread;
+        for (int i = 0; i < depth; i++) {
+            current = current.getChildren().get(record.getInt());
+        }
+        return current;
+    }
+
+    private DiscussionComponent readComponent(RecordReader record) {
+        int kind = record.getByte();
+        DiscussionComponent component;
+        if (kind == ProjectEventEncoder.COMPONENT_THREAD) {
+            component = new DiscussionThread(record.getString(), record.getString());
+        } else if (kind == ProjectEventEncoder.COMPONENT_MESSAGE) {
+            String authorId = record.getString();
+            component = new DiscussionMessage(record.getString(), authorId == null ? null : member(authorId),
+                    ProjectEventEncoder.date(record.getLong()));
+        } else {
+            throw new IllegalStateException("Unknown discussion component kind: " + kind);
+        }
+        int childCount = record.getInt();
+        for (int i = 0; i < childCount; i++) {
+            component.add(readComponent(record));
+        }
+        return component;
+    }
+
+    private TeamMember member(String id) {
+        return lookup(members, id, "team member");
+    }
+
+    private Sprint sprint(String id) {
+        return lookup(sprints, id, "sprint");
+    }
+
+    private BacklogItem item(String id) {
+        return lookup(items, id, "backlog item");
+    }
+
+    private DiscussionThread discussion(String id) {
+        return lookup(discussions, id, "discussion");
+    }
+
+    private static <T> T lookup(Map<String, T> values, String id, String kind) {
+        T value = values.get(id);
+        if (value == null) {
+            throw new IllegalStateException("Journal refers to unknown " + kind + " " + id);
+        }
+        return value;
+    }
+}
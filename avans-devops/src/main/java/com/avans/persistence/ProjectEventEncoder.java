@@ -0,0 +1,418 @@
+package com.avans.persistence;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import com.avans.domain.backlog.Activity;
+import com.avans.domain.backlog.BacklogItem;
+import com.avans.domain.discussions.DiscussionComponent;
+import com.avans.domain.discussions.DiscussionMessage;
+import com.avans.domain.discussions.DiscussionThread;
+import com.avans.domain.member.Developer;
+import com.avans.domain.member.LeadDeveloper;
+import com.avans.domain.member.ProductOwner;
+import com.avans.domain.member.ScrumMaster;
+import com.avans.domain.member.TeamMember;
+import com.avans.domain.member.Tester;
+import com.avans.domain.project.Project;
+import com.avans.domain.project.ReleaseSprint;
+import com.avans.domain.project.ReviewSprint;
+import com.avans.domain.project.Sprint;
+import com.avans.domain.project.SprintHistory;
+
+/**
+ * Encodes project changes as {@link JournalEventType} records. Team members and backlog items
+ * are written in full the first time they are seen and referenced by id afterwards, and
+ * {@link #writeProject(Project)} walks a whole project to write the events that rebuild it.
+ * Whenever the date has changed since the previous event, a {@link JournalEventType#DAY_STARTED}
+ * record comes first, so replayed completions land on the day they happened.
+ *
+ * An encoder reuses a single record buffer and is not thread-safe.
+ */
+public class ProjectEventEncoder {
+    static final int SPRINT_KIND_REVIEW = 1;
+    static final int SPRINT_KIND_RELEASE = 2;
+    static final int COMPONENT_MESSAGE = 1;
+    static final int COMPONENT_THREAD = 2;
+    static final long NO_DATE = Long.MIN_VALUE;
+
+    private final RecordWriter record = new RecordWriter();
+    private final RecordWriter dayRecord = new RecordWriter(8);
+    // Start of the next day in epoch milliseconds; the first event always writes its day
+    private long nextDayStartMillis = Long.MIN_VALUE;
+    // Keyed by id; an item is written in full again when a different object shows up for its id
+    private final Map<String, TeamMember> writtenMembers;
+    private final Map<String, BacklogItem> writtenItems;
+    private final EventSink sink;
+    private Consumer<BacklogItem> itemWrittenHandler = item -> { };
+
+    public ProjectEventEncoder(EventSink sink) {
+        this(sink, new HashMap<>(), new HashMap<>());
+    }
+
+    // Continues after a restore: everything the applier rebuilt has already been written
+    ProjectEventEncoder(EventSink sink, Map<String, TeamMember> writtenMembers, Map<String, BacklogItem> writtenItems) {
+        if (sink == null) {
+            throw new IllegalArgumentException("Event sink cannot be null");
+        }
+        this.sink = sink;
+        this.writtenMembers = writtenMembers;
+        this.writtenItems = writtenItems;
+    }
+
+    // Called once for every backlog item that is written in full
+    void setItemWrittenHandler(Consumer<BacklogItem> handler) {
+        this.itemWrittenHandler = handler;
+    }
+
+    Collection<BacklogItem> getWrittenItems() {
+        return writtenItems.values();
+    }
+
+    /**
+     * Writes every event needed to rebuild the project as it is now.
+     */
+    public void writeProject(Project project) {
+        record.reset().putString(project.getProjectName());
+        emit(JournalEventType.PROJECT_CREATED);
+
+        for (TeamMember member : project.getTeamMembers()) {
+            projectMemberAdded(project, member);
+        }
+        for (Sprint sprint : project.getSprints()) {
+            sprintAdded(sprint);
+        }
+        for (DiscussionThread thread : project.getDiscussions()) {
+            discussionAdded(thread);
+        }
+    }
+
+    public void projectMemberAdded(Project project, TeamMember member) {
+        register(member);
+        record.reset().putString(member.getId()).putBoolean(project.getProductOwner() == member);
+        emit(JournalEventType.PROJECT_MEMBER_ADDED);
+    }
+
+    public void sprintAdded(Sprint sprint) {
+        record.reset()
+            .putString(sprint.getId())
+            .putByte(sprintKind(sprint))
+            .putString(sprint.getName())
+            .putLong(epochDay(sprint.getStartDate()))
+            .putLong(epochDay(sprint.getEndDate()));
+        emit(JournalEventType.SPRINT_ADDED);
+
+        if (sprint.getScrumMaster() != null) {
+            scrumMasterChanged(sprint, sprint.getScrumMaster());
+        }
+        for (TeamMember member : sprint.getTeamMembers()) {
+            sprintMemberAdded(sprint, member);
+        }
+        for (BacklogItem item : sprint.getBacklogItems()) {
+            backlogItemAdded(sprint, item);
+        }
+        if (sprint.isStarted()) {
+            sprintEvent(JournalEventType.SPRINT_STARTED, sprint);
+        }
+        if (sprint.isFinished()) {
+            sprintEvent(JournalEventType.SPRINT_FINISHED, sprint);
+        }
+        sprintStateChanged(sprint, sprintStateName(sprint));
+        sprintHistory(sprint);
+    }
+
+    private void sprintHistory(Sprint sprint) {
+        SprintHistory history = sprint.getHistory();
+        int days = history.getDayCount();
+        if (days == 0) {
+            return;
+        }
+        record.reset().putString(sprint.getId()).putLong(history.getFirstDay().toEpochDay()).putInt(days);
+        for (int i = 0; i < days; i++) {
+            record.putInt(history.getItemsDoneChange(i));
+        }
+        for (int i = 0; i < days; i++) {
+            record.putInt(history.getActivitiesDoneChange(i));
+        }
+        emit(JournalEventType.SPRINT_HISTORY);
+    }
+
+    public void sprintDetailsChanged(Sprint sprint) {
+        record.reset()
+            .putString(sprint.getId())
+            .putString(sprint.getName())
+            .putLong(epochDay(sprint.getStartDate()))
+            .putLong(epochDay(sprint.getEndDate()));
+        emit(JournalEventType.SPRINT_DETAILS_CHANGED);
+    }
+
+    public void sprintMemberAdded(Sprint sprint, TeamMember member) {
+        register(member);
+        record.reset().putString(sprint.getId()).putString(member.getId());
+        emit(JournalEventType.SPRINT_MEMBER_ADDED);
+    }
+
+    public void scrumMasterChanged(Sprint sprint, ScrumMaster scrumMaster) {
+        register(scrumMaster);
+        record.reset().putString(sprint.getId()).putString(scrumMaster == null ? null : scrumMaster.getId());
+        emit(JournalEventType.SCRUM_MASTER_CHANGED);
+    }
+
+    public void sprintStarted(Sprint sprint) {
+        sprintEvent(JournalEventType.SPRINT_STARTED, sprint);
+    }
+
+    public void sprintFinished(Sprint sprint) {
+        sprintEvent(JournalEventType.SPRINT_FINISHED, sprint);
+    }
+
+    public void sprintStateChanged(Sprint sprint, String stateName) {
+        record.reset().putString(sprint.getId()).putString(stateName);
+        emit(JournalEventType.SPRINT_STATE_CHANGED);
+    }
+
+    /**
+     * Writes that an item was planned in a sprint. An item seen for the first time carries its
+     * title and state and is followed by its activities and developer.
+     */
+    public void backlogItemAdded(Sprint sprint, BacklogItem item) {
+        boolean firstSeen = writtenItems.put(item.getId(), item) != item;
+        record.reset().putString(sprint.getId()).putString(item.getId()).putBoolean(firstSeen);
+        if (firstSeen) {
+            // The state travels with the item, which halves the records of a snapshot
+            record.putString(item.getTitle()).putString(item.getState().getName());
+        }
+        emit(JournalEventType.BACKLOG_ITEM_ADDED);
+
+        if (!firstSeen) {
+            return;
+        }
+        itemWrittenHandler.accept(item);
+        List<Activity> activities = item.getActivities();
+        for (int i = 0; i < activities.size(); i++) {
+            activityAdded(item, activities.get(i));
+        }
+        if (item.getAssignedDeveloper() != null) {
+            developerAssigned(item, item.getAssignedDeveloper());
+        }
+    }
+
+    public void backlogItemRemoved(Sprint sprint, BacklogItem item) {
+        record.reset().putString(sprint.getId()).putString(item.getId());
+        emit(JournalEventType.BACKLOG_ITEM_REMOVED);
+    }
+
+    public void backlogStateChanged(BacklogItem item) {
+        record.reset().putString(item.getId()).putString(item.getState().getName());
+        emit(JournalEventType.BACKLOG_STATE_CHANGED);
+    }
+
+    public void developerAssigned(BacklogItem item, TeamMember developer) {
+        register(developer);
+        record.reset().putString(item.getId()).putString(developer.getId());
+        emit(JournalEventType.DEVELOPER_ASSIGNED);
+    }
+
+    public void activityAdded(BacklogItem item, Activity activity) {
+        record.reset()
+            .putString(item.getId())
+            .putString(activity.getTitle())
+            .putInt(activity.getTotalEstimatedHours())
+            .putBoolean(activity.isDone());
+        emit(JournalEventType.ACTIVITY_ADDED);
+    }
+
+    public void activityDoneChanged(BacklogItem item, Activity activity, boolean done) {
+        record.reset().putString(item.getId()).putInt(item.indexOfActivity(activity)).putBoolean(done);
+        emit(JournalEventType.ACTIVITY_DONE_CHANGED);
+    }
+
+    /**
+     * Writes a new discussion thread with everything posted in it so far.
+     */
+    public void discussionAdded(DiscussionThread thread) {
+        BacklogItem item = thread.getBacklogItem();
+        record.reset()
+            .putString(thread.getId())
+            .putString(thread.getTitle())
+            .putString(item == null ? null : item.getId());
+        emit(JournalEventType.DISCUSSION_ADDED);
+
+        // The thread has to be unlocked while its contents are replayed, so the lock comes last
+        List<DiscussionComponent> children = thread.getChildren();
+        for (int i = 0; i < children.size(); i++) {
+            discussionPosted(thread, thread, children.get(i));
+        }
+        discussionLockChanged(thread, thread.isLocked());
+    }
+
+    public void discussionPosted(DiscussionThread thread, DiscussionComponent parent, DiscussionComponent component) {
+        registerAuthors(component);
+        record.reset().putString(thread.getId());
+        putPath(thread, parent);
+        putComponent(component);
+        emit(JournalEventType.DISCUSSION_POSTED);
+    }
+
+    public void discussionRemoved(DiscussionThread thread, DiscussionComponent parent, int index) {
+        record.reset().putString(thread.getId());
+        putPath(thread, parent);
+        record.putInt(index);
+        emit(JournalEventType.DISCUSSION_REMOVED);
+    }
+
+    public void discussionLockChanged(DiscussionThread thread, boolean locked) {
+        record.reset().putString(thread.getId()).putBoolean(locked);
+        emit(JournalEventType.DISCUSSION_LOCK_CHANGED);
+    }
+
+    private void sprintEvent(JournalEventType type, Sprint sprint) {
+        record.reset().putString(sprint.getId());
+        emit(type);
+    }
+
+    // Writes a team member the first time it is referenced; must run before a record is filled
+    private void register(TeamMember member) {
+        if (member == null || writtenMembers.putIfAbsent(member.getId(), member) != null) {
+            return;
+        }
+        record.reset().putString(member.getId()).putByte(memberRole(member)).putString(member.getName());
+        emit(JournalEventType.MEMBER_REGISTERED);
+    }
+
+    private void registerAuthors(DiscussionComponent component) {
+        register(component.getAuthor());
+        List<DiscussionComponent> children = component.getChildren();
+        for (int i = 0; i < children.size(); i++) {
+            registerAuthors(children.get(i));
+        }
+    }
+
+    // Position of the parent below the thread, as child indexes from the thread downwards
+    private void putPath(DiscussionThread thread, DiscussionComponent parent) {
+        int depth = 0;
+        for (DiscussionComponent current = parent; current != thread; current = current.getParent()) {
+            if (current == null) {
+                throw new IllegalArgumentException("Component is not part of discussion " + thread.getId());
+            }
+            depth++;
+        }
+        record.putInt(depth);
+        int[] path = new int[depth];
+        DiscussionComponent current = parent;
+        for (int i = depth - 1; i >= 0; i--) {
+            DiscussionComponent container = current.getParent();
+            path[i] = indexOf(container.getChildren(), current);
+            current = container;
+        }
+        for (int index : path) {
+            record.putInt(index);
+        }
+    }
+
+    private void putComponent(DiscussionComponent component) {
+        if (component instanceof DiscussionThread) {
+            DiscussionThread thread = (DiscussionThread) component;
+            record.putByte(COMPONENT_THREAD).putString(thread.getId()).putString(thread.getTitle());
+        } else if (component instanceof DiscussionMessage) {
+            TeamMember author = component.getAuthor();
+            record.putByte(COMPONENT_MESSAGE)
+                .putString(author == null ? null : author.getId())
+                .putString(component.getContent())
+                .putLong(epochDay(component.getTimestamp()));
+        } else {
+            throw new IllegalArgumentException("Unsupported discussion component: " + component.getClass().getName());
+        }
+        List<DiscussionComponent> children = component.getChildren();
+        record.putInt(children.size());
+        for (int i = 0; i < children.size(); i++) {
+            putComponent(children.get(i));
+        }
+    }
+
+    private void emit(JournalEventType type) {
+        // Reading the clock is cheap; working out the date is only done once a day
+        if (System.currentTimeMillis() >= nextDayStartMillis) {
+            emitDay();
+        }
+        sink.write(type, record);
+    }
+
+    private void emitDay() {
+        ZonedDateTime now = ZonedDateTime.now();
+        LocalDate today = now.toLocalDate();
+        nextDayStartMillis = today.plusDays(1).atStartOfDay(now.getZone()).toInstant().toEpochMilli();
+        dayRecord.reset().putLong(today.toEpochDay());
+        sink.write(JournalEventType.DAY_STARTED, dayRecord);
+    }
+
+    private static int indexOf(List<DiscussionComponent> components, DiscussionComponent component) {
+        for (int i = 0; i < components.size(); i++) {
+            if (components.get(i) == component) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Discussion component is not a child of its parent");
+    }
+
+    static int memberRole(TeamMember member) {
+        // Subclasses before their parents
+        if (member instanceof LeadDeveloper) {
+            return 2;
+        } else if (member instanceof Developer) {
+            return 1;
+        } else if (member instanceof Tester) {
+            return 3;
+        } else if (member instanceof ScrumMaster) {
+            return 4;
+        } else if (member instanceof ProductOwner) {
+            return 5;
+        }
+        throw new IllegalArgumentException("Unsupported team member type: " + member.getClass().getName());
+    }
+
+    static TeamMember createMember(int role, String id, String name) {
+        switch (role) {
+            case 1:
+                return new Developer(id, name);
+            case 2:
+                return new LeadDeveloper(id, name);
+            case 3:
+                return new Tester(id, name);
+            case 4:
+                return new ScrumMaster(id, name);
+            case 5:
+                return new ProductOwner(id, name);
+            default:
+                throw new IllegalArgumentException("Unknown team member role: " + role);
+        }
+    }
+
+    private static int sprintKind(Sprint sprint) {
+        if (sprint instanceof ReviewSprint) {
+            return SPRINT_KIND_REVIEW;
+        } else if (sprint instanceof ReleaseSprint) {
+            return SPRINT_KIND_RELEASE;
+        }
+        throw new IllegalArgumentException("Unsupported sprint type: " + sprint.getClass().getName());
+    }
+
+    private static String sprintStateName(Sprint sprint) {
+        return sprint instanceof ReviewSprint
+                ? ((ReviewSprint) sprint).getState().getName()
+                : ((ReleaseSprint) sprint).getState().getName();
+    }
+
+    static long epochDay(LocalDate date) {
+        return date == null ? NO_DATE : date.toEpochDay();
+    }
+
+    static LocalDate date(long epochDay) {
+        return epochDay == NO_DATE ? null : LocalDate.ofEpochDay(epochDay);
+    }
+}
@@ -0,0 +1,380 @@
+package com.avans.persistence;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import com.avans.domain.backlog.Activity;
+import com.avans.domain.backlog.BacklogItem;
+import com.avans.domain.backlog.IBacklogItemListener;
+import com.avans.domain.backlog.state.IBacklogState;
+import com.avans.domain.discussions.DiscussionComponent;
+import com.avans.domain.discussions.DiscussionThread;
+import com.avans.domain.discussions.IDiscussionListener;
+import com.avans.domain.member.ScrumMaster;
+import com.avans.domain.member.TeamMember;
+import com.avans.domain.project.IProjectListener;
+import com.avans.domain.project.ISprintListener;
+import com.avans.domain.project.Project;
+import com.avans.domain.project.Sprint;
+
+/**
+ * Records every change of a project in an {@link EventJournal}, so the project can be rebuilt
+ * with {@link #restore(EventJournal)} after a restart. Changes are appended as they happen;
+ * call {@link #commit()} to wait until they are on disk.
+ *
+ * With a {@link SnapshotStore}, a snapshot of the whole project can be taken after a number of
+ * events, so restoring loads the latest snapshot and only replays the journal records after it.
+ * Snapshots are never taken inside a change: the thread that changes the project calls
+ * {@link #snapshotIfDue()} at a quiet point, such as after each command, because the domain
+ * model may not be read while another thread changes it.
+ *
+ * Review summaries, the review completed flag and release pipelines are not journaled.
+ */
+public class ProjectJournal implements AutoCloseable {
+    private final Project project;
+    private final EventJournal journal;
+    private final ProjectEventEncoder encoder;
+    private SnapshotStore snapshots;
+    private long snapshotInterval;
+    private long lastSnapshotSequence;
+
+    private final Set<Sprint> attachedSprints = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<DiscussionThread> attachedThreads = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private final IProjectListener projectListener = new ProjectRecorder();
+    private final ISprintListener sprintListener = new SprintRecorder();
+    private final IBacklogItemListener itemListener = new BacklogItemRecorder();
+    private final IDiscussionListener discussionListener = new DiscussionRecorder();
+
+    private boolean closed;
+
+    // restoredFrom is the applier that rebuilt the project, or null for a new journal
+    private ProjectJournal(Project project, EventJournal journal, ProjectEventApplier restoredFrom) {
+        this.project = project;
+        this.journal = journal;
+        // Items replaced by another object with the same id may still call in after close
+        EventSink sink = (type, record) -> {
+            if (!closed) {
+                journal.append(type.getCode(), record);
+            }
+        };
+        this.encoder = restoredFrom == null ? new ProjectEventEncoder(sink) : restoredFrom.continueEncoding(sink);
+    }
+
+    /**
+     * Starts journaling a project in an empty journal. The current content of the project is
+     * written first.
+     */
+    public static ProjectJournal create(Project project, EventJournal journal) {
+        if (project == null || journal == null) {
+            throw new IllegalArgumentException("Project and journal cannot be null");
+        }
+        if (journal.getLastSequence() > 0) {
+            throw new IllegalStateException("Journal already contains events; use restore instead");
+        }
+        ProjectJournal projectJournal = new ProjectJournal(project, journal, null);
+        synchronized (projectJournal) {
+            projectJournal.encoder.setItemWrittenHandler(projectJournal::attachItem);
+            projectJournal.encoder.writeProject(project);
+            projectJournal.attach();
+        }
+        return projectJournal;
+    }
+
+    /**
+     * Rebuilds the project from the journal and continues journaling its changes.
+     */
+    public static ProjectJournal restore(EventJournal journal) throws IOException {
+        return restore(journal, null);
+    }
+
+    /**
+     * Rebuilds the project from the latest snapshot plus the journal records written after it,
+     * and continues journaling its changes. Without a usable snapshot the whole journal is
+     * replayed.
+     */
+    public static ProjectJournal restore(EventJournal journal, SnapshotStore snapshots) throws IOException {
+        if (journal == null) {
+            throw new IllegalArgumentException("Journal cannot be null");
+        }
+        ProjectEventApplier applier = new ProjectEventApplier();
+        long snapshotSequence = snapshots == null ? 0 : snapshots.loadLatest(applier);
+        if (snapshotSequence > journal.getLastSequence()) {
+            throw new IllegalStateException("Snapshot at sequence " + snapshotSequence
+                    + " is newer than the journal in " + journal.getDirectory());
+        }
+        journal.replay(snapshotSequence, (sequence, type, record) -> applier.apply(type, record));
+        if (applier.getProject() == null) {
+            throw new IllegalStateException("Journal in " + journal.getDirectory() + " does not contain a project");
+        }
+        applier.finishReplay();
+
+        ProjectJournal projectJournal = new ProjectJournal(applier.getProject(), journal, applier);
+        synchronized (projectJournal) {
+            projectJournal.snapshots = snapshots;
+            projectJournal.lastSnapshotSequence = snapshotSequence;
+            List<BacklogItem> items = applier.getCreatedItems();
+            for (int i = 0; i < items.size(); i++) {
+                projectJournal.attachItem(items.get(i));
+            }
+            projectJournal.encoder.setItemWrittenHandler(projectJournal::attachItem);
+            projectJournal.attach();
+        }
+        return projectJournal;
+    }
+
+    /**
+     * Makes {@link #snapshotIfDue()} take a snapshot once the given number of events has been
+     * journaled since the previous one. An interval of 0 turns these snapshots off.
+     */
+    public synchronized void setSnapshotPolicy(SnapshotStore snapshots, long eventInterval) {
+        if (snapshots == null) {
+            throw new IllegalArgumentException("Snapshot store cannot be null");
+        }
+        if (eventInterval < 0) {
+            throw new IllegalArgumentException("Snapshot interval cannot be negative");
+        }
+        this.snapshots = snapshots;
+        this.snapshotInterval = eventInterval;
+    }
+
+    /**
+     * Commits the journal and writes a snapshot of the project as it is now.
+     */
+    public synchronized Path snapshot() throws IOException {
+        if (snapshots == null) {
+            throw new IllegalStateException("No snapshot store has been configured");
+        }
+        journal.commit();
+        long sequence = journal.getLastSequence();
+        Path snapshot = snapshots.write(project, sequence);
+        lastSnapshotSequence = sequence;
+        return snapshot;
+    }
+
+    public synchronized long getLastSnapshotSequence() {
+        return lastSnapshotSequence;
+    }
+
+    public Project getProject() {
+        return project;
+    }
+
+    public EventJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Blocks until every change made so far is durable.
+     */
+    public void commit() {
+        journal.commit();
+    }
+
+    /**
+     * Stops following the project and closes the journal.
+     */
+    @Override
+    public synchronized void close() {
+        project.removeListener(projectListener);
+        for (Sprint sprint : attachedSprints) {
+            sprint.removeSprintListener(sprintListener);
+        }
+        for (BacklogItem item : encoder.getWrittenItems()) {
+            item.removeListener(itemListener);
+        }
+        for (DiscussionThread thread : attachedThreads) {
+            thread.removeListener(discussionListener);
+        }
+        closed = true;
+        journal.close();
+    }
+
+    /**
+     * Takes a snapshot when the snapshot policy says one is due. Call it on the thread that
+     * changes the project, between changes; a failed snapshot leaves it due, so the next call
+     * tries again.
+     *
+     * @return whether a snapshot was written
+     */
+    public synchronized boolean snapshotIfDue() throws IOException {
+        if (!isSnapshotDue()) {
+            return false;
+        }
+        snapshot();
+        return true;
+    }
+
+    public synchronized boolean isSnapshotDue() {
+        return !closed && snapshots != null && snapshotInterval > 0
+                && journal.getLastSequence() - lastSnapshotSequence >= snapshotInterval;
+    }
+
+    private void attach() {
+        project.addListener(projectListener);
+        for (Sprint sprint : project.getSprints()) {
+            attachSprint(sprint);
+        }
+        for (DiscussionThread thread : project.getDiscussions()) {
+            attachThread(thread);
+        }
+    }
+
+    private void attachSprint(Sprint sprint) {
+        if (attachedSprints.add(sprint)) {
+            sprint.addSprintListener(sprintListener);
+        }
+    }
+
+    // Called once per item the encoder writes in full. Items stay followed after leaving a
+    // sprint, so the journal keeps a complete history of them.
+    private void attachItem(BacklogItem item) {
+        item.addListener(itemListener);
+    }
+
+    private void attachThread(DiscussionThread thread) {
+        if (attachedThreads.add(thread)) {
+            thread.addListener(discussionListener);
+        }
+    }
+
+    private class ProjectRecorder implements IProjectListener {
+        @Override
+        public void onSprintAdded(Project project, Sprint sprint) {
+            synchronized (ProjectJournal.this) {
+                encoder.sprintAdded(sprint);
+                attachSprint(sprint);
+            }
+        }
+
+        @Override
+        public void onTeamMemberAdded(Project project, TeamMember member) {
+            synchronized (ProjectJournal.this) {
+                encoder.projectMemberAdded(project, member);
+            }
+        }
+
+        @Override
+        public void onDiscussionAdded(Project project, DiscussionThread thread) {
+            synchronized (ProjectJournal.this) {
+                encoder.discussionAdded(thread);
+                attachThread(thread);
+            }
+        }
+    }
+
+    private class SprintRecorder implements ISprintListener {
+        @Override
+        public void onBacklogItemAdded(Sprint sprint, BacklogItem item) {
+            synchronized (ProjectJournal.this) {
+                encoder.backlogItemAdded(sprint, item);
+            }
+        }
+
+        @Override
+        public void onBacklogItemRemoved(Sprint sprint, BacklogItem item) {
+            synchronized (ProjectJournal.this) {
+                encoder.backlogItemRemoved(sprint, item);
+            }
+        }
+
+        @Override
+        public void onTeamMemberAdded(Sprint sprint, TeamMember member) {
+            synchronized (ProjectJournal.this) {
+                encoder.sprintMemberAdded(sprint, member);
+            }
+        }
+
+        @Override
+        public void onScrumMasterChanged(Sprint sprint, ScrumMaster scrumMaster) {
+            synchronized (ProjectJournal.this) {
+                encoder.scrumMasterChanged(sprint, scrumMaster);
+            }
+        }
+
+        @Override
+        public void onDetailsChanged(Sprint sprint) {
+            synchronized (ProjectJournal.this) {
+                encoder.sprintDetailsChanged(sprint);
+            }
+        }
+
+        @Override
+        public void onStarted(Sprint sprint) {
+            synchronized (ProjectJournal.this) {
+                encoder.sprintStarted(sprint);
+            }
+        }
+
+        @Override
+        public void onFinished(Sprint sprint) {
+            synchronized (ProjectJournal.this) {
+                encoder.sprintFinished(sprint);
+            }
+        }
+
+        @Override
+        public void onSprintStateChanged(Sprint sprint, String stateName) {
+            synchronized (ProjectJournal.this) {
+                encoder.sprintStateChanged(sprint, stateName);
+            }
+        }
+    }
+
+    private class BacklogItemRecorder implements IBacklogItemListener {
+        @Override
+        public void onStateChanged(BacklogItem item, IBacklogState oldState, IBacklogState newState) {
+            synchronized (ProjectJournal.this) {
+                encoder.backlogStateChanged(item);
+            }
+        }
+
+        @Override
+        public void onActivityAdded(BacklogItem item, Activity activity) {
+            synchronized (ProjectJournal.this) {
+                encoder.activityAdded(item, activity);
+            }
+        }
+
+        @Override
+        public void onActivityDoneChanged(BacklogItem item, Activity activity, boolean done) {
+            synchronized (ProjectJournal.this) {
+                encoder.activityDoneChanged(item, activity, done);
+            }
+        }
+
+        @Override
+        public void onDeveloperAssigned(BacklogItem item, TeamMember developer) {
+            synchronized (ProjectJournal.this) {
+                encoder.developerAssigned(item, developer);
+            }
+        }
+    }
+
+    private class DiscussionRecorder implements IDiscussionListener {
+        @Override
+        public void onComponentAdded(DiscussionThread thread, DiscussionComponent parent, DiscussionComponent component) {
+            synchronized (ProjectJournal.this) {
+                encoder.discussionPosted(thread, parent, component);
+            }
+        }
+
+        @Override
+        public void onComponentRemoved(DiscussionThread thread, DiscussionComponent parent, int index) {
+            synchronized (ProjectJournal.this) {
+                encoder.discussionRemoved(thread, parent, index);
+            }
+        }
+
+        @Override
+        public void onLockChanged(DiscussionThread thread, boolean locked) {
+            synchronized (ProjectJournal.this) {
+                encoder.discussionLockChanged(thread, locked);
+            }
+        }
+    }
+}
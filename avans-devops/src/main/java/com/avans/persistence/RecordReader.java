@@ -0,0 +1,106 @@
+package com.avans.persistence;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reads the fields of one journal record in the order {@link RecordWriter} wrote them.
+ */
+public class RecordReader {
+    private static final int CACHE_SIZE = 1024;
+    private static final int MAX_CACHED_LENGTH = 64;
+
+    private ByteBuffer buffer;
+    private byte[] scratch = new byte[64];
+    private final int[] cacheHashes = new int[CACHE_SIZE];
+    private final byte[][] cacheBytes = new byte[CACHE_SIZE][];
+    private final String[] cacheValues = new String[CACHE_SIZE];
+
+    public RecordReader() {
+        this.buffer = ByteBuffer.allocate(0);
+    }
+
+    RecordReader wrap(ByteBuffer record) {
+        this.buffer = record;
+        return this;
+    }
+
+    public int getByte() {
+        return buffer.get();
+    }
+
+    public boolean getBoolean() {
+        return buffer.get() != 0;
+    }
+
+    public int getInt() {
+        return buffer.getInt();
+    }
+
+    public long getLong() {
+        return buffer.getLong();
+    }
+
+    public String getString() {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes;
+        int offset;
+        if (buffer.hasArray()) {
+            bytes = buffer.array();
+            offset = buffer.arrayOffset() + buffer.position();
+            buffer.position(buffer.position() + length);
+        } else {
+            // Mapped files have no backing array; decode from a reused scratch buffer
+            if (scratch.length < length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            buffer.get(scratch, 0, length);
+            bytes = scratch;
+            offset = 0;
+        }
+        return length <= MAX_CACHED_LENGTH ? cachedString(bytes, offset, length)
+                : new String(bytes, offset, length, StandardCharsets.UTF_8);
+    }
+
+    // Ids of sprints and members and state names repeat in almost every record. Reusing their
+    // String saves an allocation per field and lets restored objects share one instance. A value
+    // is only cached the second time its hash shows up in a slot, so unique ids never evict them.
+    private String cachedString(byte[] bytes, int offset, int length) {
+        // The first and last bytes are enough to tell ids apart; equality is checked below anyway
+        int hash = length;
+        int head = Math.min(length, 8);
+        for (int i = offset; i < offset + head; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        for (int i = Math.max(offset + head, offset + length - 8); i < offset + length; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        int slot = (hash ^ (hash >>> 16)) & (CACHE_SIZE - 1);
+
+        byte[] cachedBytes = cacheBytes[slot];
+        if (cachedBytes != null && cachedBytes.length == length
+                && Arrays.equals(cachedBytes, 0, length, bytes, offset, offset + length)) {
+            return cacheValues[slot];
+        }
+        String value = new String(bytes, offset, length, StandardCharsets.UTF_8);
+        if (cacheHashes[slot] == hash) {
+            cacheBytes[slot] = Arrays.copyOfRange(bytes, offset, offset + length);
+            cacheValues[slot] = value;
+        } else {
+            cacheHashes[slot] = hash;
+        }
+        return value;
+    }
+
+    public void getBytes(byte[] target, int offset, int length) {
+        buffer.get(target, offset, length);
+    }
+
+    public int remaining() {
+        return buffer.remaining();
+    }
+}
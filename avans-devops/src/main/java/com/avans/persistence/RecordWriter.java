@@ -0,0 +1,90 @@
+package com.avans.persistence;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reusable buffer that encodes the fields of one journal record. Numbers are written big
+ * endian, strings as their UTF-8 length followed by the bytes, with length -1 for null.
+ */
+public class RecordWriter {
+    private static final int NULL_LENGTH = -1;
+
+    private byte[] buffer;
+    private int size;
+
+    public RecordWriter() {
+        this(256);
+    }
+
+    public RecordWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(16, initialCapacity)];
+    }
+
+    public RecordWriter reset() {
+        size = 0;
+        return this;
+    }
+
+    public RecordWriter putByte(int value) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) value;
+        return this;
+    }
+
+    public RecordWriter putBoolean(boolean value) {
+        return putByte(value ? 1 : 0);
+    }
+
+    public RecordWriter putInt(int value) {
+        ensureCapacity(4);
+        buffer[size++] = (byte) (value >>> 24);
+        buffer[size++] = (byte) (value >>> 16);
+        buffer[size++] = (byte) (value >>> 8);
+        buffer[size++] = (byte) value;
+        return this;
+    }
+
+    public RecordWriter putLong(long value) {
+        putInt((int) (value >>> 32));
+        return putInt((int) value);
+    }
+
+    public RecordWriter putString(String value) {
+        if (value == null) {
+            return putInt(NULL_LENGTH);
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        putInt(bytes.length);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+        return this;
+    }
+
+    public RecordWriter putBytes(byte[] bytes, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, buffer, size, length);
+        size += length;
+        return this;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    byte[] array() {
+        return buffer;
+    }
+
+    void copyTo(ByteBuffer target) {
+        target.put(buffer, 0, size);
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+        }
+    }
+}
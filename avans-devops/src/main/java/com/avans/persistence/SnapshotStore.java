@@ -0,0 +1,209 @@
+package com.avans.persistence;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import com.avans.domain.project.Project;
+
+/**
+ * Stores compact binary snapshots of a whole project next to its {@link EventJournal}. A
+ * snapshot holds the minimal set of events that rebuilds the project, tagged with the journal
+ * sequence it reflects, so a restart only has to replay the journal records after it.
+ *
+ * File layout: magic, format version and journal sequence, followed by records of
+ * [payload length][type][payload], the record count and a CRC32 of everything before it.
+ * Snapshots are written to a temporary file and moved into place, so a crash never leaves a
+ * partial snapshot behind.
+ */
+public class SnapshotStore {
+    static final int MAGIC = 0x4156534E; // "AVSN"
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final int TRAILER_SIZE = 12;
+
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".snapshot";
+    private static final int DEFAULT_RETAINED = 2;
+
+    private final Path directory;
+    private final int retainedSnapshots;
+
+    public SnapshotStore(Path directory) throws IOException {
+        this(directory, DEFAULT_RETAINED);
+    }
+
+    public SnapshotStore(Path directory, int retainedSnapshots) throws IOException {
+        if (directory == null) {
+            throw new IllegalArgumentException("Snapshot directory cannot be null");
+        }
+        if (retainedSnapshots < 1) {
+            throw new IllegalArgumentException("At least one snapshot must be retained");
+        }
+        this.directory = directory;
+        this.retainedSnapshots = retainedSnapshots;
+        Files.createDirectories(directory);
+    }
+
+    /**
+     * Writes a snapshot of the project as it is after journal record sequence, and removes
+     * snapshots beyond the retained count.
+     */
+    public Path write(Project project, long sequence) throws IOException {
+        Path target = directory.resolve(String.format("%s%020d%s", SNAPSHOT_PREFIX, sequence, SNAPSHOT_SUFFIX));
+        Path temporary = directory.resolve(target.getFileName() + ".tmp");
+
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            SnapshotWriter writer = new SnapshotWriter(Channels.newOutputStream(channel));
+            writer.writeHeader(sequence);
+            try {
+                new ProjectEventEncoder(writer).writeProject(project);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            writer.finish();
+            channel.force(false);
+        }
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        deleteOldSnapshots();
+        return target;
+    }
+
+    /**
+     * Applies the newest intact snapshot to the applier. Snapshots that are damaged or written
+     * in an unknown format are skipped in favour of older ones.
+     *
+     * @return the journal sequence of the applied snapshot, or 0 when there was none
+     */
+    public long loadLatest(ProjectEventApplier applier) throws IOException {
+        List<Path> snapshots = listSnapshots();
+        for (int i = snapshots.size() - 1; i >= 0; i--) {
+            try (FileChannel channel = FileChannel.open(snapshots.get(i), StandardOpenOption.READ)) {
+                ByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                if (!isIntact(data)) {
+                    continue;
+                }
+                return apply(data, applier);
+            }
+        }
+        return 0;
+    }
+
+    public List<Path> listSnapshots() throws IOException {
+        List<Path> snapshots = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> {
+                String name = file.getFileName().toString();
+                return name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX);
+            }).sorted().forEach(snapshots::add);
+        }
+        return snapshots;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    // Checks format and checksum before anything is applied, so a bad file never half-builds a project
+    private static boolean isIntact(ByteBuffer data) {
+        if (data.remaining() < HEADER_SIZE + TRAILER_SIZE || data.getInt(0) != MAGIC || data.getInt(4) != FORMAT_VERSION) {
+            return false;
+        }
+        int checksumPosition = data.limit() - 4;
+        CRC32 crc = new CRC32();
+        ByteBuffer content = data.duplicate();
+        content.position(0).limit(checksumPosition);
+        crc.update(content);
+        return (int) crc.getValue() == data.getInt(checksumPosition);
+    }
+
+    private static long apply(ByteBuffer data, ProjectEventApplier applier) {
+        long sequence = data.getLong(8);
+        int end = data.limit() - TRAILER_SIZE;
+        long expectedRecords = data.getLong(end);
+        // Nearly every record of a large snapshot is a backlog item
+        applier.expectBacklogItems((int) Math.min(expectedRecords, Integer.MAX_VALUE));
+        data.position(HEADER_SIZE);
+
+        // The checksum already covered every byte, so records are read in place without slicing
+        RecordReader reader = new RecordReader().wrap(data);
+        long recordCount = 0;
+        while (data.position() < end) {
+            int length = data.getInt();
+            int type = data.get();
+            int next = data.position() + length;
+            applier.apply(type, reader);
+            data.position(next);
+            recordCount++;
+        }
+        if (data.position() != end || recordCount != expectedRecords) {
+            throw new IllegalStateException("Snapshot record count does not match its content");
+        }
+        return sequence;
+    }
+
+    private void deleteOldSnapshots() throws IOException {
+        List<Path> snapshots = listSnapshots();
+        for (int i = 0; i < snapshots.size() - retainedSnapshots; i++) {
+            Files.deleteIfExists(snapshots.get(i));
+        }
+    }
+
+    // Streams records to the file while keeping a running checksum
+    private static class SnapshotWriter implements EventSink {
+        private final OutputStream out;
+        private final CRC32 crc = new CRC32();
+        private final byte[] header = new byte[5];
+        private long recordCount;
+
+        SnapshotWriter(OutputStream out) {
+            this.out = new BufferedOutputStream(out, 256 * 1024);
+        }
+
+        void writeHeader(long sequence) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(FORMAT_VERSION).putLong(sequence);
+            write(buffer.array(), 0, HEADER_SIZE);
+        }
+
+        @Override
+        public void write(JournalEventType type, RecordWriter record) {
+            int length = record.size();
+            header[0] = (byte) (length >>> 24);
+            header[1] = (byte) (length >>> 16);
+            header[2] = (byte) (length >>> 8);
+            header[3] = (byte) length;
+            header[4] = (byte) type.getCode();
+            try {
+                write(header, 0, header.length);
+                write(record.array(), 0, length);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            recordCount++;
+        }
+
+        void finish() throws IOException {
+            write(ByteBuffer.allocate(8).putLong(recordCount).array(), 0, 8);
+            out.write(ByteBuffer.allocate(4).putInt((int) crc.getValue()).array());
+            out.flush();
+        }
+
+        private void write(byte[] bytes, int offset, int length) throws IOException {
+            crc.update(bytes, offset, length);
+            out.write(bytes, offset, length);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.avans.persistence;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.avans.state.release.IReleaseSprintState;
+import com.avans.state.release.ReleaseCancelledState;
+import com.avans.state.release.ReleaseClosedState;
+import com.avans.state.release.ReleaseCreatedState;
+import com.avans.state.release.ReleaseFinishedState;
+import com.avans.state.release.ReleaseInProgressState;
+import com.avans.state.release.ReleasedState;
+import com.avans.state.release.ReleasingState;
+import com.avans.state.review.IReviewSprintState;
+import com.avans.state.review.ReviewClosedState;
+import com.avans.state.review.ReviewCreatedState;
+import com.avans.state.review.ReviewFinishedState;
+import com.avans.state.review.ReviewInProgressState;
+import com.avans.state.review.ReviewedState;
+
+/**
+ * Recreates release and review sprint states from the names stored on disk.
+ */
+final class SprintStates {
+    private static final Map<String, Supplier<IReleaseSprintState>> RELEASE_STATES = new HashMap<>();
+    private static final Map<String, Supplier<IReviewSprintState>> REVIEW_STATES = new HashMap<>();
+
+    static {
+        registerRelease(ReleaseCreatedState::new);
+        registerRelease(ReleaseInProgressState::new);
+        registerRelease(ReleasingState::new);
+        registerRelease(ReleaseFinishedState::new);
+        registerRelease(ReleasedState::new);
+        registerRelease(ReleaseCancelledState::new);
+        registerRelease(ReleaseClosedState::new);
+
+        registerReview(ReviewCreatedState::new);
+        registerReview(ReviewInProgressState::new);
+        registerReview(ReviewedState::new);
+        registerReview(ReviewFinishedState::new);
+        registerReview(ReviewClosedState::new);
+    }
+
+    private SprintStates() {
+    }
+
+    static IReleaseSprintState releaseState(String name) {
+        return create(RELEASE_STATES, name, "release");
+    }
+
+    static IReviewSprintState reviewState(String name) {
+        return create(REVIEW_STATES, name, "review");
+    }
+
+    private static void registerRelease(Supplier<IReleaseSprintState> factory) {
+        RELEASE_STATES.put(factory.get().getName(), factory);
+    }
+
+    private static void registerReview(Supplier<IReviewSprintState> factory) {
+        REVIEW_STATES.put(factory.get().getName(), factory);
+    }
+
+    private static <T> T create(Map<String, Supplier<T>> states, String name, String kind) {
+        Supplier<T> factory = states.get(name);
+        if (factory == null) {
+            throw new IllegalArgumentException("Unknown " + kind + " sprint state: " + name);
+        }
+        return factory.get();
+    }
+}
@@ -19,5 +19,10 @@ public class AnalyzeStep extends PipelineStep {
     protected void publishResults() {
         // Publish analyze results
     }
-    
+
+    @Override
+    protected void describeInputs(StepInputs inputs) {
+        // The analysis only depends on the steps before this one
+        inputs.add("step", getName());
+    }
 }
@@ -19,4 +19,10 @@ public class BuildStep extends PipelineStep {
     protected void publishResults() {
         // Publish build results
     }
+
+    @Override
+    protected void describeInputs(StepInputs inputs) {
+        // The build output only depends on the steps before this one
+        inputs.add("step", getName());
+    }
 }
@@ -19,4 +19,10 @@ public class PackageStep extends PipelineStep {
     protected void publishResults() {
         // Publish package step results
     }
+
+    @Override
+    protected void describeInputs(StepInputs inputs) {
+        // The installed packages only depend on the steps before this one
+        inputs.add("step", getName());
+    }
 }
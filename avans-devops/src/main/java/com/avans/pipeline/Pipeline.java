@@ -1,14 +1,17 @@
 package com.avans.pipeline;
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
 import com.avans.domain.project.ReleaseSprint;
 import com.avans.factory.PipelineStepFactory;
+import com.avans.metrics.IMetricsRegistry;
 import com.avans.strategy.pipeline.PipelineRunStrategy;
 
 public class Pipeline {
@@ -23,7 +26,12 @@ public class Pipeline {
     private boolean lastRunSuccessful;
     private LocalDateTime lastRunTime;
     private int executionDurationSeconds;
+    private long executionDurationNanos;
     private List<String> executionLogs;
+    private StepResultCache resultCache;
+    private PipelineCheckpointStore checkpointStore;
+    private int resumedStepCount;
+    private IMetricsRegistry metricsRegistry;
 
     public Pipeline(String name, PipelineRunStrategy runStrategy) {
         this.name = name;
@@ -54,26 +62,51 @@ public class Pipeline {
     }
 
     public void runAllSteps() {
+        run(false);
+    }
+
+    /**
+     * Runs the pipeline again after a failed run. With a checkpoint store set, steps that
+     * completed in the failed run are taken over instead of run again, as long as their inputs
+     * did not change; see {@link #setCheckpointStore(PipelineCheckpointStore)}.
+     */
+    public void retryAllSteps() {
+        run(true);
+    }
+
+    private void run(boolean retry) {
         if (isRunning) {
             throw new IllegalStateException("Pipeline is already running");
         }
+        PipelineCheckpoint checkpoint = openCheckpoint(retry);
         
         isRunning = true;
+        lastRunSuccessful = false;
         lastRunTime = LocalDateTime.now();
         executionLogs.clear(); // Clear logs BEFORE adding the first log message
         
         logMessage("Starting pipeline: " + name); // Now this message will be kept
         
+        prepareSteps(checkpoint);
+        resumedStepCount = 0;
         try {
-            LocalDateTime startTime = LocalDateTime.now();
+            long startTime = System.nanoTime();
             boolean successful = runStrategy.runSteps(steps);
-            LocalDateTime endTime = LocalDateTime.now();
+            executionDurationNanos = System.nanoTime() - startTime;
             
-            executionDurationSeconds = (int) java.time.Duration.between(startTime, endTime).getSeconds();
+            executionDurationSeconds = (int) TimeUnit.NANOSECONDS.toSeconds(executionDurationNanos);
             lastRunSuccessful = successful;
+            resumedStepCount = (int) steps.stream()
+                    .filter(PipelineStep::isResumed)
+                    .count();
+            if (resumedStepCount > 0) {
+                logMessage("Resumed " + resumedStepCount + " step(s) completed in the failed run");
+            }
+            reportMetrics();
             
             logMessage("Pipeline execution finished in " + executionDurationSeconds + " seconds");
         } finally {
+            closeCheckpoint(checkpoint);
             isRunning = false;
             logMessage("Pipeline completed with status: " + (lastRunSuccessful ? "SUCCESS" : "FAILURE"));
             
@@ -84,6 +117,120 @@ public class Pipeline {
         }
     }
     
+    // Reported once the run is over so the registry never adds to the time of a step
+    private void reportMetrics() {
+        if (metricsRegistry == null) {
+            return;
+        }
+        for (PipelineStep step : steps) {
+            if (!step.hasRunPhases()) {
+                continue;
+            }
+            for (StepPhase phase : StepPhase.values()) {
+                long nanos = step.getPhaseNanos(phase);
+                if (nanos >= 0) {
+                    metricsRegistry.recordStepPhase(step.getName(), phase, nanos);
+                }
+            }
+            metricsRegistry.recordStepResult(step.getName(), step.isSuccessful());
+        }
+        metricsRegistry.recordPipelineRun(name, executionDurationNanos, lastRunSuccessful);
+    }
+
+    // Steps without declared dependencies take every step listed before them as input, but only
+    // when the strategy runs those first; otherwise their inputs are the declared ones alone
+    private void prepareSteps(PipelineCheckpoint checkpoint) {
+        boolean listOrder = runStrategy.runsStepsInListOrder();
+        for (int i = 0; i < steps.size(); i++) {
+            PipelineStep step = steps.get(i);
+            List<PipelineStep> upstream = step.getDependencies().isEmpty() && listOrder
+                    ? steps.subList(0, i) : step.getDependencies();
+            step.prepareRun(resultCache, new ArrayList<>(upstream), checkpoint);
+        }
+    }
+
+    private PipelineCheckpoint openCheckpoint(boolean retry) {
+        if (checkpointStore == null) {
+            return null;
+        }
+        try {
+            return checkpointStore.open(name, steps, retry);
+        } catch (IOException e) {
+            // A run without progress records beats no run at all
+            LOGGER.log(Level.WARNING, "Could not open the checkpoint of pipeline " + name + ", running without one", e);
+            return null;
+        }
+    }
+
+    private void closeCheckpoint(PipelineCheckpoint checkpoint) {
+        if (checkpoint == null) {
+            return;
+        }
+        try {
+            checkpoint.finish(lastRunSuccessful);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Could not close the checkpoint of pipeline " + name, e);
+        }
+    }
+
+    /**
+     * Records the progress of every run on local disk, so {@link #retryAllSteps()} after a
+     * failure resumes after the steps that completed with unchanged inputs instead of starting
+     * over. Null always starts over.
+     */
+    public void setCheckpointStore(PipelineCheckpointStore checkpointStore) {
+        if (isRunning) {
+            throw new IllegalStateException("Cannot change the checkpoint store while pipeline is running");
+        }
+        this.checkpointStore = checkpointStore;
+    }
+
+    public PipelineCheckpointStore getCheckpointStore() {
+        return checkpointStore;
+    }
+
+    // Steps the last run took over from the failed run it retried instead of running them
+    public int getResumedStepCount() {
+        return resumedStepCount;
+    }
+
+    /**
+     * Lets steps with unchanged inputs reuse the results of an earlier run, for example when a
+     * release is retried after its deployment failed. Null runs every step.
+     */
+    public void setResultCache(StepResultCache resultCache) {
+        if (isRunning) {
+            throw new IllegalStateException("Cannot change the result cache while pipeline is running");
+        }
+        this.resultCache = resultCache;
+    }
+
+    public StepResultCache getResultCache() {
+        return resultCache;
+    }
+
+    public int getCachedStepCount() {
+        return (int) steps.stream()
+                .filter(PipelineStep::isServedFromCache)
+                .count();
+    }
+
+    /**
+     * Receives the phase timings of every step and the duration of every run, for example a
+     * {@link com.avans.metrics.MetricsRegistry} served by a {@link com.avans.metrics.MetricsEndpoint}. Null
+     * reports nothing.
+     */
+    public void setMetricsRegistry(IMetricsRegistry metricsRegistry) {
+        if (isRunning) {
+            throw new IllegalStateException("Cannot change the metrics registry while pipeline is running");
+        }
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    public IMetricsRegistry getMetricsRegistry() {
+        return metricsRegistry;
+    }
+
     public void setReleaseSprint(ReleaseSprint sprint) {
         this.releaseSprint = sprint;
     }
@@ -110,6 +257,10 @@ public class Pipeline {
     public int getExecutionDurationSeconds() {
         return executionDurationSeconds;
     }
+
+    public long getExecutionDurationNanos() {
+        return executionDurationNanos;
+    }
     
     public List<String> getExecutionLogs() {
         return Collections.unmodifiableList(executionLogs);
@@ -0,0 +1,193 @@
+package com.avans.pipeline;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Base64;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checkpoint file of one pipeline run. It starts with a line naming the steps of the pipeline,
+ * followed by one line per completed step with its index, input fingerprint and outputs, so a
+ * step that is taken over hands the same outputs to the steps after it. Every line is forced to
+ * disk before the step counts as completed, and a torn last line from a crash is ignored when
+ * the file is read again.
+ *
+ * Only a retry reads the steps completed by the run before it. A completed step is taken over
+ * when its inputs still have the recorded fingerprint; a step with unknown inputs is only taken
+ * over when every step before it was taken over as well.
+ */
+final class PipelineCheckpoint {
+    private static final String SEPARATOR = "\t";
+    private static final String NO_FINGERPRINT = "-";
+    private static final String OUTPUT_SEPARATOR = ",";
+    private static final String NAME_SEPARATOR = ":";
+
+    private final Path file;
+    private final Map<PipelineStep, Integer> indexes = new IdentityHashMap<>();
+    // Per step index: completed in an earlier run, and the fingerprint and outputs it completed with
+    private final boolean[] completedEarlier;
+    private final String[] earlierFingerprints;
+    private final StepOutputs[] earlierOutputs;
+    private final FileChannel channel;
+
+    private PipelineCheckpoint(Path file, List<PipelineStep> steps, boolean[] completedEarlier,
+                               String[] earlierFingerprints, StepOutputs[] earlierOutputs, FileChannel channel) {
+        this.file = file;
+        this.completedEarlier = completedEarlier;
+        this.earlierFingerprints = earlierFingerprints;
+        this.earlierOutputs = earlierOutputs;
+        this.channel = channel;
+        for (int i = 0; i < steps.size(); i++) {
+            indexes.put(steps.get(i), i);
+        }
+    }
+
+    static PipelineCheckpoint open(Path file, List<PipelineStep> steps, boolean retry) throws IOException {
+        String header = header(steps);
+        boolean[] completed = new boolean[steps.size()];
+        String[] fingerprints = new String[steps.size()];
+        StepOutputs[] outputs = new StepOutputs[steps.size()];
+        long validLength = 0;
+
+        if (retry && Files.exists(file)) {
+            String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            // The last element is the text after the final newline: empty, or a torn line
+            String[] lines = content.split("\n", -1);
+            if (lines.length > 1 && lines[0].equals(header)) {
+                validLength = content.substring(0, content.lastIndexOf('\n') + 1).getBytes(StandardCharsets.UTF_8).length;
+                try {
+                    for (int i = 1; i < lines.length - 1; i++) {
+                        String[] fields = lines[i].split(SEPARATOR, -1);
+                        int index = Integer.parseInt(fields[0]);
+                        completed[index] = true;
+                        fingerprints[index] = NO_FINGERPRINT.equals(fields[1]) ? null : fields[1];
+                        outputs[index] = decodeOutputs(fields[2]);
+                    }
+                } catch (RuntimeException e) {
+                    // Not written by this class; start the run over
+                    validLength = 0;
+                }
+            }
+        }
+
+        FileChannel channel;
+        if (validLength > 0) {
+            channel = FileChannel.open(file, StandardOpenOption.WRITE);
+            channel.truncate(validLength);
+            channel.position(validLength);
+        } else {
+            completed = new boolean[steps.size()];
+            fingerprints = new String[steps.size()];
+            outputs = new StepOutputs[steps.size()];
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            write(channel, header + "\n");
+            channel.force(true);
+        }
+        return new PipelineCheckpoint(file, steps, completed, fingerprints, outputs, channel);
+    }
+
+    /**
+     * Whether the step can be taken over from the failed run instead of running again.
+     *
+     * @param fingerprint fingerprint of the current inputs of the step, null when unknown
+     * @param upstreamResumed whether every step before this one was taken over
+     */
+    boolean canResume(PipelineStep step, String fingerprint, boolean upstreamResumed) {
+        Integer index = indexes.get(step);
+        if (index == null || !completedEarlier[index]) {
+            return false;
+        }
+        String earlierFingerprint = earlierFingerprints[index];
+        if (earlierFingerprint == null) {
+            return fingerprint == null && upstreamResumed;
+        }
+        return earlierFingerprint.equals(fingerprint);
+    }
+
+    // Hands a step that is taken over the outputs it completed with in the failed run
+    void restoreOutputs(PipelineStep step, StepOutputs outputs) {
+        outputs.clear();
+        Integer index = indexes.get(step);
+        if (index == null || earlierOutputs[index] == null) {
+            return;
+        }
+        earlierOutputs[index].asMap().forEach(outputs::put);
+    }
+
+    // Steps of a parallel run complete on several threads at once
+    synchronized void stepCompleted(PipelineStep step) {
+        Integer index = indexes.get(step);
+        if (index == null) {
+            return;
+        }
+        String fingerprint = step.getFingerprint() != null ? step.getFingerprint() : NO_FINGERPRINT;
+        try {
+            write(channel, index + SEPARATOR + fingerprint + SEPARATOR + encodeOutputs(step.outputs()) + "\n");
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not record completion of step " + step.getName(), e);
+        }
+    }
+
+    /**
+     * Closes the checkpoint; a successful run has nothing left to resume, so its file is removed.
+     */
+    synchronized void finish(boolean successful) throws IOException {
+        channel.close();
+        if (successful) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static String header(List<PipelineStep> steps) {
+        StringBuilder header = new StringBuilder("steps");
+        for (PipelineStep step : steps) {
+            header.append(SEPARATOR).append(step.getName().replace('\t', ' ').replace('\n', ' '));
+        }
+        return header.toString();
+    }
+
+    // Names and values are Base64, which never contains either separator
+    private static String encodeOutputs(StepOutputs outputs) {
+        Base64.Encoder encoder = Base64.getEncoder();
+        StringBuilder encoded = new StringBuilder();
+        for (Map.Entry<String, byte[]> output : outputs.asMap().entrySet()) {
+            if (encoded.length() > 0) {
+                encoded.append(OUTPUT_SEPARATOR);
+            }
+            encoded.append(encoder.encodeToString(output.getKey().getBytes(StandardCharsets.UTF_8)))
+                    .append(NAME_SEPARATOR)
+                    .append(encoder.encodeToString(output.getValue()));
+        }
+        return encoded.toString();
+    }
+
+    private static StepOutputs decodeOutputs(String encoded) {
+        Base64.Decoder decoder = Base64.getDecoder();
+        StepOutputs outputs = new StepOutputs();
+        if (encoded.isEmpty()) {
+            return outputs;
+        }
+        for (String output : encoded.split(OUTPUT_SEPARATOR)) {
+            String[] parts = output.split(NAME_SEPARATOR, -1);
+            outputs.put(new String(decoder.decode(parts[0]), StandardCharsets.UTF_8), decoder.decode(parts[1]));
+        }
+        return outputs;
+    }
+
+    private static void write(FileChannel channel, String text) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.avans.pipeline;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Keeps a checkpoint file per pipeline on local disk, recording which steps of the current run
+ * completed. A pipeline that fails keeps its checkpoint, so a retry of the run can resume after
+ * the steps that completed with unchanged inputs; a successful run removes the checkpoint.
+ */
+public class PipelineCheckpointStore {
+    private static final String SUFFIX = ".checkpoint";
+
+    private final Path directory;
+
+    public PipelineCheckpointStore(Path directory) throws IOException {
+        if (directory == null) {
+            throw new IllegalArgumentException("Checkpoint directory cannot be null");
+        }
+        this.directory = Files.createDirectories(directory);
+    }
+
+    /**
+     * Opens the checkpoint of a run of the pipeline. A retry reads the steps completed by the
+     * failed run before it, as long as the pipeline still has the same steps in the same order;
+     * any other run starts a new checkpoint.
+     */
+    PipelineCheckpoint open(String pipelineName, List<PipelineStep> steps, boolean retry) throws IOException {
+        return PipelineCheckpoint.open(fileFor(pipelineName), steps, retry);
+    }
+
+    public boolean hasCheckpoint(String pipelineName) {
+        return Files.exists(fileFor(pipelineName));
+    }
+
+    /**
+     * Forgets the progress of the pipeline, so its next run starts at the first step.
+     */
+    public void clear(String pipelineName) throws IOException {
+        Files.deleteIfExists(fileFor(pipelineName));
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    // Pipeline names can hold any character, so the file is named after their hash
+    private Path fileFor(String pipelineName) {
+        if (pipelineName == null) {
+            throw new IllegalArgumentException("Pipeline name cannot be null");
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(pipelineName.getBytes(StandardCharsets.UTF_8));
+            return directory.resolve(HexFormat.of().formatHex(hash, 0, 16) + SUFFIX);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
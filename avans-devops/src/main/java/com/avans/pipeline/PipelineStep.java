@@ -1,34 +1,212 @@
 package com.avans.pipeline;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 public abstract class PipelineStep {
     private String name;
-    private boolean successful;
+    private volatile boolean successful;
+    private List<PipelineStep> dependencies;
+    private final StepOutputs outputs = new StepOutputs();
+    // Set by the pipeline before each run
+    private StepResultCache resultCache;
+    private List<PipelineStep> upstream = Collections.emptyList();
+    private PipelineCheckpoint checkpoint;
+    // Fingerprint of the inputs of the last run, or null when that run could not be cached
+    private volatile String fingerprint;
+    private volatile boolean servedFromCache;
+    private volatile boolean resumed;
+    // Nanoseconds each phase took in the last run, -1 for phases that did not run
+    private final long[] phaseNanos = new long[StepPhase.values().length];
     
     public PipelineStep(String name) {
         this.name = name;
         this.successful = false;
+        this.dependencies = new ArrayList<>();
+        Arrays.fill(phaseNanos, -1);
     }
     
     // Template Method
     public final boolean runStep() {
+        Arrays.fill(phaseNanos, -1);
+        servedFromCache = false;
+        resumed = false;
+        long phaseStart = System.nanoTime();
         try {
+            fingerprint = computeFingerprint();
+            if (checkpoint != null && checkpoint.canResume(this, fingerprint, upstreamResumed())) {
+                return resume();
+            }
             System.out.println("Running step: " + name);
+            phaseStart = System.nanoTime();
             initialize();
-            execute();
+            phaseStart = endPhase(StepPhase.INITIALIZE, phaseStart);
+            if (fingerprint != null && resultCache != null && resultCache.restore(fingerprint, outputs)) {
+                servedFromCache = true;
+                System.out.println("Inputs of step " + name + " are unchanged, reusing cached results");
+            } else {
+                outputs.clear();
+                execute();
+                endPhase(StepPhase.EXECUTE, phaseStart);
+                if (fingerprint != null && resultCache != null) {
+                    resultCache.store(fingerprint, outputs);
+                }
+            }
+            phaseStart = System.nanoTime();
             publishResults();
+            endPhase(StepPhase.PUBLISH_RESULTS, phaseStart);
+            if (checkpoint != null) {
+                checkpoint.stepCompleted(this);
+            }
             successful = true;
             return true;
         } catch (Exception e) {
             System.err.println("Error in step " + name + ": " + e.getMessage());
+            failPhase(phaseStart);
+            fingerprint = null;
             successful = false;
             return false;
         }
     }
     
+    // Records the phase that just ended and returns the start of the next one
+    private long endPhase(StepPhase phase, long phaseStart) {
+        long now = System.nanoTime();
+        phaseNanos[phase.ordinal()] = now - phaseStart;
+        return now;
+    }
+
+    // Charges the time until a failure to the phase that failed, the first one not recorded yet
+    private void failPhase(long phaseStart) {
+        for (StepPhase phase : StepPhase.values()) {
+            if (phaseNanos[phase.ordinal()] < 0 && !(phase == StepPhase.EXECUTE && servedFromCache)) {
+                endPhase(phase, phaseStart);
+                return;
+            }
+        }
+    }
+
     protected abstract void initialize();
     protected abstract void execute();
     protected abstract void publishResults();
+
+    /**
+     * Declares the inputs that determine what {@link #execute()} produces. A step that declares
+     * inputs is cacheable: when the inputs and the fingerprints of the steps it depends on are the
+     * same as in an earlier run, its outputs are restored instead of executed. Without declared
+     * dependencies those are all steps before it, or none under a strategy that runs steps side
+     * by side. Steps with side effects, such as a deployment, declare nothing and always run.
+     * The inputs are described before {@link #initialize()} runs.
+     */
+    protected void describeInputs(StepInputs inputs) {
+        // Not cacheable by default
+    }
+
+    // Results of the last run; execute() writes them, a cache hit restores them
+    protected final StepOutputs outputs() {
+        return outputs;
+    }
+
+    void prepareRun(StepResultCache cache, List<PipelineStep> upstreamSteps, PipelineCheckpoint runCheckpoint) {
+        this.resultCache = cache;
+        this.upstream = upstreamSteps;
+        this.checkpoint = runCheckpoint;
+        // A step skipped after a failed dependency must not look successful from an earlier run
+        this.successful = false;
+        this.fingerprint = null;
+        this.servedFromCache = false;
+        this.resumed = false;
+        Arrays.fill(phaseNanos, -1);
+    }
+
+    // Takes over the completion of this step from the failed run that is being retried
+    private boolean resume() {
+        System.out.println("Step " + name + " completed in the failed run, resuming after it");
+        checkpoint.restoreOutputs(this, outputs);
+        resumed = true;
+        successful = true;
+        return true;
+    }
+
+    private boolean upstreamResumed() {
+        for (PipelineStep step : upstream) {
+            if (!step.resumed) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String computeFingerprint() {
+        if (resultCache == null && checkpoint == null) {
+            return null;
+        }
+        StepInputs inputs = new StepInputs();
+        describeInputs(inputs);
+        if (inputs.isEmpty()) {
+            return null;
+        }
+        List<String> upstreamFingerprints = new ArrayList<>(upstream.size());
+        for (PipelineStep step : upstream) {
+            // A step after one that always runs can never know its inputs are unchanged
+            if (step.fingerprint == null) {
+                return null;
+            }
+            upstreamFingerprints.add(step.fingerprint);
+        }
+        return inputs.fingerprint(getClass().getName(), name, upstreamFingerprints);
+    }
+    
+    /**
+     * Declares that this step may only run after the given steps completed successfully.
+     * Strategies that run steps sequentially simply follow the list order and ignore this.
+     * @param steps steps this step depends on
+     * @return this step, to allow chaining
+     */
+    public PipelineStep dependsOn(PipelineStep... steps) {
+        for (PipelineStep step : steps) {
+            if (step == null || step == this) {
+                throw new IllegalArgumentException("A step cannot depend on null or on itself");
+            }
+            if (!dependencies.contains(step)) {
+                dependencies.add(step);
+            }
+        }
+        return this;
+    }
     
+    public List<PipelineStep> getDependencies() {
+        return Collections.unmodifiableList(dependencies);
+    }
+    
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Nanoseconds the given phase took in the last run, or -1 when it did not run: phases after
+     * a failure, the execute phase of a cache hit and every phase of a resumed step.
+     */
+    public long getPhaseNanos(StepPhase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    // Whether the last run of the pipeline actually ran this step, successfully or not
+    public boolean hasRunPhases() {
+        return phaseNanos[StepPhase.INITIALIZE.ordinal()] >= 0;
+    }
+
+    // Whether the last run took this step over from the failed run it retried
+    public boolean isResumed() {
+        return resumed;
+    }
+
+    public boolean isServedFromCache() {
+        return servedFromCache;
+    }
+
     public boolean isSuccessful() {
         return successful;
     }
@@ -36,4 +214,4 @@ public abstract class PipelineStep {
     public String getName() {
         return name;
     }
-}
\ No newline at end of file
+}
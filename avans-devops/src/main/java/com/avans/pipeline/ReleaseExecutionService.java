@@ -0,0 +1,272 @@
+package com.avans.pipeline;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * Runs release pipelines on a bounded pool of named worker threads instead of a new thread per
+ * release. At most maxConcurrentReleases run at once, at most maxReleasesPerProject of them for
+ * the same project, and at most maxQueuedReleases wait for a turn; submitting beyond that fails
+ * instead of piling up work. Releases of one project start in the order they were submitted.
+ *
+ * Projects are compared by identity, so any object can group releases.
+ */
+public class ReleaseExecutionService implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(ReleaseExecutionService.class.getName());
+    private static final long DEFAULT_SHUTDOWN_TIMEOUT_SECONDS = 30;
+    private static final long IDLE_WORKER_SECONDS = 60;
+
+    private final int maxReleasesPerProject;
+    private final int maxQueuedReleases;
+    private final ThreadPoolExecutor executor;
+    // Releases per project that are handed to the pool, and the ones waiting behind them
+    private final Map<Object, ProjectReleases> projects = new HashMap<>();
+    private int queuedCount;
+    private int runningCount;
+    private boolean shutdown;
+
+    public ReleaseExecutionService(int maxConcurrentReleases, int maxQueuedReleases, int maxReleasesPerProject) {
+        this(maxConcurrentReleases, maxQueuedReleases, maxReleasesPerProject, new ReleaseThreadFactory());
+    }
+
+    /**
+     * Service whose workers come from the given factory, for example
+     * {@link VirtualThreads#factory(String)} to run I/O-bound releases on virtual threads.
+     */
+    public ReleaseExecutionService(int maxConcurrentReleases, int maxQueuedReleases, int maxReleasesPerProject,
+                                   ThreadFactory threadFactory) {
+        if (threadFactory == null) {
+            throw new IllegalArgumentException("Thread factory cannot be null");
+        }
+        if (maxConcurrentReleases < 1 || maxReleasesPerProject < 1) {
+            throw new IllegalArgumentException("Release service must allow at least one release at a time");
+        }
+        if (maxQueuedReleases < 0) {
+            throw new IllegalArgumentException("Queue limit cannot be negative");
+        }
+        this.maxReleasesPerProject = maxReleasesPerProject;
+        this.maxQueuedReleases = maxQueuedReleases;
+        // Admission is limited by submit, so the pool queue itself never grows past the limit
+        this.executor = new ThreadPoolExecutor(maxConcurrentReleases, maxConcurrentReleases,
+                IDLE_WORKER_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Service shared by all release sprints that were not given their own: two releases per
+     * available processor, one release per project at a time and up to 1,000 waiting releases.
+     */
+    public static ReleaseExecutionService shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    /**
+     * Queues a release of the project. It starts once a worker is free and fewer than
+     * maxReleasesPerProject releases of the same project are running.
+     *
+     * @throws IllegalStateException when the queue is full or the service has been shut down
+     */
+    public ReleaseHandle submit(Object project, String name, Runnable release) {
+        return submit(project, name, release, null);
+    }
+
+    /**
+     * Queues a release like {@link #submit(Object, String, Runnable)}, with a callback that runs
+     * instead of the release when it is cancelled, or dropped by {@link #shutdownNow()}, before
+     * it began. The callback runs on the thread that cancelled the release.
+     */
+    public ReleaseHandle submit(Object project, String name, Runnable release, Runnable ifNotRun) {
+        if (project == null || release == null) {
+            throw new IllegalArgumentException("Project and release cannot be null");
+        }
+        ReleaseHandle handle = new ReleaseHandle(this, project, name, release, ifNotRun);
+        synchronized (this) {
+            if (shutdown) {
+                throw new IllegalStateException("Release service has been shut down");
+            }
+            if (queuedCount >= maxQueuedReleases) {
+                throw new IllegalStateException("Release queue is full (" + maxQueuedReleases + " releases waiting)");
+            }
+            queuedCount++;
+            ProjectReleases releases = projects.computeIfAbsent(project, key -> new ProjectReleases());
+            if (releases.dispatched >= maxReleasesPerProject) {
+                releases.waiting.add(handle);
+                return handle;
+            }
+            releases.dispatched++;
+        }
+        dispatch(handle);
+        return handle;
+    }
+
+    synchronized void releaseStarted(ReleaseHandle handle) {
+        queuedCount--;
+        runningCount++;
+    }
+
+    void releaseFinished(ReleaseHandle handle) {
+        ReleaseHandle next;
+        synchronized (this) {
+            runningCount--;
+            ProjectReleases releases = projects.get(handle.getProject());
+            next = releases.waiting.poll();
+            if (next == null) {
+                releases.dispatched--;
+                if (releases.dispatched == 0) {
+                    projects.remove(handle.getProject());
+                }
+            }
+            notifyAll();
+        }
+        // The finished release hands its slot straight to the next release of the project
+        if (next != null) {
+            dispatch(next);
+        }
+    }
+
+    private void dispatch(ReleaseHandle handle) {
+        try {
+            executor.execute(handle);
+        } catch (RejectedExecutionException e) {
+            // Only happens after shutdownNow stopped the pool
+            handle.cancel(false);
+            releaseDropped(handle);
+        }
+    }
+
+    // A release that was handed to the pool but will never run
+    private synchronized void releaseDropped(ReleaseHandle handle) {
+        queuedCount--;
+        ProjectReleases releases = projects.get(handle.getProject());
+        releases.dispatched--;
+        if (releases.dispatched == 0 && releases.waiting.isEmpty()) {
+            projects.remove(handle.getProject());
+        }
+        notifyAll();
+    }
+
+    // A release cancelled before it started; one already handed to the pool still passes run()
+    synchronized void releaseWithdrawn(ReleaseHandle handle) {
+        ProjectReleases releases = projects.get(handle.getProject());
+        if (releases != null && releases.waiting.remove(handle)) {
+            queuedCount--;
+            if (releases.dispatched == 0 && releases.waiting.isEmpty()) {
+                projects.remove(handle.getProject());
+            }
+            notifyAll();
+        }
+    }
+
+    /**
+     * Stops accepting releases; releases that were already submitted still run.
+     */
+    public synchronized void shutdown() {
+        shutdown = true;
+        notifyAll();
+    }
+
+    /**
+     * Waits until every submitted release has finished, then stops the worker threads.
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (this) {
+            while (!shutdown || !projects.isEmpty()) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    return false;
+                }
+                wait(remainingMillis);
+            }
+        }
+        executor.shutdown();
+        return executor.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Shuts down, cancels the releases that have not started and interrupts running ones.
+     *
+     * @return the releases that were cancelled before they started
+     */
+    public List<ReleaseHandle> shutdownNow() {
+        List<ReleaseHandle> cancelled = new ArrayList<>();
+        synchronized (this) {
+            shutdown = true;
+            for (ProjectReleases releases : projects.values()) {
+                cancelled.addAll(releases.waiting);
+            }
+        }
+        // Cancelling a waiting release takes it out of its project queue
+        for (ReleaseHandle handle : cancelled) {
+            handle.cancel(false);
+        }
+        for (Runnable queued : executor.shutdownNow()) {
+            ReleaseHandle handle = (ReleaseHandle) queued;
+            handle.cancel(false);
+            releaseDropped(handle);
+            cancelled.add(handle);
+        }
+        return cancelled;
+    }
+
+    @Override
+    public void close() {
+        shutdown();
+        try {
+            if (!awaitTermination(DEFAULT_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                LOGGER.warning("Releases did not finish in time and were cancelled");
+                shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            shutdownNow();
+        }
+    }
+
+    public synchronized boolean isShutdown() {
+        return shutdown;
+    }
+
+    // Releases submitted but not started yet
+    public synchronized int getQueuedCount() {
+        return queuedCount;
+    }
+
+    public synchronized int getRunningCount() {
+        return runningCount;
+    }
+
+    private static class ProjectReleases {
+        private final ArrayDeque<ReleaseHandle> waiting = new ArrayDeque<>();
+        private int dispatched;
+    }
+
+    private static class ReleaseThreadFactory implements ThreadFactory {
+        private static final AtomicInteger SERVICE_COUNT = new AtomicInteger();
+
+        private final int service = SERVICE_COUNT.incrementAndGet();
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "release-" + service + "-worker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    private static class SharedHolder {
+        private static final ReleaseExecutionService INSTANCE = new ReleaseExecutionService(
+                2 * Runtime.getRuntime().availableProcessors(), 1000, 1);
+    }
+}
@@ -0,0 +1,75 @@
+package com.avans.pipeline;
+
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A release submitted to a {@link ReleaseExecutionService}. Cancelling a release that has not
+ * started yet removes it from the queue; cancelling a running release interrupts its thread.
+ * A release that is cancelled or dropped before its work began runs its not-run callback
+ * instead, so exactly one of the two always runs.
+ */
+public final class ReleaseHandle extends FutureTask<Void> {
+    private final ReleaseExecutionService service;
+    private final Object project;
+    private final String name;
+    private final Runnable ifNotRun;
+    // Claimed by whichever comes first: the release itself or its not-run callback
+    private final AtomicBoolean claimed;
+    private volatile boolean started;
+
+    ReleaseHandle(ReleaseExecutionService service, Object project, String name, Runnable release,
+                  Runnable ifNotRun) {
+        this(service, project, name, release, ifNotRun, new AtomicBoolean());
+    }
+
+    private ReleaseHandle(ReleaseExecutionService service, Object project, String name, Runnable release,
+                          Runnable ifNotRun, AtomicBoolean claimed) {
+        super(() -> {
+            if (claimed.compareAndSet(false, true)) {
+                release.run();
+            }
+        }, null);
+        this.service = service;
+        this.project = project;
+        this.name = name;
+        this.ifNotRun = ifNotRun;
+        this.claimed = claimed;
+    }
+
+    @Override
+    public void run() {
+        started = true;
+        service.releaseStarted(this);
+        try {
+            super.run();
+        } finally {
+            service.releaseFinished(this);
+        }
+    }
+
+    @Override
+    protected void done() {
+        if (!isCancelled()) {
+            return;
+        }
+        if (!started) {
+            service.releaseWithdrawn(this);
+        }
+        if (ifNotRun != null && claimed.compareAndSet(false, true)) {
+            ifNotRun.run();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isStarted() {
+        return started;
+    }
+
+    Object getProject() {
+        return project;
+    }
+}
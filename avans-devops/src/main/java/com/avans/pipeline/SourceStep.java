@@ -1,9 +1,20 @@
 package com.avans.pipeline;
 
 public class SourceStep extends PipelineStep {
+    private String revision;
+
     public SourceStep() {
         super("Source");
     }
+
+    // Commit to fetch; without one the latest sources are fetched on every run
+    public String getRevision() {
+        return revision;
+    }
+
+    public void setRevision(String revision) {
+        this.revision = revision;
+    }
     
     @Override
     protected void initialize() {
@@ -19,4 +30,11 @@ public class SourceStep extends PipelineStep {
     protected void publishResults() {
         // Publish source step results
     }
-}
\ No newline at end of file
+
+    @Override
+    protected void describeInputs(StepInputs inputs) {
+        if (revision != null) {
+            inputs.add("revision", revision);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.avans.pipeline;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Named inputs a pipeline step declares for one run. Only their SHA-256 digests are kept, and
+ * the fingerprint combines them in name order, so equal inputs always give the same fingerprint
+ * no matter the order they were declared in.
+ */
+public final class StepInputs {
+    private static final int FILE_BUFFER_SIZE = 8192;
+
+    private final Map<String, byte[]> digests = new TreeMap<>();
+
+    public StepInputs add(String name, String value) {
+        return add(name, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public StepInputs add(String name, byte[] content) {
+        MessageDigest digest = newDigest();
+        digest.update(content);
+        return put(name, digest.digest());
+    }
+
+    /**
+     * Declares a file as input; its content is hashed now, so later changes give a new
+     * fingerprint.
+     */
+    public StepInputs addFile(String name, Path file) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[FILE_BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return put(name, digest.digest());
+    }
+
+    public boolean isEmpty() {
+        return digests.isEmpty();
+    }
+
+    String fingerprint(String stepType, String stepName, Iterable<String> upstreamFingerprints) {
+        MessageDigest digest = newDigest();
+        update(digest, stepType);
+        update(digest, stepName);
+        for (Map.Entry<String, byte[]> input : digests.entrySet()) {
+            update(digest, input.getKey());
+            digest.update(input.getValue());
+        }
+        for (String upstream : upstreamFingerprints) {
+            update(digest, upstream);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private StepInputs put(String name, byte[] digest) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Input name cannot be empty");
+        }
+        if (digests.putIfAbsent(name, digest) != null) {
+            throw new IllegalArgumentException("Input '" + name + "' was already declared");
+        }
+        return this;
+    }
+
+    // Length-prefixed, so ("ab", "c") and ("a", "bc") never hash the same
+    private static void update(MessageDigest digest, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update((byte) (bytes.length >>> 24));
+        digest.update((byte) (bytes.length >>> 16));
+        digest.update((byte) (bytes.length >>> 8));
+        digest.update((byte) bytes.length);
+        digest.update(bytes);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
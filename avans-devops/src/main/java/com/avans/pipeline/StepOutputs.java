@@ -0,0 +1,42 @@
+package com.avans.pipeline;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Named results a pipeline step produces, such as a build artifact or a test report. When the
+ * step is served from a {@link StepResultCache}, these are restored instead of produced.
+ */
+public final class StepOutputs {
+    private final Map<String, byte[]> values = new LinkedHashMap<>();
+
+    public void put(String name, byte[] value) {
+        if (name == null || name.isBlank() || value == null) {
+            throw new IllegalArgumentException("Output needs a name and a value");
+        }
+        values.put(name, value.clone());
+    }
+
+    public byte[] get(String name) {
+        byte[] value = values.get(name);
+        return value != null ? value.clone() : null;
+    }
+
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(values.keySet());
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    public void clear() {
+        values.clear();
+    }
+
+    Map<String, byte[]> asMap() {
+        return values;
+    }
+}
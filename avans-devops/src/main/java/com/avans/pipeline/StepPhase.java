@@ -0,0 +1,21 @@
+package com.avans.pipeline;
+
+/**
+ * Phases of the {@link PipelineStep#runStep()} template method that are timed separately.
+ */
+public enum StepPhase {
+    INITIALIZE("initialize"),
+    EXECUTE("execute"),
+    PUBLISH_RESULTS("publish_results");
+
+    private final String label;
+
+    StepPhase(String label) {
+        this.label = label;
+    }
+
+    // Name used in metrics
+    public String getLabel() {
+        return label;
+    }
+}
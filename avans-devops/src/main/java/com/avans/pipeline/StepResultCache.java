@@ -0,0 +1,151 @@
+package com.avans.pipeline;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Local, content-addressed store of pipeline step results. Results are filed under the
+ * fingerprint of the step's inputs, so a step whose inputs did not change since an earlier run
+ * gets its outputs back without executing again. Each result is written to a temporary file
+ * and moved into place, so a crash never leaves a half-written result behind.
+ */
+public class StepResultCache {
+    private static final Logger LOGGER = Logger.getLogger(StepResultCache.class.getName());
+    private static final int FORMAT_VERSION = 1;
+    private static final String SUFFIX = ".result";
+
+    private final Path directory;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public StepResultCache(Path directory) throws IOException {
+        if (directory == null) {
+            throw new IllegalArgumentException("Cache directory cannot be null");
+        }
+        this.directory = Files.createDirectories(directory);
+    }
+
+    /**
+     * Fills the outputs with the result stored under the fingerprint.
+     *
+     * @return false when there is no usable result for the fingerprint
+     */
+    public boolean restore(String fingerprint, StepOutputs outputs) {
+        Path file = fileFor(fingerprint);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != FORMAT_VERSION) {
+                misses.incrementAndGet();
+                return false;
+            }
+            outputs.clear();
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String name = in.readUTF();
+                byte[] value = new byte[in.readInt()];
+                in.readFully(value);
+                outputs.put(name, value);
+            }
+            hits.incrementAndGet();
+            return true;
+        } catch (NoSuchFileException e) {
+            misses.incrementAndGet();
+            return false;
+        } catch (IOException e) {
+            // An unreadable result only costs a rerun of the step
+            LOGGER.log(Level.WARNING, "Ignoring unreadable step result " + file, e);
+            outputs.clear();
+            misses.incrementAndGet();
+            return false;
+        }
+    }
+
+    /**
+     * Files the outputs under the fingerprint.
+     *
+     * @return false when the result could not be written; the step it belongs to still succeeded
+     */
+    public boolean store(String fingerprint, StepOutputs outputs) {
+        Path file = fileFor(fingerprint);
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(directory, fingerprint, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(outputs.size());
+                for (Map.Entry<String, byte[]> output : outputs.asMap().entrySet()) {
+                    out.writeUTF(output.getKey());
+                    out.writeInt(output.getValue().length);
+                    out.write(output.getValue());
+                }
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return true;
+        } catch (IOException e) {
+            // A result that could not be stored only costs a rerun of the step next time
+            LOGGER.log(Level.WARNING, "Could not store step result " + file, e);
+            deleteQuietly(temp);
+            return false;
+        }
+    }
+
+    private static void deleteQuietly(Path temp) {
+        if (temp == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Could not delete temporary step result " + temp, e);
+        }
+    }
+
+    public boolean contains(String fingerprint) {
+        return Files.exists(fileFor(fingerprint));
+    }
+
+    public void clear() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (file.getFileName().toString().endsWith(SUFFIX)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    private Path fileFor(String fingerprint) {
+        if (fingerprint == null || !fingerprint.matches("[0-9a-f]{64}")) {
+            throw new IllegalArgumentException("Fingerprint must be a SHA-256 hex digest");
+        }
+        return directory.resolve(fingerprint + SUFFIX);
+    }
+}
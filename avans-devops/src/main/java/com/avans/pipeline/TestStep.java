@@ -19,4 +19,10 @@ public class TestStep extends PipelineStep {
     protected void publishResults() {
         // Publish test results
     }
-}
\ No newline at end of file
+
+    @Override
+    protected void describeInputs(StepInputs inputs) {
+        // The test results only depend on the steps before this one
+        inputs.add("step", getName());
+    }
+}
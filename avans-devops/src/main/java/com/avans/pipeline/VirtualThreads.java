@@ -0,0 +1,102 @@
+package com.avans.pipeline;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * Creates virtual threads when the runtime supports them (Java 21 and later) and daemon platform
+ * threads otherwise. The module is compiled for Java 17, so the virtual thread API is looked up
+ * once through reflection instead of being linked directly.
+ */
+public final class VirtualThreads {
+    private static final Logger LOGGER = Logger.getLogger(VirtualThreads.class.getName());
+    // Thread.ofVirtual(), its name(String, long) and factory(), or null before Java 21
+    private static final Method OF_VIRTUAL;
+    private static final Method NAME;
+    private static final Method FACTORY;
+    private static final Method IS_VIRTUAL;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        Method ofVirtual = null;
+        Method name = null;
+        Method factory = null;
+        Method isVirtual = null;
+        Method newThreadPerTaskExecutor = null;
+        try {
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            Class<?> builder = ofVirtual.getReturnType();
+            name = builder.getMethod("name", String.class, long.class);
+            factory = builder.getMethod("factory");
+            isVirtual = Thread.class.getMethod("isVirtual");
+            newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        } catch (NoSuchMethodException e) {
+            LOGGER.fine("Virtual threads are not available, using platform threads");
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        NAME = name;
+        FACTORY = factory;
+        IS_VIRTUAL = isVirtual;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    private VirtualThreads() {
+    }
+
+    public static boolean isAvailable() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Factory of threads named prefix-1, prefix-2 and so on: virtual threads when available,
+     * daemon platform threads otherwise.
+     */
+    public static ThreadFactory factory(String prefix) {
+        if (isAvailable()) {
+            try {
+                Object builder = NAME.invoke(OF_VIRTUAL.invoke(null), prefix + "-", 1L);
+                return (ThreadFactory) FACTORY.invoke(builder);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Could not create a virtual thread factory", e);
+            }
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Executor that starts a new thread for every task: a virtual thread when available, or a
+     * cached pool of platform threads otherwise.
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String prefix) {
+        ThreadFactory factory = factory(prefix);
+        if (isAvailable()) {
+            try {
+                return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, factory);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Could not create a virtual thread executor", e);
+            }
+        }
+        return Executors.newCachedThreadPool(factory);
+    }
+
+    public static boolean isVirtual(Thread thread) {
+        if (!isAvailable()) {
+            return false;
+        }
+        try {
+            return (Boolean) IS_VIRTUAL.invoke(thread);
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.avans.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.avans.domain.backlog.BacklogItem;
+import com.avans.domain.backlog.IBacklogItemListener;
+import com.avans.domain.backlog.state.IBacklogState;
+import com.avans.domain.member.TeamMember;
+import com.avans.domain.project.IProjectListener;
+import com.avans.domain.project.ISprintListener;
+import com.avans.domain.project.Project;
+import com.avans.domain.project.Sprint;
+
+/**
+ * In-memory lookup layer over a {@link Project}. Sprints, team members and backlog items are
+ * indexed by their id, and backlog items also by sprint, assigned developer and state. The
+ * indexes are built once and then kept up to date from project, sprint and backlog item
+ * events, so every lookup is a hash lookup instead of a scan over all sprints.
+ *
+ * Like the domain model itself, a repository is not thread-safe.
+ */
+public class ProjectRepository {
+    private final Project project;
+    private final Map<String, Sprint> sprintsById = new HashMap<>();
+    private final Map<String, TeamMember> membersById = new HashMap<>();
+    private final Map<String, BacklogItem> itemsById = new HashMap<>();
+    // An item can be planned in more than one sprint; the last sprint it was added to comes last
+    private final Map<String, List<Sprint>> sprintsByItemId = new HashMap<>();
+    private final Map<String, Set<BacklogItem>> itemsByDeveloperId = new HashMap<>();
+    private final Map<String, Set<BacklogItem>> itemsByState = new HashMap<>();
+
+    private final IProjectListener projectListener = new ProjectIndexer();
+    private final ISprintListener sprintListener = new SprintIndexer();
+    private final IBacklogItemListener itemListener = new BacklogItemIndexer();
+
+    public ProjectRepository(Project project) {
+        if (project == null) {
+            throw new IllegalArgumentException("Project cannot be null");
+        }
+        this.project = project;
+
+        for (TeamMember member : project.getTeamMembers()) {
+            indexMember(member);
+        }
+        for (Sprint sprint : project.getSprints()) {
+            indexSprint(sprint);
+        }
+        project.addListener(projectListener);
+    }
+
+    public Sprint findSprint(String sprintId) {
+        return sprintsById.get(sprintId);
+    }
+
+    public TeamMember findTeamMember(String memberId) {
+        return membersById.get(memberId);
+    }
+
+    public BacklogItem findBacklogItem(String itemId) {
+        return itemsById.get(itemId);
+    }
+
+    // Returns the sprint the item was most recently planned in, or null when it is not in any sprint
+    public Sprint findSprintOfBacklogItem(String itemId) {
+        List<Sprint> sprints = sprintsByItemId.get(itemId);
+        return sprints == null ? null : sprints.get(sprints.size() - 1);
+    }
+
+    public List<BacklogItem> findBacklogItemsBySprint(String sprintId) {
+        Sprint sprint = sprintsById.get(sprintId);
+        return sprint == null ? Collections.emptyList() : sprint.getBacklogItems();
+    }
+
+    public Set<BacklogItem> findBacklogItemsByDeveloper(String developerId) {
+        return readOnly(itemsByDeveloperId.get(developerId));
+    }
+
+    public Set<BacklogItem> findBacklogItemsByState(String stateName) {
+        return readOnly(itemsByState.get(stateName));
+    }
+
+    public int getSprintCount() {
+        return sprintsById.size();
+    }
+
+    public int getBacklogItemCount() {
+        return itemsById.size();
+    }
+
+    public Project getProject() {
+        return project;
+    }
+
+    /**
+     * Stops following changes of the project. The indexes keep their current content.
+     */
+    public void detach() {
+        project.removeListener(projectListener);
+        for (Sprint sprint : sprintsById.values()) {
+            sprint.removeSprintListener(sprintListener);
+            for (BacklogItem item : sprint.getBacklogItems()) {
+                item.removeListener(itemListener);
+            }
+        }
+    }
+
+    private void indexMember(TeamMember member) {
+        TeamMember existing = membersById.putIfAbsent(member.getId(), member);
+        if (existing != null && existing != member) {
+            throw new IllegalStateException("Another team member already uses id " + member.getId());
+        }
+    }
+
+    private void indexSprint(Sprint sprint) {
+        Sprint existing = sprintsById.putIfAbsent(sprint.getId(), sprint);
+        if (existing != null) {
+            if (existing != sprint) {
+                throw new IllegalStateException("Another sprint already uses id " + sprint.getId());
+            }
+            return; // Already indexed
+        }
+        for (BacklogItem item : sprint.getBacklogItems()) {
+            indexItem(sprint, item);
+        }
+        sprint.addSprintListener(sprintListener);
+    }
+
+    private void indexItem(Sprint sprint, BacklogItem item) {
+        BacklogItem existing = itemsById.putIfAbsent(item.getId(), item);
+        if (existing != null && existing != item) {
+            throw new IllegalStateException("Another backlog item already uses id " + item.getId());
+        }
+        sprintsByItemId.computeIfAbsent(item.getId(), id -> new ArrayList<>(1)).add(sprint);
+        item.addListener(itemListener);
+
+        if (existing == null) {
+            addTo(itemsByState, item.getState().getName(), item);
+            if (item.getAssignedDeveloper() != null) {
+                addTo(itemsByDeveloperId, item.getAssignedDeveloper().getId(), item);
+            }
+        }
+    }
+
+    private void unindexItem(Sprint sprint, BacklogItem item) {
+        List<Sprint> sprints = sprintsByItemId.get(item.getId());
+        if (sprints == null || !sprints.remove(sprint)) {
+            return;
+        }
+        item.removeListener(itemListener);
+
+        if (sprints.isEmpty()) {
+            // The item is no longer planned anywhere in the project
+            sprintsByItemId.remove(item.getId());
+            itemsById.remove(item.getId());
+            removeFrom(itemsByState, item.getState().getName(), item);
+            if (item.getAssignedDeveloper() != null) {
+                removeFrom(itemsByDeveloperId, item.getAssignedDeveloper().getId(), item);
+            }
+        }
+    }
+
+    private static void addTo(Map<String, Set<BacklogItem>> index, String key, BacklogItem item) {
+        index.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(item);
+    }
+
+    private static void removeFrom(Map<String, Set<BacklogItem>> index, String key, BacklogItem item) {
+        Set<BacklogItem> items = index.get(key);
+        if (items != null && items.remove(item) && items.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static Set<BacklogItem> readOnly(Set<BacklogItem> items) {
+        return items == null ? Collections.emptySet() : Collections.unmodifiableSet(items);
+    }
+
+    private class ProjectIndexer implements IProjectListener {
+        @Override
+        public void onSprintAdded(Project project, Sprint sprint) {
+            indexSprint(sprint);
+        }
+
+        @Override
+        public void onTeamMemberAdded(Project project, TeamMember member) {
+            indexMember(member);
+        }
+    }
+
+    private class SprintIndexer implements ISprintListener {
+        @Override
+        public void onBacklogItemAdded(Sprint sprint, BacklogItem item) {
+            indexItem(sprint, item);
+        }
+
+        @Override
+        public void onBacklogItemRemoved(Sprint sprint, BacklogItem item) {
+            unindexItem(sprint, item);
+        }
+    }
+
+    private class BacklogItemIndexer implements IBacklogItemListener {
+        @Override
+        public void onStateChanged(BacklogItem item, IBacklogState oldState, IBacklogState newState) {
+            // Sets make repeated events harmless when the item is planned in several sprints
+            removeFrom(itemsByState, oldState.getName(), item);
+            addTo(itemsByState, newState.getName(), item);
+        }
+
+        @Override
+        public void onDeveloperAssigned(BacklogItem item, TeamMember developer) {
+            addTo(itemsByDeveloperId, developer.getId(), item);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.avans.storage;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Immutable content held by a {@link BlobStore}. Reads go straight to the off-heap buffer;
+ * nothing is copied onto the heap unless the caller asks for an array.
+ *
+ * Every holder owns a reference: {@link #retain()} adds one and {@link #release()} gives it
+ * back. Reading a blob whose references have all been released fails.
+ */
+public final class Blob {
+    private final BlobStore store;
+    private final String hash;
+    private final ByteBuffer data;
+    int references = 1; // guarded by store
+
+    Blob(BlobStore store, String hash, ByteBuffer data) {
+        this.store = store;
+        this.hash = hash;
+        this.data = data.asReadOnlyBuffer();
+    }
+
+    /**
+     * SHA-256 of the content as lowercase hex.
+     */
+    public String getHash() {
+        return hash;
+    }
+
+    public int getSize() {
+        return data.limit();
+    }
+
+    /**
+     * A read-only view of the content, positioned at its start. Each call returns an
+     * independent view, so callers may move its position freely.
+     */
+    public ByteBuffer asReadOnlyBuffer() {
+        checkReferenced();
+        return data.duplicate();
+    }
+
+    public InputStream openStream() {
+        return new ByteBufferInputStream(asReadOnlyBuffer());
+    }
+
+    public byte[] toByteArray() {
+        byte[] bytes = new byte[getSize()];
+        asReadOnlyBuffer().get(bytes);
+        return bytes;
+    }
+
+    public Blob retain() {
+        store.retain(this);
+        return this;
+    }
+
+    public void release() {
+        store.release(this);
+    }
+
+    public int getReferenceCount() {
+        return store.referenceCount(this);
+    }
+
+    private void checkReferenced() {
+        if (store.referenceCount(this) == 0) {
+            throw new IllegalStateException("Blob " + hash + " has already been released");
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.avans.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps document payloads outside the Java heap, addressed by the SHA-256 hash of their
+ * content. Storing content that is already present returns the existing {@link Blob} with one
+ * more reference instead of a second copy. A blob leaves the store when its last reference is
+ * released; its memory is freed once no buffer handed out for it is reachable any more.
+ */
+public class BlobStore {
+    private static final BlobStore SHARED = new BlobStore();
+    private static final int INITIAL_CHUNK = 8 * 1024;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Map<String, Blob> blobs = new HashMap<>();
+    private long storedBytes;
+
+    /**
+     * The store used by documents that are not given a store of their own.
+     */
+    public static BlobStore shared() {
+        return SHARED;
+    }
+
+    /**
+     * Stores a copy of the content, or adds a reference to the blob that already holds the
+     * same bytes. The caller owns one reference of the returned blob.
+     */
+    public Blob put(byte[] content) {
+        if (content == null) {
+            throw new IllegalArgumentException("Blob content cannot be null");
+        }
+        String hash = toHex(newDigest().digest(content));
+        synchronized (this) {
+            Blob existing = retainExisting(hash);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        // Copy outside the lock; a concurrent put of the same content is resolved below
+        ByteBuffer data = ByteBuffer.allocateDirect(content.length);
+        data.put(content).flip();
+        return register(hash, data);
+    }
+
+    /**
+     * Stores everything the stream produces, hashing it while it is read. Reading stops as soon
+     * as the stream turns out to be longer than maxBytes; the content read so far is dropped.
+     *
+     * @throws BlobTooLargeException when the stream holds more than maxBytes
+     */
+    public Blob put(InputStream in, long maxBytes) throws IOException {
+        if (in == null) {
+            throw new IllegalArgumentException("Blob stream cannot be null");
+        }
+        return put(Channels.newChannel(in), maxBytes);
+    }
+
+    /**
+     * Stores everything the channel produces, straight into off-heap memory, hashing it while
+     * it is read. A seekable channel whose size already exceeds maxBytes is rejected before
+     * anything is read; other channels are read until they pass maxBytes. The channel is not
+     * closed.
+     *
+     * @throws BlobTooLargeException when the channel holds more than maxBytes
+     */
+    public Blob put(ReadableByteChannel in, long maxBytes) throws IOException {
+        if (in == null) {
+            throw new IllegalArgumentException("Blob channel cannot be null");
+        }
+        if (maxBytes < 0 || maxBytes >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Maximum blob size must be between 0 and " + (Integer.MAX_VALUE - 1));
+        }
+        long expected = -1;
+        if (in instanceof SeekableByteChannel) {
+            SeekableByteChannel seekable = (SeekableByteChannel) in;
+            expected = seekable.size() - seekable.position();
+            if (expected > maxBytes) {
+                throw new BlobTooLargeException(maxBytes);
+            }
+        }
+
+        // One byte beyond the limit is enough to know the content is too large
+        int limit = (int) maxBytes + 1;
+        int capacity = expected >= 0 ? (int) expected + 1 : Math.min(INITIAL_CHUNK, limit);
+        ByteBuffer data = ByteBuffer.allocateDirect(capacity);
+        MessageDigest digest = newDigest();
+        ByteBuffer hashed = data.duplicate();
+        while (true) {
+            if (!data.hasRemaining()) {
+                if (data.capacity() >= limit) {
+                    throw new BlobTooLargeException(maxBytes);
+                }
+                data = grow(data, (int) Math.min((long) data.capacity() * 2, limit));
+                hashed = data.duplicate();
+            }
+            int read = in.read(data);
+            if (read < 0) {
+                break;
+            }
+            hashed.limit(data.position());
+            digest.update(hashed);
+        }
+        data.flip();
+        return register(toHex(digest.digest()), trim(data));
+    }
+
+    public synchronized int getBlobCount() {
+        return blobs.size();
+    }
+
+    /**
+     * Bytes held by blobs that still have references.
+     */
+    public synchronized long getStoredBytes() {
+        return storedBytes;
+    }
+
+    synchronized Blob register(String hash, ByteBuffer data) {
+        Blob existing = retainExisting(hash);
+        if (existing != null) {
+            return existing;
+        }
+        Blob blob = new Blob(this, hash, data);
+        blobs.put(hash, blob);
+        storedBytes += blob.getSize();
+        return blob;
+    }
+
+    synchronized void retain(Blob blob) {
+        if (blob.references == 0) {
+            throw new IllegalStateException("Blob " + blob.getHash() + " has already been released");
+        }
+        blob.references++;
+    }
+
+    synchronized void release(Blob blob) {
+        if (blob.references == 0) {
+            throw new IllegalStateException("Blob " + blob.getHash() + " has already been released");
+        }
+        if (--blob.references == 0) {
+            blobs.remove(blob.getHash());
+            storedBytes -= blob.getSize();
+        }
+    }
+
+    synchronized int referenceCount(Blob blob) {
+        return blob.references;
+    }
+
+    private static ByteBuffer grow(ByteBuffer data, int capacity) {
+        ByteBuffer larger = ByteBuffer.allocateDirect(capacity);
+        data.flip();
+        larger.put(data);
+        return larger;
+    }
+
+    // Keeps at most a quarter of a blob's memory unused after growing while reading
+    private static ByteBuffer trim(ByteBuffer data) {
+        if (data.capacity() - data.limit() <= data.capacity() / 4) {
+            return data;
+        }
+        ByteBuffer exact = ByteBuffer.allocateDirect(data.limit());
+        exact.put(data).flip();
+        return exact;
+    }
+
+    private Blob retainExisting(String hash) {
+        Blob existing = blobs.get(hash);
+        if (existing != null) {
+            existing.references++;
+        }
+        return existing;
+    }
+
+    static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to provide SHA-256
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    static String toHex(byte[] bytes) {
+        char[] hex = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            hex[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+            hex[i * 2 + 1] = HEX[bytes[i] & 0xF];
+        }
+        return new String(hex);
+    }
+}
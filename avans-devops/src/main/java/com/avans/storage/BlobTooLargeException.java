@@ -0,0 +1,19 @@
+package com.avans.storage;
+
+/**
+ * Thrown when content offered to a {@link BlobStore} is larger than the caller allows.
+ */
+public class BlobTooLargeException extends IllegalArgumentException {
+    private static final long serialVersionUID = 1L;
+
+    private final long maxBytes;
+
+    public BlobTooLargeException(long maxBytes) {
+        super("Content exceeds maximum size of " + maxBytes + " bytes");
+        this.maxBytes = maxBytes;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+}
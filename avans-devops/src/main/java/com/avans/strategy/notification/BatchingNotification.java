@@ -0,0 +1,234 @@
+package com.avans.strategy.notification;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects notifications per recipient and hands them to the wrapped strategy as one digest,
+ * either when a recipient has collected maxBatchSize messages or when the oldest pending
+ * message has waited maxDelay. TeamMember names itself as the recipient of every message;
+ * messages sent without a recipient are collected in one shared batch.
+ *
+ * The digests of one recipient reach the wrapped strategy one at a time and in the order
+ * they were completed, whether a full batch or a timer completed them. Delivery happens
+ * outside the lock, so a slow channel does not block producers for other recipients.
+ */
+public class BatchingNotification implements RecipientAwareNotification, AutoCloseable {
+    private static final String NO_RECIPIENT = "";
+
+    private final NotificationStrategy delegate;
+    private final int maxBatchSize;
+    private final Duration maxDelay;
+    private final Map<String, List<String>> pending;
+    // Timer of the pending batch of each recipient
+    private final Map<String, ScheduledFuture<?>> timers;
+    // Completed batches per recipient; a recipient has an entry while a thread delivers them
+    private final Map<String, Deque<List<String>>> outboxes;
+    private final boolean ownsScheduler;
+    private ScheduledExecutorService scheduler;
+    private boolean closed;
+
+    public BatchingNotification(NotificationStrategy delegate, int maxBatchSize, Duration maxDelay) {
+        this(delegate, maxBatchSize, maxDelay, null);
+    }
+
+    /**
+     * @param scheduler runs the flush timers; null starts a daemon thread when the first timer
+     *                  is needed. A given scheduler is not shut down on {@link #close()}.
+     */
+    public BatchingNotification(NotificationStrategy delegate, int maxBatchSize, Duration maxDelay,
+                                ScheduledExecutorService scheduler) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate notification strategy cannot be null");
+        }
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+        if (maxDelay == null || maxDelay.isNegative()) {
+            throw new IllegalArgumentException("Maximum delay cannot be null or negative");
+        }
+        this.delegate = delegate;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelay = maxDelay;
+        this.pending = new LinkedHashMap<>();
+        this.timers = new HashMap<>();
+        this.outboxes = new HashMap<>();
+        this.ownsScheduler = scheduler == null;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void sendNotification(String message) {
+        sendNotification(NO_RECIPIENT, message);
+    }
+
+    @Override
+    public void sendNotification(String recipient, String message) {
+        if (recipient == null) {
+            throw new IllegalArgumentException("Recipient cannot be null");
+        }
+        boolean deliver = false;
+
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("Batching notification has been closed");
+            }
+            List<String> batch = pending.computeIfAbsent(recipient, key -> new ArrayList<>());
+            batch.add(message);
+
+            if (batch.size() >= maxBatchSize) {
+                pending.remove(recipient);
+                cancelTimer(recipient);
+                deliver = enqueue(recipient, batch);
+            } else if (batch.size() == 1) {
+                scheduleFlush(recipient, batch);
+            }
+        }
+
+        if (deliver) {
+            deliverQueued(recipient);
+        }
+    }
+
+    @Override
+    public void sendBatch(List<String> messages) {
+        for (String message : messages) {
+            sendNotification(message);
+        }
+    }
+
+    /**
+     * Immediately delivers everything that is still pending. Batches of a recipient whose
+     * earlier digest is still being delivered on another thread follow it from there.
+     */
+    public void flush() {
+        List<String> recipients = new ArrayList<>();
+        synchronized (this) {
+            for (Map.Entry<String, List<String>> batch : pending.entrySet()) {
+                if (enqueue(batch.getKey(), batch.getValue())) {
+                    recipients.add(batch.getKey());
+                }
+            }
+            pending.clear();
+            for (ScheduledFuture<?> timer : timers.values()) {
+                timer.cancel(false);
+            }
+            timers.clear();
+        }
+        for (String recipient : recipients) {
+            deliverQueued(recipient);
+        }
+    }
+
+    // Flushes the batch the timer was started for, unless that batch was delivered already
+    private void flush(String recipient, List<String> batch) {
+        synchronized (this) {
+            if (pending.get(recipient) != batch) {
+                return;
+            }
+            pending.remove(recipient);
+            timers.remove(recipient);
+            if (!enqueue(recipient, batch)) {
+                return;
+            }
+        }
+        deliverQueued(recipient);
+    }
+
+    // Queues a completed batch while holding the lock; true when the caller has to deliver it
+    private boolean enqueue(String recipient, List<String> batch) {
+        Deque<List<String>> outbox = outboxes.get(recipient);
+        if (outbox != null) {
+            outbox.add(batch);
+            return false;
+        }
+        outbox = new ArrayDeque<>();
+        outbox.add(batch);
+        outboxes.put(recipient, outbox);
+        return true;
+    }
+
+    // Delivers the queued batches of the recipient, including any queued meanwhile
+    private void deliverQueued(String recipient) {
+        RuntimeException failure = null;
+        while (true) {
+            List<String> batch;
+            synchronized (this) {
+                batch = outboxes.get(recipient).poll();
+                if (batch == null) {
+                    outboxes.remove(recipient);
+                    break;
+                }
+            }
+            try {
+                delegate.sendBatch(batch);
+            } catch (RuntimeException e) {
+                // A failing digest must not hold back the ones queued after it
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void cancelTimer(String recipient) {
+        ScheduledFuture<?> timer = timers.remove(recipient);
+        if (timer != null) {
+            timer.cancel(false);
+        }
+    }
+
+    private void scheduleFlush(String recipient, List<String> batch) {
+        if (maxDelay.isZero()) {
+            return; // Only size based or manual flushing
+        }
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "notification-batcher");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        timers.put(recipient, scheduler.schedule(() -> flush(recipient, batch), maxDelay.toNanos(), TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public void close() {
+        ScheduledExecutorService toShutdown;
+        synchronized (this) {
+            closed = true;
+            toShutdown = ownsScheduler ? scheduler : null;
+        }
+        flush();
+        if (toShutdown != null) {
+            toShutdown.shutdownNow();
+        }
+    }
+
+    public synchronized int getPendingCount() {
+        int count = 0;
+        for (List<String> batch : pending.values()) {
+            count += batch.size();
+        }
+        return count;
+    }
+
+    public NotificationStrategy getDelegate() {
+        return delegate;
+    }
+}
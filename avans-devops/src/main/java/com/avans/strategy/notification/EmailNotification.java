@@ -1,8 +1,22 @@
 package com.avans.strategy.notification;
 
+import java.util.List;
+
 public class EmailNotification implements NotificationStrategy {
     @Override
     public void sendNotification(String message) {
         System.out.println("[Email] " + message);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void sendBatch(List<String> messages) {
+        if (messages.size() == 1) {
+            sendNotification(messages.get(0));
+            return;
+        }
+        if (!messages.isEmpty()) {
+            System.out.println("[Email] Digest of " + messages.size() + " notifications:\n"
+                    + String.join("\n", messages));
+        }
+    }
+}
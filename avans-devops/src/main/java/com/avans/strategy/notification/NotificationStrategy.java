@@ -1,5 +1,18 @@
 package com.avans.strategy.notification;
 
+import java.util.List;
+
 public interface NotificationStrategy {
     void sendNotification(String message);
+
+    /**
+     * Sends several notifications at once. Channels that can deliver a digest should
+     * override this to send the whole batch as a single message.
+     * @param messages notifications to send, in the order they were raised
+     */
+    default void sendBatch(List<String> messages) {
+        for (String message : messages) {
+            sendNotification(message);
+        }
+    }
 }
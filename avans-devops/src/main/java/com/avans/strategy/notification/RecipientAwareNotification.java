@@ -0,0 +1,15 @@
+package com.avans.strategy.notification;
+
+/**
+ * Notification strategy that handles messages per recipient, such as one that collects a
+ * digest for each team member. TeamMember names itself as the recipient of every message it
+ * sends through such a strategy.
+ */
+public interface RecipientAwareNotification extends NotificationStrategy {
+    /**
+     * Sends a notification addressed to the given recipient.
+     * @param recipient name of the team member the message is for
+     * @param message notification to send, as it should be delivered
+     */
+    void sendNotification(String recipient, String message);
+}
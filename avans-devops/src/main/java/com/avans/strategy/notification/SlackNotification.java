@@ -1,9 +1,22 @@
 package com.avans.strategy.notification;
 
+import java.util.List;
+
 public class SlackNotification implements NotificationStrategy {
     @Override
     public void sendNotification(String message) {
         System.out.println("[Slack] " + message);
     }
 
+    @Override
+    public void sendBatch(List<String> messages) {
+        if (messages.size() == 1) {
+            sendNotification(messages.get(0));
+            return;
+        }
+        if (!messages.isEmpty()) {
+            System.out.println("[Slack] " + messages.size() + " updates:\n"
+                    + String.join("\n", messages));
+        }
+    }
 }
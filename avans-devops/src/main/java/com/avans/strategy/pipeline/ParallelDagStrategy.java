@@ -0,0 +1,244 @@
+package com.avans.strategy.pipeline;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.avans.pipeline.PipelineStep;
+
+/**
+ * Runs pipeline steps as a dependency graph. A step is started as soon as all steps it
+ * depends on (see {@link PipelineStep#dependsOn}) have completed successfully, so independent
+ * branches such as Analyze and Test run concurrently on a bounded pool of worker threads.
+ */
+public class ParallelDagStrategy implements PipelineRunStrategy {
+    private static final int DEFAULT_MAX_PARALLEL_STEPS = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private static final long CANCELLATION_GRACE_SECONDS = 10;
+
+    private final int maxParallelSteps;
+    private final boolean abortOnFailure;
+
+    public ParallelDagStrategy() {
+        this(DEFAULT_MAX_PARALLEL_STEPS, true);
+    }
+
+    public ParallelDagStrategy(int maxParallelSteps, boolean abortOnFailure) {
+        if (maxParallelSteps < 1) {
+            throw new IllegalArgumentException("Maximum number of parallel steps must be at least 1");
+        }
+        this.maxParallelSteps = maxParallelSteps;
+        this.abortOnFailure = abortOnFailure;
+    }
+
+    @Override
+    public boolean runSteps(List<PipelineStep> steps) {
+        if (steps.isEmpty()) {
+            return true;
+        }
+
+        Map<PipelineStep, Integer> pendingDependencies = new IdentityHashMap<>();
+        Map<PipelineStep, List<PipelineStep>> dependents = new IdentityHashMap<>();
+        buildGraph(steps, pendingDependencies, dependents);
+
+        Deque<PipelineStep> ready = new ArrayDeque<>();
+        for (PipelineStep step : steps) {
+            if (pendingDependencies.get(step) == 0) {
+                ready.add(step);
+            }
+        }
+
+        ExecutorService executor = createExecutor(steps.size());
+        CompletionService<Boolean> completionService = new ExecutorCompletionService<>(executor);
+        Map<Future<Boolean>, PipelineStep> running = new HashMap<>();
+        boolean allSuccessful = true;
+        boolean interrupted = false;
+        int completed = 0;
+
+        try {
+            while (!ready.isEmpty() || !running.isEmpty()) {
+                while (!ready.isEmpty()) {
+                    PipelineStep step = ready.poll();
+                    running.put(completionService.submit(step::runStep), step);
+                }
+
+                Future<Boolean> finished = completionService.take();
+                PipelineStep step = running.remove(finished);
+                completed++;
+
+                if (isSuccessful(finished)) {
+                    for (PipelineStep dependent : dependents.get(step)) {
+                        int remaining = pendingDependencies.merge(dependent, -1, Integer::sum);
+                        if (remaining == 0) {
+                            ready.add(dependent);
+                        }
+                    }
+                } else {
+                    allSuccessful = false;
+                    if (abortOnFailure) {
+                        System.out.println("Step " + step.getName() + " failed. Cancelling remaining branches.");
+                        cancelAll(running);
+                        return false;
+                    }
+                    System.out.println("Step " + step.getName() + " failed. Skipping steps that depend on it.");
+                }
+            }
+        } catch (InterruptedException e) {
+            interrupted = true;
+            cancelAll(running);
+            return false;
+        } finally {
+            shutdown(executor);
+            // Only restored once the steps ended, or the wait for them would end at once
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (completed < steps.size()) {
+            System.out.println((steps.size() - completed) + " step(s) were skipped because a dependency failed.");
+        }
+        return allSuccessful;
+    }
+
+    @Override
+    public boolean shouldAbortOnFailure() {
+        return abortOnFailure;
+    }
+
+    @Override
+    public boolean runsStepsInListOrder() {
+        return false;
+    }
+
+    public int getMaxParallelSteps() {
+        return maxParallelSteps;
+    }
+
+    /**
+     * Executor for one run of the given number of steps. It is shut down when the run ends, so
+     * no step outlives the run that started it.
+     */
+    protected ExecutorService createExecutor(int stepCount) {
+        return Executors.newFixedThreadPool(Math.min(maxParallelSteps, stepCount), new StepThreadFactory());
+    }
+
+    private void buildGraph(List<PipelineStep> steps, Map<PipelineStep, Integer> pendingDependencies,
+                            Map<PipelineStep, List<PipelineStep>> dependents) {
+        for (PipelineStep step : steps) {
+            pendingDependencies.put(step, 0);
+            dependents.put(step, new ArrayList<>());
+        }
+
+        for (PipelineStep step : steps) {
+            for (PipelineStep dependency : step.getDependencies()) {
+                if (dependents.containsKey(dependency)) {
+                    dependents.get(dependency).add(step);
+                    pendingDependencies.merge(step, 1, Integer::sum);
+                } else {
+                    // A step outside this run may have succeeded in an earlier run with other inputs
+                    throw new IllegalArgumentException("Step " + step.getName() + " depends on step "
+                            + dependency.getName() + " which is not part of this pipeline");
+                }
+            }
+        }
+
+        verifyAcyclic(steps, pendingDependencies, dependents);
+    }
+
+    // Kahn's algorithm: every step must be reachable from the roots, otherwise there is a cycle
+    private void verifyAcyclic(List<PipelineStep> steps, Map<PipelineStep, Integer> pendingDependencies,
+                               Map<PipelineStep, List<PipelineStep>> dependents) {
+        Map<PipelineStep, Integer> remaining = new IdentityHashMap<>(pendingDependencies);
+        Deque<PipelineStep> queue = new ArrayDeque<>();
+        remaining.forEach((step, count) -> {
+            if (count == 0) {
+                queue.add(step);
+            }
+        });
+
+        int visited = 0;
+        while (!queue.isEmpty()) {
+            PipelineStep step = queue.poll();
+            visited++;
+            for (PipelineStep dependent : dependents.get(step)) {
+                if (remaining.merge(dependent, -1, Integer::sum) == 0) {
+                    queue.add(dependent);
+                }
+            }
+        }
+
+        if (visited < steps.size()) {
+            throw new IllegalStateException("Pipeline steps contain a dependency cycle");
+        }
+    }
+
+    private boolean isSuccessful(Future<Boolean> future) throws InterruptedException {
+        try {
+            return Boolean.TRUE.equals(future.get());
+        } catch (ExecutionException e) {
+            return false;
+        }
+    }
+
+    private void cancelAll(Map<Future<Boolean>, PipelineStep> running) {
+        for (Future<Boolean> future : running.keySet()) {
+            future.cancel(true);
+        }
+        running.clear();
+    }
+
+    private void shutdown(ExecutorService executor) {
+        executor.shutdownNow();
+        awaitTermination(executor);
+    }
+
+    /**
+     * Waits for the executor to finish its tasks, for at most the cancellation grace period. An
+     * interrupt does not cut the wait short, so no task outlives the run that started it; it is
+     * restored once the wait is over.
+     */
+    static void awaitTermination(ExecutorService executor) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(CANCELLATION_GRACE_SECONDS);
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    if (!executor.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                        System.err.println("Some pipeline steps did not respond to cancellation in time.");
+                    }
+                    return;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static class StepThreadFactory implements ThreadFactory {
+        private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "pipeline-step-" + THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -19,4 +19,14 @@ public interface PipelineRunStrategy {
     default boolean shouldAbortOnFailure() {
         return false; // Default behavior is to continue
     }
+
+    /**
+     * Whether a step only starts once every step listed before it has ended. Only then can a
+     * step without declared dependencies take all earlier steps as its inputs; otherwise those
+     * may still be running when it starts.
+     * @return true if steps run one after another in list order
+     */
+    default boolean runsStepsInListOrder() {
+        return true;
+    }
 }
@@ -0,0 +1,72 @@
+package com.avans.strategy.pipeline;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import com.avans.pipeline.Pipeline;
+import com.avans.pipeline.VirtualThreads;
+
+/**
+ * Runs pipeline steps as a dependency graph like {@link ParallelDagStrategy}, but starts every
+ * step on its own virtual thread instead of a bounded pool, so steps that mostly wait on I/O
+ * (fetching sources, uploading packages, deploying) do not tie up platform threads.
+ *
+ * Each run forms a scope: when a step fails and the strategy aborts on failure, the steps still
+ * running are interrupted, and the run only returns once every step it started has ended.
+ * Before Java 21 the steps run on new daemon platform threads instead.
+ */
+public class VirtualThreadStrategy extends ParallelDagStrategy {
+
+    public VirtualThreadStrategy() {
+        this(true);
+    }
+
+    public VirtualThreadStrategy(boolean abortOnFailure) {
+        // The graph itself limits how many steps run at once
+        super(Integer.MAX_VALUE, abortOnFailure);
+    }
+
+    @Override
+    protected ExecutorService createExecutor(int stepCount) {
+        return VirtualThreads.newThreadPerTaskExecutor("pipeline-step");
+    }
+
+    /**
+     * Runs independent pipelines side by side, each on its own virtual thread, and waits for
+     * all of them. A failing pipeline does not stop the others. An interrupted caller cancels
+     * the pipelines and still waits for them to end before the interrupt is thrown.
+     *
+     * @return true if every pipeline run was successful
+     */
+    public static boolean runPipelines(List<Pipeline> pipelines) throws InterruptedException {
+        ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("pipeline");
+        List<Future<Boolean>> runs = new ArrayList<>(pipelines.size());
+        boolean allSuccessful = true;
+        try {
+            for (Pipeline pipeline : pipelines) {
+                runs.add(executor.submit(() -> {
+                    pipeline.runAllSteps();
+                    return pipeline.wasLastRunSuccessful();
+                }));
+            }
+            for (Future<Boolean> run : runs) {
+                try {
+                    allSuccessful &= run.get();
+                } catch (ExecutionException e) {
+                    allSuccessful = false;
+                }
+            }
+        } finally {
+            // Interrupted callers leave no pipeline running behind
+            for (Future<Boolean> run : runs) {
+                run.cancel(true);
+            }
+            executor.shutdown();
+            awaitTermination(executor);
+        }
+        return allSuccessful;
+    }
+}
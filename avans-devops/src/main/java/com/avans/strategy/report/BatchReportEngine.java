@@ -0,0 +1,222 @@
+package com.avans.strategy.report;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.avans.decorator.ConcreteReport;
+import com.avans.decorator.IReport;
+import com.avans.domain.project.Project;
+import com.avans.domain.project.Sprint;
+
+/**
+ * Generates the reports of many sprints with several strategies at once. Every combination of
+ * sprint and strategy is a separate task on a work-stealing pool, so a few large sprints do not
+ * hold up the rest of the batch.
+ *
+ * A report that runs longer than the report timeout is abandoned and recorded as timed out;
+ * the timeout is checked while the report is being written. Sprints must not be changed while
+ * a batch is running, because the domain model is not safe for concurrent changes.
+ */
+public class BatchReportEngine {
+    private static final int DEFAULT_PARALLELISM = Runtime.getRuntime().availableProcessors();
+    private static final IReportProgressListener NO_PROGRESS = new IReportProgressListener() {
+    };
+
+    private final int parallelism;
+    private final Duration reportTimeout;
+
+    public BatchReportEngine() {
+        this(DEFAULT_PARALLELISM, Duration.ZERO);
+    }
+
+    /**
+     * @param parallelism maximum number of reports generated at the same time
+     * @param reportTimeout maximum time per report, or zero for no limit
+     */
+    public BatchReportEngine(int parallelism, Duration reportTimeout) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        if (reportTimeout == null || reportTimeout.isNegative()) {
+            throw new IllegalArgumentException("Report timeout cannot be null or negative");
+        }
+        this.parallelism = parallelism;
+        this.reportTimeout = reportTimeout;
+    }
+
+    public List<ReportOutcome> generate(Project project, List<IReportStrategy> strategies) throws InterruptedException {
+        return generate(project, strategies, NO_PROGRESS);
+    }
+
+    public List<ReportOutcome> generate(Project project, List<IReportStrategy> strategies,
+                                        IReportProgressListener listener) throws InterruptedException {
+        if (project == null) {
+            throw new IllegalArgumentException("Project cannot be null");
+        }
+        return generate(project.getSprints(), strategies, listener);
+    }
+
+    /**
+     * Generates a report for every sprint with every strategy and waits until all of them have
+     * finished. A report that fails or times out does not stop the others.
+     *
+     * @return one outcome per report, ordered by sprint and then by strategy
+     * @throws InterruptedException when the calling thread is interrupted; reports still
+     *         running are abandoned
+     */
+    public List<ReportOutcome> generate(List<? extends Sprint> sprints, List<IReportStrategy> strategies,
+                                        IReportProgressListener listener) throws InterruptedException {
+        if (sprints == null || strategies == null || listener == null) {
+            throw new IllegalArgumentException("Sprints, strategies and progress listener cannot be null");
+        }
+        int total = sprints.size() * strategies.size();
+        List<ReportOutcome> outcomes = new ArrayList<>(total);
+        if (total == 0) {
+            return outcomes;
+        }
+
+        Batch batch = new Batch(total, listener);
+        List<ForkJoinTask<ReportOutcome>> tasks = new ArrayList<>(total);
+        ForkJoinPool pool = new ForkJoinPool(Math.min(parallelism, total));
+        try {
+            for (Sprint sprint : sprints) {
+                for (IReportStrategy strategy : strategies) {
+                    tasks.add(pool.submit(() -> batch.run(sprint, strategy)));
+                }
+            }
+            for (ForkJoinTask<ReportOutcome> task : tasks) {
+                outcomes.add(task.get());
+            }
+        } catch (InterruptedException e) {
+            batch.cancelled.set(true);
+            throw e;
+        } catch (ExecutionException e) {
+            // Tasks record their own failures, so only errors such as OutOfMemoryError get here
+            batch.cancelled.set(true);
+            throw new IllegalStateException("Report batch failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        return outcomes;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public Duration getReportTimeout() {
+        return reportTimeout;
+    }
+
+    private class Batch {
+        private final int total;
+        private final IReportProgressListener listener;
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        private int completed; // guarded by this
+
+        Batch(int total, IReportProgressListener listener) {
+            this.total = total;
+            this.listener = listener;
+        }
+
+        ReportOutcome run(Sprint sprint, IReportStrategy strategy) {
+            long start = System.nanoTime();
+            long deadline = reportTimeout.isZero() ? 0 : start + reportTimeout.toNanos();
+            GuardedAppendable content = new GuardedAppendable(deadline, cancelled);
+            IReport report = null;
+            Throwable failure = null;
+            try {
+                strategy.write(sprint, content);
+                report = new ConcreteReport(content.toString());
+            } catch (ReportAbortedException e) {
+                failure = e.timedOut
+                        ? new TimeoutException("Report for sprint '" + sprint.getName() + "' took longer than " + reportTimeout)
+                        : new CancellationException("Report batch was cancelled");
+            } catch (IOException | RuntimeException e) {
+                failure = e;
+            }
+            ReportOutcome outcome = new ReportOutcome(sprint, strategy, report, failure, System.nanoTime() - start);
+
+            synchronized (this) {
+                completed++;
+                listener.onReportFinished(outcome, completed, total);
+            }
+            return outcome;
+        }
+    }
+
+    // Collects a report and stops it once its deadline has passed or the batch was cancelled
+    private static class GuardedAppendable implements Appendable {
+        private static final int CHECK_INTERVAL = 64;
+
+        private final StringBuilder content = new StringBuilder();
+        private final long deadline;
+        private final AtomicBoolean cancelled;
+        private int appendsUntilCheck;
+
+        GuardedAppendable(long deadline, AtomicBoolean cancelled) {
+            this.deadline = deadline;
+            this.cancelled = cancelled;
+        }
+
+        @Override
+        public Appendable append(CharSequence text) throws IOException {
+            check();
+            content.append(text);
+            return this;
+        }
+
+        @Override
+        public Appendable append(CharSequence text, int start, int end) throws IOException {
+            check();
+            content.append(text, start, end);
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) throws IOException {
+            check();
+            content.append(c);
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return content.toString();
+        }
+
+        // Reading the clock on every append would cost more than most appends themselves
+        private void check() throws ReportAbortedException {
+            if (--appendsUntilCheck > 0) {
+                return;
+            }
+            appendsUntilCheck = CHECK_INTERVAL;
+            if (cancelled.get()) {
+                throw new ReportAbortedException(false);
+            }
+            if (deadline != 0 && System.nanoTime() - deadline > 0) {
+                throw new ReportAbortedException(true);
+            }
+        }
+    }
+
+    // Thrown through the strategy, which only expects IOExceptions from its target
+    private static class ReportAbortedException extends InterruptedIOException {
+        private static final long serialVersionUID = 1L;
+
+        private final boolean timedOut;
+
+        ReportAbortedException(boolean timedOut) {
+            this.timedOut = timedOut;
+        }
+    }
+}
@@ -1,7 +1,15 @@
 package com.avans.strategy.report;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+import com.avans.domain.backlog.state.DoneState;
+import com.avans.domain.project.Sprint;
+
 /**
- * Data class to hold burndown chart configuration and data
+ * Data class to hold burndown chart configuration and data. Charts of a sprint use the
+ * completions recorded in its {@link com.avans.domain.project.SprintHistory}; data created from
+ * totals alone spreads the completed items evenly over the elapsed days.
  */
 public class BurndownChartData {
     private final int totalItems;
@@ -9,6 +17,8 @@ public class BurndownChartData {
     private final int itemsRemaining;
     private final int sprintLength;
     private final int daysElapsed;
+    // Items done at the end of each elapsed day, or null when only totals are known
+    private final int[] completedPerDay;
     
     public BurndownChartData(int totalItems, int completedItems, int sprintLength, int daysElapsed) {
         this.totalItems = totalItems;
@@ -16,6 +26,35 @@ public class BurndownChartData {
         this.itemsRemaining = totalItems - completedItems;
         this.sprintLength = sprintLength;
         this.daysElapsed = daysElapsed;
+        this.completedPerDay = null;
+    }
+
+    private BurndownChartData(int totalItems, int completedItems, int sprintLength, int daysElapsed,
+                              int[] completedPerDay) {
+        this.totalItems = totalItems;
+        this.completedItems = completedItems;
+        this.itemsRemaining = totalItems - completedItems;
+        this.sprintLength = sprintLength;
+        this.daysElapsed = daysElapsed;
+        this.completedPerDay = completedPerDay;
+    }
+
+    /**
+     * Burndown of the sprint as measured up to the given date, from the day each item was
+     * completed. The sprint length counts both the start and the end date.
+     */
+    public static BurndownChartData fromSprint(Sprint sprint, LocalDate today) {
+        int sprintLength = (int) ChronoUnit.DAYS.between(sprint.getStartDate(), sprint.getEndDate()) + 1;
+        int daysElapsed = (int) ChronoUnit.DAYS.between(sprint.getStartDate(),
+                today.isAfter(sprint.getStartDate()) ? today : sprint.getStartDate());
+        int measuredDays = Math.max(0, Math.min(daysElapsed, sprintLength)) + 1;
+        int[] completedPerDay = sprint.getHistory().getCompletedItemsPerDay(sprint.getStartDate(), measuredDays);
+        return new BurndownChartData(sprint.getBacklogItemCount(), sprint.getBacklogStateCount(DoneState.NAME),
+                sprintLength, daysElapsed, completedPerDay);
+    }
+
+    public boolean isMeasured() {
+        return completedPerDay != null;
     }
     
     public int getTotalItems() {
@@ -46,6 +85,9 @@ public class BurndownChartData {
     }
     
     public int calculateActualItemsRemaining(int day) {
+        if (completedPerDay != null) {
+            return measuredItemsRemaining(day);
+        }
         if (daysElapsed <= 0) {
             return totalItems;
         }
@@ -60,4 +102,15 @@ public class BurndownChartData {
         
         return totalItems - (int)((double)day / daysElapsed * completedItems);
     }
+
+    private int measuredItemsRemaining(int day) {
+        if (day > daysElapsed || day < 0) {
+            return -1; // Indicate future day (for ? display)
+        }
+        // Today is taken from the live counters, earlier days from the recorded history
+        if (day == daysElapsed) {
+            return itemsRemaining;
+        }
+        return totalItems - completedPerDay[Math.min(day, completedPerDay.length - 1)];
+    }
 }
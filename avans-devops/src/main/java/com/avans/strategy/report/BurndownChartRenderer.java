@@ -0,0 +1,168 @@
+package com.avans.strategy.report;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Renders {@link BurndownChartData} as a PNG line chart: the ideal line, the actual progress
+ * up to today and a grid with one vertical line per sprint day.
+ *
+ * Rasters and encoders are expensive to allocate at full resolution, so they are taken from a
+ * pool and returned after every chart. Rendering many charts therefore only allocates while
+ * the pool warms up. The renderer is thread-safe; each thread works on its own buffers.
+ */
+public class BurndownChartRenderer {
+    static final int BACKGROUND = 0;
+    static final int AXIS = 1;
+    static final int GRID = 2;
+    static final int IDEAL = 3;
+    static final int ACTUAL = 4;
+
+    private static final int[] PALETTE = {
+        0xFFFFFF, // background
+        0x333333, // axis
+        0xE0E0E0, // grid
+        0x4A90D9, // ideal line
+        0xE8702A  // actual line
+    };
+    private static final int MARGIN = 60;
+    private static final int MAX_HORIZONTAL_GRID_LINES = 10;
+
+    private final int width;
+    private final int height;
+    private final int maxPooledBuffers;
+    private final Queue<RenderBuffers> pool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooledCount = new AtomicInteger();
+
+    public BurndownChartRenderer(int width, int height) {
+        this(width, height, Runtime.getRuntime().availableProcessors());
+    }
+
+    public BurndownChartRenderer(int width, int height, int maxPooledBuffers) {
+        if (width <= 2 * MARGIN || height <= 2 * MARGIN) {
+            throw new IllegalArgumentException("Chart must be larger than " + (2 * MARGIN) + " pixels in both directions");
+        }
+        if (maxPooledBuffers < 0) {
+            throw new IllegalArgumentException("Pool size cannot be negative");
+        }
+        this.width = width;
+        this.height = height;
+        this.maxPooledBuffers = maxPooledBuffers;
+    }
+
+    public void render(BurndownChartData data, OutputStream out) throws IOException {
+        RenderBuffers buffers = acquire();
+        try {
+            draw(data, buffers.raster);
+            buffers.encoder.encode(buffers.raster, PALETTE, out);
+        } finally {
+            release(buffers);
+        }
+    }
+
+    void draw(BurndownChartData data, ChartRaster raster) {
+        raster.clear(BACKGROUND);
+
+        int left = MARGIN;
+        int right = width - MARGIN;
+        int top = MARGIN;
+        int bottom = height - MARGIN;
+        int days = Math.max(1, data.getSprintLength());
+        int maxItems = Math.max(1, data.getTotalItems());
+
+        // Grid: one vertical line per day, a handful of horizontal lines for the item scale
+        for (int day = 0; day <= days; day++) {
+            int x = xFor(day, days, left, right);
+            raster.drawLine(x, top, x, bottom, 1, GRID);
+        }
+        int itemStep = Math.max(1, (maxItems + MAX_HORIZONTAL_GRID_LINES - 1) / MAX_HORIZONTAL_GRID_LINES);
+        for (int items = 0; items <= maxItems; items += itemStep) {
+            int y = yFor(items, maxItems, top, bottom);
+            raster.drawLine(left, y, right, y, 1, GRID);
+        }
+
+        // Axes
+        raster.drawLine(left, top, left, bottom, 2, AXIS);
+        raster.drawLine(left, bottom, right, bottom, 2, AXIS);
+
+        if (data.getTotalItems() == 0 || data.getSprintLength() <= 0) {
+            return;
+        }
+
+        drawSeries(raster, data, true, days, maxItems, left, right, top, bottom);
+        drawSeries(raster, data, false, days, maxItems, left, right, top, bottom);
+    }
+
+    private void drawSeries(ChartRaster raster, BurndownChartData data, boolean ideal, int days, int maxItems,
+                            int left, int right, int top, int bottom) {
+        int color = ideal ? IDEAL : ACTUAL;
+        int previousX = -1;
+        int previousY = -1;
+
+        for (int day = 0; day <= days; day++) {
+            int remaining = ideal ? data.calculateExpectedItemsRemaining(day) : data.calculateActualItemsRemaining(day);
+            if (remaining < 0) {
+                break; // Future days have no actual progress yet
+            }
+            int x = xFor(day, days, left, right);
+            int y = yFor(remaining, maxItems, top, bottom);
+            if (previousX >= 0) {
+                raster.drawLine(previousX, previousY, x, y, 3, color);
+            }
+            raster.fillRect(x - 3, y - 3, 7, 7, color);
+            previousX = x;
+            previousY = y;
+        }
+    }
+
+    private static int xFor(int day, int days, int left, int right) {
+        return left + (int) ((long) day * (right - left) / days);
+    }
+
+    private static int yFor(int items, int maxItems, int top, int bottom) {
+        return bottom - (int) ((long) items * (bottom - top) / maxItems);
+    }
+
+    private RenderBuffers acquire() {
+        RenderBuffers buffers = pool.poll();
+        if (buffers == null) {
+            return new RenderBuffers(width, height);
+        }
+        pooledCount.decrementAndGet();
+        return buffers;
+    }
+
+    private void release(RenderBuffers buffers) {
+        if (pooledCount.incrementAndGet() <= maxPooledBuffers) {
+            pool.offer(buffers);
+        } else {
+            pooledCount.decrementAndGet();
+            buffers.encoder.close();
+        }
+    }
+
+    public int getPooledBufferCount() {
+        return pooledCount.get();
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    private static class RenderBuffers {
+        private final ChartRaster raster;
+        private final PngEncoder encoder;
+
+        RenderBuffers(int width, int height) {
+            this.raster = new ChartRaster(width, height);
+            this.encoder = new PngEncoder();
+        }
+    }
+}
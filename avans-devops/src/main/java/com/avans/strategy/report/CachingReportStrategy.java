@@ -0,0 +1,133 @@
+package com.avans.strategy.report;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.avans.decorator.ConcreteReport;
+import com.avans.decorator.IReport;
+import com.avans.domain.project.Sprint;
+
+/**
+ * Remembers the reports another strategy generated, and serves them again for as long as the
+ * sprint keeps the same {@link Sprint#getVersion() version}. Reports also show the current
+ * date, so a report generated on an earlier day is never reused.
+ *
+ * The cache holds at most maxEntries sprints, dropping the least recently used one first, and
+ * forgets reports older than the time to live.
+ */
+public class CachingReportStrategy implements IReportStrategy {
+    private final IReportStrategy delegate;
+    private final int maxEntries;
+    private final Duration timeToLive;
+    private final Clock clock;
+    private final Map<Sprint, CachedReport> reports;
+    private long hits;
+    private long misses;
+
+    public CachingReportStrategy(IReportStrategy delegate, int maxEntries, Duration timeToLive) {
+        this(delegate, maxEntries, timeToLive, Clock.systemDefaultZone());
+    }
+
+    CachingReportStrategy(IReportStrategy delegate, int maxEntries, Duration timeToLive, Clock clock) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Report strategy cannot be null");
+        }
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Cache must hold at least one report");
+        }
+        if (timeToLive == null || timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException("Time to live must be positive");
+        }
+        this.delegate = delegate;
+        this.maxEntries = maxEntries;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+        // Access order turns the map into an LRU list; sprints are compared by identity
+        this.reports = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Sprint, CachedReport> eldest) {
+                return size() > CachingReportStrategy.this.maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public IReport generate(Sprint sprint) {
+        return new ConcreteReport(content(sprint));
+    }
+
+    @Override
+    public void write(Sprint sprint, Appendable out) throws IOException {
+        out.append(content(sprint));
+    }
+
+    public synchronized void invalidate(Sprint sprint) {
+        reports.remove(sprint);
+    }
+
+    public synchronized void clear() {
+        reports.clear();
+    }
+
+    public synchronized int size() {
+        return reports.size();
+    }
+
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    public IReportStrategy getDelegate() {
+        return delegate;
+    }
+
+    private String content(Sprint sprint) {
+        // Read before generating: a change made meanwhile leaves an outdated version behind
+        long version = sprint.getVersion();
+        Instant now = clock.instant();
+        LocalDate today = LocalDate.now(clock);
+
+        synchronized (this) {
+            CachedReport cached = reports.get(sprint);
+            if (cached != null && cached.isValid(version, today, now)) {
+                hits++;
+                return cached.content;
+            }
+            misses++;
+        }
+
+        // Generated outside the lock so one slow report does not block every other sprint
+        String content = delegate.generate(sprint).getContent();
+        synchronized (this) {
+            reports.put(sprint, new CachedReport(content, version, today, now.plus(timeToLive)));
+        }
+        return content;
+    }
+
+    private static class CachedReport {
+        private final String content;
+        private final long version;
+        private final LocalDate generatedOn;
+        private final Instant expiresAt;
+
+        CachedReport(String content, long version, LocalDate generatedOn, Instant expiresAt) {
+            this.content = content;
+            this.version = version;
+            this.generatedOn = generatedOn;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isValid(long currentVersion, LocalDate today, Instant now) {
+            return version == currentVersion && generatedOn.equals(today) && now.isBefore(expiresAt);
+        }
+    }
+}
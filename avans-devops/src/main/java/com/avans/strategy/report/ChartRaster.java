@@ -0,0 +1,94 @@
+package com.avans.strategy.report;
+
+import java.util.Arrays;
+
+/**
+ * Off-screen image of palette indexes, one byte per pixel. Drawing only touches this array,
+ * so it works without a display and without font or AWT initialisation.
+ */
+public class ChartRaster {
+    private final int width;
+    private final int height;
+    private final byte[] pixels;
+
+    public ChartRaster(int width, int height) {
+        if (width < 1 || height < 1) {
+            throw new IllegalArgumentException("Raster dimensions must be positive");
+        }
+        this.width = width;
+        this.height = height;
+        this.pixels = new byte[width * height];
+    }
+
+    public void clear(int color) {
+        Arrays.fill(pixels, (byte) color);
+    }
+
+    public void setPixel(int x, int y, int color) {
+        if (x >= 0 && x < width && y >= 0 && y < height) {
+            pixels[y * width + x] = (byte) color;
+        }
+    }
+
+    public void fillRect(int x, int y, int rectWidth, int rectHeight, int color) {
+        int fromX = Math.max(0, x);
+        int toX = Math.min(width, x + rectWidth);
+        int fromY = Math.max(0, y);
+        int toY = Math.min(height, y + rectHeight);
+        if (fromX >= toX) {
+            return;
+        }
+        for (int row = fromY; row < toY; row++) {
+            int offset = row * width;
+            Arrays.fill(pixels, offset + fromX, offset + toX, (byte) color);
+        }
+    }
+
+    /**
+     * Draws a line with a square pen of the given thickness (Bresenham).
+     */
+    public void drawLine(int x0, int y0, int x1, int y1, int thickness, int color) {
+        int dx = Math.abs(x1 - x0);
+        int dy = -Math.abs(y1 - y0);
+        int stepX = x0 < x1 ? 1 : -1;
+        int stepY = y0 < y1 ? 1 : -1;
+        int error = dx + dy;
+        int half = thickness / 2;
+
+        while (true) {
+            if (thickness <= 1) {
+                setPixel(x0, y0, color);
+            } else {
+                fillRect(x0 - half, y0 - half, thickness, thickness, color);
+            }
+            if (x0 == x1 && y0 == y1) {
+                return;
+            }
+            int doubled = 2 * error;
+            if (doubled >= dy) {
+                error += dy;
+                x0 += stepX;
+            }
+            if (doubled <= dx) {
+                error += dx;
+                y0 += stepY;
+            }
+        }
+    }
+
+    public int getPixel(int x, int y) {
+        return pixels[y * width + x] & 0xFF;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    byte[] getPixels() {
+        return pixels;
+    }
+}
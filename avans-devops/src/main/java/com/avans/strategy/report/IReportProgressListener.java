@@ -0,0 +1,16 @@
+package com.avans.strategy.report;
+
+/**
+ * Follows the progress of a {@link BatchReportEngine} batch. Calls are made one at a time, in
+ * the order reports finish, from the engine's worker threads.
+ */
+public interface IReportProgressListener {
+    /**
+     * Called when a report has been generated, has failed or has timed out.
+     * @param outcome the finished report
+     * @param completed number of reports finished so far, including this one
+     * @param total number of reports in the batch
+     */
+    default void onReportFinished(ReportOutcome outcome, int completed, int total) {
+    }
+}
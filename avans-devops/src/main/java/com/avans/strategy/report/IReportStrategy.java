@@ -1,8 +1,39 @@
 package com.avans.strategy.report;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import com.avans.decorator.ConcreteReport;
 import com.avans.decorator.IReport;
 import com.avans.domain.project.Sprint;
 
 public interface IReportStrategy {
-    IReport generate(Sprint sprint);
-}
\ No newline at end of file
+    /**
+     * Writes the report for the sprint section by section to the given target.
+     * @param sprint sprint to report on
+     * @param out target such as a Writer on a file or socket
+     */
+    void write(Sprint sprint, Appendable out) throws IOException;
+
+    /**
+     * Generates the complete report in memory.
+     */
+    default IReport generate(Sprint sprint) {
+        StringBuilder content = new StringBuilder();
+        try {
+            write(sprint, content);
+        } catch (IOException e) {
+            // A StringBuilder never throws, but the Appendable contract says it may
+            throw new UncheckedIOException(e);
+        }
+        return new ConcreteReport(content.toString());
+    }
+
+    /**
+     * Returns a report that renders the sprint only when it is written, so it can be piped
+     * to its destination without holding the full text in memory.
+     */
+    default IReport stream(Sprint sprint) {
+        return new StreamingReport(this, sprint);
+    }
+}
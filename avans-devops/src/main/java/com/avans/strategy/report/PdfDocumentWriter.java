@@ -0,0 +1,248 @@
+package com.avans.strategy.report;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+
+/**
+ * Turns appended text into a PDF document with fixed width lines in Courier on A4 pages.
+ * A page is compressed and written to the output stream as soon as it is full, so only the
+ * page being filled is kept in memory no matter how long the document gets. The page tree,
+ * catalog and cross-reference table are written when the writer is closed.
+ *
+ * Characters outside Latin-1 cannot be shown by the standard fonts and are written as '?'.
+ */
+public class PdfDocumentWriter implements Appendable, Closeable {
+    private static final int PAGE_WIDTH = 595;
+    private static final int PAGE_HEIGHT = 842;
+    private static final int MARGIN = 50;
+    private static final int FOOTER_Y = 30;
+    private static final int FONT_SIZE = 10;
+    private static final int LEADING = 12;
+    private static final int LINES_PER_PAGE = (PAGE_HEIGHT - 2 * MARGIN) / LEADING;
+    // Courier glyphs are 600/1000 of the font size wide
+    private static final int CHARACTERS_PER_LINE = (PAGE_WIDTH - 2 * MARGIN) * 1000 / (600 * FONT_SIZE);
+
+    private static final int COMPRESSION_BUFFER_SIZE = 8 * 1024;
+    private static final byte[] SHOW_LINE = ") Tj T*\n".getBytes(StandardCharsets.ISO_8859_1);
+
+    private static final int CATALOG_OBJECT = 1;
+    private static final int PAGES_OBJECT = 2;
+    private static final int FONT_OBJECT = 3;
+
+    private final OutputStream out;
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    private final PageBuffer pageContent = new PageBuffer();
+    private byte[] compressedPage = new byte[COMPRESSION_BUFFER_SIZE];
+    private final StringBuilder currentLine = new StringBuilder();
+    // Every character may need an escape, plus the opening parenthesis and the operators
+    private final byte[] lineBuffer = new byte[2 * CHARACTERS_PER_LINE + 1 + SHOW_LINE.length];
+    private boolean pageOpen;
+    private long[] objectOffsets = new long[16];
+    private int[] pageObjects = new int[16];
+    private int objectCount = FONT_OBJECT;
+    private int pageCount;
+    private int linesOnPage;
+    private long position;
+    private boolean closed;
+
+    public PdfDocumentWriter(OutputStream out) throws IOException {
+        if (out == null) {
+            throw new IllegalArgumentException("Output stream cannot be null");
+        }
+        this.out = out;
+        emit("%PDF-1.4\n%\u00E2\u00E3\u00CF\u00D3\n"); // Binary marker for transfer tools
+        beginObject(FONT_OBJECT);
+        emit("<< /Type /Font /Subtype /Type1 /BaseFont /Courier /Encoding /WinAnsiEncoding >>\nendobj\n");
+    }
+
+    @Override
+    public PdfDocumentWriter append(CharSequence text) throws IOException {
+        CharSequence value = text == null ? "null" : text;
+        for (int i = 0; i < value.length(); i++) {
+            append(value.charAt(i));
+        }
+        return this;
+    }
+
+    @Override
+    public PdfDocumentWriter append(CharSequence text, int start, int end) throws IOException {
+        return append((text == null ? "null" : text).subSequence(start, end));
+    }
+
+    @Override
+    public PdfDocumentWriter append(char c) throws IOException {
+        ensureOpen();
+        if (c == '\n') {
+            writeLine();
+        } else if (c != '\r') {
+            currentLine.append(c);
+            if (currentLine.length() == CHARACTERS_PER_LINE) {
+                writeLine(); // Wrap lines that would run off the page
+            }
+        }
+        return this;
+    }
+
+    private void writeLine() throws IOException {
+        if (!pageOpen) {
+            startPage();
+        }
+        int length = 0;
+        lineBuffer[length++] = '(';
+        for (int i = 0; i < currentLine.length(); i++) {
+            char c = currentLine.charAt(i);
+            if (c == '(' || c == ')' || c == '\\') {
+                lineBuffer[length++] = '\\';
+            }
+            lineBuffer[length++] = (byte) (c > 0xFF ? '?' : c);
+        }
+        System.arraycopy(SHOW_LINE, 0, lineBuffer, length, SHOW_LINE.length);
+        pageContent.write(lineBuffer, 0, length + SHOW_LINE.length);
+        currentLine.setLength(0);
+
+        if (++linesOnPage == LINES_PER_PAGE) {
+            finishPage();
+        }
+    }
+
+    private void startPage() throws IOException {
+        pageCount++;
+        linesOnPage = 0;
+        pageOpen = true;
+        pageContent.reset();
+        pageContent.write(("BT\n/F1 " + FONT_SIZE + " Tf\n" + LEADING + " TL\n"
+                + MARGIN + " " + (PAGE_HEIGHT - MARGIN) + " Td\n").getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    private void finishPage() throws IOException {
+        pageContent.write(("ET\nBT\n/F1 8 Tf\n" + MARGIN + " " + FOOTER_Y + " Td\n(Page " + pageCount + ") Tj\nET\n")
+                .getBytes(StandardCharsets.ISO_8859_1));
+        pageOpen = false;
+
+        int compressedLength = compressPage();
+
+        int contentObject = nextObject();
+        beginObject(contentObject);
+        emit("<< /Length " + compressedLength + " /Filter /FlateDecode >>\nstream\n");
+        out.write(compressedPage, 0, compressedLength);
+        position += compressedLength;
+        emit("\nendstream\nendobj\n");
+
+        int pageObject = nextObject();
+        beginObject(pageObject);
+        emit("<< /Type /Page /Parent " + PAGES_OBJECT + " 0 R /MediaBox [0 0 " + PAGE_WIDTH + " " + PAGE_HEIGHT + "]"
+                + " /Resources << /Font << /F1 " + FONT_OBJECT + " 0 R >> >> /Contents " + contentObject + " 0 R >>\nendobj\n");
+
+        if (pageCount > pageObjects.length) {
+            pageObjects = Arrays.copyOf(pageObjects, pageObjects.length * 2);
+        }
+        pageObjects[pageCount - 1] = pageObject;
+    }
+
+    // Compresses the finished page in one pass into the reused compression buffer
+    private int compressPage() {
+        deflater.reset();
+        deflater.setInput(pageContent.array(), 0, pageContent.size());
+        deflater.finish();
+        int length = 0;
+        while (!deflater.finished()) {
+            if (length == compressedPage.length) {
+                compressedPage = Arrays.copyOf(compressedPage, compressedPage.length * 2);
+            }
+            length += deflater.deflate(compressedPage, length, compressedPage.length - length);
+        }
+        return length;
+    }
+
+    /**
+     * Writes the remaining text and the document trailer and flushes the stream. The
+     * underlying stream is left open so a caller can keep using it.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            if (currentLine.length() > 0) {
+                writeLine();
+            }
+            if (!pageOpen && pageCount == 0) {
+                startPage(); // A PDF needs at least one page
+            }
+            if (pageOpen) {
+                finishPage();
+            }
+            writeDocumentStructure();
+            out.flush();
+        } finally {
+            closed = true;
+            deflater.end();
+        }
+    }
+
+    private void writeDocumentStructure() throws IOException {
+        beginObject(PAGES_OBJECT);
+        StringBuilder kids = new StringBuilder();
+        for (int i = 0; i < pageCount; i++) {
+            kids.append(pageObjects[i]).append(" 0 R ");
+        }
+        emit("<< /Type /Pages /Count " + pageCount + " /Kids [" + kids + "] >>\nendobj\n");
+
+        beginObject(CATALOG_OBJECT);
+        emit("<< /Type /Catalog /Pages " + PAGES_OBJECT + " 0 R >>\nendobj\n");
+
+        long xrefOffset = position;
+        StringBuilder xref = new StringBuilder();
+        xref.append("xref\n0 ").append(objectCount + 1).append("\n0000000000 65535 f \n");
+        for (int object = 1; object <= objectCount; object++) {
+            xref.append(String.format("%010d 00000 n \n", objectOffsets[object]));
+        }
+        xref.append("trailer\n<< /Size ").append(objectCount + 1)
+            .append(" /Root ").append(CATALOG_OBJECT).append(" 0 R >>\nstartxref\n")
+            .append(xrefOffset).append("\n%%EOF\n");
+        emit(xref.toString());
+    }
+
+    private int nextObject() {
+        return ++objectCount;
+    }
+
+    private void beginObject(int object) throws IOException {
+        if (object >= objectOffsets.length) {
+            objectOffsets = Arrays.copyOf(objectOffsets, Math.max(object + 1, objectOffsets.length * 2));
+        }
+        objectOffsets[object] = position;
+        emit(object + " 0 obj\n");
+    }
+
+    private void emit(String text) throws IOException {
+        emit(text.getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    private void emit(byte[] bytes) throws IOException {
+        out.write(bytes);
+        position += bytes.length;
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("PDF document has already been closed");
+        }
+    }
+
+    public int getPageCount() {
+        return pageCount;
+    }
+
+    private static class PageBuffer extends ByteArrayOutputStream {
+        byte[] array() {
+            return buf;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.avans.strategy.report;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Writes a {@link ChartRaster} as an 8-bit palette PNG. The compressor and all buffers are
+ * kept between images, so an encoder can be reused for many charts. Image data is compressed
+ * row by row and written in fixed size IDAT chunks, the whole file is never held in memory.
+ * An encoder is not thread-safe.
+ */
+public class PngEncoder implements AutoCloseable {
+    private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] IHDR = "IHDR".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] PLTE = "PLTE".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] IDAT = "IDAT".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] IEND = "IEND".getBytes(StandardCharsets.US_ASCII);
+    private static final int CHUNK_SIZE = 32 * 1024;
+
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    private final CRC32 crc = new CRC32();
+    private final byte[] chunkBuffer = new byte[CHUNK_SIZE];
+    private final byte[] header = new byte[13];
+    private final byte[] intBuffer = new byte[4];
+    private byte[] rowBuffer = new byte[0];
+
+    /**
+     * @param palette RGB colors as 0xRRGGBB, indexed by the values stored in the raster
+     */
+    public void encode(ChartRaster raster, int[] palette, OutputStream out) throws IOException {
+        if (palette.length == 0 || palette.length > 256) {
+            throw new IllegalArgumentException("Palette must contain between 1 and 256 colors");
+        }
+        int width = raster.getWidth();
+        int height = raster.getHeight();
+
+        out.write(SIGNATURE);
+        writeHeader(width, height, out);
+        writePalette(palette, out);
+        writeImageData(raster.getPixels(), width, height, out);
+        writeChunk(out, IEND, chunkBuffer, 0);
+    }
+
+    private void writeHeader(int width, int height, OutputStream out) throws IOException {
+        putInt(header, 0, width);
+        putInt(header, 4, height);
+        header[8] = 8;  // bit depth
+        header[9] = 3;  // color type: palette
+        header[10] = 0; // deflate compression
+        header[11] = 0; // adaptive filtering
+        header[12] = 0; // no interlace
+        writeChunk(out, IHDR, header, header.length);
+    }
+
+    private void writePalette(int[] palette, OutputStream out) throws IOException {
+        int length = 0;
+        for (int color : palette) {
+            chunkBuffer[length++] = (byte) (color >> 16);
+            chunkBuffer[length++] = (byte) (color >> 8);
+            chunkBuffer[length++] = (byte) color;
+        }
+        writeChunk(out, PLTE, chunkBuffer, length);
+    }
+
+    private void writeImageData(byte[] pixels, int width, int height, OutputStream out) throws IOException {
+        if (rowBuffer.length != width + 1) {
+            rowBuffer = new byte[width + 1];
+        }
+        deflater.reset();
+        int pending = 0;
+
+        for (int y = 0; y < height; y++) {
+            rowBuffer[0] = 0; // filter type None, flat chart areas compress well without prediction
+            System.arraycopy(pixels, y * width, rowBuffer, 1, width);
+            deflater.setInput(rowBuffer);
+            while (!deflater.needsInput()) {
+                pending = deflateInto(out, pending);
+            }
+        }
+
+        deflater.finish();
+        while (!deflater.finished()) {
+            pending = deflateInto(out, pending);
+        }
+        if (pending > 0) {
+            writeChunk(out, IDAT, chunkBuffer, pending);
+        }
+    }
+
+    private int deflateInto(OutputStream out, int pending) throws IOException {
+        pending += deflater.deflate(chunkBuffer, pending, CHUNK_SIZE - pending);
+        if (pending == CHUNK_SIZE) {
+            writeChunk(out, IDAT, chunkBuffer, pending);
+            return 0;
+        }
+        return pending;
+    }
+
+    private void writeChunk(OutputStream out, byte[] type, byte[] data, int length) throws IOException {
+        putInt(intBuffer, 0, length);
+        out.write(intBuffer);
+        out.write(type);
+        out.write(data, 0, length);
+
+        crc.reset();
+        crc.update(type);
+        crc.update(data, 0, length);
+        putInt(intBuffer, 0, (int) crc.getValue());
+        out.write(intBuffer);
+    }
+
+    private static void putInt(byte[] target, int offset, int value) {
+        target[offset] = (byte) (value >>> 24);
+        target[offset + 1] = (byte) (value >>> 16);
+        target[offset + 2] = (byte) (value >>> 8);
+        target[offset + 3] = (byte) value;
+    }
+
+    @Override
+    public void close() {
+        deflater.end();
+    }
+}
@@ -1,55 +1,73 @@
 package com.avans.strategy.report;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
-import com.avans.decorator.ConcreteReport;
-import com.avans.decorator.IReport;
-import com.avans.domain.backlog.BacklogItem;
-import com.avans.domain.backlog.state.DoneState;
 import com.avans.domain.member.TeamMember;
 import com.avans.domain.project.Sprint;
 
 public class PngReportStrategy implements IReportStrategy {
+    private static final int IMAGE_WIDTH = 1280;
+    private static final int IMAGE_HEIGHT = 720;
+
+    // Shared so that nightly batches reuse the same pooled image buffers
+    private static final BurndownChartRenderer SHARED_RENDERER = new BurndownChartRenderer(IMAGE_WIDTH, IMAGE_HEIGHT);
+
+    private final BurndownChartRenderer renderer;
+
+    public PngReportStrategy() {
+        this(SHARED_RENDERER);
+    }
+
+    public PngReportStrategy(BurndownChartRenderer renderer) {
+        if (renderer == null) {
+            throw new IllegalArgumentException("Chart renderer cannot be null");
+        }
+        this.renderer = renderer;
+    }
+
+    /**
+     * Renders the burndown chart of the sprint as a PNG image. The stream is not closed.
+     */
+    public void writePng(Sprint sprint, OutputStream out) throws IOException {
+        renderer.render(createChartData(sprint), out);
+    }
+
     @Override
-    public IReport generate(Sprint sprint) {
-        StringBuilder reportContent = new StringBuilder();
-        
+    public void write(Sprint sprint, Appendable reportContent) throws IOException {
         // Build header
         buildReportHeader(reportContent, sprint);
-        
+
         // Team visualization section
         buildTeamSection(reportContent, sprint);
-        
-        // Progress chart 
+
+        // Progress chart
         buildStatusDashboard(reportContent, sprint);
-        
+
         // Burndown chart
         buildBurndownChart(reportContent, sprint);
-        
-        // Additional metadata specific to PNG format
+
+        // Describes the image that writePng produces next to this text
         buildMetadataSection(reportContent);
-        
-        return new ConcreteReport(reportContent.toString());
     }
-    
-    private void buildReportHeader(StringBuilder reportContent, Sprint sprint) {
+
+    private void buildReportHeader(Appendable reportContent, Sprint sprint) throws IOException {
         reportContent.append("=== PNG SPRINT REPORT (Graphical Format) ===\n\n");
         reportContent.append("Sprint: ").append(sprint.getName()).append("\n");
         reportContent.append("Period: ").append(formatDate(sprint.getStartDate()))
                      .append(" - ").append(formatDate(sprint.getEndDate())).append("\n\n");
     }
-    
-    private void buildTeamSection(StringBuilder reportContent, Sprint sprint) {
+
+    private void buildTeamSection(Appendable reportContent, Sprint sprint) throws IOException {
         reportContent.append("== TEAM VISUALIZATION ==\n");
         reportContent.append("┌────────────────────┐\n");
         reportContent.append("│ Scrum Master:      │\n");
         reportContent.append("│ ").append(padRight(getScrumMasterName(sprint), 16)).append(" │\n");
         reportContent.append("└────────────────────┘\n");
-        
+
         reportContent.append("\nTeam Members:\n");
         for (TeamMember member : sprint.getTeamMembers()) {
             reportContent.append("┌────────────────────┐\n");
@@ -58,78 +76,75 @@ public class PngReportStrategy implements IReportStrategy {
             reportContent.append("└────────────────────┘\n");
         }
     }
-    
-    private void buildStatusDashboard(StringBuilder reportContent, Sprint sprint) {
-        List<BacklogItem> items = sprint.getBacklogItems();
-        
-        // Count items by state
-        Map<String, Long> stateCount = items.stream()
-            .collect(Collectors.groupingBy(item -> item.getState().getName(), Collectors.counting()));
-        
+
+    private void buildStatusDashboard(Appendable reportContent, Sprint sprint) throws IOException {
+        // Item counts per state are maintained by the sprint itself
+        Map<String, Integer> stateCount = sprint.getBacklogStateCounts();
+
         reportContent.append("\n== STATUS DASHBOARD ==\n");
-        int totalItems = items.size();
-        reportContent.append("Total Items: ").append(totalItems).append("\n\n");
-        
+        int totalItems = sprint.getBacklogItems().size();
+        reportContent.append("Total Items: ").append(String.valueOf(totalItems)).append("\n\n");
+
         // Draw a bar chart
         if (totalItems > 0) {
-            stateCount.forEach((state, count) -> {
+            for (Map.Entry<String, Integer> entry : stateCount.entrySet()) {
+                int count = entry.getValue();
                 int barLength = (int) (20.0 * count / totalItems);
-                reportContent.append(padRight(state, 10))
+                reportContent.append(padRight(entry.getKey(), 10))
                              .append("│")
                              .append("█".repeat(barLength))
                              .append(" ")
-                             .append(count)
+                             .append(String.valueOf(count))
                              .append("\n");
-            });
+            }
         }
     }
-    
-    private void buildBurndownChart(StringBuilder reportContent, Sprint sprint) {
-        List<BacklogItem> items = sprint.getBacklogItems();
-        int totalItems = items.size();
-        
+
+    private void buildBurndownChart(Appendable reportContent, Sprint sprint) throws IOException {
+        int totalItems = sprint.getBacklogItems().size();
+
         if (totalItems == 0) {
             reportContent.append("\n== BURNDOWN CHART ==\n");
             reportContent.append("No items to display in burndown chart.\n");
             return;
         }
-        
-        int completedItems = (int) items.stream().filter(item -> item.getState() instanceof DoneState).count();
-        int sprintLength = calculateDuration(sprint.getStartDate(), sprint.getEndDate());
-        int daysElapsed = calculateDaysElapsed(sprint.getStartDate(), LocalDate.now());
-        
-        BurndownChartData chartData = new BurndownChartData(
-            totalItems, completedItems, sprintLength, daysElapsed);
-        
+
+        BurndownChartData chartData = createChartData(sprint);
+        int sprintLength = chartData.getSprintLength();
+
         reportContent.append("\n== BURNDOWN CHART ==\n");
         reportContent.append("Items remaining to complete:\n");
-        
+
         if (sprintLength <= 0) {
             reportContent.append("No valid sprint duration available.\n");
             return;
         }
-        
+
         // Print day headers
         buildBurndownHeaders(reportContent, sprintLength);
-        
+
         // Build ideal and actual lines
         buildBurndownLines(reportContent, chartData);
-        
+
         // Build visual chart
         buildVisualBurndownChart(reportContent, chartData);
     }
-    
-    private void buildBurndownHeaders(StringBuilder reportContent, int sprintLength) {
+
+    private BurndownChartData createChartData(Sprint sprint) {
+        return BurndownChartData.fromSprint(sprint, LocalDate.now());
+    }
+
+    private void buildBurndownHeaders(Appendable reportContent, int sprintLength) throws IOException {
         reportContent.append("     ");
         for (int day = 0; day <= sprintLength; day++) {
             reportContent.append(String.format("%2d ", day));
         }
         reportContent.append("\n");
     }
-    
-    private void buildBurndownLines(StringBuilder reportContent, BurndownChartData data) {
+
+    private void buildBurndownLines(Appendable reportContent, BurndownChartData data) throws IOException {
         int sprintLength = data.getSprintLength();
-        
+
         // Ideal line
         reportContent.append("Ideal");
         for (int day = 0; day <= sprintLength; day++) {
@@ -137,7 +152,7 @@ public class PngReportStrategy implements IReportStrategy {
             reportContent.append(String.format("%2d ", expected));
         }
         reportContent.append("\n");
-        
+
         // Actual line (with question marks for future)
         reportContent.append("Actual");
         for (int day = 0; day <= sprintLength; day++) {
@@ -150,33 +165,33 @@ public class PngReportStrategy implements IReportStrategy {
         }
         reportContent.append("\n");
     }
-    
-    private void buildVisualBurndownChart(StringBuilder reportContent, BurndownChartData data) {
+
+    private void buildVisualBurndownChart(Appendable reportContent, BurndownChartData data) throws IOException {
         // Visual representation
         buildChartRows(reportContent, data);
-        
+
         // Chart footer
         buildChartFooter(reportContent, data.getSprintLength());
     }
-    
-    private void buildChartRows(StringBuilder reportContent, BurndownChartData data) {
+
+    private void buildChartRows(Appendable reportContent, BurndownChartData data) throws IOException {
         int totalItems = data.getTotalItems();
         int sprintLength = data.getSprintLength();
-        
+
         for (int items = totalItems; items >= 0; items--) {
             reportContent.append(String.format("%3d |", items));
-            
+
             for (int day = 0; day <= sprintLength; day++) {
                 int expected = data.calculateExpectedItemsRemaining(day);
                 int actual = data.calculateActualItemsRemaining(day);
-                
+
                 appendChartCharacter(reportContent, items, expected, actual);
             }
             reportContent.append("\n");
         }
     }
-    
-    private void appendChartCharacter(StringBuilder reportContent, int items, int expected, int actual) {
+
+    private void appendChartCharacter(Appendable reportContent, int items, int expected, int actual) throws IOException {
         if (actual >= 0) { // Not a future day
             if (items == expected && items == actual) {
                 reportContent.append(" X "); // Both ideal and actual
@@ -195,45 +210,36 @@ public class PngReportStrategy implements IReportStrategy {
             }
         }
     }
-    
-    private void buildChartFooter(StringBuilder reportContent, int sprintLength) {
+
+    private void buildChartFooter(Appendable reportContent, int sprintLength) throws IOException {
         reportContent.append("    +");
         reportContent.append("-".repeat((sprintLength + 1) * 3));
         reportContent.append("\n");
-        
+
         reportContent.append("     ");
         for (int day = 0; day <= sprintLength; day++) {
             reportContent.append(String.format("%2d ", day));
         }
         reportContent.append("\n");
     }
-    
-    private void buildMetadataSection(StringBuilder reportContent) {
-        reportContent.append("\n== IMAGE METADATA ==\n");
+
+    private void buildMetadataSection(Appendable reportContent) throws IOException {
+        reportContent.append("\n== BURNDOWN IMAGE ==\n");
         reportContent.append("Generated on: ").append(formatDate(LocalDate.now())).append("\n");
-        reportContent.append("Format: PNG Image\n");
-        reportContent.append("Resolution: 1280x720px\n");
-        reportContent.append("Color mode: RGB\n");
+        reportContent.append("The burndown chart image is a separate PNG output (writePng), ")
+                     .append(String.valueOf(renderer.getWidth())).append("x")
+                     .append(String.valueOf(renderer.getHeight())).append("px with an indexed palette\n");
     }
-    
+
     private String formatDate(LocalDate date) {
         return date.format(DateTimeFormatter.ofPattern("dd MMM yyyy"));
     }
-    
+
     private String getScrumMasterName(Sprint sprint) {
         return sprint.getScrumMaster() != null ? sprint.getScrumMaster().getName() : "Not assigned";
     }
-    
+
     private String padRight(String s, int n) {
         return String.format("%-" + n + "s", s);
     }
-    
-    private int calculateDuration(LocalDate start, LocalDate end) {
-        return (int) java.time.temporal.ChronoUnit.DAYS.between(start, end) + 1;
-    }
-    
-    private int calculateDaysElapsed(LocalDate start, LocalDate current) {
-        return (int) java.time.temporal.ChronoUnit.DAYS.between(start, 
-                current.isAfter(start) ? current : start);
-    }
 }
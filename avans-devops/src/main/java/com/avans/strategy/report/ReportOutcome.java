@@ -0,0 +1,56 @@
+package com.avans.strategy.report;
+
+import java.util.concurrent.TimeoutException;
+
+import com.avans.decorator.IReport;
+import com.avans.domain.project.Sprint;
+
+/**
+ * Result of generating one report in a {@link BatchReportEngine} batch: either the report or
+ * the reason it could not be generated.
+ */
+public final class ReportOutcome {
+    private final Sprint sprint;
+    private final IReportStrategy strategy;
+    private final IReport report;
+    private final Throwable failure;
+    private final long elapsedNanos;
+
+    ReportOutcome(Sprint sprint, IReportStrategy strategy, IReport report, Throwable failure, long elapsedNanos) {
+        this.sprint = sprint;
+        this.strategy = strategy;
+        this.report = report;
+        this.failure = failure;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public Sprint getSprint() {
+        return sprint;
+    }
+
+    public IReportStrategy getStrategy() {
+        return strategy;
+    }
+
+    // The generated report, or null when generating it failed
+    public IReport getReport() {
+        return report;
+    }
+
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    public boolean isSuccessful() {
+        return failure == null;
+    }
+
+    public boolean isTimedOut() {
+        return failure instanceof TimeoutException;
+    }
+
+    // Time spent generating the report; 0 for reports that were never started
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+}
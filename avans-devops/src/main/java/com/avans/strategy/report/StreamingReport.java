@@ -0,0 +1,37 @@
+package com.avans.strategy.report;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import com.avans.decorator.IReport;
+import com.avans.domain.project.Sprint;
+
+/**
+ * Report that is rendered by its strategy every time it is written. Writing it to a stream
+ * never holds more than the section currently being rendered in memory.
+ */
+public class StreamingReport implements IReport {
+    private final IReportStrategy strategy;
+    private final Sprint sprint;
+
+    public StreamingReport(IReportStrategy strategy, Sprint sprint) {
+        this.strategy = strategy;
+        this.sprint = sprint;
+    }
+
+    @Override
+    public String getContent() {
+        StringBuilder content = new StringBuilder();
+        try {
+            strategy.write(sprint, content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return content.toString();
+    }
+
+    @Override
+    public void writeTo(Appendable out) throws IOException {
+        strategy.write(sprint, out);
+    }
+}
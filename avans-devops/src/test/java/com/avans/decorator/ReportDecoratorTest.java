@@ -2,6 +2,11 @@ package com.avans.decorator;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -86,4 +91,147 @@ class ReportDecoratorTest {
         assertTrue(result.contains(content));
         assertEquals(header + "\n" + content + "\n" + footer, result);
     }
+
+    @Test
+    @DisplayName("Decorated report should stream the same content it returns")
+    void decoratedReportShouldStreamSameContent() throws IOException {
+        // Arrange
+        IReport report = new FooterDecorator(
+                new HeaderDecorator(new ConcreteReport("Test report content"), "REPORT HEADER"),
+                "REPORT FOOTER");
+        StringWriter writer = new StringWriter();
+
+        // Act
+        report.writeTo(writer);
+
+        // Assert
+        assertEquals(report.getContent(), writer.toString());
+    }
+
+    @Test
+    @DisplayName("Report should be written to an output stream as UTF-8")
+    void reportShouldBeWrittenToOutputStreamAsUtf8() throws IOException {
+        // Arrange
+        IReport report = new HeaderDecorator(new ConcreteReport("│ █ content"), "HEADER");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        report.writeTo(out);
+
+        // Assert
+        assertEquals("HEADER\n│ █ content", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Decorated immutable report should be rendered only once")
+    void decoratedImmutableReportShouldBeRenderedOnce() {
+        // Arrange
+        CountingReport base = new CountingReport(true);
+        IReport report = new FooterDecorator(new HeaderDecorator(base, "HEADER"), "FOOTER");
+        
+        // Act
+        String first = report.getContent();
+        String second = report.getContent();
+        
+        // Assert
+        assertEquals("HEADER\ncontent\nFOOTER", first);
+        assertSame(first, second);
+        assertEquals(1, base.reads);
+        assertTrue(report.isImmutable());
+    }
+    
+    @Test
+    @DisplayName("Decorated live report should be rendered on every read")
+    void decoratedLiveReportShouldBeRenderedEveryTime() {
+        // Arrange
+        CountingReport base = new CountingReport(false);
+        IReport report = new HeaderDecorator(base, "HEADER");
+        
+        // Act
+        report.getContent();
+        report.getContent();
+        
+        // Assert
+        assertEquals(2, base.reads);
+        assertFalse(report.isImmutable());
+    }
+    
+    @Test
+    @DisplayName("Long decorator chain should keep headers and footers in nesting order")
+    void longDecoratorChainShouldKeepNestingOrder() throws IOException {
+        // Arrange
+        IReport report = new ConcreteReport("content");
+        StringBuilder expected = new StringBuilder("content");
+        for (int i = 0; i < 500; i++) {
+            report = new FooterDecorator(new HeaderDecorator(report, "H" + i), "F" + i);
+            expected.insert(0, "H" + i + "\n").append("\nF").append(i);
+        }
+        StringWriter writer = new StringWriter();
+        
+        // Act
+        report.writeTo(writer);
+        
+        // Assert
+        assertEquals(expected.toString(), writer.toString());
+        assertEquals(expected.toString(), report.getContent());
+    }
+    
+    @Test
+    @DisplayName("Decorator over an already rendered decorator should reuse its content")
+    void outerDecoratorShouldReuseRenderedInnerContent() {
+        // Arrange
+        CountingReport base = new CountingReport(true);
+        IReport inner = new HeaderDecorator(base, "INNER");
+        inner.getContent();
+        
+        // Act
+        String content = new FooterDecorator(inner, "OUTER").getContent();
+        
+        // Assert
+        assertEquals("INNER\ncontent\nOUTER", content);
+        assertEquals(1, base.reads);
+    }
+    
+    private static class CountingReport implements IReport {
+        private final boolean immutable;
+        private int reads;
+        
+        CountingReport(boolean immutable) {
+            this.immutable = immutable;
+        }
+        
+        @Override
+        public String getContent() {
+            reads++;
+            return "content";
+        }
+        
+        @Override
+        public boolean isImmutable() {
+            return immutable;
+        }
+    }
+
+    @Test
+    @DisplayName("Decorator that overrides getContent should keep its text inside another decorator")
+    void overridingDecoratorShouldKeepItsText() throws IOException {
+        // Arrange
+        IReport legacy = new ReportDecorator(new ConcreteReport("body")) {
+            @Override
+            public String getContent() {
+                return "legacy\n" + super.getContent();
+            }
+        };
+        IReport report = new HeaderDecorator(legacy, "header");
+
+        // Act
+        String content = report.getContent();
+        StringWriter streamed = new StringWriter();
+        report.writeTo(streamed);
+
+        // Assert
+        assertEquals("header\nlegacy\nbody", content);
+        assertEquals(content, streamed.toString());
+        assertFalse(report.isImmutable());
+    }
 }
@@ -0,0 +1,91 @@
+package com.avans.domain.backlog;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.avans.domain.backlog.state.BacklogWorkflow;
+import com.avans.domain.backlog.state.DoingState;
+import com.avans.domain.backlog.state.DoneState;
+import com.avans.domain.backlog.state.IBacklogState;
+import com.avans.domain.backlog.state.TodoState;
+
+class BacklogWorkflowTest {
+
+    @Test
+    @DisplayName("Transitions should reuse the shared state instances")
+    void transitionsShouldReuseSharedInstances() {
+        // Arrange
+        BacklogItem first = new BacklogItem("First");
+        BacklogItem second = new BacklogItem("Second");
+
+        // Act
+        first.moveToNextState();
+        second.moveToNextState();
+
+        // Assert
+        assertSame(DoingState.INSTANCE, first.getState());
+        assertSame(first.getState(), second.getState());
+    }
+
+    @Test
+    @DisplayName("Workflow table should list states in order and stop at Done")
+    void workflowTableShouldListStatesInOrder() {
+        // Arrange
+        List<String> names = new ArrayList<>();
+
+        // Act
+        for (IBacklogState state : BacklogWorkflow.getStates()) {
+            names.add(state.getName());
+        }
+
+        // Assert
+        assertEquals(List.of("Todo", "Doing", "Ready for Testing", "Testing", "Tested", "Done"), names);
+        assertSame(DoingState.INSTANCE, BacklogWorkflow.next(TodoState.INSTANCE));
+        assertSame(DoneState.INSTANCE, BacklogWorkflow.next(DoneState.INSTANCE));
+        assertSame(DoneState.INSTANCE, BacklogWorkflow.byName("Done"));
+        assertThrows(IllegalArgumentException.class, () -> BacklogWorkflow.byName("Unknown"));
+    }
+
+    @Test
+    @DisplayName("Every state should know its position and successor, and unknown states should be rejected")
+    void positionsShouldFollowWorkflowOrder() {
+        // Arrange
+        List<IBacklogState> states = BacklogWorkflow.getStates();
+        IBacklogState unknown = mock(IBacklogState.class);
+
+        // Act & Assert
+        for (int i = 0; i < states.size(); i++) {
+            assertEquals(i, BacklogWorkflow.indexOf(states.get(i)));
+            assertSame(states.get(Math.min(i + 1, states.size() - 1)), BacklogWorkflow.next(states.get(i)));
+        }
+        assertThrows(IllegalArgumentException.class, () -> BacklogWorkflow.indexOf(unknown));
+        assertThrows(IllegalArgumentException.class, () -> BacklogWorkflow.next(unknown));
+    }
+
+    @Test
+    @DisplayName("Transition listeners should receive the old and new state")
+    void transitionListenersShouldReceiveOldAndNewState() {
+        // Arrange
+        BacklogItem item = new BacklogItem("Login");
+        List<String> transitions = new ArrayList<>();
+        item.addListener(new IBacklogItemListener() {
+            @Override
+            public void onStateChanged(BacklogItem changed, IBacklogState oldState, IBacklogState newState) {
+                transitions.add(oldState.getName() + " -> " + newState.getName());
+            }
+        });
+
+        // Act
+        item.moveToNextState();
+        item.revertToTodo();
+
+        // Assert
+        assertEquals(List.of("Todo -> Doing", "Doing -> Todo"), transitions);
+    }
+}
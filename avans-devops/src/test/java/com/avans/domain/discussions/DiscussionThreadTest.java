@@ -63,7 +63,7 @@ class DiscussionThreadTest {
     @DisplayName("Discussion thread should be locked when backlog item is done")
     void shouldBeLockWhenBacklogItemIsDone() {
         // Setup backlog item with Done state
-        when(backlogItem.getState()).thenReturn(new DoneState());
+        when(backlogItem.getState()).thenReturn(DoneState.INSTANCE);
         
         discussionThread.setBacklogItem(backlogItem);
         discussionThread.updateLockStatusBasedOnBacklogItem();
@@ -75,7 +75,7 @@ class DiscussionThreadTest {
     @DisplayName("Discussion thread should be unlocked when backlog item is not done")
     void shouldBeUnlockedWhenBacklogItemIsNotDone() {
         // Setup backlog item with non-Done state
-        when(backlogItem.getState()).thenReturn(new TodoState());
+        when(backlogItem.getState()).thenReturn(TodoState.INSTANCE);
         
         // First lock it
         discussionThread.lock();
@@ -2,12 +2,17 @@ package com.avans.domain.project;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.time.LocalDate;
 import java.nio.charset.StandardCharsets;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import com.avans.storage.BlobStore;
+
 class DocumentTest {
 
     @Test
@@ -55,4 +60,63 @@ class DocumentTest {
         assertArrayEquals(emptyContent, document.getContent());
         assertEquals(0, document.getContent().length);
     }
+
+    @Test
+    @DisplayName("Document content should be readable as a read-only buffer and a stream")
+    void documentContentShouldBeReadableWithoutCopying() throws IOException {
+        // Arrange
+        byte[] content = "Review summary".getBytes(StandardCharsets.UTF_8);
+        Document document = new Document("summary.pdf", content, new BlobStore());
+        
+        // Act
+        ByteBuffer buffer = document.getContentBuffer();
+        byte[] streamed;
+        try (InputStream in = document.openContent()) {
+            streamed = in.readAllBytes();
+        }
+        
+        // Assert
+        assertTrue(buffer.isReadOnly());
+        assertEquals(content.length, buffer.remaining());
+        assertArrayEquals(content, streamed);
+    }
+    
+    @Test
+    @DisplayName("Documents with equal content should share one stored blob")
+    void documentsWithEqualContentShouldShareOneBlob() {
+        // Arrange
+        BlobStore store = new BlobStore();
+        byte[] content = "Review summary".getBytes(StandardCharsets.UTF_8);
+        
+        // Act
+        Document first = new Document("summary.pdf", content, store);
+        Document second = new Document("summary-copy.pdf", content, store);
+        
+        // Assert
+        assertEquals(first.getContentHash(), second.getContentHash());
+        assertEquals(1, store.getBlobCount());
+        assertEquals(content.length, store.getStoredBytes());
+    }
+    
+    @Test
+    @DisplayName("Released document should give its content back to the store")
+    void releasedDocumentShouldGiveContentBack() {
+        // Arrange
+        BlobStore store = new BlobStore();
+        byte[] content = "Review summary".getBytes(StandardCharsets.UTF_8);
+        Document first = new Document("summary.pdf", content, store);
+        Document second = new Document("summary-copy.pdf", content, store);
+        
+        // Act
+        first.release();
+        first.release();
+        int blobsAfterFirst = store.getBlobCount();
+        second.release();
+        
+        // Assert
+        assertEquals(1, blobsAfterFirst);
+        assertEquals(0, store.getBlobCount());
+        assertTrue(first.isReleased());
+        assertThrows(IllegalStateException.class, first::getContent);
+    }
 }
@@ -2,6 +2,9 @@ package com.avans.domain.project;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Random;
 
 import org.junit.jupiter.api.DisplayName;
@@ -9,6 +12,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import com.avans.storage.BlobStore;
+
 class DocumentValidationTest {
 
     @Test
@@ -128,4 +133,64 @@ class DocumentValidationTest {
         // Assert
         assertEquals(content.length, document.getContentSizeInBytes());
     }
+
+    @Test
+    @DisplayName("Uploaded document should hold the streamed content")
+    void uploadedDocumentShouldHoldStreamedContent() throws IOException {
+        // Arrange
+        byte[] content = "Test content".getBytes();
+        
+        // Act
+        Document document = Document.upload("document.pdf", new ByteArrayInputStream(content), new BlobStore());
+        
+        // Assert
+        assertEquals("document.pdf", document.getFilename());
+        assertArrayEquals(content, document.getContent());
+        assertEquals(new Document("document.pdf", content).getContentHash(), document.getContentHash());
+    }
+    
+    @Test
+    @DisplayName("Upload should reject a disallowed extension before reading the stream")
+    void uploadShouldRejectExtensionBeforeReading() {
+        // Arrange
+        ByteArrayInputStream in = new ByteArrayInputStream("Test content".getBytes());
+        
+        // Act & Assert
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> {
+            Document.upload("document.exe", in);
+        });
+        
+        assertTrue(exception.getMessage().contains("File has invalid extension"));
+        assertEquals(12, in.available());
+    }
+    
+    @Test
+    @DisplayName("Upload should stop reading once content exceeds maximum size")
+    void uploadShouldStopAtMaximumSize() {
+        // Arrange
+        BlobStore store = new BlobStore();
+        long[] produced = new long[1];
+        InputStream endless = new InputStream() {
+            @Override
+            public int read() {
+                produced[0]++;
+                return 0;
+            }
+            
+            @Override
+            public int read(byte[] bytes, int offset, int length) {
+                produced[0] += length;
+                return length;
+            }
+        };
+        
+        // Act & Assert
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> {
+            Document.upload("large-document.pdf", endless, store);
+        });
+        
+        assertTrue(exception.getMessage().contains("Document exceeds maximum size"));
+        assertTrue(produced[0] <= 11 * 1024 * 1024);
+        assertEquals(0, store.getBlobCount());
+    }
 }
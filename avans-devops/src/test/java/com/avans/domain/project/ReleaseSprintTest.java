@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,6 +19,8 @@ import com.avans.domain.member.ProductOwner;
 import com.avans.domain.member.ScrumMaster;
 import com.avans.observer.IObserver;
 import com.avans.pipeline.Pipeline;
+import com.avans.pipeline.ReleaseExecutionService;
+import com.avans.pipeline.ReleaseHandle;
 import com.avans.state.release.IReleaseSprintState;
 import com.avans.state.release.ReleaseCreatedState;
 import com.avans.state.release.ReleaseInProgressState;
@@ -92,10 +96,10 @@ class ReleaseSprintTest {
         releaseSprint.setScrumMaster(scrumMaster);
         releaseSprint.addTeamMember(scrumMaster);
         releaseSprint.setPipeline(pipeline);
-        releaseSprint.addBacklogItem(backlogItem);
         
-        // Mock backlog item to indicate it's not done
+        // Mock backlog item to indicate it's not done (read when the item is added)
         when(backlogItem.isDone()).thenReturn(false);
+        releaseSprint.addBacklogItem(backlogItem);
         
         // Start and finish the sprint
         releaseSprint.start();
@@ -171,6 +175,112 @@ class ReleaseSprintTest {
         verify(mockState).performRelease(releaseSprint);
     }
 
+    @Test
+    @DisplayName("Release pipeline should run on the release service of the sprint")
+    void releasePipelineShouldRunOnReleaseService() throws Exception {
+        // Arrange
+        IReleaseSprintState mockState = mock(IReleaseSprintState.class);
+        releaseSprint.setState(mockState);
+        releaseSprint.setPipeline(pipeline);
+
+        try (ReleaseExecutionService service = new ReleaseExecutionService(1, 1, 1)) {
+            releaseSprint.setReleaseService(service);
+
+            // Act
+            ReleaseHandle handle = releaseSprint.performRelease();
+            handle.get(5, TimeUnit.SECONDS);
+
+            // Assert
+            assertSame(handle, releaseSprint.getCurrentRelease());
+            verify(pipeline).runAllSteps();
+        }
+    }
+
+    @Test
+    @DisplayName("Release cancelled before its pipeline ran should stop counting as running")
+    void releaseCancelledBeforeRunShouldStopRunning() throws Exception {
+        // Arrange
+        releaseSprint.setState(new ReleaseInProgressState());
+        releaseSprint.setPipeline(pipeline);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch blocking = new CountDownLatch(1);
+
+        try (ReleaseExecutionService service = new ReleaseExecutionService(1, 1, 1)) {
+            releaseSprint.setReleaseService(service);
+            service.submit(releaseSprint, "Earlier release", () -> {
+                started.countDown();
+                awaitQuietly(blocking);
+            });
+            awaitQuietly(started);
+
+            // Act
+            ReleaseHandle handle = releaseSprint.performRelease();
+            handle.cancel(false);
+            blocking.countDown();
+
+            // Assert
+            assertFalse(releaseSprint.isPipelineRunning());
+            verify(pipeline, never()).runAllSteps();
+            verify(observer).update(contains("cancelled before its pipeline ran"));
+        }
+    }
+
+    @Test
+    @DisplayName("Rejected release should keep the state the sprint had")
+    void rejectedReleaseShouldKeepState() {
+        // Arrange
+        IReleaseSprintState inProgress = new ReleaseInProgressState();
+        releaseSprint.setState(inProgress);
+        releaseSprint.setPipeline(pipeline);
+        ReleaseExecutionService service = new ReleaseExecutionService(1, 1, 1);
+        service.shutdown();
+        releaseSprint.setReleaseService(service);
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> releaseSprint.performRelease());
+
+        // Assert
+        assertSame(inProgress, releaseSprint.getState());
+        assertFalse(releaseSprint.isPipelineRunning());
+        verify(pipeline, never()).runAllSteps();
+    }
+
+    @Test
+    @DisplayName("Accepted retry should run the pipeline as a retry of the failed run")
+    void acceptedRetryShouldRetryPipeline() throws Exception {
+        // Arrange
+        releaseSprint.setState(new ReleaseInProgressState());
+        releaseSprint.setPipeline(pipeline);
+
+        try (ReleaseExecutionService service = new ReleaseExecutionService(1, 1, 1)) {
+            releaseSprint.setReleaseService(service);
+
+            // Act
+            ReleaseHandle handle = releaseSprint.retryRelease();
+            handle.get(5, TimeUnit.SECONDS);
+
+            // Assert
+            verify(pipeline).retryAllSteps();
+            verify(pipeline, never()).runAllSteps();
+        }
+    }
+
+    @Test
+    @DisplayName("Refused retry should not run the pipeline")
+    void refusedRetryShouldNotRunPipeline() {
+        // Arrange
+        releaseSprint.setPipeline(pipeline);
+
+        // Act
+        ReleaseHandle handle = releaseSprint.retryRelease();
+
+        // Assert
+        assertNull(handle);
+        assertFalse(releaseSprint.isPipelineRunning());
+        verify(pipeline, never()).retryAllSteps();
+        verify(pipeline, never()).runAllSteps();
+    }
+
     @Test
     @DisplayName("Cannot retry release while pipeline is running")
     void cannotRetryReleaseWhilePipelineIsRunning() {
@@ -200,4 +310,12 @@ class ReleaseSprintTest {
         
         assertTrue(exception.getMessage().contains("Cannot cancel release while pipeline is still running"));
     }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
@@ -0,0 +1,199 @@
+package com.avans.domain.project;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.avans.domain.backlog.Activity;
+import com.avans.domain.backlog.BacklogItem;
+import com.avans.domain.member.Developer;
+
+class SprintCountersTest {
+
+    private ReviewSprint sprint;
+
+    @BeforeEach
+    void setUp() {
+        sprint = new ReviewSprint("Sprint 1", LocalDate.now(), LocalDate.now().plusWeeks(2));
+    }
+
+    @Test
+    @DisplayName("State counters should follow backlog item transitions")
+    void stateCountersShouldFollowTransitions() {
+        // Arrange
+        BacklogItem first = new BacklogItem("First");
+        BacklogItem second = new BacklogItem("Second");
+        sprint.addBacklogItem(first);
+        sprint.addBacklogItem(second);
+
+        // Act
+        first.moveToNextState();
+        first.moveToNextState();
+
+        // Assert
+        assertEquals(Map.of("Todo", 1, "Ready for Testing", 1), sprint.getBacklogStateCounts());
+        assertEquals(0, sprint.getBacklogStateCount("Doing"));
+        assertEquals(2, sprint.getBacklogItemCount());
+    }
+
+    @Test
+    @DisplayName("All done should only be true when every item and activity is done")
+    void allDoneShouldFollowItemsAndActivities() {
+        // Arrange
+        BacklogItem item = new BacklogItem("Login");
+        Activity activity = new Activity("OAuth2", 4);
+        item.addActivity(activity);
+        sprint.addBacklogItem(item);
+        activity.setDone(true);
+        moveToDone(item);
+        assertTrue(sprint.areAllBacklogItemsDone());
+
+        // Act - reopening an activity makes the item unfinished again
+        activity.setDone(false);
+
+        // Assert
+        assertFalse(sprint.areAllBacklogItemsDone());
+        assertEquals(0, sprint.getFinishedBacklogItemCount());
+        assertEquals(1, sprint.getBacklogStateCount("Done"));
+        assertEquals(0, sprint.getBacklogItemsWithAllActivitiesDoneCount());
+
+        activity.setDone(true);
+        assertTrue(sprint.areAllBacklogItemsDone());
+    }
+
+    @Test
+    @DisplayName("Adding an open activity should update the activity counter")
+    void addingOpenActivityShouldUpdateCounter() {
+        // Arrange
+        BacklogItem item = new BacklogItem("Login");
+        sprint.addBacklogItem(item);
+        assertEquals(1, sprint.getBacklogItemsWithAllActivitiesDoneCount());
+
+        // Act
+        item.addActivity(new Activity("OAuth2", 4));
+
+        // Assert
+        assertEquals(0, sprint.getBacklogItemsWithAllActivitiesDoneCount());
+    }
+
+    @Test
+    @DisplayName("Removed items should no longer be counted or tracked")
+    void removedItemsShouldNoLongerBeCounted() {
+        // Arrange
+        BacklogItem item = new BacklogItem("Login");
+        sprint.addBacklogItem(item);
+        moveToDone(item);
+
+        // Act
+        sprint.removeBacklogItem(item);
+        item.revertToTodo();
+
+        // Assert
+        assertTrue(sprint.getBacklogStateCounts().isEmpty());
+        assertEquals(0, sprint.getFinishedBacklogItemCount());
+        assertFalse(sprint.areAllBacklogItemsDone());
+    }
+
+    @Test
+    @DisplayName("Items added in a later state should be counted in that state")
+    void itemsAddedInLaterStateShouldBeCounted() {
+        // Arrange
+        BacklogItem item = new BacklogItem("Login");
+        moveToDone(item);
+
+        // Act
+        sprint.addBacklogItem(item);
+
+        // Assert
+        assertEquals(1, sprint.getBacklogStateCount("Done"));
+        assertTrue(sprint.areAllBacklogItemsDone());
+    }
+
+    @Test
+    @DisplayName("An activity can only belong to one backlog item")
+    void activityShouldBelongToOneBacklogItem() {
+        // Arrange
+        Activity activity = new Activity("Shared", 2);
+        new BacklogItem("First").addActivity(activity);
+
+        // Act & Assert
+        BacklogItem second = new BacklogItem("Second");
+        assertThrows(IllegalStateException.class, () -> second.addActivity(activity));
+        assertEquals(0, second.getActivityCount());
+    }
+
+    private void moveToDone(BacklogItem item) {
+        for (int i = 0; i < 5; i++) {
+            item.moveToNextState();
+        }
+    }
+
+    @Test
+    @DisplayName("Team members should only change through the sprint, so the version follows them")
+    void teamMembersShouldNotBeModifiableFromOutside() {
+        // Arrange
+        Developer developer = new Developer("Alice");
+        sprint.addTeamMember(developer);
+        long version = sprint.getVersion();
+
+        // Act & Assert
+        assertThrows(UnsupportedOperationException.class, () -> sprint.getTeamMembers().add(new Developer("Bob")));
+        assertThrows(UnsupportedOperationException.class, () -> sprint.getTeamMembers().clear());
+        assertEquals(List.of(developer), sprint.getTeamMembers());
+        assertEquals(version, sprint.getVersion());
+    }
+
+    @Test
+    @DisplayName("Version should increase with every sprint, team and backlog change")
+    void versionShouldFollowChanges() {
+        // Arrange
+        BacklogItem item = new BacklogItem("Login");
+        Activity activity = new Activity("OAuth2", 4);
+        long initial = sprint.getVersion();
+
+        // Act & Assert
+        sprint.addBacklogItem(item);
+        long afterAdd = sprint.getVersion();
+        item.addActivity(activity);
+        long afterActivity = sprint.getVersion();
+        activity.setDone(true);
+        long afterDone = sprint.getVersion();
+        item.moveToNextState();
+        long afterTransition = sprint.getVersion();
+        sprint.setName("Sprint 1 (renamed)");
+        long afterRename = sprint.getVersion();
+
+        assertTrue(initial < afterAdd);
+        assertTrue(afterAdd < afterActivity);
+        assertTrue(afterActivity < afterDone);
+        assertTrue(afterDone < afterTransition);
+        assertTrue(afterTransition < afterRename);
+        assertEquals(afterRename, sprint.getVersion());
+    }
+
+    @Test
+    @DisplayName("Remaining estimated hours should follow activity completion")
+    void remainingHoursShouldFollowActivities() {
+        // Arrange
+        BacklogItem item = new BacklogItem("Login page");
+        Activity design = new Activity("Design", 4);
+        item.addActivity(design);
+        sprint.addBacklogItem(item);
+
+        // Act
+        item.addActivity(new Activity("Build", 6));
+        design.setDone(true);
+        int beforeRemoval = sprint.getRemainingEstimatedHours();
+        sprint.removeBacklogItem(item);
+
+        // Assert
+        assertEquals(6, beforeRemoval);
+        assertEquals(0, sprint.getRemainingEstimatedHours());
+    }
+}
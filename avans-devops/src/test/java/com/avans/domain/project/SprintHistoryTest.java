@@ -0,0 +1,106 @@
+package com.avans.domain.project;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.avans.domain.backlog.Activity;
+import com.avans.domain.backlog.BacklogItem;
+import com.avans.domain.backlog.state.DoneState;
+
+class SprintHistoryTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 3, 4);
+
+    @Test
+    @DisplayName("Completions should be totalled per day from the requested start")
+    void completionsShouldBeTotalledPerDay() {
+        // Arrange
+        SprintHistory history = new SprintHistory();
+
+        // Act
+        history.recordItemsDone(START.plusDays(2), 1);
+        history.recordItemsDone(START.plusDays(4), 2);
+        history.recordItemsDone(START.minusDays(1), 1);
+        history.recordItemsDone(START.plusDays(4), -1);
+
+        // Assert
+        assertArrayEquals(new int[] {1, 1, 2, 2, 3, 3}, history.getCompletedItemsPerDay(START, 6));
+        assertArrayEquals(new int[] {2, 3}, history.getCompletedItemsPerDay(START.plusDays(3), 2));
+        assertEquals(3, history.getCompletedItems());
+        assertEquals(START.minusDays(1), history.getFirstDay());
+        assertEquals(6, history.getDayCount());
+    }
+
+    @Test
+    @DisplayName("Sprint should record items and activities completed on the recording day")
+    void sprintShouldRecordCompletions() {
+        // Arrange
+        ReviewSprint sprint = new ReviewSprint("Sprint 1", START, START.plusWeeks(2));
+        BacklogItem item = new BacklogItem("Login page");
+        Activity activity = new Activity("Design", 4);
+        item.addActivity(activity);
+        sprint.addBacklogItem(item);
+        sprint.getHistory().setRecordingDay(START.plusDays(1));
+
+        // Act
+        activity.setDone(true);
+        item.setState(DoneState.INSTANCE);
+        sprint.getHistory().setRecordingDay(START.plusDays(3));
+        sprint.addBacklogItem(doneItem("Logout"));
+
+        // Assert
+        SprintHistory history = sprint.getHistory();
+        assertArrayEquals(new int[] {0, 1, 1, 2}, history.getCompletedItemsPerDay(START, 4));
+        assertArrayEquals(new int[] {0, 1, 1, 1}, history.getCompletedActivitiesPerDay(START, 4));
+        assertEquals(2, history.getCompletedItems());
+    }
+
+    @Test
+    @DisplayName("Reopened or removed items should no longer count as completed")
+    void reopenedItemsShouldNoLongerCount() {
+        // Arrange
+        ReviewSprint sprint = new ReviewSprint("Sprint 1", START, START.plusWeeks(2));
+        BacklogItem reopened = doneItem("Login page");
+        BacklogItem removed = doneItem("Logout");
+        sprint.getHistory().setRecordingDay(START);
+        sprint.addBacklogItem(reopened);
+        sprint.addBacklogItem(removed);
+
+        // Act
+        sprint.getHistory().setRecordingDay(START.plusDays(1));
+        reopened.revertToTodo();
+        sprint.removeBacklogItem(removed);
+
+        // Assert
+        assertArrayEquals(new int[] {2, 0}, sprint.getHistory().getCompletedItemsPerDay(START, 2));
+        assertEquals(sprint.getBacklogStateCount(DoneState.NAME), sprint.getHistory().getCompletedItems());
+    }
+
+    @Test
+    @DisplayName("Restored history should replace the recorded changes")
+    void restoredHistoryShouldReplaceChanges() {
+        // Arrange
+        SprintHistory history = new SprintHistory();
+        history.recordItemsDone(START, 5);
+
+        // Act
+        history.restore(START.plusDays(1), new int[] {1, 0, 2}, new int[] {3, 1, 0});
+
+        // Assert
+        assertArrayEquals(new int[] {0, 1, 1, 3}, history.getCompletedItemsPerDay(START, 4));
+        assertEquals(4, history.getCompletedActivities());
+        assertEquals(2, history.getItemsDoneChange(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> history.getItemsDoneChange(3));
+        assertThrows(IllegalArgumentException.class, () -> history.restore(START, new int[1], new int[2]));
+    }
+
+    private static BacklogItem doneItem(String title) {
+        BacklogItem item = new BacklogItem(title);
+        item.setState(DoneState.INSTANCE);
+        return item;
+    }
+}
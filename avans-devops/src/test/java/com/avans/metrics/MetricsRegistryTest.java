@@ -0,0 +1,113 @@
+package com.avans.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.avans.pipeline.StepPhase;
+
+class MetricsRegistryTest {
+
+    @Test
+    @DisplayName("Histogram percentiles should be within a sixteenth of the recorded values")
+    void histogramPercentilesShouldBeAccurate() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // Act
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000_000);
+        }
+
+        // Assert
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000_000_000L, histogram.getMaxNanos());
+        assertEquals(500_500_000_000L, histogram.getSumNanos());
+        assertEquals(500_000_000, histogram.getValueAtPercentile(50), 500_000_000 / 16.0);
+        assertEquals(990_000_000, histogram.getValueAtPercentile(99), 990_000_000 / 16.0);
+        assertEquals(1_000_000_000L, histogram.getValueAtPercentile(100));
+        assertEquals(0, new LatencyHistogram().getValueAtPercentile(50));
+        assertThrows(IllegalArgumentException.class, () -> histogram.record(-1));
+    }
+
+    @Test
+    @DisplayName("Every value should fall in a bucket whose upper bound is not below it")
+    void bucketsShouldCoverAllValues() {
+        // Arrange
+        long[] values = {0, 1, 15, 16, 17, 31, 32, 1_000, 123_456_789, Long.MAX_VALUE};
+
+        // Act & Assert
+        for (long value : values) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertTrue(LatencyHistogram.bucketUpperBound(index) >= value);
+            assertTrue(index == 0 || LatencyHistogram.bucketUpperBound(index - 1) < value);
+        }
+    }
+
+    @Test
+    @DisplayName("Registry should write step phases, results and runs in the Prometheus format")
+    void registryShouldWritePrometheusText() throws IOException {
+        // Arrange
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.recordStepPhase("Build", StepPhase.EXECUTE, 2_000_000_000L);
+        registry.recordStepResult("Build", true);
+        registry.recordStepResult("Build", false);
+        registry.recordPipelineRun("Release \"main\"", 3_000_000_000L, true);
+
+        // Act
+        StringBuilder out = new StringBuilder();
+        registry.writePrometheus(out);
+        String text = out.toString();
+
+        // Assert
+        assertTrue(text.contains("# TYPE avans_pipeline_step_phase_seconds summary\n"));
+        assertTrue(text.contains("avans_pipeline_step_phase_seconds_count{step=\"Build\",phase=\"execute\"} 1\n"));
+        assertTrue(text.contains("avans_pipeline_step_phase_seconds_sum{step=\"Build\",phase=\"execute\"} 2.0\n"));
+        assertTrue(text.contains("avans_pipeline_step_phase_max_seconds{step=\"Build\",phase=\"execute\"} 2.0\n"));
+        assertFalse(text.contains("phase=\"initialize\""));
+        assertTrue(text.contains("avans_pipeline_step_results_total{step=\"Build\",result=\"success\"} 1\n"));
+        assertTrue(text.contains("avans_pipeline_step_results_total{step=\"Build\",result=\"failure\"} 1\n"));
+        assertTrue(text.contains("avans_pipeline_runs_total{pipeline=\"Release \\\"main\\\"\",result=\"success\"} 1\n"));
+    }
+
+    @Test
+    @DisplayName("Endpoint should serve the metrics on the loopback address")
+    void endpointShouldServeMetrics() throws IOException {
+        // Arrange
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.recordPipelineRun("Release", 1_000_000L, false);
+
+        try (MetricsEndpoint endpoint = MetricsEndpoint.start(registry, 0)) {
+            // Act
+            HttpURLConnection get = open(endpoint, "GET");
+            String body;
+            try (InputStream in = get.getInputStream()) {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                in.transferTo(bytes);
+                body = bytes.toString(StandardCharsets.UTF_8);
+            }
+            HttpURLConnection post = open(endpoint, "POST");
+
+            // Assert
+            assertEquals(200, get.getResponseCode());
+            assertEquals(MetricsRegistry.CONTENT_TYPE, get.getHeaderField("Content-Type"));
+            assertTrue(body.contains("avans_pipeline_runs_total{pipeline=\"Release\",result=\"failure\"} 1\n"));
+            assertEquals(405, post.getResponseCode());
+        }
+    }
+
+    private static HttpURLConnection open(MetricsEndpoint endpoint, String method) throws IOException {
+        URL url = new URL("http://127.0.0.1:" + endpoint.getPort() + MetricsEndpoint.PATH);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod(method);
+        return connection;
+    }
+}
@@ -0,0 +1,123 @@
+package com.avans.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.avans.domain.backlog.Activity;
+import com.avans.domain.backlog.BacklogItem;
+import com.avans.domain.backlog.state.DoneState;
+import com.avans.domain.project.Project;
+import com.avans.domain.project.ReviewSprint;
+import com.avans.domain.project.Sprint;
+
+class SprintMetricsStoreTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 3, 4);
+
+    private SprintMetricsStore store;
+    private Sprint sprint;
+    private BacklogItem first;
+    private BacklogItem second;
+
+    @BeforeEach
+    void setUp() {
+        store = new SprintMetricsStore();
+        sprint = new ReviewSprint("sprint-1", "Sprint 1", START, START.plusWeeks(2));
+        first = new BacklogItem("Login page");
+        first.addActivity(new Activity("Design", 4));
+        second = new BacklogItem("Logout");
+        second.addActivity(new Activity("Build", 6));
+        sprint.addBacklogItem(first);
+        sprint.addBacklogItem(second);
+    }
+
+    @Test
+    @DisplayName("Daily samples should hold remaining items, hours and state counts")
+    void samplesShouldHoldSprintMetrics() {
+        // Arrange
+        store.record(sprint, START);
+        first.moveToNextState();
+        store.record(sprint, START.plusDays(1));
+
+        // Act
+        first.getActivity(0).setDone(true);
+        first.setState(DoneState.INSTANCE);
+        store.record(sprint, START.plusDays(3));
+        SprintMetricsRange range = store.query(sprint, START, START.plusDays(14));
+
+        // Assert
+        assertEquals(List.of(START, START.plusDays(1), START.plusDays(3)), range.getDays());
+        assertArrayEquals(new int[] {2, 2, 1}, range.getRemainingItems());
+        assertArrayEquals(new int[] {10, 10, 6}, range.getRemainingEstimatedHours());
+        assertEquals(1, range.getStateCount(1, "Doing"));
+        assertEquals(1, range.getStateCount(2, DoneState.INSTANCE));
+        assertEquals(1, range.getStateCount(2, "Todo"));
+    }
+
+    @Test
+    @DisplayName("Range queries should only return samples within the range")
+    void rangeShouldBeInclusiveAndBounded() {
+        // Arrange
+        for (int day = 0; day < 300; day += 3) {
+            store.record(sprint, START.plusDays(day));
+        }
+
+        // Act
+        SprintMetricsRange range = store.query(sprint, START.plusDays(10), START.plusDays(21));
+        SprintMetricsRange empty = store.query(sprint, START.minusDays(5), START.minusDays(1));
+
+        // Assert
+        assertEquals(List.of(START.plusDays(12), START.plusDays(15), START.plusDays(18), START.plusDays(21)), range.getDays());
+        assertEquals(0, empty.size());
+        assertEquals(START.plusDays(297), store.getLastRecordedDay(sprint));
+        assertEquals(100, store.getSampleCount());
+    }
+
+    @Test
+    @DisplayName("Recording a day again should replace its sample")
+    void recordingSameDayShouldReplaceSample() {
+        // Arrange
+        store.record(sprint, START);
+
+        // Act
+        sprint.removeBacklogItem(second);
+        store.record(sprint, START);
+
+        // Assert
+        SprintMetricsRange range = store.query(sprint, START, START);
+        assertEquals(1, range.size());
+        assertEquals(1, range.getRemainingItems(0));
+        assertEquals(4, range.getRemainingEstimatedHours(0));
+        assertThrows(IllegalArgumentException.class, () -> store.record(sprint, START.minusDays(1)));
+    }
+
+    @Test
+    @DisplayName("Velocity should be taken from the last sample of each sprint")
+    void velocityShouldUseLastSamples() {
+        // Arrange
+        Project project = new Project("Avans DevOps");
+        Sprint other = new ReviewSprint("sprint-2", "Sprint 2", START, START.plusWeeks(2));
+        Sprint unmeasured = new ReviewSprint("sprint-3", "Sprint 3", START, START.plusWeeks(2));
+        other.addBacklogItem(new BacklogItem("Profile"));
+        project.addSprint(sprint);
+        project.addSprint(other);
+        first.setState(DoneState.INSTANCE);
+        second.setState(DoneState.INSTANCE);
+        store.recordAll(project, START);
+
+        // Act
+        double average = store.getAverageVelocity(List.of(sprint, other, unmeasured));
+
+        // Assert
+        assertEquals(2, store.getVelocity(sprint));
+        assertEquals(0, store.getVelocity(other));
+        assertEquals(1.0, average);
+        assertThrows(IllegalArgumentException.class, () -> store.getVelocity(unmeasured));
+    }
+}
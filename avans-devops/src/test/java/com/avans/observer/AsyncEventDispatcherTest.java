@@ -0,0 +1,250 @@
+package com.avans.observer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AsyncEventDispatcherTest {
+
+    private AsyncEventDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Subject should deliver synchronously by default")
+    void subjectShouldDeliverSynchronouslyByDefault() {
+        // Arrange
+        Subject subject = new Subject() {};
+        List<String> threads = new ArrayList<>();
+        subject.addObserver(message -> threads.add(Thread.currentThread().getName()));
+
+        // Act
+        subject.notifyObservers("Sprint started");
+
+        // Assert
+        assertSame(SynchronousDispatcher.INSTANCE, subject.getEventDispatcher());
+        assertEquals(List.of(Thread.currentThread().getName()), threads);
+    }
+
+    @Test
+    @DisplayName("Slow observer should not block the notifying thread")
+    void slowObserverShouldNotBlockNotifyingThread() throws InterruptedException {
+        // Arrange
+        dispatcher = new AsyncEventDispatcher(2, 16, BackpressurePolicy.BLOCK);
+        Subject subject = new Subject() {};
+        subject.setEventDispatcher(dispatcher);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch delivered = new CountDownLatch(1);
+        subject.addObserver(message -> {
+            awaitQuietly(release);
+            delivered.countDown();
+        });
+
+        // Act
+        subject.notifyObservers("Backlog item moved");
+
+        // Assert - the caller returned while the observer is still waiting
+        assertEquals(1, delivered.getCount());
+        release.countDown();
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Each observer should receive notifications in publish order")
+    void observerShouldReceiveNotificationsInOrder() throws InterruptedException {
+        // Arrange
+        dispatcher = new AsyncEventDispatcher(4, 1024, BackpressurePolicy.BLOCK);
+        Subject subject = new Subject() {};
+        subject.setEventDispatcher(dispatcher);
+        List<String> first = new CopyOnWriteArrayList<>();
+        List<String> second = new CopyOnWriteArrayList<>();
+        subject.addObserver(first::add);
+        subject.addObserver(second::add);
+
+        // Act
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            expected.add("message " + i);
+            subject.notifyObservers("message " + i);
+        }
+        dispatcher.shutdown();
+
+        // Assert
+        assertTrue(dispatcher.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(expected, first);
+        assertEquals(expected, second);
+    }
+
+    @Test
+    @DisplayName("DROP_OLDEST should discard the oldest queued notification when full")
+    void dropOldestShouldDiscardOldestNotification() throws InterruptedException {
+        // Arrange - the first notification keeps the only dispatcher thread busy
+        dispatcher = new AsyncEventDispatcher(1, 1, BackpressurePolicy.DROP_OLDEST);
+        CountDownLatch busy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> received = new CopyOnWriteArrayList<>();
+        IObserver observer = message -> {
+            busy.countDown();
+            awaitQuietly(release);
+            received.add(message);
+        };
+        dispatcher.dispatch(observer, "first");
+        assertTrue(busy.await(5, TimeUnit.SECONDS));
+
+        // Act
+        dispatcher.dispatch(observer, "second");
+        dispatcher.dispatch(observer, "third");
+        release.countDown();
+        dispatcher.shutdown();
+
+        // Assert
+        assertTrue(dispatcher.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(List.of("first", "third"), received);
+        assertEquals(1, dispatcher.getDroppedCount());
+    }
+
+    @Test
+    @DisplayName("CALLER_RUNS should deliver on the calling thread when full")
+    void callerRunsShouldDeliverOnCallingThread() throws InterruptedException {
+        // Arrange
+        dispatcher = new AsyncEventDispatcher(1, 1, BackpressurePolicy.CALLER_RUNS);
+        CountDownLatch busy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> threads = new CopyOnWriteArrayList<>();
+        IObserver observer = message -> {
+            if (message.equals("first")) {
+                busy.countDown();
+                awaitQuietly(release);
+            }
+            if (message.equals("third")) {
+                threads.add(Thread.currentThread().getName());
+            }
+        };
+        dispatcher.dispatch(observer, "first");
+        assertTrue(busy.await(5, TimeUnit.SECONDS));
+
+        // Act
+        dispatcher.dispatch(observer, "second");
+        dispatcher.dispatch(observer, "third");
+        release.countDown();
+
+        // Assert
+        assertEquals(List.of(Thread.currentThread().getName()), threads);
+        assertEquals(0, dispatcher.getDroppedCount());
+    }
+
+    @Test
+    @DisplayName("BLOCK should keep order and the interrupt when the waiting producer is interrupted")
+    void interruptedBlockingProducerShouldKeepOrder() throws InterruptedException {
+        // Arrange - the first notification keeps the only dispatcher thread busy, the second fills the queue
+        dispatcher = new AsyncEventDispatcher(1, 1, BackpressurePolicy.BLOCK);
+        CountDownLatch busy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> received = new CopyOnWriteArrayList<>();
+        IObserver observer = message -> {
+            if (message.equals("first")) {
+                busy.countDown();
+                awaitQuietly(release);
+            }
+            received.add(message);
+        };
+        dispatcher.dispatch(observer, "first");
+        assertTrue(busy.await(5, TimeUnit.SECONDS));
+        dispatcher.dispatch(observer, "second");
+        AtomicInteger interruptedAfterwards = new AtomicInteger();
+        Thread producer = new Thread(() -> {
+            dispatcher.dispatch(observer, "third");
+            if (Thread.currentThread().isInterrupted()) {
+                interruptedAfterwards.incrementAndGet();
+            }
+        });
+
+        // Act
+        producer.start();
+        producer.interrupt();
+        Thread.sleep(50);
+        release.countDown();
+        producer.join(5000);
+        dispatcher.shutdown();
+
+        // Assert
+        assertTrue(dispatcher.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(List.of("first", "second", "third"), received);
+        assertEquals(1, interruptedAfterwards.get());
+    }
+
+    @Test
+    @DisplayName("Dispatching after shutdown should be rejected")
+    void dispatchAfterShutdownShouldBeRejected() {
+        // Arrange
+        dispatcher = new AsyncEventDispatcher(1, 4, BackpressurePolicy.BLOCK);
+        dispatcher.shutdown();
+
+        // Act & Assert
+        assertTrue(dispatcher.isShutdown());
+        assertThrows(IllegalStateException.class, () -> dispatcher.dispatch(message -> { }, "late"));
+    }
+
+    @Test
+    @DisplayName("Notifications racing with shutdown should be delivered or rejected, never lost")
+    void notificationsRacingWithShutdownShouldNotBeLost() throws InterruptedException {
+        for (int round = 0; round < 20; round++) {
+            // Arrange
+            dispatcher = new AsyncEventDispatcher(1, 2, BackpressurePolicy.BLOCK);
+            AtomicInteger accepted = new AtomicInteger();
+            AtomicInteger delivered = new AtomicInteger();
+            IObserver observer = message -> delivered.incrementAndGet();
+            List<Thread> producers = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                Thread producer = new Thread(() -> {
+                    try {
+                        while (true) {
+                            dispatcher.dispatch(observer, "event");
+                            accepted.incrementAndGet();
+                        }
+                    } catch (IllegalStateException e) {
+                        // Shut down
+                    }
+                });
+                producers.add(producer);
+                producer.start();
+            }
+
+            // Act
+            Thread.sleep(5);
+            dispatcher.shutdown();
+            for (Thread producer : producers) {
+                producer.join(5000);
+            }
+            assertTrue(dispatcher.awaitTermination(5, TimeUnit.SECONDS));
+
+            // Assert
+            for (Thread producer : producers) {
+                assertFalse(producer.isAlive());
+            }
+            assertEquals(accepted.get(), delivered.get());
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.avans.observer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.avans.domain.member.ScrumMaster;
+import com.avans.domain.project.ReviewSprint;
+
+class SubjectTest {
+
+    private final Subject subject = new Subject() {};
+
+    @Test
+    @DisplayName("Registering the same observer twice should notify it once")
+    void sameObserverShouldBeNotifiedOnce() {
+        // Arrange
+        IObserver observer = mock(IObserver.class);
+
+        // Act
+        subject.addObserver(observer);
+        subject.addObserver(observer);
+        subject.notifyObservers("message");
+
+        // Assert
+        assertEquals(1, subject.getObserverCount());
+        verify(observer, times(1)).update("message");
+    }
+
+    @Test
+    @DisplayName("Setting the same scrum master twice should not duplicate notifications")
+    void sameScrumMasterShouldBeNotifiedOnce() {
+        // Arrange
+        ReviewSprint sprint = new ReviewSprint("Sprint 1", LocalDate.now(), LocalDate.now().plusWeeks(2));
+        ScrumMaster scrumMaster = mock(ScrumMaster.class);
+
+        // Act
+        sprint.setScrumMaster(scrumMaster);
+        sprint.setScrumMaster(scrumMaster);
+        sprint.notifyObservers("Sprint updated");
+
+        // Assert
+        verify(scrumMaster, times(1)).update("Sprint updated");
+    }
+
+    @Test
+    @DisplayName("Removed observers should no longer be notified and order should be kept")
+    void removedObserverShouldNotBeNotified() {
+        // Arrange
+        List<String> received = new ArrayList<>();
+        IObserver first = message -> received.add("first");
+        IObserver second = message -> received.add("second");
+        IObserver third = message -> received.add("third");
+        subject.addObserver(first);
+        subject.addObserver(second);
+        subject.addObserver(third);
+
+        // Act
+        subject.removeObserver(second);
+        subject.removeObserver(second);
+        subject.notifyObservers("message");
+
+        // Assert
+        assertEquals(List.of("first", "third"), received);
+        assertEquals(2, subject.getObserverCount());
+    }
+
+    @Test
+    @DisplayName("Observers registered during notification should not disturb the running notification")
+    void registeringDuringNotificationShouldBeSafe() {
+        // Arrange - the observer registers a new observer while it is being notified
+        AtomicInteger lateNotifications = new AtomicInteger();
+        subject.addObserver(message -> subject.addObserver(m -> lateNotifications.incrementAndGet()));
+
+        // Act
+        assertDoesNotThrow(() -> subject.notifyObservers("first"));
+
+        // Assert - the running notification used its snapshot
+        assertEquals(0, lateNotifications.get());
+        assertEquals(2, subject.getObserverCount());
+    }
+
+    @Test
+    @DisplayName("Concurrent registration and notification should not fail")
+    void concurrentRegistrationAndNotificationShouldNotFail() throws InterruptedException {
+        // Arrange
+        AtomicInteger notifications = new AtomicInteger();
+        List<Throwable> errors = new ArrayList<>();
+        Thread notifier = new Thread(() -> {
+            try {
+                for (int i = 0; i < 2_000; i++) {
+                    subject.notifyObservers("message " + i);
+                }
+            } catch (Throwable e) {
+                errors.add(e);
+            }
+        });
+
+        // Act
+        notifier.start();
+        for (int i = 0; i < 500; i++) {
+            subject.addObserver(message -> notifications.incrementAndGet());
+        }
+        notifier.join();
+
+        // Assert
+        assertTrue(errors.isEmpty());
+        assertEquals(500, subject.getObserverCount());
+    }
+
+    @Test
+    @DisplayName("Null observers should be rejected")
+    void nullObserverShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> subject.addObserver(null));
+    }
+
+    @Test
+    @DisplayName("A refused notification should not keep the other observers from being notified")
+    void refusedNotificationShouldNotSkipOtherObservers() {
+        // Arrange
+        IObserver refused = mock(IObserver.class);
+        IObserver other = mock(IObserver.class);
+        subject.addObserver(refused);
+        subject.addObserver(other);
+        subject.setEventDispatcher((observer, message) -> {
+            if (observer == refused) {
+                throw new IllegalStateException("Event dispatcher has been shut down");
+            }
+            observer.update(message);
+        });
+
+        // Act
+        subject.notifyObservers("message");
+
+        // Assert
+        verify(refused, never()).update("message");
+        verify(other).update("message");
+    }
+}
@@ -0,0 +1,174 @@
+package com.avans.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EventJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Appended records should be replayed in order with their sequence numbers")
+    void appendedRecordsShouldBeReplayedInOrder() throws IOException {
+        // Arrange
+        List<String> replayed = new ArrayList<>();
+
+        // Act
+        try (EventJournal journal = new EventJournal(directory)) {
+            assertEquals(1, journal.append(7, new RecordWriter().putString("first")));
+            assertEquals(2, journal.append(8, new RecordWriter().putString("second").putLong(42)));
+            journal.replay((sequence, type, record) ->
+                    replayed.add(sequence + ":" + type + ":" + record.getString()));
+        }
+
+        // Assert
+        assertEquals(List.of("1:7:first", "2:8:second"), replayed);
+    }
+
+    @Test
+    @DisplayName("Commit should make all appended records durable")
+    void commitShouldMakeRecordsDurable() throws IOException {
+        // Arrange
+        try (EventJournal journal = new EventJournal(directory, 64 * 1024, Duration.ofSeconds(10))) {
+            for (int i = 0; i < 100; i++) {
+                journal.append(1, new RecordWriter().putInt(i));
+            }
+
+            // Act
+            journal.commit();
+
+            // Assert
+            assertEquals(100, journal.getDurableSequence());
+        }
+    }
+
+    @Test
+    @DisplayName("Reopened journal should continue after the last record")
+    void reopenedJournalShouldContinueAfterLastRecord() throws IOException {
+        // Arrange
+        try (EventJournal journal = new EventJournal(directory)) {
+            journal.append(1, new RecordWriter().putInt(1));
+            journal.append(1, new RecordWriter().putInt(2));
+        }
+
+        // Act
+        List<Integer> values = new ArrayList<>();
+        try (EventJournal journal = new EventJournal(directory)) {
+            assertEquals(3, journal.append(1, new RecordWriter().putInt(3)));
+            journal.replay((sequence, type, record) -> values.add(record.getInt()));
+        }
+
+        // Assert
+        assertEquals(List.of(1, 2, 3), values);
+    }
+
+    @Test
+    @DisplayName("Full segments should roll over and old segments be skipped on tail replay")
+    void fullSegmentsShouldRollOver() throws IOException {
+        // Arrange
+        byte[] payload = new byte[100];
+        List<Long> sequences = new ArrayList<>();
+
+        // Act
+        try (EventJournal journal = new EventJournal(directory, 1024, Duration.ofMillis(10))) {
+            for (int i = 0; i < 50; i++) {
+                journal.append(1, new RecordWriter().putBytes(payload, 0, payload.length));
+            }
+            journal.replay(45, (sequence, type, record) -> sequences.add(sequence));
+        }
+
+        // Assert
+        assertTrue(segmentCount() > 1);
+        assertEquals(List.of(46L, 47L, 48L, 49L, 50L), sequences);
+    }
+
+    @Test
+    @DisplayName("Torn record at the end should be discarded and overwritten")
+    void tornRecordShouldBeDiscarded() throws IOException {
+        // Arrange
+        try (EventJournal journal = new EventJournal(directory, 4096, Duration.ofMillis(10))) {
+            journal.append(1, new RecordWriter().putString("kept"));
+            journal.append(1, new RecordWriter().putString("torn"));
+        }
+        corruptLastByteOfSecondRecord();
+
+        // Act
+        List<String> values = new ArrayList<>();
+        try (EventJournal journal = new EventJournal(directory, 4096, Duration.ofMillis(10))) {
+            assertEquals(1, journal.getLastSequence());
+            journal.append(1, new RecordWriter().putString("new"));
+            journal.replay((sequence, type, record) -> values.add(record.getString()));
+        }
+
+        // Assert
+        assertEquals(List.of("kept", "new"), values);
+    }
+
+    @Test
+    @DisplayName("Newest segment without a header after a crash should be recreated")
+    void blankNewestSegmentShouldBeRecreated() throws IOException {
+        // Arrange
+        try (EventJournal journal = new EventJournal(directory, 4096, Duration.ofMillis(10))) {
+            journal.append(1, new RecordWriter().putString("kept"));
+        }
+        Files.write(directory.resolve("segment-0000000001.journal"), new byte[4096]);
+
+        // Act
+        List<String> values = new ArrayList<>();
+        try (EventJournal journal = new EventJournal(directory, 4096, Duration.ofMillis(10))) {
+            assertEquals(1, journal.getLastSequence());
+            assertEquals(2, journal.append(1, new RecordWriter().putString("new")));
+            journal.replay((sequence, type, record) -> values.add(record.getString()));
+        }
+
+        // Assert
+        assertEquals(List.of("kept", "new"), values);
+    }
+
+    @Test
+    @DisplayName("Closed journal should reject appends")
+    void closedJournalShouldRejectAppends() throws IOException {
+        // Arrange
+        EventJournal journal = new EventJournal(directory);
+
+        // Act
+        journal.close();
+
+        // Assert
+        assertThrows(IllegalStateException.class, () -> journal.append(1, new RecordWriter().putInt(1)));
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    private void corruptLastByteOfSecondRecord() throws IOException {
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        // Header, first record with "kept", then the second record header and its string length
+        int firstRecordSize = EventJournal.RECORD_HEADER_SIZE + 4 + 4;
+        int lastByte = EventJournal.SEGMENT_HEADER_SIZE + firstRecordSize + EventJournal.RECORD_HEADER_SIZE + 4 + 3;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] { 'X' }), lastByte);
+        }
+    }
+}
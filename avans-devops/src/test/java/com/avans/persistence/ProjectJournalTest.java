@@ -0,0 +1,204 @@
+package com.avans.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.avans.domain.backlog.Activity;
+import com.avans.domain.backlog.BacklogItem;
+import com.avans.domain.discussions.DiscussionMessage;
+import com.avans.domain.discussions.DiscussionThread;
+import com.avans.domain.member.Developer;
+import com.avans.domain.member.ProductOwner;
+import com.avans.domain.member.ScrumMaster;
+import com.avans.domain.project.Project;
+import com.avans.domain.project.ReleaseSprint;
+import com.avans.domain.project.ReviewSprint;
+import com.avans.domain.project.Sprint;
+import com.avans.domain.project.SprintHistory;
+import com.avans.state.release.ReleasingState;
+
+class ProjectJournalTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 3, 4);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Project content present when journaling starts should be restored")
+    void existingContentShouldBeRestored() throws IOException {
+        // Arrange
+        Project project = new Project("Avans DevOps");
+        project.setProductOwner(new ProductOwner("po-1", "Olivia"));
+        ReviewSprint sprint = new ReviewSprint("sprint-1", "Sprint 1", START, START.plusWeeks(2));
+        BacklogItem item = new BacklogItem("item-1", "Login page");
+        item.addActivity(new Activity("Design", 4));
+        item.moveToNextState();
+        item.assignDeveloper(new Developer("dev-1", "Dev"));
+        sprint.addBacklogItem(item);
+        project.addSprint(sprint);
+
+        // Act
+        try (ProjectJournal journal = ProjectJournal.create(project, new EventJournal(directory))) {
+            journal.commit();
+        }
+        Project restored = restore();
+
+        // Assert
+        assertEquals("Avans DevOps", restored.getProjectName());
+        assertEquals("po-1", restored.getProductOwner().getId());
+        Sprint restoredSprint = restored.getSprints().get(0);
+        assertTrue(restoredSprint instanceof ReviewSprint);
+        assertEquals(START.plusWeeks(2), restoredSprint.getEndDate());
+        BacklogItem restoredItem = restoredSprint.getBacklogItems().get(0);
+        assertEquals("item-1", restoredItem.getId());
+        assertEquals("Doing", restoredItem.getState().getName());
+        assertEquals("dev-1", restoredItem.getAssignedDeveloper().getId());
+        assertEquals(4, restoredItem.getActivity(0).getTotalEstimatedHours());
+    }
+
+    @Test
+    @DisplayName("Changes made after journaling starts should be restored")
+    void laterChangesShouldBeRestored() throws IOException {
+        // Arrange
+        Project project = new Project("Avans DevOps");
+        ProjectJournal journal = ProjectJournal.create(project, new EventJournal(directory));
+        Developer developer = new Developer("dev-1", "Dev");
+        ReleaseSprint sprint = new ReleaseSprint("release-1", "Release 1", START, START.plusWeeks(1));
+        BacklogItem item = new BacklogItem("item-1", "Deploy script");
+        Activity activity = new Activity("Write script", 3);
+
+        // Act
+        project.addTeamMember(developer);
+        project.addSprint(sprint);
+        sprint.setName("Release 1.0");
+        sprint.addBacklogItem(item);
+        item.addActivity(activity);
+        activity.setDone(true);
+        sprint.addTeamMember(developer);
+        sprint.setScrumMaster(new ScrumMaster("sm-1", "Sam"));
+        sprint.start();
+        sprint.finish();
+        sprint.setState(new ReleasingState());
+        journal.close();
+        Project restored = restore();
+
+        // Assert
+        ReleaseSprint restoredSprint = (ReleaseSprint) restored.getSprints().get(0);
+        assertEquals("Release 1.0", restoredSprint.getName());
+        assertEquals("sm-1", restoredSprint.getScrumMaster().getId());
+        assertEquals(1, restoredSprint.getTeamMembers().size());
+        assertTrue(restoredSprint.isFinished());
+        assertEquals(new ReleasingState().getName(), restoredSprint.getState().getName());
+        assertTrue(restoredSprint.getBacklogItems().get(0).getActivity(0).isDone());
+        assertSame(restored.getTeamMembers().get(0), restoredSprint.getTeamMembers().get(0));
+    }
+
+    @Test
+    @DisplayName("Discussion threads with nested replies and locks should be restored")
+    void discussionsShouldBeRestored() throws IOException {
+        // Arrange
+        Project project = new Project("Avans DevOps");
+        Developer developer = new Developer("dev-1", "Dev");
+        ProjectJournal journal = ProjectJournal.create(project, new EventJournal(directory));
+        DiscussionThread thread = new DiscussionThread("thread-1", "Login flow");
+        DiscussionMessage question = new DiscussionMessage("Which provider?", developer, START);
+
+        // Act
+        project.addDiscussion(thread);
+        thread.add(question);
+        question.add(new DiscussionMessage("OAuth", developer, START.plusDays(1)));
+        thread.add(new DiscussionMessage("Removed later", developer));
+        thread.remove(thread.getChildren().get(1));
+        thread.lock();
+        journal.close();
+        Project restored = restore();
+
+        // Assert
+        DiscussionThread restoredThread = restored.getDiscussions().get(0);
+        assertEquals("thread-1", restoredThread.getId());
+        assertTrue(restoredThread.isLocked());
+        assertEquals(1, restoredThread.getChildren().size());
+        DiscussionMessage restoredQuestion = (DiscussionMessage) restoredThread.getChildren().get(0);
+        assertEquals("Which provider?", restoredQuestion.getContent());
+        assertEquals(START, restoredQuestion.getTimestamp());
+        assertEquals("OAuth", restoredQuestion.getChildren().get(0).getContent());
+        assertEquals("dev-1", restoredQuestion.getChildren().get(0).getAuthor().getId());
+    }
+
+    @Test
+    @DisplayName("Restored journal should keep recording and restore again")
+    void restoredJournalShouldKeepRecording() throws IOException {
+        // Arrange
+        Project project = new Project("Avans DevOps");
+        ReviewSprint sprint = new ReviewSprint("sprint-1", "Sprint 1", START, START.plusWeeks(2));
+        sprint.addBacklogItem(new BacklogItem("item-1", "Login page"));
+        project.addSprint(sprint);
+        ProjectJournal.create(project, new EventJournal(directory)).close();
+
+        // Act
+        try (ProjectJournal journal = ProjectJournal.restore(new EventJournal(directory))) {
+            BacklogItem item = journal.getProject().getSprints().get(0).getBacklogItems().get(0);
+            item.moveToNextState();
+            journal.getProject().getSprints().get(0).addBacklogItem(new BacklogItem("item-2", "Logout"));
+        }
+        Project restored = restore();
+
+        // Assert
+        Sprint restoredSprint = restored.getSprints().get(0);
+        assertEquals(2, restoredSprint.getBacklogItemCount());
+        assertEquals(1, restoredSprint.getBacklogStateCount("Doing"));
+    }
+
+    @Test
+    @DisplayName("Completion history should survive snapshots and later changes")
+    void completionHistoryShouldBeRestored() throws IOException {
+        // Arrange
+        Project project = new Project("Avans DevOps");
+        ReviewSprint sprint = new ReviewSprint("sprint-1", "Sprint 1", START, START.plusWeeks(2));
+        BacklogItem item = new BacklogItem("item-1", "Login page");
+        item.addActivity(new Activity("Design", 4));
+        sprint.addBacklogItem(item);
+        sprint.getHistory().restore(START.plusDays(1), new int[] {1, 0, -1}, new int[] {0, 1, 0});
+        project.addSprint(sprint);
+
+        // Act
+        try (ProjectJournal journal = ProjectJournal.create(project, new EventJournal(directory))) {
+            journal.getProject().getSprints().get(0).getBacklogItems().get(0).getActivity(0).setDone(true);
+        }
+        Project restored = restore();
+
+        // Assert
+        SprintHistory history = restored.getSprints().get(0).getHistory();
+        assertArrayEquals(new int[] {0, 1, 1, 0}, history.getCompletedItemsPerDay(START, 4));
+        assertEquals(2, history.getCompletedActivities());
+        int lastDay = history.getDayCount() - 1;
+        assertEquals(LocalDate.now(), history.getFirstDay().plusDays(lastDay));
+        assertEquals(1, history.getActivitiesDoneChange(lastDay));
+    }
+
+    @Test
+    @DisplayName("Creating a journal for a second project in the same directory should fail")
+    void secondProjectShouldBeRejected() throws IOException {
+        // Arrange
+        ProjectJournal.create(new Project("First"), new EventJournal(directory)).close();
+
+        // Act & Assert
+        try (EventJournal journal = new EventJournal(directory)) {
+            assertThrows(IllegalStateException.class, () -> ProjectJournal.create(new Project("Second"), journal));
+        }
+    }
+
+    private Project restore() throws IOException {
+        try (ProjectJournal journal = ProjectJournal.restore(new EventJournal(directory))) {
+            return journal.getProject();
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.avans.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.avans.domain.backlog.Activity;
+import com.avans.domain.backlog.BacklogItem;
+import com.avans.domain.discussions.DiscussionMessage;
+import com.avans.domain.discussions.DiscussionThread;
+import com.avans.domain.member.Developer;
+import com.avans.domain.member.ScrumMaster;
+import com.avans.domain.project.Project;
+import com.avans.domain.project.ReleaseSprint;
+import com.avans.domain.project.ReviewSprint;
+import com.avans.domain.project.Sprint;
+import com.avans.state.release.ReleasingState;
+import com.avans.state.review.ReviewedState;
+
+class SnapshotStoreTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 3, 4);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Snapshot should restore sprint states, backlog items and discussion trees")
+    void snapshotShouldRestoreWholeGraph() throws IOException {
+        // Arrange
+        Project project = sampleProject();
+        SnapshotStore store = new SnapshotStore(directory);
+        store.write(project, 42);
+
+        // Act
+        ProjectEventApplier applier = new ProjectEventApplier();
+        long sequence = store.loadLatest(applier);
+
+        // Assert
+        Project restored = applier.getProject();
+        assertEquals(42, sequence);
+        ReviewSprint review = (ReviewSprint) restored.getSprints().get(0);
+        ReleaseSprint release = (ReleaseSprint) restored.getSprints().get(1);
+        assertEquals("Reviewed", review.getState().getName());
+        assertTrue(review.isFinished());
+        assertEquals(new ReleasingState().getName(), release.getState().getName());
+        // The shared item is one object planned in both sprints
+        assertSame(review.getBacklogItems().get(0), release.getBacklogItems().get(0));
+        assertEquals("Done", review.getBacklogItems().get(0).getState().getName());
+        assertTrue(review.getBacklogItems().get(0).getActivity(0).isDone());
+        DiscussionThread thread = restored.getDiscussions().get(0);
+        assertTrue(thread.isLocked());
+        assertSame(review.getBacklogItems().get(0), thread.getBacklogItem());
+        assertEquals("Looks good", thread.getChildren().get(0).getChildren().get(0).getContent());
+    }
+
+    @Test
+    @DisplayName("Restore should load the latest snapshot and replay only the journal tail")
+    void restoreShouldReplayOnlyJournalTail() throws IOException {
+        // Arrange
+        SnapshotStore store = new SnapshotStore(directory.resolve("snapshots"));
+        Path journalDirectory = directory.resolve("journal");
+        try (ProjectJournal journal = ProjectJournal.create(new Project("Avans DevOps"), new EventJournal(journalDirectory))) {
+            journal.setSnapshotPolicy(store, 0);
+            ReviewSprint sprint = new ReviewSprint("sprint-1", "Sprint 1", START, START.plusWeeks(2));
+            journal.getProject().addSprint(sprint);
+            sprint.addBacklogItem(new BacklogItem("item-1", "Login page"));
+            journal.snapshot();
+            sprint.addBacklogItem(new BacklogItem("item-2", "Logout"));
+            sprint.getBacklogItems().get(0).moveToNextState();
+        }
+
+        // Act
+        Project restored;
+        try (ProjectJournal journal = ProjectJournal.restore(new EventJournal(journalDirectory), store)) {
+            restored = journal.getProject();
+            assertTrue(journal.getLastSnapshotSequence() > 0);
+        }
+
+        // Assert
+        Sprint sprint = restored.getSprints().get(0);
+        assertEquals(2, sprint.getBacklogItemCount());
+        assertEquals("Doing", sprint.getBacklogItems().get(0).getState().getName());
+    }
+
+    @Test
+    @DisplayName("Snapshot policy should write a snapshot after the configured number of events")
+    void snapshotPolicyShouldWriteSnapshots() throws IOException {
+        // Arrange
+        SnapshotStore store = new SnapshotStore(directory.resolve("snapshots"), 1);
+        try (ProjectJournal journal = ProjectJournal.create(new Project("Avans DevOps"),
+                new EventJournal(directory.resolve("journal")))) {
+            ReviewSprint sprint = new ReviewSprint("Sprint 1", START, START.plusWeeks(2));
+            journal.getProject().addSprint(sprint);
+            journal.setSnapshotPolicy(store, 10);
+
+            // Act
+            for (int i = 0; i < 25; i++) {
+                sprint.addBacklogItem(new BacklogItem("Item " + i));
+                journal.snapshotIfDue();
+            }
+
+            // Assert
+            assertEquals(1, store.listSnapshots().size()); // Older snapshots are removed
+            assertTrue(journal.getLastSnapshotSequence() >= 20);
+        }
+    }
+
+    @Test
+    @DisplayName("Changes should only mark a snapshot as due, never write it themselves")
+    void changesShouldNotWriteSnapshots() throws IOException {
+        // Arrange
+        SnapshotStore store = new SnapshotStore(directory.resolve("snapshots"), 1);
+        try (ProjectJournal journal = ProjectJournal.create(new Project("Avans DevOps"),
+                new EventJournal(directory.resolve("journal")))) {
+            ReviewSprint sprint = new ReviewSprint("Sprint 1", START, START.plusWeeks(2));
+            journal.getProject().addSprint(sprint);
+            journal.setSnapshotPolicy(store, 5);
+
+            // Act
+            for (int i = 0; i < 10; i++) {
+                sprint.addBacklogItem(new BacklogItem("Item " + i));
+            }
+
+            // Assert
+            assertTrue(store.listSnapshots().isEmpty());
+            assertTrue(journal.isSnapshotDue());
+            assertTrue(journal.snapshotIfDue());
+            assertFalse(journal.isSnapshotDue());
+            assertEquals(1, store.listSnapshots().size());
+        }
+    }
+
+    @Test
+    @DisplayName("Damaged newest snapshot should fall back to the previous one")
+    void damagedSnapshotShouldFallBackToPrevious() throws IOException {
+        // Arrange
+        SnapshotStore store = new SnapshotStore(directory);
+        store.write(new Project("Older"), 10);
+        Path newest = store.write(new Project("Newer"), 20);
+        try (FileChannel channel = FileChannel.open(newest, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] { 0x7F }), SnapshotStore.HEADER_SIZE + 6);
+        }
+
+        // Act
+        ProjectEventApplier applier = new ProjectEventApplier();
+        long sequence = store.loadLatest(applier);
+
+        // Assert
+        assertEquals(10, sequence);
+        assertEquals("Older", applier.getProject().getProjectName());
+    }
+
+    @Test
+    @DisplayName("Snapshot in an unknown format version should be ignored")
+    void unknownFormatVersionShouldBeIgnored() throws IOException {
+        // Arrange
+        SnapshotStore store = new SnapshotStore(directory);
+        Path snapshot = store.write(new Project("Future"), 5);
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).putInt(0, SnapshotStore.FORMAT_VERSION + 1), 4);
+        }
+
+        // Act
+        ProjectEventApplier applier = new ProjectEventApplier();
+
+        // Assert
+        assertEquals(0, store.loadLatest(applier));
+        assertNull(applier.getProject());
+        assertEquals(List.of(snapshot), store.listSnapshots());
+    }
+
+    private static Project sampleProject() {
+        Project project = new Project("Avans DevOps");
+        Developer developer = new Developer("dev-1", "Dev");
+        ScrumMaster scrumMaster = new ScrumMaster("sm-1", "Sam");
+        project.addTeamMember(developer);
+
+        BacklogItem item = new BacklogItem("item-1", "Login page");
+        Activity activity = new Activity("Build form", 5);
+        item.addActivity(activity);
+        activity.setDone(true);
+        for (int i = 0; i < 5; i++) {
+            item.moveToNextState();
+        }
+
+        ReviewSprint review = new ReviewSprint("review-1", "Sprint 1", START, START.plusWeeks(2));
+        review.addBacklogItem(item);
+        review.addTeamMember(developer);
+        review.setScrumMaster(scrumMaster);
+        review.start();
+        review.finish();
+        review.setState(new ReviewedState());
+
+        ReleaseSprint release = new ReleaseSprint("release-1", "Release 1", START, START.plusWeeks(3));
+        release.addBacklogItem(item);
+        release.setState(new ReleasingState());
+        project.addSprint(review);
+        project.addSprint(release);
+
+        DiscussionThread thread = new DiscussionThread("thread-1", "Login review");
+        DiscussionMessage message = new DiscussionMessage("Ready?", developer, START);
+        thread.add(message);
+        message.add(new DiscussionMessage("Looks good", scrumMaster, START));
+        thread.setBacklogItem(item); // Done item locks the thread
+        project.addDiscussion(thread);
+        return project;
+    }
+}
@@ -0,0 +1,267 @@
+package com.avans.pipeline;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.avans.domain.project.ReleaseSprint;
+import com.avans.strategy.pipeline.FailFastStrategy;
+
+class PipelineCheckpointTest {
+
+    @TempDir
+    Path directory;
+
+    private PipelineCheckpointStore store;
+    private final List<String> executed = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        store = new PipelineCheckpointStore(directory);
+    }
+
+    @Test
+    @DisplayName("Run after a failure should resume at the failed step, even in a new pipeline instance")
+    void runAfterFailureShouldResumeAtFailedStep() {
+        // Arrange
+        Pipeline failing = pipeline("Source", "Build", "Deploy", "Notify");
+        ((RecordingStep) failing.getSteps().get(2)).fail = true;
+        failing.runAllSteps();
+        executed.clear();
+
+        // Act
+        Pipeline retry = pipeline("Source", "Build", "Deploy", "Notify");
+        retry.retryAllSteps();
+
+        // Assert
+        assertTrue(retry.wasLastRunSuccessful());
+        assertEquals(List.of("Deploy", "Notify"), executed);
+        assertEquals(2, retry.getResumedStepCount());
+        assertTrue(retry.getSteps().get(0).isSuccessful());
+        assertFalse(store.hasCheckpoint("Release"));
+    }
+
+    @Test
+    @DisplayName("Resumed steps should keep the outputs they completed with")
+    void resumedStepsShouldKeepTheirOutputs() {
+        // Arrange
+        Pipeline failing = pipeline("Source", "Build", "Deploy");
+        ((RecordingStep) failing.getSteps().get(2)).fail = true;
+        failing.runAllSteps();
+
+        // Act
+        Pipeline retry = pipeline("Source", "Build", "Deploy");
+        retry.retryAllSteps();
+
+        // Assert
+        PipelineStep build = retry.getSteps().get(1);
+        assertTrue(build.isResumed());
+        assertFalse(build.isServedFromCache());
+        assertEquals("log of Build", new String(build.outputs().get("log"), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Successful run should leave nothing to resume")
+    void successfulRunShouldStartOverNextTime() {
+        // Arrange
+        pipeline("Source", "Build").runAllSteps();
+        executed.clear();
+
+        // Act
+        Pipeline next = pipeline("Source", "Build");
+        next.retryAllSteps();
+
+        // Assert
+        assertEquals(List.of("Source", "Build"), executed);
+        assertEquals(0, next.getResumedStepCount());
+    }
+
+    @Test
+    @DisplayName("Checkpoint of a pipeline with different steps should be ignored")
+    void changedStepsShouldStartOver() {
+        // Arrange
+        Pipeline failing = pipeline("Source", "Build", "Deploy");
+        ((RecordingStep) failing.getSteps().get(2)).fail = true;
+        failing.runAllSteps();
+        executed.clear();
+
+        // Act
+        pipeline("Source", "Build", "Test", "Deploy").retryAllSteps();
+
+        // Assert
+        assertEquals(List.of("Source", "Build", "Test", "Deploy"), executed);
+    }
+
+    @Test
+    @DisplayName("A torn last record from a crash should be ignored")
+    void tornRecordShouldBeIgnored() throws IOException {
+        // Arrange
+        Pipeline failing = pipeline("Source", "Build", "Deploy");
+        ((RecordingStep) failing.getSteps().get(1)).fail = true;
+        failing.runAllSteps();
+        Path checkpoint;
+        try (Stream<Path> files = Files.list(directory)) {
+            checkpoint = files.findFirst().orElseThrow();
+        }
+        Files.write(checkpoint, "1\t".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        executed.clear();
+
+        // Act
+        pipeline("Source", "Build", "Deploy").retryAllSteps();
+
+        // Assert
+        assertEquals(List.of("Build", "Deploy"), executed);
+    }
+
+    @Test
+    @DisplayName("Clearing the checkpoint should make the next run start over")
+    void clearedCheckpointShouldStartOver() throws IOException {
+        // Arrange
+        Pipeline failing = pipeline("Source", "Build");
+        ((RecordingStep) failing.getSteps().get(1)).fail = true;
+        failing.runAllSteps();
+        executed.clear();
+
+        // Act
+        store.clear("Release");
+        pipeline("Source", "Build").retryAllSteps();
+
+        // Assert
+        assertEquals(List.of("Source", "Build"), executed);
+    }
+
+    @Test
+    @DisplayName("Run that is not a retry should start over after a failure")
+    void runThatIsNoRetryShouldStartOver() {
+        // Arrange
+        Pipeline failing = pipeline("Source", "Build");
+        ((RecordingStep) failing.getSteps().get(1)).fail = true;
+        failing.runAllSteps();
+        executed.clear();
+
+        // Act
+        Pipeline next = pipeline("Source", "Build");
+        next.runAllSteps();
+
+        // Assert
+        assertEquals(List.of("Source", "Build"), executed);
+        assertEquals(0, next.getResumedStepCount());
+    }
+
+    @Test
+    @DisplayName("Retry with a changed source revision should start over")
+    void changedRevisionShouldStartOver() {
+        // Arrange
+        Pipeline failing = revisionPipeline("abc123");
+        ((RecordingStep) failing.getSteps().get(2)).fail = true;
+        failing.runAllSteps();
+        executed.clear();
+
+        // Act
+        Pipeline retry = revisionPipeline("def456");
+        retry.retryAllSteps();
+
+        // Assert
+        assertEquals(List.of("Build", "Deploy"), executed);
+        assertEquals(0, retry.getResumedStepCount());
+        assertTrue(retry.wasLastRunSuccessful());
+    }
+
+    @Test
+    @DisplayName("Retry with the same source revision should resume after the completed steps")
+    void sameRevisionShouldResume() {
+        // Arrange
+        Pipeline failing = revisionPipeline("abc123");
+        ((RecordingStep) failing.getSteps().get(2)).fail = true;
+        failing.runAllSteps();
+        executed.clear();
+
+        // Act
+        Pipeline retry = revisionPipeline("abc123");
+        retry.retryAllSteps();
+
+        // Assert
+        assertEquals(List.of("Deploy"), executed);
+        assertEquals(2, retry.getResumedStepCount());
+    }
+
+    @Test
+    @DisplayName("Unreadable checkpoint store should not stop the run")
+    void unreadableStoreShouldRunWithoutCheckpoint() throws IOException {
+        // Arrange
+        Pipeline pipeline = pipeline("Source", "Build");
+        ReleaseSprint sprint = new ReleaseSprint("Release 1", LocalDate.now(), LocalDate.now().plusDays(7));
+        sprint.setPipeline(pipeline);
+        sprint.setPipelineRunning(true);
+        Files.delete(directory);
+        Files.write(directory, new byte[0]);
+
+        // Act
+        pipeline.runAllSteps();
+
+        // Assert
+        assertTrue(pipeline.wasLastRunSuccessful());
+        assertFalse(sprint.isPipelineRunning());
+        assertEquals(List.of("Source", "Build"), executed);
+    }
+
+    private Pipeline revisionPipeline(String revision) {
+        Pipeline pipeline = new Pipeline("Release", new FailFastStrategy());
+        SourceStep source = new SourceStep();
+        source.setRevision(revision);
+        pipeline.addStep(source);
+        pipeline.addStep(new RecordingStep("Build"));
+        pipeline.addStep(new RecordingStep("Deploy"));
+        pipeline.setCheckpointStore(store);
+        return pipeline;
+    }
+
+    private Pipeline pipeline(String... stepNames) {
+        Pipeline pipeline = new Pipeline("Release", new FailFastStrategy());
+        for (String stepName : stepNames) {
+            pipeline.addStep(new RecordingStep(stepName));
+        }
+        pipeline.setCheckpointStore(store);
+        return pipeline;
+    }
+
+    private class RecordingStep extends PipelineStep {
+        private boolean fail;
+
+        RecordingStep(String name) {
+            super(name);
+        }
+
+        @Override
+        protected void initialize() {
+            // Nothing to initialize
+        }
+
+        @Override
+        protected void execute() {
+            executed.add(getName());
+            if (fail) {
+                throw new IllegalStateException(getName() + " failed");
+            }
+            outputs().put("log", ("log of " + getName()).getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        protected void publishResults() {
+            // Nothing to publish
+        }
+    }
+}
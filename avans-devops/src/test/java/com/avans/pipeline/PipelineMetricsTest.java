@@ -0,0 +1,88 @@
+package com.avans.pipeline;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.avans.metrics.MetricsRegistry;
+import com.avans.strategy.pipeline.FailFastStrategy;
+
+class PipelineMetricsTest {
+
+    @Test
+    @DisplayName("Each phase of a step should be timed separately")
+    void phasesShouldBeTimedSeparately() {
+        // Arrange
+        Pipeline pipeline = new Pipeline("Release", new FailFastStrategy());
+        TimedStep step = new TimedStep("Build", 20);
+        pipeline.addStep(step);
+
+        // Act
+        pipeline.runAllSteps();
+
+        // Assert
+        assertTrue(step.getPhaseNanos(StepPhase.EXECUTE) >= 20_000_000L);
+        assertTrue(step.getPhaseNanos(StepPhase.INITIALIZE) >= 0);
+        assertTrue(step.getPhaseNanos(StepPhase.PUBLISH_RESULTS) >= 0);
+        assertTrue(pipeline.getExecutionDurationNanos() >= step.getPhaseNanos(StepPhase.EXECUTE));
+    }
+
+    @Test
+    @DisplayName("Registry should receive the steps that ran and the result of the run")
+    void registryShouldReceiveStepsThatRan() {
+        // Arrange
+        MetricsRegistry registry = new MetricsRegistry();
+        Pipeline pipeline = new Pipeline("Release", new FailFastStrategy());
+        TimedStep failing = new TimedStep("Test", 0);
+        failing.fail = true;
+        pipeline.addStep(new TimedStep("Build", 0));
+        pipeline.addStep(failing);
+        pipeline.addStep(new TimedStep("Deploy", 0));
+        pipeline.setMetricsRegistry(registry);
+
+        // Act
+        pipeline.runAllSteps();
+
+        // Assert
+        assertEquals(1, registry.getStepResultCount("Build", true));
+        assertEquals(1, registry.getStepResultCount("Test", false));
+        assertEquals(1, registry.getStepPhaseHistogram("Test", StepPhase.EXECUTE).getCount());
+        assertEquals(0, registry.getStepPhaseHistogram("Test", StepPhase.PUBLISH_RESULTS).getCount());
+        assertEquals(0, registry.getStepResultCount("Deploy", true) + registry.getStepResultCount("Deploy", false));
+        assertEquals(1, registry.getPipelineRunHistogram("Release").getCount());
+        assertEquals(-1, pipeline.getSteps().get(2).getPhaseNanos(StepPhase.INITIALIZE));
+    }
+
+    private static class TimedStep extends PipelineStep {
+        private final long executeMillis;
+        private boolean fail;
+
+        TimedStep(String name, long executeMillis) {
+            super(name);
+            this.executeMillis = executeMillis;
+        }
+
+        @Override
+        protected void initialize() {
+            // Nothing to initialize
+        }
+
+        @Override
+        protected void execute() {
+            try {
+                Thread.sleep(executeMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (fail) {
+                throw new IllegalStateException(getName() + " failed");
+            }
+        }
+
+        @Override
+        protected void publishResults() {
+            // Nothing to publish
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.avans.pipeline;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ReleaseExecutionServiceTest {
+
+    private final Object projectA = new Object();
+    private final Object projectB = new Object();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ReleaseExecutionService service;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        service.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Releases of one project should wait for each other, other projects should not")
+    void projectLimitShouldOnlyHoldBackSameProject() throws Exception {
+        // Arrange
+        service = new ReleaseExecutionService(4, 10, 1);
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch otherProjectRan = new CountDownLatch(1);
+
+        // Act
+        ReleaseHandle first = service.submit(projectA, "A1", () -> {
+            firstStarted.countDown();
+            awaitQuietly(release);
+        });
+        ReleaseHandle second = service.submit(projectA, "A2", () -> { });
+        assertTrue(firstStarted.await(5, TimeUnit.SECONDS));
+        service.submit(projectB, "B1", otherProjectRan::countDown);
+
+        // Assert
+        assertTrue(otherProjectRan.await(5, TimeUnit.SECONDS));
+        assertFalse(second.isStarted());
+        assertThrows(TimeoutException.class, () -> second.get(50, TimeUnit.MILLISECONDS));
+        release.countDown();
+        second.get(5, TimeUnit.SECONDS);
+        assertTrue(first.isDone());
+    }
+
+    @Test
+    @DisplayName("Submitting past the queue limit should be rejected")
+    void fullQueueShouldRejectReleases() throws Exception {
+        // Arrange
+        service = new ReleaseExecutionService(1, 2, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        service.submit(projectA, "A1", () -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        service.submit(projectA, "A2", () -> { });
+        service.submit(projectB, "B1", () -> awaitQuietly(release));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> service.submit(projectB, "B2", () -> { }));
+        assertEquals(2, service.getQueuedCount());
+        assertEquals(1, service.getRunningCount());
+    }
+
+    @Test
+    @DisplayName("Cancelled release should leave the queue without running")
+    void cancelledReleaseShouldNotRun() throws Exception {
+        // Arrange
+        service = new ReleaseExecutionService(2, 10, 1);
+        AtomicInteger runs = new AtomicInteger();
+        ReleaseHandle first = service.submit(projectA, "A1", () -> awaitQuietly(release));
+        ReleaseHandle waiting = service.submit(projectA, "A2", runs::incrementAndGet);
+
+        // Act
+        assertTrue(waiting.cancel(true));
+        ReleaseHandle next = service.submit(projectA, "A3", runs::incrementAndGet);
+        release.countDown();
+        next.get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertTrue(first.isDone());
+        assertThrows(CancellationException.class, waiting::get);
+        assertEquals(1, runs.get());
+        assertEquals(0, service.getQueuedCount());
+    }
+
+    @Test
+    @DisplayName("Shutdown should finish submitted releases and refuse new ones")
+    void shutdownShouldDrainSubmittedReleases() throws InterruptedException, ExecutionException {
+        // Arrange
+        service = new ReleaseExecutionService(1, 10, 1);
+        AtomicInteger runs = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            service.submit(projectA, "A" + i, runs::incrementAndGet);
+        }
+
+        // Act
+        service.shutdown();
+        boolean terminated = service.awaitTermination(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertTrue(terminated);
+        assertEquals(3, runs.get());
+        assertThrows(IllegalStateException.class, () -> service.submit(projectA, "A4", () -> { }));
+    }
+
+    @Test
+    @DisplayName("Shutting down now should cancel releases that have not started")
+    void shutdownNowShouldCancelWaitingReleases() throws InterruptedException {
+        // Arrange
+        service = new ReleaseExecutionService(1, 10, 2);
+        CountDownLatch started = new CountDownLatch(1);
+        service.submit(projectA, "A1", () -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        AtomicInteger notRun = new AtomicInteger();
+        ReleaseHandle queued = service.submit(projectA, "A2", () -> { }, notRun::incrementAndGet);
+        ReleaseHandle waiting = service.submit(projectA, "A3", () -> { }, notRun::incrementAndGet);
+
+        // Act
+        List<ReleaseHandle> cancelled = service.shutdownNow();
+
+        // Assert
+        assertEquals(2, cancelled.size());
+        assertEquals(2, notRun.get());
+        assertTrue(queued.isCancelled());
+        assertTrue(waiting.isCancelled());
+        assertTrue(service.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.avans.pipeline;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.avans.strategy.pipeline.FailFastStrategy;
+import com.avans.strategy.pipeline.ParallelDagStrategy;
+
+class StepResultCacheTest {
+
+    @TempDir
+    Path directory;
+
+    private StepResultCache cache;
+    private SourceStep source;
+    private CountingStep build;
+    private CountingStep deploy;
+    private Pipeline pipeline;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        cache = new StepResultCache(directory);
+        source = new SourceStep();
+        source.setRevision("3f2a9c1");
+        build = new CountingStep("Build", true);
+        deploy = new CountingStep("Deploy", false);
+        pipeline = new Pipeline("Release", new FailFastStrategy());
+        pipeline.addStep(source);
+        pipeline.addStep(build);
+        pipeline.addStep(deploy);
+        pipeline.setResultCache(cache);
+    }
+
+    @Test
+    @DisplayName("Retrying after a failed deployment should not execute the build again")
+    void retryShouldReuseUnchangedSteps() {
+        // Arrange
+        deploy.failNextRun = true;
+        pipeline.runAllSteps();
+
+        // Act
+        pipeline.runAllSteps();
+
+        // Assert
+        assertTrue(pipeline.wasLastRunSuccessful());
+        assertEquals(1, build.executions);
+        assertEquals(2, deploy.executions);
+        assertTrue(build.isServedFromCache());
+        assertEquals("artifact of Build", new String(build.outputs().get("artifact"), StandardCharsets.UTF_8));
+        assertEquals(2, pipeline.getCachedStepCount());
+    }
+
+    @Test
+    @DisplayName("A new source revision should execute the steps after it again")
+    void changedRevisionShouldRerunSteps() {
+        // Arrange
+        pipeline.runAllSteps();
+
+        // Act
+        source.setRevision("77b01de");
+        pipeline.runAllSteps();
+
+        // Assert
+        assertEquals(2, build.executions);
+        assertFalse(build.isServedFromCache());
+        assertNotNull(build.getFingerprint());
+    }
+
+    @Test
+    @DisplayName("Steps after a step that is not cacheable should always run")
+    void stepsAfterUncacheableStepShouldRun() {
+        // Arrange
+        source.setRevision(null);
+
+        // Act
+        pipeline.runAllSteps();
+        pipeline.runAllSteps();
+
+        // Assert
+        assertEquals(2, build.executions);
+        assertNull(build.getFingerprint());
+        assertEquals(0, cache.getHitCount());
+    }
+
+    @Test
+    @DisplayName("Unreadable cached results should be ignored")
+    void unreadableResultShouldBeIgnored() throws IOException {
+        // Arrange
+        pipeline.runAllSteps();
+        Files.write(directory.resolve(build.getFingerprint() + ".result"), new byte[] {0, 0, 0, 1, 0, 0, 0, 9});
+
+        // Act
+        pipeline.runAllSteps();
+
+        // Assert
+        assertEquals(2, build.executions);
+        assertTrue(pipeline.wasLastRunSuccessful());
+    }
+
+    @Test
+    @DisplayName("Under a parallel strategy a step without dependencies should only depend on its own inputs")
+    void parallelStepWithoutDependenciesShouldIgnoreEarlierSteps() {
+        // Arrange - Deploy is listed first but runs alongside Lint, so it cannot be an input of Lint
+        CountingStep lint = new CountingStep("Lint", true);
+        Pipeline parallel = new Pipeline("Release", new ParallelDagStrategy());
+        parallel.addStep(source);
+        parallel.addStep(build.dependsOn(source));
+        parallel.addStep(deploy);
+        parallel.addStep(lint);
+        parallel.setResultCache(cache);
+        parallel.runAllSteps();
+
+        // Act
+        parallel.runAllSteps();
+
+        // Assert
+        assertTrue(parallel.wasLastRunSuccessful());
+        assertEquals(1, build.executions);
+        assertEquals(1, lint.executions);
+        assertTrue(lint.isServedFromCache());
+        assertEquals(2, deploy.executions);
+    }
+
+    @Test
+    @DisplayName("A result that cannot be stored should not fail the step")
+    void failedStoreShouldNotFailStep() throws IOException {
+        // Arrange - a file where the cache directory was makes every write fail
+        Files.delete(directory);
+        Files.createFile(directory);
+
+        // Act
+        pipeline.runAllSteps();
+
+        // Assert
+        assertTrue(pipeline.wasLastRunSuccessful());
+        assertTrue(build.isSuccessful());
+        assertTrue(build.getPhaseNanos(StepPhase.EXECUTE) >= 0);
+        assertFalse(cache.contains(build.getFingerprint()));
+    }
+
+    @Test
+    @DisplayName("Fingerprints should not depend on the order inputs are declared in")
+    void fingerprintShouldIgnoreDeclarationOrder() {
+        // Arrange
+        StepInputs first = new StepInputs().add("os", "linux").add("jdk", "17");
+        StepInputs second = new StepInputs().add("jdk", "17").add("os", "linux");
+
+        // Act
+        String firstFingerprint = first.fingerprint("Build", "Build", List.of());
+        String secondFingerprint = second.fingerprint("Build", "Build", List.of());
+
+        // Assert
+        assertEquals(firstFingerprint, secondFingerprint);
+        assertNotEquals(firstFingerprint, second.fingerprint("Build", "Build", List.of(firstFingerprint)));
+        assertThrows(IllegalArgumentException.class, () -> first.add("os", "windows"));
+    }
+
+    private static class CountingStep extends PipelineStep {
+        private final boolean cacheable;
+        private int executions;
+        private boolean failNextRun;
+
+        CountingStep(String name, boolean cacheable) {
+            super(name);
+            this.cacheable = cacheable;
+        }
+
+        @Override
+        protected void initialize() {
+            // Nothing to initialize
+        }
+
+        @Override
+        protected void execute() {
+            executions++;
+            if (failNextRun) {
+                failNextRun = false;
+                throw new IllegalStateException(getName() + " failed");
+            }
+            outputs().put("artifact", ("artifact of " + getName()).getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        protected void publishResults() {
+            // Nothing to publish
+        }
+
+        @Override
+        protected void describeInputs(StepInputs inputs) {
+            if (cacheable) {
+                inputs.add("step", getName());
+            }
+        }
+    }
+}
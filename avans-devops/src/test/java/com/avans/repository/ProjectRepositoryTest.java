@@ -0,0 +1,162 @@
+package com.avans.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.avans.domain.backlog.BacklogItem;
+import com.avans.domain.member.Developer;
+import com.avans.domain.project.Project;
+import com.avans.domain.project.ReleaseSprint;
+import com.avans.domain.project.ReviewSprint;
+import com.avans.domain.project.Sprint;
+
+class ProjectRepositoryTest {
+
+    private Project project;
+    private Sprint sprint;
+    private Developer developer;
+
+    @BeforeEach
+    void setUp() {
+        project = new Project("Avans DevOps");
+        sprint = new ReviewSprint("sprint-1", "Sprint 1", LocalDate.now(), LocalDate.now().plusWeeks(2));
+        developer = new Developer("dev-1", "Dev");
+    }
+
+    @Test
+    @DisplayName("Existing project content should be indexed on creation")
+    void existingContentShouldBeIndexed() {
+        // Arrange
+        BacklogItem item = new BacklogItem("item-1", "Login page");
+        sprint.addBacklogItem(item);
+        project.addSprint(sprint);
+        project.addTeamMember(developer);
+
+        // Act
+        ProjectRepository repository = new ProjectRepository(project);
+
+        // Assert
+        assertSame(sprint, repository.findSprint("sprint-1"));
+        assertSame(developer, repository.findTeamMember("dev-1"));
+        assertSame(item, repository.findBacklogItem("item-1"));
+        assertSame(sprint, repository.findSprintOfBacklogItem("item-1"));
+        assertEquals(Set.of(item), repository.findBacklogItemsByState("Todo"));
+    }
+
+    @Test
+    @DisplayName("Indexes should follow sprints, members and items added later")
+    void indexesShouldFollowLaterAdditions() {
+        // Arrange
+        ProjectRepository repository = new ProjectRepository(project);
+        BacklogItem item = new BacklogItem("Login page");
+
+        // Act
+        project.addSprint(sprint);
+        project.addTeamMember(developer);
+        sprint.addBacklogItem(item);
+
+        // Assert
+        assertSame(sprint, repository.findSprint(sprint.getId()));
+        assertSame(developer, repository.findTeamMember(developer.getId()));
+        assertSame(item, repository.findBacklogItem(item.getId()));
+        assertEquals(1, repository.findBacklogItemsBySprint(sprint.getId()).size());
+        assertEquals(1, repository.getBacklogItemCount());
+    }
+
+    @Test
+    @DisplayName("State and developer indexes should follow backlog item changes")
+    void stateAndDeveloperIndexesShouldFollowChanges() {
+        // Arrange
+        ProjectRepository repository = new ProjectRepository(project);
+        project.addSprint(sprint);
+        BacklogItem item = new BacklogItem("Login page");
+        sprint.addBacklogItem(item);
+
+        // Act
+        item.moveToNextState();
+        item.assignDeveloper(developer);
+
+        // Assert
+        assertTrue(repository.findBacklogItemsByState("Todo").isEmpty());
+        assertEquals(Set.of(item), repository.findBacklogItemsByState("Doing"));
+        assertEquals(Set.of(item), repository.findBacklogItemsByDeveloper("dev-1"));
+    }
+
+    @Test
+    @DisplayName("Removed backlog items should disappear from all indexes")
+    void removedItemsShouldDisappearFromIndexes() {
+        // Arrange
+        ProjectRepository repository = new ProjectRepository(project);
+        project.addSprint(sprint);
+        BacklogItem item = new BacklogItem("Login page");
+        sprint.addBacklogItem(item);
+        item.assignDeveloper(developer);
+
+        // Act
+        sprint.removeBacklogItem(item);
+        item.moveToNextState();
+
+        // Assert
+        assertNull(repository.findBacklogItem(item.getId()));
+        assertNull(repository.findSprintOfBacklogItem(item.getId()));
+        assertTrue(repository.findBacklogItemsByState("Doing").isEmpty());
+        assertTrue(repository.findBacklogItemsByDeveloper("dev-1").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Item planned in two sprints should stay indexed until removed from both")
+    void itemInTwoSprintsShouldStayIndexedUntilRemovedFromBoth() {
+        // Arrange
+        ProjectRepository repository = new ProjectRepository(project);
+        Sprint release = new ReleaseSprint("Release", LocalDate.now(), LocalDate.now().plusWeeks(1));
+        project.addSprint(sprint);
+        project.addSprint(release);
+        BacklogItem item = new BacklogItem("Login page");
+        sprint.addBacklogItem(item);
+        release.addBacklogItem(item);
+
+        // Act
+        sprint.removeBacklogItem(item);
+        item.moveToNextState();
+
+        // Assert
+        assertSame(release, repository.findSprintOfBacklogItem(item.getId()));
+        assertEquals(Set.of(item), repository.findBacklogItemsByState("Doing"));
+    }
+
+    @Test
+    @DisplayName("Duplicate ids should be rejected")
+    void duplicateIdsShouldBeRejected() {
+        // Arrange
+        new ProjectRepository(project);
+        project.addSprint(sprint);
+        sprint.addBacklogItem(new BacklogItem("item-1", "First"));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+                () -> sprint.addBacklogItem(new BacklogItem("item-1", "Second")));
+        assertThrows(IllegalArgumentException.class, () -> new BacklogItem(" ", "Blank id"));
+    }
+
+    @Test
+    @DisplayName("Detached repository should stop following the project")
+    void detachedRepositoryShouldStopFollowingProject() {
+        // Arrange
+        ProjectRepository repository = new ProjectRepository(project);
+        project.addSprint(sprint);
+
+        // Act
+        repository.detach();
+        sprint.addBacklogItem(new BacklogItem("item-1", "Login page"));
+
+        // Assert
+        assertNull(repository.findBacklogItem("item-1"));
+        assertSame(sprint, repository.findSprint("sprint-1"));
+    }
+}
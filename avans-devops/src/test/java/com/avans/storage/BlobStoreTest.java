@@ -0,0 +1,184 @@
+package com.avans.storage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BlobStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Stored content should be hashed and kept off-heap")
+    void storedContentShouldBeHashedOffHeap() {
+        // Arrange
+        BlobStore store = new BlobStore();
+
+        // Act
+        Blob blob = store.put("abc".getBytes(StandardCharsets.UTF_8));
+
+        // Assert
+        assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad", blob.getHash());
+        assertEquals(3, blob.getSize());
+        assertTrue(blob.asReadOnlyBuffer().isDirect());
+        assertEquals(1, blob.getReferenceCount());
+    }
+
+    @Test
+    @DisplayName("Storing equal content twice should add a reference instead of a copy")
+    void equalContentShouldBeDeduplicated() {
+        // Arrange
+        BlobStore store = new BlobStore();
+
+        // Act
+        Blob first = store.put(new byte[] {1, 2, 3});
+        Blob second = store.put(new byte[] {1, 2, 3});
+        store.put(new byte[] {4});
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(2, first.getReferenceCount());
+        assertEquals(2, store.getBlobCount());
+        assertEquals(4, store.getStoredBytes());
+    }
+
+    @Test
+    @DisplayName("Blob should leave the store when its last reference is released")
+    void lastReleaseShouldRemoveBlob() {
+        // Arrange
+        BlobStore store = new BlobStore();
+        Blob blob = store.put(new byte[] {1, 2, 3}).retain();
+
+        // Act
+        blob.release();
+        int blobsAfterFirstRelease = store.getBlobCount();
+        blob.release();
+
+        // Assert
+        assertEquals(1, blobsAfterFirstRelease);
+        assertEquals(0, store.getBlobCount());
+        assertEquals(0, store.getStoredBytes());
+        assertThrows(IllegalStateException.class, blob::asReadOnlyBuffer);
+        assertThrows(IllegalStateException.class, blob::release);
+    }
+
+    @Test
+    @DisplayName("Buffers and streams should read the content without allowing changes")
+    void buffersAndStreamsShouldBeReadOnly() throws IOException {
+        // Arrange
+        BlobStore store = new BlobStore();
+        Blob blob = store.put(new byte[] {1, 2, 3, 4});
+
+        // Act
+        ByteBuffer buffer = blob.asReadOnlyBuffer();
+        buffer.get();
+        byte[] streamed;
+        try (InputStream in = blob.openStream()) {
+            streamed = in.readAllBytes();
+        }
+
+        // Assert
+        assertThrows(ReadOnlyBufferException.class, () -> buffer.put(0, (byte) 9));
+        assertEquals(0, blob.asReadOnlyBuffer().position());
+        assertArrayEquals(new byte[] {1, 2, 3, 4}, streamed);
+    }
+
+    @Test
+    @DisplayName("Streamed content should be stored and hashed like an array")
+    void streamedContentShouldMatchArrayContent() throws IOException {
+        // Arrange
+        BlobStore store = new BlobStore();
+        byte[] content = new byte[200_000];
+        new Random(7).nextBytes(content);
+        String arrayHash = new BlobStore().put(content).getHash();
+
+        // Act
+        Blob blob = store.put(new ByteArrayInputStream(content), content.length);
+        Blob again = store.put(new ByteArrayInputStream(content), content.length);
+
+        // Assert
+        assertEquals(arrayHash, blob.getHash());
+        assertArrayEquals(content, blob.toByteArray());
+        assertSame(blob, again);
+        assertEquals(content.length, store.getStoredBytes());
+    }
+
+    @Test
+    @DisplayName("Oversized stream should be rejected without reading all of it")
+    void oversizedStreamShouldBeRejectedEarly() {
+        // Arrange
+        BlobStore store = new BlobStore();
+        EndlessStream endless = new EndlessStream();
+
+        // Act & Assert
+        assertThrows(BlobTooLargeException.class, () -> store.put(endless, 100_000));
+        assertTrue(endless.produced <= 200_000);
+        assertEquals(0, store.getBlobCount());
+    }
+
+    @Test
+    @DisplayName("Oversized file channel should be rejected before it is read")
+    void oversizedFileShouldBeRejectedBeforeReading() throws IOException {
+        // Arrange
+        BlobStore store = new BlobStore();
+        Path file = directory.resolve("large.pdf");
+        Files.write(file, new byte[1001]);
+
+        // Act & Assert
+        try (FileChannel channel = FileChannel.open(file)) {
+            assertThrows(BlobTooLargeException.class, () -> store.put(channel, 1000));
+            assertEquals(0, channel.position());
+        }
+    }
+
+    @Test
+    @DisplayName("Content of exactly the maximum size should be accepted")
+    void contentOfMaximumSizeShouldBeAccepted() throws IOException {
+        // Arrange
+        BlobStore store = new BlobStore();
+        Path file = directory.resolve("exact.pdf");
+        Files.write(file, new byte[1000]);
+
+        // Act
+        Blob fromStream = store.put(new ByteArrayInputStream(new byte[1000]), 1000);
+        Blob fromFile;
+        try (FileChannel channel = FileChannel.open(file)) {
+            fromFile = store.put(channel, 1000);
+        }
+
+        // Assert
+        assertEquals(1000, fromStream.getSize());
+        assertSame(fromStream, fromFile);
+    }
+
+    // Never ends, and counts how much of it was consumed
+    private static class EndlessStream extends InputStream {
+        long produced;
+
+        @Override
+        public int read() {
+            produced++;
+            return 1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            produced += length;
+            return length;
+        }
+    }
+}
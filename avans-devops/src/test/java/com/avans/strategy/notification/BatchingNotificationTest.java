@@ -0,0 +1,256 @@
+package com.avans.strategy.notification;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.avans.domain.member.Developer;
+
+class BatchingNotificationTest {
+
+    private final RecordingStrategy delegate = new RecordingStrategy();
+
+    @Test
+    @DisplayName("A full batch should be delivered as a single digest")
+    void fullBatchShouldBeDeliveredAsDigest() {
+        // Arrange
+        BatchingNotification batching = new BatchingNotification(delegate, 3, Duration.ZERO);
+
+        // Act
+        batching.sendNotification("Alice", "[Alice] one");
+        batching.sendNotification("Alice", "[Alice] two");
+        assertTrue(delegate.batches.isEmpty());
+        batching.sendNotification("Alice", "[Alice] three");
+
+        // Assert
+        assertEquals(List.of(List.of("[Alice] one", "[Alice] two", "[Alice] three")), delegate.batches);
+        assertEquals(0, batching.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("Messages should be coalesced per recipient")
+    void messagesShouldBeCoalescedPerRecipient() {
+        // Arrange
+        BatchingNotification batching = new BatchingNotification(delegate, 100, Duration.ZERO);
+
+        // Act
+        batching.sendNotification("Alice", "[Alice] item 1 done");
+        batching.sendNotification("Bob", "[Bob] item 1 done");
+        batching.sendNotification("Alice", "[Alice] item 2 done");
+        batching.flush();
+
+        // Assert
+        assertEquals(2, delegate.batches.size());
+        assertEquals(List.of("[Alice] item 1 done", "[Alice] item 2 done"), delegate.batches.get(0));
+        assertEquals(List.of("[Bob] item 1 done"), delegate.batches.get(1));
+    }
+
+    @Test
+    @DisplayName("Pending messages should be flushed when the time window expires")
+    void pendingMessagesShouldBeFlushedAfterDelay() throws InterruptedException {
+        // Arrange
+        CountDownLatch flushed = new CountDownLatch(1);
+        NotificationStrategy signalling = new NotificationStrategy() {
+            @Override
+            public void sendNotification(String message) {
+                sendBatch(List.of(message));
+            }
+
+            @Override
+            public void sendBatch(List<String> messages) {
+                delegate.sendBatch(messages);
+                flushed.countDown();
+            }
+        };
+        BatchingNotification batching = new BatchingNotification(signalling, 100, Duration.ofMillis(50));
+
+        // Act
+        batching.sendNotification("Alice", "[Alice] sprint started");
+        batching.sendNotification("Alice", "[Alice] sprint finished");
+
+        // Assert
+        assertTrue(flushed.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(List.of("[Alice] sprint started", "[Alice] sprint finished")), delegate.batches);
+        batching.close();
+    }
+
+    @Test
+    @DisplayName("Timer of a batch delivered by size should not flush the next batch early")
+    void staleTimerShouldNotFlushNextBatch() {
+        // Arrange
+        ManualScheduler scheduler = new ManualScheduler();
+        BatchingNotification batching = new BatchingNotification(delegate, 2, Duration.ofMinutes(1), scheduler);
+        batching.sendNotification("Alice", "[Alice] one");
+        batching.sendNotification("Alice", "[Alice] two");
+        batching.sendNotification("Alice", "[Alice] three");
+
+        // Act: the timer of the first batch fires although the batch was delivered by size
+        scheduler.fire(0);
+
+        // Assert
+        assertEquals(1, delegate.batches.size());
+        assertEquals(1, batching.getPendingCount());
+        scheduler.fire(1);
+        assertEquals(List.of(List.of("[Alice] one", "[Alice] two"), List.of("[Alice] three")), delegate.batches);
+    }
+
+    @Test
+    @DisplayName("Digests of one recipient should be delivered one at a time and in order")
+    void digestsOfOneRecipientShouldBeDeliveredInOrder() throws InterruptedException {
+        // Arrange - the first digest is held up in the channel
+        CountDownLatch delivering = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        NotificationStrategy slow = new NotificationStrategy() {
+            @Override
+            public void sendNotification(String message) {
+                sendBatch(List.of(message));
+            }
+
+            @Override
+            public void sendBatch(List<String> messages) {
+                delegate.sendBatch(messages);
+                if (delegate.batches.size() == 1) {
+                    delivering.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        };
+        ManualScheduler scheduler = new ManualScheduler();
+        BatchingNotification batching = new BatchingNotification(slow, 2, Duration.ofMinutes(1), scheduler);
+        batching.sendNotification("Alice", "[Alice] one");
+        Thread timer = new Thread(() -> scheduler.fire(0));
+        timer.start();
+        assertTrue(delivering.await(5, TimeUnit.SECONDS));
+
+        // Act: a full batch completes while the timer is still delivering the first one
+        batching.sendNotification("Alice", "[Alice] two");
+        batching.sendNotification("Alice", "[Alice] three");
+        assertEquals(1, delegate.batches.size());
+        release.countDown();
+        timer.join(5000);
+
+        // Assert
+        assertEquals(List.of(List.of("[Alice] one"), List.of("[Alice] two", "[Alice] three")), delegate.batches);
+    }
+
+    @Test
+    @DisplayName("Closing should flush pending messages and reject new ones")
+    void closeShouldFlushAndRejectNewMessages() {
+        // Arrange
+        BatchingNotification batching = new BatchingNotification(delegate, 10, Duration.ofMinutes(5));
+        batching.sendNotification("Alice", "[Alice] pending");
+
+        // Act
+        batching.close();
+
+        // Assert
+        assertEquals(List.of(List.of("[Alice] pending")), delegate.batches);
+        assertThrows(IllegalStateException.class, () -> batching.sendNotification("Alice", "[Alice] late"));
+    }
+
+    @Test
+    @DisplayName("Team member notifications should be batched through the wrapper")
+    void teamMemberNotificationsShouldBeBatched() {
+        // Arrange
+        Developer developer = new Developer("Alice");
+        BatchingNotification batching = new BatchingNotification(delegate, 500, Duration.ZERO);
+        developer.addNotificationMethod(batching);
+
+        // Act
+        for (int i = 0; i < 500; i++) {
+            developer.update("Backlog item " + i + " is done.");
+        }
+
+        // Assert
+        assertEquals(1, delegate.batches.size());
+        assertEquals(500, delegate.batches.get(0).size());
+    }
+
+    @Test
+    @DisplayName("Email digest should be sent as one message")
+    void emailDigestShouldBeSentAsOneMessage() {
+        // Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(output));
+
+        // Act
+        try {
+            new EmailNotification().sendBatch(List.of("[Alice] one", "[Alice] two"));
+        } finally {
+            System.setOut(originalOut);
+        }
+
+        // Assert
+        String text = output.toString().trim();
+        assertTrue(text.startsWith("[Email] Digest of 2 notifications:"));
+        assertEquals(1, text.split("\\[Email\\]", -1).length - 1);
+    }
+
+    private static class RecordingStrategy implements NotificationStrategy {
+        private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void sendNotification(String message) {
+            batches.add(List.of(message));
+        }
+
+        @Override
+        public void sendBatch(List<String> messages) {
+            batches.add(new ArrayList<>(messages));
+        }
+    }
+
+    // Runs timers only when a test fires them, like a timer that already fired when it was cancelled
+    private static class ManualScheduler extends ScheduledThreadPoolExecutor {
+        private final List<Runnable> tasks = new CopyOnWriteArrayList<>();
+
+        ManualScheduler() {
+            super(1); // Never starts a thread, since nothing is handed to the pool
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            tasks.add(command);
+            return new ManualTimer(command);
+        }
+
+        void fire(int index) {
+            tasks.get(index).run();
+        }
+    }
+
+    private static class ManualTimer extends FutureTask<Void> implements ScheduledFuture<Void> {
+        ManualTimer(Runnable command) {
+            super(command, null);
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return 0;
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
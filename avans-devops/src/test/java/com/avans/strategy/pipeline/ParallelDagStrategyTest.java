@@ -0,0 +1,207 @@
+package com.avans.strategy.pipeline;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.avans.pipeline.Pipeline;
+import com.avans.pipeline.PipelineStep;
+
+class ParallelDagStrategyTest {
+
+    private final List<String> executionOrder = new CopyOnWriteArrayList<>();
+
+    @Test
+    @DisplayName("Independent branches should run concurrently")
+    void independentBranchesShouldRunConcurrently() {
+        // Arrange - both branches only succeed when the other one is running at the same time
+        CountDownLatch bothRunning = new CountDownLatch(2);
+        PipelineStep build = new RecordingStep("Build");
+        PipelineStep analyze = new LatchStep("Analyze", bothRunning).dependsOn(build);
+        PipelineStep test = new LatchStep("Test", bothRunning).dependsOn(build);
+        PipelineStep deploy = new RecordingStep("Deploy").dependsOn(analyze, test);
+
+        // Act
+        boolean result = new ParallelDagStrategy(4, true).runSteps(List.of(build, analyze, test, deploy));
+
+        // Assert
+        assertTrue(result);
+        assertTrue(analyze.isSuccessful());
+        assertTrue(test.isSuccessful());
+        assertEquals("Build", executionOrder.get(0));
+        assertEquals("Deploy", executionOrder.get(executionOrder.size() - 1));
+    }
+
+    @Test
+    @DisplayName("Steps should only start after their dependencies completed")
+    void stepsShouldRespectDependencies() {
+        // Arrange - declared in reverse order on purpose
+        PipelineStep source = new RecordingStep("Source");
+        PipelineStep build = new RecordingStep("Build").dependsOn(source);
+        PipelineStep deploy = new RecordingStep("Deploy").dependsOn(build);
+
+        // Act
+        boolean result = new ParallelDagStrategy(2, true).runSteps(List.of(deploy, build, source));
+
+        // Assert
+        assertTrue(result);
+        assertEquals(List.of("Source", "Build", "Deploy"), executionOrder);
+    }
+
+    @Test
+    @DisplayName("Fail-fast should cancel sibling branches and skip dependents")
+    void failFastShouldCancelSiblingBranches() {
+        // Arrange
+        PipelineStep build = new RecordingStep("Build");
+        PipelineStep test = new FailingStep("Test").dependsOn(build);
+        PipelineStep analyze = new LatchStep("Analyze", new CountDownLatch(2)).dependsOn(build);
+        PipelineStep deploy = new RecordingStep("Deploy").dependsOn(test, analyze);
+        ParallelDagStrategy strategy = new ParallelDagStrategy(4, true);
+
+        // Act
+        boolean result = strategy.runSteps(List.of(build, test, analyze, deploy));
+
+        // Assert
+        assertFalse(result);
+        assertTrue(strategy.shouldAbortOnFailure());
+        assertFalse(analyze.isSuccessful(), "Sibling branch should have been interrupted");
+        assertFalse(executionOrder.contains("Deploy"));
+    }
+
+    @Test
+    @DisplayName("Continue mode should run independent branches but skip dependents of a failure")
+    void continueModeShouldSkipOnlyDependentsOfFailure() {
+        // Arrange
+        PipelineStep build = new RecordingStep("Build");
+        PipelineStep test = new FailingStep("Test").dependsOn(build);
+        PipelineStep analyze = new RecordingStep("Analyze").dependsOn(build);
+        PipelineStep deploy = new RecordingStep("Deploy").dependsOn(test);
+        ParallelDagStrategy strategy = new ParallelDagStrategy(4, false);
+
+        // Act
+        boolean result = strategy.runSteps(List.of(build, test, analyze, deploy));
+
+        // Assert
+        assertFalse(result);
+        assertFalse(strategy.shouldAbortOnFailure());
+        assertTrue(analyze.isSuccessful());
+        assertFalse(executionOrder.contains("Deploy"));
+    }
+
+    @Test
+    @DisplayName("Dependency cycles should be rejected before any step runs")
+    void dependencyCyclesShouldBeRejected() {
+        // Arrange
+        PipelineStep build = new RecordingStep("Build");
+        PipelineStep test = new RecordingStep("Test").dependsOn(build);
+        build.dependsOn(test);
+        ParallelDagStrategy strategy = new ParallelDagStrategy();
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> strategy.runSteps(List.of(build, test)));
+        assertTrue(executionOrder.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Dependencies outside the pipeline should be rejected, even when they succeeded before")
+    void unknownDependenciesShouldBeRejected() {
+        // Arrange
+        PipelineStep external = new RecordingStep("External");
+        PipelineStep build = new RecordingStep("Build").dependsOn(external);
+        ParallelDagStrategy strategy = new ParallelDagStrategy();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> strategy.runSteps(List.of(build)));
+        external.runStep();
+        assertThrows(IllegalArgumentException.class, () -> strategy.runSteps(List.of(build)));
+    }
+
+    @Test
+    @DisplayName("Steps skipped after a failed dependency should not stay successful from an earlier run")
+    void skippedStepsShouldNotStaySuccessful() {
+        // Arrange
+        RecordingStep build = new RecordingStep("Build");
+        PipelineStep deploy = new RecordingStep("Deploy").dependsOn(build);
+        Pipeline pipeline = new Pipeline("Release", new ParallelDagStrategy(2, false));
+        pipeline.addStep(build);
+        pipeline.addStep(deploy);
+        pipeline.runAllSteps();
+        assertTrue(deploy.isSuccessful());
+
+        // Act
+        build.failNextRun = true;
+        pipeline.runAllSteps();
+
+        // Assert
+        assertFalse(pipeline.wasLastRunSuccessful());
+        assertFalse(build.isSuccessful());
+        assertFalse(deploy.isSuccessful());
+    }
+
+    private class RecordingStep extends PipelineStep {
+        private boolean failNextRun;
+
+        RecordingStep(String name) {
+            super(name);
+        }
+
+        @Override
+        protected void initialize() {
+            // Nothing to initialize
+        }
+
+        @Override
+        protected void execute() {
+            if (failNextRun) {
+                failNextRun = false;
+                throw new IllegalStateException(getName() + " failed");
+            }
+            executionOrder.add(getName());
+        }
+
+        @Override
+        protected void publishResults() {
+            // Nothing to publish
+        }
+    }
+
+    private class LatchStep extends RecordingStep {
+        private final CountDownLatch latch;
+
+        LatchStep(String name, CountDownLatch latch) {
+            super(name);
+            this.latch = latch;
+        }
+
+        @Override
+        protected void execute() {
+            latch.countDown();
+            try {
+                if (!latch.await(5, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("Sibling step did not run concurrently");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Step was cancelled", e);
+            }
+            super.execute();
+        }
+    }
+
+    private class FailingStep extends RecordingStep {
+        FailingStep(String name) {
+            super(name);
+        }
+
+        @Override
+        protected void execute() {
+            throw new RuntimeException("Simulated failure in " + getName());
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.avans.strategy.pipeline;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.avans.pipeline.Pipeline;
+import com.avans.pipeline.PipelineStep;
+import com.avans.pipeline.VirtualThreads;
+
+class VirtualThreadStrategyTest {
+
+    @Test
+    @DisplayName("Steps should run on virtual threads when the runtime supports them")
+    void stepsShouldRunOnVirtualThreadsWhenAvailable() {
+        // Arrange
+        AtomicBoolean ranVirtual = new AtomicBoolean();
+        PipelineStep step = new ActionStep("Source", () -> ranVirtual.set(VirtualThreads.isVirtual(Thread.currentThread())));
+
+        // Act
+        boolean result = new VirtualThreadStrategy().runSteps(List.of(step));
+
+        // Assert
+        assertTrue(result);
+        assertEquals(VirtualThreads.isAvailable(), ranVirtual.get());
+        if (Boolean.getBoolean("avans.virtualThreads.expected")) {
+            assertTrue(VirtualThreads.isAvailable(), "Build profile expects a runtime with virtual threads");
+        }
+    }
+
+    @Test
+    @DisplayName("Every independent step should run at the same time")
+    void independentStepsShouldAllRunConcurrently() {
+        // Arrange - each step waits until all of them have started
+        int stepCount = 200;
+        CountDownLatch allRunning = new CountDownLatch(stepCount);
+        List<PipelineStep> steps = new ArrayList<>();
+        for (int i = 0; i < stepCount; i++) {
+            steps.add(new ActionStep("Deploy " + i, () -> await(allRunning)));
+        }
+
+        // Act
+        boolean result = new VirtualThreadStrategy().runSteps(steps);
+
+        // Assert
+        assertTrue(result);
+    }
+
+    @Test
+    @DisplayName("A failing step should cancel the steps still running in its run")
+    void failingStepShouldCancelRunningSteps() {
+        // Arrange
+        AtomicBoolean interrupted = new AtomicBoolean();
+        CountDownLatch slowStarted = new CountDownLatch(1);
+        PipelineStep slow = new ActionStep("Package", () -> {
+            slowStarted.countDown();
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Step was cancelled", e);
+            }
+        });
+        PipelineStep failing = new ActionStep("Test", () -> {
+            await(slowStarted);
+            throw new IllegalStateException("Tests failed");
+        });
+        PipelineStep deploy = new ActionStep("Deploy", () -> { }).dependsOn(slow, failing);
+
+        // Act
+        boolean result = new VirtualThreadStrategy(true).runSteps(List.of(slow, failing, deploy));
+
+        // Assert
+        assertFalse(result);
+        assertTrue(interrupted.get(), "Running step should have been interrupted");
+        assertFalse(slow.isSuccessful());
+        assertFalse(deploy.isSuccessful());
+    }
+
+    @Test
+    @DisplayName("Independent pipelines should run side by side and report a failing one")
+    void pipelinesShouldRunSideBySide() throws InterruptedException {
+        // Arrange
+        int pipelineCount = 100;
+        CountDownLatch allRunning = new CountDownLatch(pipelineCount);
+        List<Pipeline> pipelines = new ArrayList<>();
+        for (int i = 0; i < pipelineCount; i++) {
+            Pipeline pipeline = new Pipeline("Pipeline " + i, new FailFastStrategy());
+            pipeline.addStep(new ActionStep("Source", () -> await(allRunning)));
+            pipelines.add(pipeline);
+        }
+        pipelines.get(0).addStep(new ActionStep("Deploy", () -> {
+            throw new IllegalStateException("Deploy failed");
+        }));
+
+        // Act
+        boolean result = VirtualThreadStrategy.runPipelines(pipelines);
+
+        // Assert
+        assertFalse(result);
+        assertFalse(pipelines.get(0).wasLastRunSuccessful());
+        assertTrue(pipelines.get(pipelineCount - 1).wasLastRunSuccessful());
+    }
+
+    @Test
+    @DisplayName("An interrupted run should only return once its steps have ended")
+    void interruptedRunShouldWaitForItsSteps() throws InterruptedException {
+        // Arrange - the step ignores the interrupt for a moment, like one finishing an upload
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean stepEnded = new AtomicBoolean();
+        AtomicBoolean endedBeforeReturn = new AtomicBoolean();
+        AtomicBoolean interruptRestored = new AtomicBoolean();
+        PipelineStep upload = new ActionStep("Upload", () -> {
+            started.countDown();
+            workIgnoringInterrupts(200);
+            stepEnded.set(true);
+        });
+        Thread runner = new Thread(() -> {
+            new VirtualThreadStrategy().runSteps(List.of(upload));
+            endedBeforeReturn.set(stepEnded.get());
+            interruptRestored.set(Thread.currentThread().isInterrupted());
+        });
+
+        // Act
+        runner.start();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        runner.interrupt();
+        runner.join(5000);
+
+        // Assert
+        assertTrue(endedBeforeReturn.get(), "Run returned while its step was still running");
+        assertTrue(interruptRestored.get());
+    }
+
+    @Test
+    @DisplayName("An interrupted caller of runPipelines should only return once the pipelines have ended")
+    void interruptedRunPipelinesShouldWaitForPipelines() throws InterruptedException {
+        // Arrange
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean stepEnded = new AtomicBoolean();
+        AtomicBoolean endedBeforeReturn = new AtomicBoolean();
+        AtomicBoolean interruptThrown = new AtomicBoolean();
+        Pipeline pipeline = new Pipeline("Release", new FailFastStrategy());
+        pipeline.addStep(new ActionStep("Upload", () -> {
+            started.countDown();
+            workIgnoringInterrupts(200);
+            stepEnded.set(true);
+        }));
+        Thread caller = new Thread(() -> {
+            try {
+                VirtualThreadStrategy.runPipelines(List.of(pipeline));
+            } catch (InterruptedException e) {
+                interruptThrown.set(true);
+            }
+            endedBeforeReturn.set(stepEnded.get());
+        });
+
+        // Act
+        caller.start();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        caller.interrupt();
+        caller.join(5000);
+
+        // Assert
+        assertTrue(interruptThrown.get());
+        assertTrue(endedBeforeReturn.get(), "runPipelines returned while a pipeline was still running");
+    }
+
+    private static void workIgnoringInterrupts(long millis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        while (System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Other steps did not run concurrently");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Step was cancelled", e);
+        }
+    }
+
+    private static class ActionStep extends PipelineStep {
+        private final Runnable action;
+
+        ActionStep(String name, Runnable action) {
+            super(name);
+            this.action = action;
+        }
+
+        @Override
+        protected void initialize() {
+            // Nothing to initialize
+        }
+
+        @Override
+        protected void execute() {
+            action.run();
+        }
+
+        @Override
+        protected void publishResults() {
+            // Nothing to publish
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.avans.strategy.report;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.avans.domain.backlog.BacklogItem;
+import com.avans.domain.project.Project;
+import com.avans.domain.project.ReviewSprint;
+import com.avans.domain.project.Sprint;
+
+class BatchReportEngineTest {
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        project = new Project("Avans DevOps");
+        for (int i = 1; i <= 3; i++) {
+            Sprint sprint = new ReviewSprint("Sprint " + i, LocalDate.now().minusDays(3), LocalDate.now().plusDays(10));
+            sprint.addBacklogItem(new BacklogItem("Item " + i));
+            project.addSprint(sprint);
+        }
+    }
+
+    @Test
+    @DisplayName("Batch should generate every report of every sprint in order")
+    void batchShouldGenerateEveryReportInOrder() throws InterruptedException {
+        // Arrange
+        IReportStrategy pdf = new PdfReportStrategy();
+        IReportStrategy png = new PngReportStrategy();
+        BatchReportEngine engine = new BatchReportEngine(4, Duration.ZERO);
+
+        // Act
+        List<ReportOutcome> outcomes = engine.generate(project, List.of(pdf, png));
+
+        // Assert
+        assertEquals(6, outcomes.size());
+        for (int i = 0; i < outcomes.size(); i++) {
+            ReportOutcome outcome = outcomes.get(i);
+            assertTrue(outcome.isSuccessful());
+            assertSame(project.getSprints().get(i / 2), outcome.getSprint());
+            assertSame(i % 2 == 0 ? pdf : png, outcome.getStrategy());
+            assertEquals(outcome.getStrategy().generate(outcome.getSprint()).getContent(), outcome.getReport().getContent());
+        }
+    }
+
+    @Test
+    @DisplayName("Reports should be generated concurrently")
+    void reportsShouldBeGeneratedConcurrently() throws InterruptedException {
+        // Arrange
+        CountDownLatch allStarted = new CountDownLatch(3);
+        IReportStrategy waiting = (sprint, out) -> {
+            allStarted.countDown();
+            try {
+                out.append(String.valueOf(allStarted.await(5, TimeUnit.SECONDS)));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        // Act
+        List<ReportOutcome> outcomes = new BatchReportEngine(3, Duration.ZERO).generate(project, List.of(waiting));
+
+        // Assert
+        for (ReportOutcome outcome : outcomes) {
+            assertEquals("true", outcome.getReport().getContent());
+        }
+    }
+
+    @Test
+    @DisplayName("Report exceeding the timeout should be abandoned without stopping the batch")
+    void slowReportShouldTimeOut() throws InterruptedException {
+        // Arrange
+        Sprint slowSprint = project.getSprints().get(1);
+        IReportStrategy strategy = (sprint, out) -> {
+            do {
+                out.append('.');
+            } while (sprint == slowSprint);
+        };
+        BatchReportEngine engine = new BatchReportEngine(2, Duration.ofMillis(50));
+
+        // Act
+        List<ReportOutcome> outcomes = engine.generate(project, List.of(strategy));
+
+        // Assert
+        assertTrue(outcomes.get(0).isSuccessful());
+        assertTrue(outcomes.get(1).isTimedOut());
+        assertNull(outcomes.get(1).getReport());
+        assertTrue(outcomes.get(2).isSuccessful());
+    }
+
+    @Test
+    @DisplayName("Failing report should be recorded and progress reported for every report")
+    void failuresShouldBeRecordedAndProgressReported() throws InterruptedException {
+        // Arrange
+        Sprint failingSprint = project.getSprints().get(0);
+        IReportStrategy strategy = (sprint, out) -> {
+            if (sprint == failingSprint) {
+                throw new IOException("Disk full");
+            }
+            out.append(sprint.getName());
+        };
+        List<Integer> progress = Collections.synchronizedList(new ArrayList<>());
+        IReportProgressListener listener = new IReportProgressListener() {
+            @Override
+            public void onReportFinished(ReportOutcome outcome, int completed, int total) {
+                assertEquals(3, total);
+                progress.add(completed);
+            }
+        };
+
+        // Act
+        List<ReportOutcome> outcomes = new BatchReportEngine().generate(project.getSprints(), List.of(strategy), listener);
+
+        // Assert
+        assertEquals("Disk full", outcomes.get(0).getFailure().getMessage());
+        assertFalse(outcomes.get(0).isTimedOut());
+        assertEquals("Sprint 2", outcomes.get(1).getReport().getContent());
+        assertEquals(List.of(1, 2, 3), progress);
+    }
+
+    @Test
+    @DisplayName("Engine should reject invalid settings")
+    void engineShouldRejectInvalidSettings() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new BatchReportEngine(0, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new BatchReportEngine(1, Duration.ofSeconds(-1)));
+        assertThrows(IllegalArgumentException.class, () -> new BatchReportEngine().generate((Project) null, List.of()));
+    }
+}
@@ -0,0 +1,157 @@
+package com.avans.strategy.report;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.avans.domain.backlog.BacklogItem;
+import com.avans.domain.project.ReviewSprint;
+import com.avans.domain.project.Sprint;
+
+class BurndownChartRendererTest {
+
+    private static final int WHITE = 0xFFFFFF;
+    private static final int IDEAL_BLUE = 0x4A90D9;
+    private static final int ACTUAL_ORANGE = 0xE8702A;
+
+    @Test
+    @DisplayName("Chart data of a sprint should follow the recorded completions")
+    void chartDataShouldFollowRecordedCompletions() {
+        // Arrange
+        LocalDate start = LocalDate.of(2024, 3, 4);
+        Sprint sprint = new ReviewSprint("Sprint 1", start, start.plusDays(9));
+        for (int i = 0; i < 4; i++) {
+            sprint.addBacklogItem(new BacklogItem("Item " + i));
+        }
+        sprint.getHistory().restore(start.plusDays(1), new int[] {0, 0, 2}, new int[3]);
+
+        // Act
+        BurndownChartData data = BurndownChartData.fromSprint(sprint, start.plusDays(4));
+
+        // Assert
+        assertTrue(data.isMeasured());
+        assertEquals(10, data.getSprintLength());
+        assertEquals(4, data.calculateActualItemsRemaining(2));
+        assertEquals(2, data.calculateActualItemsRemaining(3));
+        assertEquals(4, data.calculateActualItemsRemaining(4));
+        assertEquals(-1, data.calculateActualItemsRemaining(5));
+    }
+
+    @Test
+    @DisplayName("Renderer should produce a decodable PNG of the configured size")
+    void rendererShouldProduceDecodablePng() throws IOException {
+        // Arrange
+        BurndownChartRenderer renderer = new BurndownChartRenderer(400, 300);
+        BurndownChartData data = new BurndownChartData(10, 4, 10, 5);
+
+        // Act
+        BufferedImage image = decode(render(renderer, data));
+
+        // Assert
+        assertEquals(400, image.getWidth());
+        assertEquals(300, image.getHeight());
+        assertEquals(WHITE, image.getRGB(5, 5) & 0xFFFFFF);
+    }
+
+    @Test
+    @DisplayName("Chart should start both lines at the total item count")
+    void chartShouldStartLinesAtTotalItemCount() throws IOException {
+        // Arrange
+        BurndownChartRenderer renderer = new BurndownChartRenderer(400, 300);
+        BurndownChartData data = new BurndownChartData(10, 4, 10, 5);
+
+        // Act
+        BufferedImage image = decode(render(renderer, data));
+
+        // Assert - day 0 is drawn at the top left of the plot area, actual is drawn last
+        assertEquals(ACTUAL_ORANGE, image.getRGB(60, 60) & 0xFFFFFF);
+        // The ideal line ends at zero items on the last day
+        assertEquals(IDEAL_BLUE, image.getRGB(340, 240) & 0xFFFFFF);
+    }
+
+    @Test
+    @DisplayName("Buffers should be reused between renders")
+    void buffersShouldBeReusedBetweenRenders() throws IOException {
+        // Arrange
+        BurndownChartRenderer renderer = new BurndownChartRenderer(400, 300, 1);
+        BurndownChartData first = new BurndownChartData(10, 4, 10, 5);
+        BurndownChartData second = new BurndownChartData(3, 0, 5, 0);
+
+        // Act
+        byte[] firstPng = render(renderer, first);
+        byte[] secondPng = render(renderer, second);
+        byte[] firstAgain = render(renderer, first);
+
+        // Assert
+        assertEquals(1, renderer.getPooledBufferCount());
+        assertArrayEquals(firstPng, firstAgain);
+        assertFalse(java.util.Arrays.equals(firstPng, secondPng));
+    }
+
+    @Test
+    @DisplayName("Empty sprint should render only the axes")
+    void emptySprintShouldRenderOnlyAxes() throws IOException {
+        // Arrange
+        BurndownChartRenderer renderer = new BurndownChartRenderer(400, 300);
+        BurndownChartData data = new BurndownChartData(0, 0, 10, 2);
+
+        // Act
+        BufferedImage image = decode(render(renderer, data));
+
+        // Assert
+        for (int x = 0; x < image.getWidth(); x++) {
+            for (int y = 0; y < image.getHeight(); y++) {
+                int rgb = image.getRGB(x, y) & 0xFFFFFF;
+                assertNotEquals(IDEAL_BLUE, rgb);
+                assertNotEquals(ACTUAL_ORANGE, rgb);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Renderer should reject charts smaller than its margins")
+    void rendererShouldRejectTooSmallCharts() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new BurndownChartRenderer(100, 300));
+        assertThrows(IllegalArgumentException.class, () -> new BurndownChartRenderer(400, 300, -1));
+    }
+
+    @Test
+    @DisplayName("PNG strategy should write the sprint burndown as an image")
+    void pngStrategyShouldWriteBurndownImage() throws IOException {
+        // Arrange
+        Sprint sprint = new ReviewSprint("Sprint 1", LocalDate.now().minusDays(2), LocalDate.now().plusDays(7));
+        sprint.addBacklogItem(new BacklogItem("Login page"));
+        PngReportStrategy strategy = new PngReportStrategy();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        strategy.writePng(sprint, out);
+
+        // Assert
+        BufferedImage image = decode(out.toByteArray());
+        assertEquals(1280, image.getWidth());
+        assertEquals(720, image.getHeight());
+    }
+
+    private static byte[] render(BurndownChartRenderer renderer, BurndownChartData data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        renderer.render(data, out);
+        return out.toByteArray();
+    }
+
+    private static BufferedImage decode(byte[] png) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        assertNotNull(image, "PNG could not be decoded");
+        return image;
+    }
+}
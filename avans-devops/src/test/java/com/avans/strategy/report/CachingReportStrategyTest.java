@@ -0,0 +1,150 @@
+package com.avans.strategy.report;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.avans.domain.backlog.BacklogItem;
+import com.avans.domain.project.ReviewSprint;
+import com.avans.domain.project.Sprint;
+
+class CachingReportStrategyTest {
+
+    private Sprint sprint;
+    private CountingStrategy delegate;
+    private MutableClock clock;
+
+    @BeforeEach
+    void setUp() {
+        sprint = new ReviewSprint("Sprint 1", LocalDate.now().minusDays(3), LocalDate.now().plusDays(10));
+        sprint.addBacklogItem(new BacklogItem("Login page"));
+        delegate = new CountingStrategy();
+        clock = new MutableClock(Instant.parse("2024-03-04T10:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("Unchanged sprint should be served from the cache")
+    void unchangedSprintShouldBeServedFromCache() {
+        // Arrange
+        CachingReportStrategy cache = new CachingReportStrategy(delegate, 10, Duration.ofMinutes(5), clock);
+
+        // Act
+        String first = sprint.generateReport(cache).getContent();
+        String second = sprint.generateReport(cache).getContent();
+
+        // Assert
+        assertEquals(first, second);
+        assertEquals(1, delegate.generated);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    @DisplayName("Changed sprint should be generated again")
+    void changedSprintShouldBeRegenerated() {
+        // Arrange
+        CachingReportStrategy cache = new CachingReportStrategy(delegate, 10, Duration.ofMinutes(5), clock);
+        sprint.generateReport(cache);
+
+        // Act
+        sprint.getBacklogItems().get(0).moveToNextState();
+        String report = sprint.generateReport(cache).getContent();
+
+        // Assert
+        assertEquals(2, delegate.generated);
+        assertTrue(report.contains("Doing"));
+    }
+
+    @Test
+    @DisplayName("Reports older than the time to live should be generated again")
+    void expiredReportShouldBeRegenerated() {
+        // Arrange
+        CachingReportStrategy cache = new CachingReportStrategy(delegate, 10, Duration.ofMinutes(5), clock);
+        sprint.generateReport(cache);
+
+        // Act
+        clock.advance(Duration.ofMinutes(6));
+        sprint.generateReport(cache);
+
+        // Assert
+        assertEquals(2, delegate.generated);
+    }
+
+    @Test
+    @DisplayName("Least recently used sprint should be evicted when the cache is full")
+    void leastRecentlyUsedSprintShouldBeEvicted() {
+        // Arrange
+        CachingReportStrategy cache = new CachingReportStrategy(delegate, 2, Duration.ofHours(1), clock);
+        Sprint second = new ReviewSprint("Sprint 2", LocalDate.now(), LocalDate.now().plusDays(10));
+        Sprint third = new ReviewSprint("Sprint 3", LocalDate.now(), LocalDate.now().plusDays(10));
+
+        // Act
+        cache.generate(sprint);
+        cache.generate(second);
+        cache.generate(sprint);
+        cache.generate(third);
+        cache.generate(sprint);
+        cache.generate(second);
+
+        // Assert
+        assertEquals(2, cache.size());
+        assertEquals(4, delegate.generated);
+    }
+
+    @Test
+    @DisplayName("Cache should reject invalid settings")
+    void cacheShouldRejectInvalidSettings() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new CachingReportStrategy(null, 1, Duration.ofMinutes(1)));
+        assertThrows(IllegalArgumentException.class, () -> new CachingReportStrategy(delegate, 0, Duration.ofMinutes(1)));
+        assertThrows(IllegalArgumentException.class, () -> new CachingReportStrategy(delegate, 1, Duration.ZERO));
+    }
+
+    private static class CountingStrategy implements IReportStrategy {
+        private int generated;
+
+        @Override
+        public void write(Sprint sprint, Appendable out) throws IOException {
+            generated++;
+            out.append(sprint.getName()).append(": ")
+               .append(sprint.getBacklogStateCounts().toString());
+        }
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
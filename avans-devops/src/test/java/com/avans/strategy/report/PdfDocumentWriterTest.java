@@ -0,0 +1,156 @@
+package com.avans.strategy.report;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.avans.domain.backlog.BacklogItem;
+import com.avans.domain.project.ReviewSprint;
+import com.avans.domain.project.Sprint;
+
+class PdfDocumentWriterTest {
+
+    @Test
+    @DisplayName("Document should have a valid header, trailer and cross-reference table")
+    void documentShouldHaveValidStructure() throws IOException {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        try (PdfDocumentWriter document = new PdfDocumentWriter(out)) {
+            document.append("Hello PDF\n");
+        }
+
+        // Assert
+        String pdf = out.toString(StandardCharsets.ISO_8859_1);
+        assertTrue(pdf.startsWith("%PDF-1.4\n"));
+        assertTrue(pdf.endsWith("%%EOF\n"));
+        assertCrossReferencesPointToObjects(pdf);
+        assertTrue(pageText(pdf).contains("(Hello PDF) Tj"));
+    }
+
+    @Test
+    @DisplayName("Long documents should be split over several pages")
+    void longDocumentsShouldBeSplitOverPages() throws IOException {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PdfDocumentWriter document = new PdfDocumentWriter(out);
+
+        // Act
+        for (int i = 0; i < 200; i++) {
+            document.append("Line ").append(String.valueOf(i)).append('\n');
+        }
+        int bytesBeforeClose = out.size();
+        document.close();
+
+        // Assert
+        String pdf = out.toString(StandardCharsets.ISO_8859_1);
+        assertEquals(4, document.getPageCount());
+        assertTrue(pdf.contains("/Type /Pages /Count 4 "));
+        // Full pages are already written before the document is closed
+        assertTrue(bytesBeforeClose > 0 && pdf.substring(0, bytesBeforeClose).contains("/Type /Page "));
+        assertCrossReferencesPointToObjects(pdf);
+    }
+
+    @Test
+    @DisplayName("Special characters should be escaped and long lines wrapped")
+    void specialCharactersShouldBeEscapedAndLongLinesWrapped() throws IOException {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        try (PdfDocumentWriter document = new PdfDocumentWriter(out)) {
+            document.append("Item (draft) \\ │\n");
+            document.append("x".repeat(100)).append('\n');
+        }
+
+        // Assert
+        String text = pageText(out.toString(StandardCharsets.ISO_8859_1));
+        assertTrue(text.contains("(Item \\(draft\\) \\\\ ?) Tj"));
+        assertTrue(text.contains("(" + "x".repeat(82) + ") Tj"));
+        assertTrue(text.contains("(" + "x".repeat(18) + ") Tj"));
+    }
+
+    @Test
+    @DisplayName("Empty document should still contain one page")
+    void emptyDocumentShouldContainOnePage() throws IOException {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PdfDocumentWriter document = new PdfDocumentWriter(out);
+
+        // Act
+        document.close();
+
+        // Assert
+        assertEquals(1, document.getPageCount());
+        assertThrows(IllegalStateException.class, () -> document.append("late"));
+    }
+
+    @Test
+    @DisplayName("PDF strategy should write the sprint report as a PDF document")
+    void pdfStrategyShouldWriteSprintReportAsPdf() throws IOException {
+        // Arrange
+        Sprint sprint = new ReviewSprint("Sprint 1", LocalDate.now().minusDays(2), LocalDate.now().plusDays(7));
+        for (int i = 0; i < 150; i++) {
+            sprint.addBacklogItem(new BacklogItem("Item " + i));
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        new PdfReportStrategy().writePdf(sprint, out);
+
+        // Assert
+        String pdf = out.toString(StandardCharsets.ISO_8859_1);
+        String text = pageText(pdf);
+        assertTrue(text.contains("(=== PDF SPRINT REPORT ===) Tj"));
+        assertTrue(text.contains("(- Item 149 [Todo] ) Tj"));
+        assertTrue(pdf.contains("/Type /Pages /Count 3 "));
+        assertCrossReferencesPointToObjects(pdf);
+    }
+
+    private static void assertCrossReferencesPointToObjects(String pdf) {
+        int xrefStart = Integer.parseInt(pdf.substring(pdf.lastIndexOf("startxref\n") + 10, pdf.lastIndexOf("\n%%EOF")));
+        assertTrue(pdf.startsWith("xref\n", xrefStart));
+
+        Matcher entries = Pattern.compile("(\\d{10}) 00000 n ").matcher(pdf.substring(xrefStart));
+        int object = 1;
+        while (entries.find()) {
+            int offset = Integer.parseInt(entries.group(1));
+            assertTrue(pdf.startsWith(object + " 0 obj\n", offset), "Wrong offset for object " + object);
+            object++;
+        }
+        assertTrue(object > 4);
+    }
+
+    // Inflates all page content streams so their text operators can be inspected
+    private static String pageText(String pdf) {
+        StringBuilder text = new StringBuilder();
+        Matcher streams = Pattern.compile("/Length (\\d+) /Filter /FlateDecode >>\nstream\n").matcher(pdf);
+        while (streams.find()) {
+            byte[] compressed = pdf.substring(streams.end(), streams.end() + Integer.parseInt(streams.group(1)))
+                    .getBytes(StandardCharsets.ISO_8859_1);
+            Inflater inflater = new Inflater();
+            inflater.setInput(compressed);
+            byte[] buffer = new byte[64 * 1024];
+            try {
+                int length = inflater.inflate(buffer);
+                text.append(new String(buffer, 0, length, StandardCharsets.ISO_8859_1));
+            } catch (DataFormatException e) {
+                fail("Page content is not valid deflate data");
+            } finally {
+                inflater.end();
+            }
+        }
+        return text.toString();
+    }
+}
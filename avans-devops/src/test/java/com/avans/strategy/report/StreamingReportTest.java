@@ -0,0 +1,105 @@
+package com.avans.strategy.report;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.avans.decorator.FooterDecorator;
+import com.avans.decorator.HeaderDecorator;
+import com.avans.decorator.IReport;
+import com.avans.domain.backlog.BacklogItem;
+import com.avans.domain.member.Developer;
+import com.avans.domain.project.ReviewSprint;
+import com.avans.domain.project.Sprint;
+
+class StreamingReportTest {
+
+    private Sprint sprint;
+
+    @BeforeEach
+    void setUp() {
+        sprint = new ReviewSprint("Sprint 1", LocalDate.now().minusDays(3), LocalDate.now().plusDays(10));
+        sprint.addTeamMember(new Developer("Dev"));
+        BacklogItem item = new BacklogItem("Login page");
+        sprint.addBacklogItem(item);
+        sprint.addBacklogItem(new BacklogItem("Logout button"));
+        item.moveToNextState();
+    }
+
+    @Test
+    @DisplayName("Streamed PDF report should match the generated report")
+    void streamedPdfReportShouldMatchGeneratedReport() throws IOException {
+        // Arrange
+        IReportStrategy strategy = new PdfReportStrategy();
+        StringWriter writer = new StringWriter();
+
+        // Act
+        strategy.stream(sprint).writeTo(writer);
+
+        // Assert
+        assertEquals(strategy.generate(sprint).getContent(), writer.toString());
+    }
+
+    @Test
+    @DisplayName("Streamed PNG report should match the generated report")
+    void streamedPngReportShouldMatchGeneratedReport() throws IOException {
+        // Arrange
+        IReportStrategy strategy = new PngReportStrategy();
+        StringWriter writer = new StringWriter();
+
+        // Act
+        strategy.stream(sprint).writeTo(writer);
+
+        // Assert
+        assertEquals(strategy.generate(sprint).getContent(), writer.toString());
+    }
+
+    @Test
+    @DisplayName("Decorators should stream around a streaming report")
+    void decoratorsShouldStreamAroundStreamingReport() throws IOException {
+        // Arrange
+        IReport report = new FooterDecorator(
+                new HeaderDecorator(new PdfReportStrategy().stream(sprint), "HEADER"), "FOOTER");
+        StringWriter writer = new StringWriter();
+
+        // Act
+        report.writeTo(writer);
+
+        // Assert
+        assertTrue(writer.toString().startsWith("HEADER\n=== PDF SPRINT REPORT ==="));
+        assertTrue(writer.toString().endsWith("\nFOOTER"));
+        assertEquals(report.getContent(), writer.toString());
+    }
+
+    @Test
+    @DisplayName("Write failures should be reported to the caller")
+    void writeFailuresShouldBeReportedToCaller() {
+        // Arrange
+        IReport report = new PngReportStrategy().stream(sprint);
+        Writer failing = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int length) throws IOException {
+                throw new IOException("Disk full");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        // Act & Assert
+        IOException exception = assertThrows(IOException.class, () -> report.writeTo(failing));
+        assertEquals("Disk full", exception.getMessage());
+    }
+}